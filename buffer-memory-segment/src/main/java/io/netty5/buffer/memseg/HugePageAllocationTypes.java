@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import io.netty5.buffer.AllocationType;
+import io.netty5.buffer.pool.PooledBufferAllocator;
+
+/**
+ * Off-heap {@link AllocationType}s backed by huge pages, supported by the {@link SegmentMemoryManager}.
+ * <p>
+ * Memory of these types is mapped directly with {@code mmap}, aligned to, and rounded up to a multiple of, the huge
+ * page size of the system (usually 2 MiB). They are meant for large, long-lived allocations, such as the chunks of
+ * a {@link PooledBufferAllocator} whose chunk size is a multiple of the huge page size, where each huge page saves
+ * hundreds of TLB entries. They are a poor fit for small allocations, which would waste most of their huge page.
+ * <p>
+ * On systems where huge pages are not available, allocations of these types fall back to regular off-heap memory.
+ */
+public enum HugePageAllocationTypes implements AllocationType {
+    /**
+     * Memory that is advised with {@code madvise(MADV_HUGEPAGE)} to be backed by transparent huge pages.
+     * This requires transparent huge pages to be set to {@code always} or {@code madvise} in
+     * {@code /sys/kernel/mm/transparent_hugepage/enabled}.
+     */
+    TRANSPARENT,
+    /**
+     * Memory that is mapped with {@code MAP_HUGETLB} from the pool of explicitly reserved huge pages, as configured
+     * by {@code vm.nr_hugepages}. If no reserved huge pages are left, the allocation falls back to
+     * {@link #TRANSPARENT} huge pages. Reserved huge pages are tried again after a growing delay, or as soon as
+     * memory mapped from them is released.
+     */
+    EXPLICIT;
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+}
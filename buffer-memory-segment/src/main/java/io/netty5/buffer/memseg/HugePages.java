@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import io.netty5.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * Maps anonymous memory backed by huge pages, by calling {@code mmap}, {@code madvise} and {@code munmap} from the
+ * C library through the foreign function API. Only Linux is supported.
+ */
+final class HugePages {
+    private static final Logger logger = LoggerFactory.getLogger(HugePages.class);
+    private static final long DEFAULT_HUGE_PAGE_SIZE = 2 * 1024 * 1024;
+
+    private static final int PROT_READ = 0x1;
+    private static final int PROT_WRITE = 0x2;
+    private static final int MAP_PRIVATE = 0x02;
+    private static final int MAP_ANONYMOUS = 0x20;
+    private static final int MAP_HUGETLB = 0x40000;
+    private static final int MADV_HUGEPAGE = 14;
+    private static final long MAP_FAILED = -1;
+
+    private static final MethodHandle MMAP;
+    private static final MethodHandle MUNMAP;
+    private static final MethodHandle MADVISE;
+    private static final long HUGE_PAGE_SIZE;
+    private static final Throwable UNAVAILABILITY_CAUSE;
+
+    private static final long EXPLICIT_RETRY_MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long EXPLICIT_RETRY_MAX_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // How long to wait before mapping explicit huge pages again, after they ran out. Zero if they did not run out.
+    private static volatile long explicitRetryDelayNanos;
+    private static volatile long explicitRetryAtNanos;
+
+    static {
+        MethodHandle mmap = null;
+        MethodHandle munmap = null;
+        MethodHandle madvise = null;
+        Throwable cause = null;
+        if ("linux".equals(PlatformDependent.normalizedOs())) {
+            try {
+                Linker linker = Linker.nativeLinker();
+                var libc = linker.defaultLookup();
+                mmap = linker.downcallHandle(libc.find("mmap").orElseThrow(),
+                        FunctionDescriptor.of(ADDRESS, ADDRESS, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG));
+                munmap = linker.downcallHandle(libc.find("munmap").orElseThrow(),
+                        FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG));
+                madvise = linker.downcallHandle(libc.find("madvise").orElseThrow(),
+                        FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, JAVA_INT));
+            } catch (Throwable t) {
+                cause = t;
+            }
+        } else {
+            cause = new UnsupportedOperationException("Huge pages are only supported on Linux");
+        }
+        if (cause != null) {
+            mmap = munmap = madvise = null;
+            logger.debug("Huge page allocations are unavailable, falling back to regular off-heap memory", cause);
+        }
+        MMAP = mmap;
+        MUNMAP = munmap;
+        MADVISE = madvise;
+        UNAVAILABILITY_CAUSE = cause;
+        HUGE_PAGE_SIZE = readHugePageSize();
+    }
+
+    private HugePages() {
+    }
+
+    /**
+     * Return {@code true} if huge page backed memory can be mapped on this platform.
+     */
+    static boolean isAvailable() {
+        return UNAVAILABILITY_CAUSE == null;
+    }
+
+    /**
+     * Return the size of a huge page, in bytes.
+     */
+    static long hugePageSize() {
+        return HUGE_PAGE_SIZE;
+    }
+
+    /**
+     * Return the given size rounded up to a whole number of huge pages.
+     */
+    static long mappingSize(long size) {
+        return Math.max(HUGE_PAGE_SIZE, (size + HUGE_PAGE_SIZE - 1) & -HUGE_PAGE_SIZE);
+    }
+
+    /**
+     * Map {@link #mappingSize(long) mappingSize(size)} bytes of memory, aligned to the huge page size.
+     *
+     * @return The mapping, which must be released with {@link #unmap(Mapping)}.
+     * @throws OutOfMemoryError If the memory could not be mapped.
+     */
+    static Mapping map(long size, HugePageAllocationTypes type) {
+        long mappingSize = mappingSize(size);
+        if (type == HugePageAllocationTypes.EXPLICIT && shouldTryExplicit()) {
+            long address = mmap(mappingSize, MAP_PRIVATE | MAP_ANONYMOUS | MAP_HUGETLB);
+            if (address != MAP_FAILED) {
+                explicitRetryDelayNanos = 0;
+                return new Mapping(address, mappingSize, true);
+            }
+            // The reserved huge pages ran out. Back off, so we don't make a failing mmap call for every allocation,
+            // but try again later, or as soon as one of our explicit mappings is released.
+            long delay = Math.min(EXPLICIT_RETRY_MAX_NANOS, Math.max(EXPLICIT_RETRY_MIN_NANOS,
+                    explicitRetryDelayNanos * 2));
+            explicitRetryAtNanos = System.nanoTime() + delay;
+            explicitRetryDelayNanos = delay;
+            logger.debug("No explicit huge pages available, falling back to transparent huge pages for {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(delay));
+        }
+        // Over-allocate by one huge page, so we can trim the mapping to an aligned address.
+        long address = mmap(mappingSize + HUGE_PAGE_SIZE, MAP_PRIVATE | MAP_ANONYMOUS);
+        if (address == MAP_FAILED) {
+            throw new OutOfMemoryError("Failed to map " + mappingSize + " bytes of huge page memory");
+        }
+        long aligned = (address + HUGE_PAGE_SIZE - 1) & -HUGE_PAGE_SIZE;
+        long head = aligned - address;
+        if (head > 0) {
+            unmap(address, head);
+        }
+        long tail = HUGE_PAGE_SIZE - head;
+        if (tail > 0) {
+            unmap(aligned + mappingSize, tail);
+        }
+        try {
+            // The advice is only a hint, so the memory is still usable if the kernel does not take it.
+            int result = (int) MADVISE.invokeExact(MemorySegment.ofAddress(aligned), mappingSize, MADV_HUGEPAGE);
+            if (result != 0 && logger.isTraceEnabled()) {
+                logger.trace("madvise(MADV_HUGEPAGE) failed for {} bytes at 0x{}", mappingSize,
+                        Long.toHexString(aligned));
+            }
+        } catch (Throwable t) {
+            throw new IllegalStateException("madvise failed", t);
+        }
+        return new Mapping(aligned, mappingSize, false);
+    }
+
+    /**
+     * Unmap memory that was previously mapped with {@link #map(long, HugePageAllocationTypes)}.
+     */
+    static void unmap(Mapping mapping) {
+        unmap(mapping.address(), mapping.size());
+        if (mapping.explicit()) {
+            // The huge pages went back to the reserved pool, so the next explicit allocation can have them.
+            explicitRetryDelayNanos = 0;
+        }
+    }
+
+    /**
+     * Return the current delay before explicit huge pages are mapped again, or zero if they are not backed off.
+     */
+    static long explicitRetryDelayNanos() {
+        return explicitRetryDelayNanos;
+    }
+
+    private static boolean shouldTryExplicit() {
+        return explicitRetryDelayNanos == 0 || System.nanoTime() - explicitRetryAtNanos >= 0;
+    }
+
+    private static void unmap(long address, long size) {
+        int result;
+        try {
+            result = (int) MUNMAP.invokeExact(MemorySegment.ofAddress(address), size);
+        } catch (Throwable t) {
+            throw new IllegalStateException("munmap failed", t);
+        }
+        if (result != 0) {
+            throw new IllegalStateException("munmap failed for " + size + " bytes at 0x" + Long.toHexString(address));
+        }
+    }
+
+    private static long mmap(long size, int flags) {
+        try {
+            MemorySegment address = (MemorySegment) MMAP.invokeExact(
+                    MemorySegment.NULL, size, PROT_READ | PROT_WRITE, flags, -1, 0L);
+            return address.address();
+        } catch (Throwable t) {
+            throw new IllegalStateException("mmap failed", t);
+        }
+    }
+
+    private static long readHugePageSize() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/meminfo"))) {
+                if (line.startsWith("Hugepagesize:")) {
+                    String[] parts = line.substring("Hugepagesize:".length()).trim().split("\\s+");
+                    return Long.parseLong(parts[0]) * 1024;
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to read the huge page size, assuming {} bytes", DEFAULT_HUGE_PAGE_SIZE, e);
+        }
+        return DEFAULT_HUGE_PAGE_SIZE;
+    }
+
+    /**
+     * A region of memory mapped by {@link #map(long, HugePageAllocationTypes)}.
+     *
+     * @param address The address of the mapping, aligned to the huge page size.
+     * @param size The size of the mapping, a multiple of the huge page size.
+     * @param explicit {@code true} if the mapping is backed by reserved huge pages.
+     */
+    record Mapping(long address, long size, boolean explicit) {
+    }
+}
@@ -103,6 +103,21 @@ class MemSegBuffer extends AdaptableBuffer<MemSegBuffer>
         implicitCapacityLimit = parent.implicitCapacityLimit;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof MemSegBuffer && isAccessible() && ((MemSegBuffer) o).isAccessible()) {
+            // The mismatch is intrinsified by the JVM, and compares the segments with vector instructions.
+            MemSegBuffer other = (MemSegBuffer) o;
+            return MemorySegment.mismatch(seg, roff, woff, other.seg, other.roff, other.woff) == -1;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
     @Override
     public String toString() {
         return "Buffer[roff:" + roff + ", woff:" + woff + ", cap:" + seg.byteSize() + ']';
@@ -454,6 +469,9 @@ class MemSegBuffer extends AdaptableBuffer<MemSegBuffer>
         final int length = woff - roff;
         final int end = woff;
 
+        if (VectorSupport.ENABLED && length >= VectorSupport.MIN_LENGTH) {
+            return VectorizedSearch.indexOf(seg, offset, end, needle);
+        }
         if (length > 7) {
             final long pattern = SWARUtil.compilePattern(needle);
             for (final int longEnd = offset + (length >>> 3) * Long.BYTES;
@@ -477,6 +495,13 @@ class MemSegBuffer extends AdaptableBuffer<MemSegBuffer>
 
     @Override
     public int bytesBefore(Buffer needle) {
+        if (VectorSupport.ENABLED && needle instanceof MemSegBuffer && isAccessible() && needle.isAccessible()) {
+            MemSegBuffer needleBuf = (MemSegBuffer) needle;
+            int needleLen = needleBuf.readableBytes();
+            if (needleLen > 1 && readableBytes() >= needleLen + VectorSupport.MIN_LENGTH) {
+                return VectorizedSearch.indexOf(seg, roff, woff, needleBuf.seg, needleBuf.roff, needleBuf.woff);
+            }
+        }
         InternalBufferUtils.UncheckedLoadByte uncheckedLoadByte = MemSegBuffer::uncheckedLoadByte;
         return InternalBufferUtils.bytesBefore(this, uncheckedLoadByte,
                 needle, needle instanceof MemSegBuffer ? uncheckedLoadByte : null);
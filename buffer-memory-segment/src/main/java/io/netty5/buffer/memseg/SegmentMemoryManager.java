@@ -23,10 +23,14 @@ import io.netty5.buffer.MemoryManager;
 import io.netty5.buffer.StandardAllocationTypes;
 import io.netty5.buffer.internal.ArcDrop;
 import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.buffer.internal.MappedFileAllocation;
 import io.netty5.buffer.internal.WrappingAllocation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
 import java.util.function.Function;
 
 public class SegmentMemoryManager implements MemoryManager {
@@ -46,6 +50,36 @@ public class SegmentMemoryManager implements MemoryManager {
         return createBuffer(segment, drop, control);
     }
 
+    private static Buffer createHugePageBuffer(long size, Function<Drop<Buffer>, Drop<Buffer>> adaptor,
+                                               AllocatorControl control, HugePageAllocationTypes type) {
+        if (!HugePages.isAvailable()) {
+            return createNativeBuffer(size, adaptor, control);
+        }
+        HugePages.Mapping mapping = HugePages.map(size, type);
+        InternalBufferUtils.MEM_USAGE_NATIVE.add(mapping.size());
+        Arena arena = Arena.ofShared();
+        // Closing the arena invalidates the segment before the memory is unmapped.
+        var segment = MemorySegment.ofAddress(mapping.address())
+                .reinterpret(size, arena, ignore -> HugePages.unmap(mapping));
+        var drop = adaptor.apply(drop(arena, mapping.size()));
+        return createBuffer(segment, drop, control);
+    }
+
+    private static Buffer createMappedFileBuffer(long size, Function<Drop<Buffer>, Drop<Buffer>> adaptor,
+                                                 AllocatorControl control, MappedFileAllocation allocation) {
+        Arena arena = Arena.ofShared();
+        MemorySegment segment;
+        try {
+            // Closing the arena unmaps the file.
+            segment = allocation.getChannel().map(
+                    FileChannel.MapMode.READ_ONLY, allocation.getPosition(), size, arena);
+        } catch (IOException e) {
+            arena.close();
+            throw new UncheckedIOException(e);
+        }
+        return createBuffer(segment, adaptor.apply(drop(arena, 0)), control);
+    }
+
     @Override
     public Buffer allocateShared(AllocatorControl control, long size, Function<Drop<Buffer>, Drop<Buffer>> adaptor,
                                  AllocationType type) {
@@ -55,6 +89,12 @@ public class SegmentMemoryManager implements MemoryManager {
                 case OFF_HEAP -> createNativeBuffer(size, adaptor, control);
             };
         }
+        if (type instanceof HugePageAllocationTypes hugePageType) {
+            return createHugePageBuffer(size, adaptor, control, hugePageType);
+        }
+        if (type instanceof MappedFileAllocation allocation) {
+            return createMappedFileBuffer(size, adaptor, control, allocation);
+        }
         if (type instanceof WrappingAllocation allocation) {
             var seg = MemorySegment.ofArray(allocation.getArray());
             return createBuffer(seg, adaptor.apply(InternalBufferUtils.NO_OP_DROP), control);
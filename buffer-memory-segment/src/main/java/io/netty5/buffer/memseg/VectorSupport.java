@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import io.netty5.util.internal.SystemPropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides whether {@link MemSegBuffer} searches through its memory with the {@code jdk.incubator.vector} API.
+ * <p>
+ * The vector API is an incubator module, so it is only used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and {@code -Dio.netty5.buffer.vectorized} has not been set to
+ * {@code false}. This class must not reference any of the vector API types itself, so it can be loaded when the
+ * module is absent.
+ */
+final class VectorSupport {
+    private static final Logger logger = LoggerFactory.getLogger(VectorSupport.class);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * {@code true} if {@link VectorizedSearch} can be used.
+     */
+    static final boolean ENABLED;
+
+    /**
+     * The minimum number of bytes to search, before the vectorized search is used. Shorter searches are faster with
+     * the SWAR search, because they would spend most of their time in the scalar tail of the vectorized search.
+     */
+    static final int MIN_LENGTH = 32;
+
+    static {
+        boolean enabled = SystemPropertyUtil.getBoolean("io.netty5.buffer.vectorized", true);
+        if (enabled && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                enabled = VectorizedSearch.isSupported();
+            } catch (Throwable t) {
+                logger.debug("The {} module is present, but could not be used", VECTOR_MODULE, t);
+                enabled = false;
+            }
+        } else {
+            enabled = false;
+        }
+        ENABLED = enabled;
+        logger.debug("-Dio.netty5.buffer.vectorized: {}", enabled);
+    }
+
+    private VectorSupport() {
+    }
+}
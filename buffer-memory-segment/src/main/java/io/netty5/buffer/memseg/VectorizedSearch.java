@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+
+/**
+ * Byte searches over memory segments, using the {@code jdk.incubator.vector} API.
+ * <p>
+ * This class must only be used when {@link VectorSupport#ENABLED} is {@code true}.
+ */
+final class VectorizedSearch {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    private VectorizedSearch() {
+    }
+
+    static boolean isSupported() {
+        // We need at least 128-bit vectors to beat the SWAR search, and no more than 64 lanes to use mask bits.
+        return LANES >= 16 && LANES <= Long.SIZE;
+    }
+
+    /**
+     * Find the first occurrence of the needle byte in the given range of the segment.
+     *
+     * @return The offset of the needle, relative to {@code from}, or {@code -1} if it was not found.
+     */
+    static int indexOf(MemorySegment seg, long from, long to, byte needle) {
+        long offset = from;
+        for (long bound = to - LANES; offset <= bound; offset += LANES) {
+            VectorMask<Byte> found = ByteVector.fromMemorySegment(SPECIES, seg, offset, ORDER).eq(needle);
+            if (found.anyTrue()) {
+                return (int) (offset - from) + found.firstTrue();
+            }
+        }
+        for (; offset < to; offset++) {
+            if (seg.get(JAVA_BYTE, offset) == needle) {
+                return (int) (offset - from);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first occurrence of the needle range, of at least two bytes, in the given range of the haystack.
+     * <p>
+     * Every vector compares the first and last byte of the needle against as many candidate positions at once, and
+     * only the candidates where both match are compared in full.
+     *
+     * @return The offset of the needle, relative to {@code from}, or {@code -1} if it was not found.
+     */
+    static int indexOf(MemorySegment haystack, long from, long to,
+                       MemorySegment needle, long needleFrom, long needleTo) {
+        long needleLen = needleTo - needleFrom;
+        long lastCandidate = to - needleLen;
+        byte first = needle.get(JAVA_BYTE, needleFrom);
+        byte last = needle.get(JAVA_BYTE, needleTo - 1);
+        long offset = from;
+        for (long bound = lastCandidate - LANES + 1; offset <= bound; offset += LANES) {
+            VectorMask<Byte> firsts = ByteVector.fromMemorySegment(SPECIES, haystack, offset, ORDER).eq(first);
+            VectorMask<Byte> lasts = ByteVector.fromMemorySegment(
+                    SPECIES, haystack, offset + needleLen - 1, ORDER).eq(last);
+            long candidates = firsts.and(lasts).toLong();
+            while (candidates != 0) {
+                long candidate = offset + Long.numberOfTrailingZeros(candidates);
+                if (MemorySegment.mismatch(haystack, candidate, candidate + needleLen,
+                        needle, needleFrom, needleTo) == -1) {
+                    return (int) (candidate - from);
+                }
+                candidates &= candidates - 1;
+            }
+        }
+        for (; offset <= lastCandidate; offset++) {
+            if (haystack.get(JAVA_BYTE, offset) == first &&
+                MemorySegment.mismatch(haystack, offset, offset + needleLen, needle, needleFrom, needleTo) == -1) {
+                return (int) (offset - from);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.MemoryManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.MemorySegment;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class HugePagesTest {
+    @BeforeAll
+    static void checkAvailable() {
+        assumeTrue(HugePages.isAvailable());
+    }
+
+    @Test
+    void transparentMappingMustBeAlignedAndUsable() {
+        long size = HugePages.hugePageSize() + 1;
+        HugePages.Mapping mapping = HugePages.map(size, HugePageAllocationTypes.TRANSPARENT);
+        try {
+            assertFalse(mapping.explicit());
+            assertEquals(2 * HugePages.hugePageSize(), mapping.size());
+            assertEquals(0, mapping.address() & HugePages.hugePageSize() - 1);
+            writeAndVerify(mapping);
+        } finally {
+            HugePages.unmap(mapping);
+        }
+    }
+
+    @Test
+    void explicitMappingMustFallBackAndRetry() {
+        HugePages.Mapping mapping = HugePages.map(1, HugePageAllocationTypes.EXPLICIT);
+        try {
+            assertEquals(HugePages.hugePageSize(), mapping.size());
+            assertEquals(0, mapping.address() & HugePages.hugePageSize() - 1);
+            writeAndVerify(mapping);
+            if (mapping.explicit()) {
+                assertEquals(0, HugePages.explicitRetryDelayNanos());
+            } else {
+                // No reserved huge pages are configured, or they ran out. We must not give up on them for good.
+                long delay = HugePages.explicitRetryDelayNanos();
+                assertTrue(delay > 0);
+                HugePages.Mapping second = HugePages.map(1, HugePageAllocationTypes.EXPLICIT);
+                HugePages.unmap(second);
+                if (!second.explicit()) {
+                    // Still inside the backoff, so the delay was not grown by another failed attempt.
+                    assertEquals(delay, HugePages.explicitRetryDelayNanos());
+                }
+            }
+        } finally {
+            HugePages.unmap(mapping);
+        }
+        if (mapping.explicit()) {
+            assertEquals(0, HugePages.explicitRetryDelayNanos());
+        }
+    }
+
+    @Test
+    void hugePageBuffersMustBeAllocatedAndFreed() {
+        for (HugePageAllocationTypes type : HugePageAllocationTypes.values()) {
+            SegmentMemoryManager manager = new SegmentMemoryManager();
+            try (BufferAllocator allocator = MemoryManager.using(manager, BufferAllocator::offHeapUnpooled)) {
+                Buffer buffer = manager.allocateShared(() -> allocator, 3 * 1024 * 1024, drop -> drop, type);
+                try (buffer) {
+                    assertEquals(3 * 1024 * 1024, buffer.capacity());
+                    buffer.fill((byte) 0x5A);
+                    assertEquals((byte) 0x5A, buffer.getByte(buffer.capacity() - 1));
+                }
+                assertFalse(buffer.isAccessible());
+            }
+        }
+    }
+
+    private static void writeAndVerify(HugePages.Mapping mapping) {
+        MemorySegment segment = MemorySegment.ofAddress(mapping.address()).reinterpret(mapping.size());
+        for (long offset = 0; offset < mapping.size(); offset += 4096) {
+            segment.set(JAVA_LONG, offset, offset);
+        }
+        for (long offset = 0; offset < mapping.size(); offset += 4096) {
+            assertEquals(offset, segment.get(JAVA_LONG, offset));
+        }
+    }
+}
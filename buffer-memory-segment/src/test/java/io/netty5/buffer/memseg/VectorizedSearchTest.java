@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.MemoryManager;
+import jdk.incubator.vector.ByteVector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VectorizedSearchTest {
+    private static final int LANES = ByteVector.SPECIES_PREFERRED.length();
+
+    @Test
+    void vectorSearchMustBeEnabled() {
+        // Surefire adds the vector module, so buffer searches in the tests use the vectorized search.
+        assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertEquals(VectorizedSearch.isSupported(), VectorSupport.ENABLED);
+    }
+
+    @Test
+    void byteSearchMustMatchScalarSearchAtLaneBoundaries() {
+        byte[] haystack = new byte[4 * LANES + 3];
+        MemorySegment seg = MemorySegment.ofArray(haystack);
+        for (int from : boundaries()) {
+            for (int to : boundaries()) {
+                if (from > to || to > haystack.length) {
+                    continue;
+                }
+                // Not found at all.
+                assertEquals(scalarIndexOf(haystack, from, to, (byte) 1),
+                        VectorizedSearch.indexOf(seg, from, to, (byte) 1), from + ".." + to);
+                for (int at = from; at < to; at++) {
+                    haystack[at] = 1;
+                    // Put a decoy just before the range, which must not be found.
+                    if (from > 0) {
+                        haystack[from - 1] = 1;
+                    }
+                    assertEquals(scalarIndexOf(haystack, from, to, (byte) 1),
+                            VectorizedSearch.indexOf(seg, from, to, (byte) 1), from + ".." + to + " @" + at);
+                    Arrays.fill(haystack, (byte) 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rangeSearchMustMatchScalarSearchAtLaneBoundaries() {
+        SplittableRandom random = new SplittableRandom(42);
+        byte[] haystack = new byte[4 * LANES + 7];
+        MemorySegment seg = MemorySegment.ofArray(haystack);
+        for (int needleLen : new int[] { 2, 3, LANES - 1, LANES, LANES + 1 }) {
+            byte[] needle = new byte[needleLen];
+            for (int i = 0; i < needleLen; i++) {
+                needle[i] = (byte) (1 + random.nextInt(3));
+            }
+            MemorySegment needleSeg = MemorySegment.ofArray(needle);
+            for (int from : boundaries()) {
+                for (int to : boundaries()) {
+                    if (from + needleLen > to || to > haystack.length) {
+                        continue;
+                    }
+                    for (int at = from; at <= to - needleLen; at++) {
+                        // Fill with bytes from the needle alphabet, so there are many partial matches to rule out.
+                        for (int i = 0; i < haystack.length; i++) {
+                            haystack[i] = (byte) (1 + random.nextInt(3));
+                        }
+                        System.arraycopy(needle, 0, haystack, at, needleLen);
+                        assertEquals(scalarIndexOf(haystack, from, to, needle),
+                                VectorizedSearch.indexOf(seg, from, to, needleSeg, 0, needleLen),
+                                "needle " + needleLen + " in " + from + ".." + to + " @" + at);
+                    }
+                    Arrays.fill(haystack, (byte) 0);
+                    assertEquals(-1, VectorizedSearch.indexOf(seg, from, to, needleSeg, 0, needleLen));
+                }
+            }
+        }
+    }
+
+    @Test
+    void bufferBytesBeforeMustMatchScalarSearch() {
+        SplittableRandom random = new SplittableRandom(42);
+        try (BufferAllocator allocator = MemoryManager.using(
+                new SegmentMemoryManager(), BufferAllocator::offHeapUnpooled)) {
+            for (int length = VectorSupport.MIN_LENGTH; length <= 4 * LANES + 1; length++) {
+                byte[] bytes = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    bytes[i] = (byte) random.nextInt(4);
+                }
+                try (Buffer buf = allocator.allocate(length + 1).writeByte((byte) 0).writeBytes(bytes);
+                     Buffer needle = allocator.allocate(2).writeBytes(Arrays.copyOfRange(bytes, length - 2, length))) {
+                    buf.skipReadableBytes(1);
+                    assertEquals(scalarIndexOf(bytes, 0, length, (byte) 3), buf.bytesBefore((byte) 3));
+                    assertEquals(scalarIndexOf(bytes, 0, length, (byte) 4), buf.bytesBefore((byte) 4));
+                    assertEquals(scalarIndexOf(bytes, 0, length, Arrays.copyOfRange(bytes, length - 2, length)),
+                            buf.bytesBefore(needle));
+                }
+            }
+        }
+    }
+
+    private static int[] boundaries() {
+        return new int[] {
+                0, 1, LANES - 1, LANES, LANES + 1, 2 * LANES - 1, 2 * LANES, 2 * LANES + 1, 3 * LANES, 4 * LANES + 3
+        };
+    }
+
+    private static int scalarIndexOf(byte[] haystack, int from, int to, byte needle) {
+        for (int i = from; i < to; i++) {
+            if (haystack[i] == needle) {
+                return i - from;
+            }
+        }
+        return -1;
+    }
+
+    private static int scalarIndexOf(byte[] haystack, int from, int to, byte[] needle) {
+        for (int i = from; i <= to - needle.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                return i - from;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg.benchmarks;
+
+import io.netty5.buffer.AllocationType;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.StandardAllocationTypes;
+import io.netty5.buffer.memseg.HugePageAllocationTypes;
+import io.netty5.buffer.memseg.SegmentMemoryManager;
+import io.netty5.buffer.pool.PooledBufferAllocator;
+import io.netty5.buffer.unsafe.UnsafeMemoryManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures random access over a large working set of pooled buffers, where the cost is dominated by TLB misses when
+ * the chunks are backed by regular 4 KiB pages.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", "-XX:MaxDirectMemorySize=4g" })
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HugePageChunkBenchmark {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ACCESSES = 1024;
+
+    public enum Backing {
+        UNSAFE(new UnsafeMemoryManager(), StandardAllocationTypes.OFF_HEAP),
+        SEGMENT(new SegmentMemoryManager(), StandardAllocationTypes.OFF_HEAP),
+        TRANSPARENT_HUGE_PAGES(new SegmentMemoryManager(), HugePageAllocationTypes.TRANSPARENT),
+        EXPLICIT_HUGE_PAGES(new SegmentMemoryManager(), HugePageAllocationTypes.EXPLICIT);
+
+        final MemoryManager manager;
+        final AllocationType allocationType;
+
+        Backing(MemoryManager manager, AllocationType allocationType) {
+            this.manager = manager;
+            this.allocationType = allocationType;
+        }
+    }
+
+    @Param
+    public Backing backing;
+
+    @Param({ "64", "1024" })
+    public int workingSetMiB;
+
+    private PooledBufferAllocator allocator;
+    private Buffer[] buffers;
+    private int[] bufferIndexes;
+    private int[] offsets;
+
+    @Setup
+    public void setUp() {
+        allocator = new PooledBufferAllocator(backing.manager, backing.allocationType);
+        buffers = new Buffer[(int) ((long) workingSetMiB * 1024 * 1024 / BUFFER_SIZE)];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = allocator.allocate(BUFFER_SIZE);
+            buffers[i].fill((byte) i);
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        bufferIndexes = new int[ACCESSES];
+        offsets = new int[ACCESSES];
+        for (int i = 0; i < ACCESSES; i++) {
+            bufferIndexes[i] = random.nextInt(buffers.length);
+            offsets[i] = random.nextInt(BUFFER_SIZE / Long.BYTES) * Long.BYTES;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Buffer buffer : buffers) {
+            buffer.close();
+        }
+        allocator.close();
+    }
+
+    @Benchmark
+    public long randomAccess() {
+        long sum = 0;
+        for (int i = 0; i < ACCESSES; i++) {
+            sum += buffers[bufferIndexes[i]].getLong(offsets[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void allocateAndClose() {
+        allocator.allocate(BUFFER_SIZE).close();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.memseg.benchmarks;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.memseg.SegmentMemoryManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the vectorized searches and comparisons of memory segment buffers, with the SWAR and scalar ones.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", "--add-modules=jdk.incubator.vector" })
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MemSegBytesBeforeBenchmark {
+    private static final byte NEEDLE_BYTE = -91;
+    private static final int NEEDLE_LENGTH = 5;
+
+    @Param({ "16", "64", "256", "4096" })
+    public int size;
+
+    @Param({ "true", "false" })
+    public String vectorized;
+
+    @Param({ "true", "false" })
+    public boolean direct;
+
+    private BufferAllocator allocator;
+    private Buffer haystack;
+    private Buffer copy;
+    private Buffer needle;
+
+    @Setup
+    public void setUp() {
+        // Every parameter combination runs in its own fork, so the buffer implementation has not been initialized yet.
+        System.setProperty("io.netty5.buffer.vectorized", vectorized);
+        allocator = MemoryManager.using(new SegmentMemoryManager(), () -> direct ?
+                BufferAllocator.offHeapUnpooled() : BufferAllocator.onHeapUnpooled());
+        SplittableRandom random = new SplittableRandom(42);
+        haystack = allocator.allocate(size);
+        for (int i = 0; i < size - NEEDLE_LENGTH; i++) {
+            byte value = (byte) random.nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE + 1);
+            // Only the needle at the very end of the haystack may be found.
+            haystack.writeByte(value == NEEDLE_BYTE ? (byte) ~value : value);
+        }
+        needle = allocator.allocate(NEEDLE_LENGTH);
+        for (int i = 0; i < NEEDLE_LENGTH; i++) {
+            needle.writeByte((byte) (NEEDLE_BYTE + i));
+        }
+        try (Buffer needleCopy = needle.copy()) {
+            haystack.writeBytes(needleCopy);
+        }
+        copy = haystack.copy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        haystack.close();
+        copy.close();
+        needle.close();
+        allocator.close();
+    }
+
+    @Benchmark
+    public int bytesBeforeByte() {
+        return haystack.bytesBefore(NEEDLE_BYTE);
+    }
+
+    @Benchmark
+    public int bytesBeforeBuffer() {
+        return haystack.bytesBefore(needle);
+    }
+
+    @Benchmark
+    public boolean equalBuffers() {
+        return haystack.equals(copy);
+    }
+}
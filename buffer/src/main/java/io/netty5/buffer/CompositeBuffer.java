@@ -173,6 +173,25 @@ public interface CompositeBuffer extends Buffer {
      */
     Buffer[] decomposeBuffer();
 
+    /**
+     * Copy the contents of all the components of this composite buffer into a single new component, allocated from
+     * the allocator of this composite buffer, and close the old components.
+     * <p>
+     * Every access to a composite buffer first has to find the component that holds the accessed offset.
+     * This is cheap for sequential access, but random access into a composite buffer of many small components is
+     * much slower than into a single buffer. Flattening trades a one-time copy for that cost.
+     * The reader- and writer-offsets, and the read-only state, are unchanged.
+     * <p>
+     * Composite buffers can also be flattened automatically, when they are {@linkplain #compact() compacted},
+     * by setting the {@code io.netty5.buffer.compositeFlattenThreshold} system property to the minimum number of
+     * components a composite buffer must have, for this to happen. Reads never flatten a composite buffer, since
+     * that would close components that the caller may still be using.
+     *
+     * @return This composite buffer.
+     * @throws IllegalStateException If this composite buffer is not in an owned state.
+     */
+    CompositeBuffer flatten();
+
     @Override
     CompositeBuffer readerOffset(int offset);
 
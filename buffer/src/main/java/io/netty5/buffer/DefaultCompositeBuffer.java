@@ -20,6 +20,7 @@ import io.netty5.buffer.internal.InternalBufferUtils;
 import io.netty5.buffer.internal.ResourceSupport;
 import io.netty5.util.SafeCloseable;
 import io.netty5.util.Send;
+import io.netty5.util.internal.SystemPropertyUtil;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -97,6 +98,12 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
      * allocating a ByteBuf of an unspecified size, in Netty 4.1.
      */
     private static final int FIRST_AUTOMATIC_COMPONENT_SIZE = 256;
+    /**
+     * Composite buffers with at least this many components are {@linkplain #flatten() flattened} when they are
+     * {@linkplain #compact() compacted}. Zero disables automatic flattening, which is the default.
+     */
+    private static final int FLATTEN_THRESHOLD = Math.max(0, SystemPropertyUtil.getInt(
+            "io.netty5.buffer.compositeFlattenThreshold", 0));
 
     private final BufferAllocator allocator;
     private final TornBufferAccessor tornBufAccessors;
@@ -106,6 +113,7 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
     private int roff;
     private int woff;
     private int subOffset; // The next offset *within* a constituent buffer to read from or write to.
+    private int lastComponent; // The index of the constituent buffer that was last accessed.
     private boolean closed;
     private boolean readOnly;
     private int implicitCapacityLimit;
@@ -847,6 +855,45 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
         return this;
     }
 
+    @Override
+    public CompositeBuffer flatten() {
+        if (!isAccessible()) {
+            throw bufferIsClosed(this);
+        }
+        if (!isOwned()) {
+            throw new IllegalStateException("This buffer cannot be flattened because it is not in an owned state.");
+        }
+        if (bufs.length > 1) {
+            flattenComponents(0);
+        }
+        return this;
+    }
+
+    /**
+     * Replace the components with a single buffer of the same capacity, holding the bytes from {@code from} onwards
+     * at offset zero. The reader and writer offsets are moved down by {@code from}.
+     */
+    private void flattenComponents(int from) {
+        int length = capacity - from;
+        Buffer flat = allocator.allocate(capacity);
+        try {
+            copyInto(from, flat, 0, length);
+            flat.writerOffset(woff - from).readerOffset(roff - from);
+            if (readOnly) {
+                flat.makeReadOnly();
+            }
+        } catch (Throwable e) {
+            flat.close();
+            throw e;
+        }
+        Buffer[] components = bufs;
+        bufs = new Buffer[] { flat };
+        computeBufferOffsets();
+        for (Buffer buf : components) {
+            buf.close();
+        }
+    }
+
     @Override
     public CompositeBuffer extendWith(Send<Buffer> extension) {
         Buffer buffer = Objects.requireNonNull(extension, "Extension buffer cannot be null.").receive();
@@ -1013,6 +1060,11 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
         if (readOnly()) {
             throw new BufferReadOnlyException("Buffer must be writable in order to compact, but was read-only.");
         }
+        if (FLATTEN_THRESHOLD > 0 && bufs.length > 1 && bufs.length >= FLATTEN_THRESHOLD) {
+            // Copying the readable bytes into the flattened buffer compacts it at the same time.
+            flattenComponents(roff);
+            return this;
+        }
         int distance = roff;
         if (distance == 0) {
             return this;
@@ -1486,7 +1538,7 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
     }
 
     private BufferAccessor chooseBuffer(int index, int size) {
-        int i = searchOffsets(index);
+        int i = searchOffsetsFromLastComponent(index);
         if (i == bufs.length) {
             // This happens when the read/write offsets are parked 1 byte beyond the end of the buffer.
             // In that case it should not matter what buffer is returned, because it shouldn't be used anyway.
@@ -1503,10 +1555,34 @@ final class DefaultCompositeBuffer extends ResourceSupport<Buffer, DefaultCompos
     }
 
     private BufferAccessor choosePassThroughBuffer(int index) {
-        int i = searchOffsets(index);
+        int i = searchOffsetsFromLastComponent(index);
         return bufs[i];
     }
 
+    /**
+     * Like {@link #searchOffsets(int)}, but first checks the last accessed component, and the one after it.
+     * Most accesses are sequential, so this usually avoids the binary search.
+     */
+    private int searchOffsetsFromLastComponent(int index) {
+        int[] offs = offsets;
+        int last = lastComponent;
+        if (last < offs.length && offs[last] <= index) {
+            int next = last + 1;
+            if (next == offs.length || index < offs[next]) {
+                return last;
+            }
+            if (next + 1 == offs.length || index < offs[next + 1]) {
+                lastComponent = next;
+                return next;
+            }
+        }
+        int i = searchOffsets(index);
+        if (i >= 0) {
+            lastComponent = i;
+        }
+        return i;
+    }
+
     private int searchOffsets(int index) {
         int i = Arrays.binarySearch(offsets, index);
         return i < 0? -(i + 2) : i;
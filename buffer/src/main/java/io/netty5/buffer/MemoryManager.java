@@ -16,7 +16,9 @@
 package io.netty5.buffer;
 
 import io.netty5.buffer.internal.ArcDrop;
+import io.netty5.buffer.internal.InternalBufferUtils;
 import io.netty5.buffer.internal.LeakDetection;
+import io.netty5.buffer.internal.MappedFileAllocation;
 import io.netty5.buffer.internal.MemoryManagerLoader;
 import io.netty5.buffer.internal.MemoryManagerOverride;
 import io.netty5.buffer.internal.WrappingAllocation;
@@ -26,6 +28,9 @@ import io.netty5.util.internal.UnstableApi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader.Provider;
@@ -34,6 +39,9 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
+import static java.util.Objects.requireNonNull;
+
 /**
  * The choice of {@code MemoryManager} implementation also determines the choice of {@link Buffer} implementation.
  * It is the MemoryManager that implement memory allocation, and how to wrap the allocated memory in a {@link Buffer}
@@ -148,6 +156,49 @@ public interface MemoryManager {
         return buffer.makeReadOnly();
     }
 
+    /**
+     * Map a region of the given file into memory, and wrap it in a {@linkplain Buffer#readOnly() read-only},
+     * off-heap {@link Buffer} that is readable from the start of the region to the end.
+     * <p>
+     * No data is copied: the buffer reads directly from the page cache, and transports with native support for
+     * off-heap buffers write it to the network without copying it into another buffer first.
+     * Read-only {@linkplain Buffer#split() splits} and {@linkplain Buffer#copy(int, int, boolean) copies} of the
+     * buffer share the mapping with it.
+     * <p>
+     * The region is unmapped as soon as the buffer, and all the splits and read-only copies that share its mapping,
+     * are {@linkplain Buffer#close() closed}. Accessing the buffer is then no longer possible, which protects against
+     * reading unmapped memory. If the platform does not allow explicit unmapping, the region is instead unmapped when
+     * the buffer is garbage collected.
+     * <p>
+     * Changes to the file are visible through the mapping, and if the file is truncated while mapped, accessing the
+     * buffer beyond the new end of the file can crash the JVM.
+     *
+     * @param channel The file to map. It must be open for reading.
+     * The channel can be closed after this call, without affecting the buffer.
+     * @param position The position in the file where the mapped region starts.
+     * @param length The length of the mapped region, in bytes.
+     * @return A read-only buffer with the contents of the mapped region.
+     * @throws IOException If the file could not be mapped.
+     */
+    @UnstableApi
+    static Buffer mapFile(FileChannel channel, long position, int length) throws IOException {
+        requireNonNull(channel, "channel");
+        checkPositiveOrZero(position, "position");
+        InternalBufferUtils.assertValidBufferSize(length);
+        MemoryManager manager = instance();
+        ManagedBufferAllocator allocator = new ManagedBufferAllocator(manager, true);
+        MappedFileAllocation allocationType = new MappedFileAllocation(channel, position);
+        Buffer buffer;
+        try {
+            buffer = manager.allocateShared(
+                    allocator, length, InternalBufferUtils.standardDrop(manager), allocationType);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffer.skipWritableBytes(length);
+        return buffer.makeReadOnly();
+    }
+
     /**
      * Allocates a shared buffer. "Shared" is the normal type of buffer, and means the buffer permit concurrent access
      * from multiple threads, within the limited thread-safety guarantees of the {@link Buffer} interface.
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.adapt;
+
+/**
+ * Metrics of a magazine of an {@link AdaptivePoolingAllocator}.
+ * <p>
+ * The counters are updated without synchronization by the thread that holds the magazine, so they may be slightly
+ * stale.
+ */
+public interface AdaptiveMagazineMetric {
+
+    /**
+     * Return {@code true} if the magazine is bound to an event executor thread, or {@code false} if it is shared.
+     */
+    boolean isThreadLocal();
+
+    /**
+     * Return the number of allocations served by this magazine.
+     */
+    long numAllocations();
+
+    /**
+     * Return the number of chunks this magazine allocated from the memory manager.
+     */
+    long numChunkAllocations();
+
+    /**
+     * Return the number of allocations that did not fit in the current chunk of this magazine, and overflowed into
+     * another chunk.
+     */
+    long numChunkOverflows();
+
+    /**
+     * Return the size of the chunks this magazine currently prefers to allocate, in bytes.
+     */
+    int preferredChunkSize();
+
+    /**
+     * Return the histogram of recent allocation sizes, from which the preferred chunk size is computed.
+     * <p>
+     * Bucket {@code 0} counts the allocations of up to 8 KiB, and each following bucket covers sizes twice as big as
+     * the bucket before it.
+     */
+    int[] allocationSizeHistogram();
+}
@@ -25,21 +25,34 @@ import io.netty5.buffer.StandardAllocationTypes;
 import io.netty5.buffer.internal.ArcDrop;
 import io.netty5.buffer.internal.CleanerDrop;
 import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.buffer.internal.ResourceSupport;
 import io.netty5.util.NettyRuntime;
 import io.netty5.util.concurrent.EventExecutor;
 import io.netty5.util.concurrent.FastThreadLocal;
 import io.netty5.util.concurrent.FastThreadLocalThread;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.GlobalEventExecutor;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.SystemPropertyUtil;
 import io.netty5.util.internal.ThreadExecutorMap;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.StampedLock;
 import java.util.function.Supplier;
 
@@ -73,8 +86,14 @@ import static java.util.Objects.requireNonNull;
  * Since magazines are "relatively thread-local", the allocator has a central queue that allow excess chunks from any
  * magazine, to be shared with other magazines.
  * The {@link #createSharedChunkQueue()} method can be overridden to customize this queue.
+ * <p>
+ * Idle chunks, and magazines that were added in response to contention, are normally kept until the allocator is
+ * closed. When a reclaim interval is configured, a background task periodically releases the chunks that were not
+ * needed during the last interval, and halves the number of magazines if no contention was observed.
+ * The {@link #reclaim()} method can also be called directly, for instance in response to memory pressure.
  */
-public class AdaptivePoolingAllocator implements BufferAllocator {
+public class AdaptivePoolingAllocator implements BufferAllocator, AdaptivePoolingAllocatorMetricProvider {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolingAllocator.class);
 
     private static final int EXPANSION_ATTEMPTS = 3;
     private static final int INITIAL_MAGAZINES = 4;
@@ -82,6 +101,8 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
     private static final int MIN_CHUNK_SIZE = 128 * 1024;
     private static final int MAX_STRIPES = NettyRuntime.availableProcessors() * 2;
     private static final int BUFS_PER_CHUNK = 10; // For large buffers, aim to have about this many buffers per chunk.
+    private static final int CHUNK_HISTO_MIN_SHIFT = 17; // The smallest chunk is 1 << 17 = 128 KiB in size.
+    private static final int CHUNK_HISTO_BUCKET_COUNT = 8; // The largest bucket holds all chunks of 16 MiB or more.
 
     /**
      * The maximum size of a pooled chunk, in bytes. Allocations bigger than this will never be pooled.
@@ -102,6 +123,18 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
     protected static final int CENTRAL_QUEUE_CAPACITY = SystemPropertyUtil.getInt(
             "io.netty5.allocator.centralQueueCapacity", NettyRuntime.availableProcessors());
 
+    /**
+     * The default interval, in milliseconds, at which idle chunks are released and uncontended magazines are removed.
+     * The default is {@code 0}, which disables background reclamation.
+     */
+    private static final long DEFAULT_RECLAIM_INTERVAL_MILLIS = Math.max(0, SystemPropertyUtil.getLong(
+            "io.netty5.allocator.reclaimIntervalMillis", 0));
+
+    static {
+        logger.debug("-Dio.netty5.allocator.centralQueueCapacity: {}", CENTRAL_QUEUE_CAPACITY);
+        logger.debug("-Dio.netty5.allocator.reclaimIntervalMillis: {}", DEFAULT_RECLAIM_INTERVAL_MILLIS);
+    }
+
     private static final Object NO_MAGAZINE = Boolean.TRUE;
 
     private final AllocationType allocationType;
@@ -113,16 +146,53 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
     private volatile boolean closed;
     private final FastThreadLocal<Object> threadLocalMagazine;
     private final Set<Magazine> liveCachedMagazines;
+    private final ReentrantLock reclaimLock;
+    private final Future<Void> reclaimFuture;
+    private final LongAdder chunkAllocations;
+    private final LongAdder chunkReuses;
+    private final LongAdder chunkOverflows;
+    private final LongAdder expansionAttempts;
+    private final LongAdder magazineExpansions;
+    private final LongAdder unpooledAllocations;
+    private final LongAdder usedChunkMemory;
+    private final AtomicLongArray chunkHistogram;
+    private final LongAdder reclaimedChunks;
+    private final LongAdder reclaimedBytes;
+    private final LongAdder magazineShrinks;
+    private volatile boolean contended;
+    private long lastChunkReuses;
+    private final AdaptivePoolingAllocatorMetric metric;
 
     public AdaptivePoolingAllocator() {
         this(PlatformDependent.directBufferPreferred());
     }
 
     public AdaptivePoolingAllocator(boolean direct) {
-        this(MemoryManager.instance(), direct, true);
+        this(direct, DEFAULT_RECLAIM_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create an allocator that releases idle memory in the background.
+     *
+     * @param direct {@code true} to allocate off-heap memory, {@code false} for on-heap memory.
+     * @param reclaimInterval The interval at which to {@link #reclaim(boolean) release} idle chunks and magazines,
+     *                        or {@code 0} to never do so in the background.
+     * @param unit The unit of the reclaim interval.
+     */
+    public AdaptivePoolingAllocator(boolean direct, long reclaimInterval, TimeUnit unit) {
+        this(MemoryManager.instance(), direct, true, reclaimInterval, unit);
     }
 
     AdaptivePoolingAllocator(MemoryManager manager, boolean direct, boolean eventExecutorMagazines) {
+        this(manager, direct, eventExecutorMagazines, DEFAULT_RECLAIM_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    AdaptivePoolingAllocator(MemoryManager manager, boolean direct, boolean eventExecutorMagazines,
+                             long reclaimInterval, TimeUnit unit) {
+        if (reclaimInterval < 0) {
+            throw new IllegalArgumentException("reclaimInterval: " + reclaimInterval + " (expected: >= 0)");
+        }
+        requireNonNull(unit, "unit");
         allocationType = direct ? StandardAllocationTypes.OFF_HEAP : StandardAllocationTypes.ON_HEAP;
         this.manager = manager;
         centralQueue = requireNonNull(createSharedChunkQueue());
@@ -161,6 +231,20 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
             mags[i] = new Magazine(this);
         }
         magazines = mags;
+        reclaimLock = new ReentrantLock();
+        chunkAllocations = new LongAdder();
+        chunkReuses = new LongAdder();
+        chunkOverflows = new LongAdder();
+        expansionAttempts = new LongAdder();
+        magazineExpansions = new LongAdder();
+        unpooledAllocations = new LongAdder();
+        usedChunkMemory = new LongAdder();
+        chunkHistogram = new AtomicLongArray(CHUNK_HISTO_BUCKET_COUNT);
+        reclaimedChunks = new LongAdder();
+        reclaimedBytes = new LongAdder();
+        magazineShrinks = new LongAdder();
+        metric = new DefaultAdaptivePoolingAllocatorMetric(this);
+        reclaimFuture = reclaimInterval == 0 ? null : ReclaimTask.schedule(this, reclaimInterval, unit);
     }
 
     /**
@@ -211,7 +295,7 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
             if (threadLocalMagazine != null && currentThread instanceof FastThreadLocalThread) {
                 Object mag = threadLocalMagazine.get();
                 if (mag != NO_MAGAZINE) {
-                    return ((Magazine) mag).allocate(size, sizeBucket);
+                    return CleanerDrop.sample(((Magazine) mag).allocate(size, sizeBucket), manager);
                 }
             }
             long threadId = threadId(currentThread);
@@ -225,21 +309,34 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
                     Magazine mag = mags[index + i & mask];
                     long writeLock = mag.tryWriteLock();
                     if (writeLock != 0) {
+                        Buffer buffer = null;
                         try {
-                            return mag.allocate(size, sizeBucket);
+                            if (!mag.retired) {
+                                buffer = mag.allocate(size, sizeBucket);
+                            }
                         } finally {
                             mag.unlockWrite(writeLock);
                         }
+                        if (buffer != null) {
+                            // Sample outside the lock, as a sampled buffer captures its allocation site.
+                            return CleanerDrop.sample(buffer, manager);
+                        }
                     }
                 }
+                if (!contended) {
+                    contended = true;
+                }
+                expansionAttempts.increment();
                 expansions++;
-            } while (expansions <= EXPANSION_ATTEMPTS && tryExpandMagazines(mags.length));
+                // Only expand if the magazines were not shrunk in the meantime.
+            } while (expansions <= EXPANSION_ATTEMPTS && (mags != magazines || tryExpandMagazines(mags.length)));
         }
         // The magazines failed us, or the buffer is too big to be pooled. Allocate unpooled buffer.
+        unpooledAllocations.increment();
         return manager.allocateShared(allocatorControl, size, standardDrop(manager), allocationType);
     }
 
-    private boolean tryExpandMagazines(int currentLength) {
+    boolean tryExpandMagazines(int currentLength) {
         if (currentLength >= MAX_STRIPES) {
             return true;
         }
@@ -255,6 +352,7 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
                     expanded[i] = new Magazine(this);
                 }
                 magazines = expanded;
+                magazineExpansions.increment();
             } finally {
                 magazineExpandLock.unlockWrite(writeLock);
             }
@@ -274,9 +372,228 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
         return () -> manager.allocateConstChild(constantBuffer);
     }
 
+    /**
+     * Release all idle chunks, and remove the magazines that were added in response to contention, if no contention
+     * has been observed since the last time this method was called.
+     * <p>
+     * This is equivalent to calling {@link #reclaim(boolean) reclaim(true)}.
+     *
+     * @return The number of bytes of memory that were released.
+     */
+    public long reclaim() {
+        return reclaim(true);
+    }
+
+    /**
+     * Release idle chunks, and remove the magazines that were added in response to contention, if no contention has
+     * been observed since the last time this method was called.
+     * <p>
+     * Chunks are idle when they are held in reserve by a magazine, or are waiting in the shared chunk queue.
+     * Unless {@code releaseAll} is {@code true}, as many idle chunks are kept as were taken into use since the last
+     * time this method was called, and only the excess is released.
+     * Chunks that still have buffers allocated from them are never released.
+     * <p>
+     * This method is called periodically if the allocator was created with a reclaim interval.
+     *
+     * @param releaseAll {@code true} to release all idle chunks, {@code false} to keep enough for recent demand.
+     * @return The number of bytes of memory that were released.
+     */
+    public long reclaim(boolean releaseAll) {
+        if (closed) {
+            return 0;
+        }
+        reclaimLock.lock();
+        try {
+            long reuses = chunkReuses.sum();
+            long demand = releaseAll ? 0 : reuses - lastChunkReuses;
+            lastChunkReuses = reuses;
+            long releasedBefore = reclaimedBytes.sum();
+            if (demand == 0) {
+                for (Magazine mag : magazines) {
+                    mag.releaseNextInLine();
+                }
+                if (liveCachedMagazines != null) {
+                    liveCachedMagazines.forEach(Magazine::releaseNextInLine);
+                }
+            }
+            // The oldest chunks in the queue have been idle the longest, so we release those first.
+            for (long excess = centralQueue.size() - demand; excess > 0; excess--) {
+                Buffer chunk = centralQueue.poll();
+                if (chunk == null) {
+                    break;
+                }
+                reclaimChunk(chunk);
+            }
+            if (contended) {
+                contended = false;
+            } else {
+                shrinkMagazines();
+            }
+            return reclaimedBytes.sum() - releasedBefore;
+        } finally {
+            reclaimLock.unlock();
+        }
+    }
+
+    /**
+     * Close an idle chunk, and mark it so its memory is released rather than recycled, once the buffers that were
+     * split off of it are closed as well.
+     */
+    private static void reclaimChunk(Buffer chunk) {
+        PoolDrop poolDrop = poolDropOf(chunk);
+        if (poolDrop != null) {
+            poolDrop.reclaimed = true;
+        }
+        chunk.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PoolDrop poolDropOf(Buffer chunk) {
+        if (!(chunk instanceof ResourceSupport)) {
+            return null;
+        }
+        Drop<Buffer> drop = InternalBufferUtils.unsafeGetDrop((ResourceSupport<?, ?>) chunk);
+        for (;;) {
+            if (drop instanceof PoolDrop) {
+                return (PoolDrop) drop;
+            }
+            if (drop instanceof NoSplitTracingDrop) {
+                drop = ((NoSplitTracingDrop) drop).drop;
+            } else if (drop instanceof CleanerDrop) {
+                drop = ((CleanerDrop<Buffer>) drop).unwrap();
+            } else if (drop instanceof ArcDrop) {
+                drop = ((ArcDrop<Buffer>) drop).unwrap();
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private void shrinkMagazines() {
+        Magazine[] retired;
+        long magsExpandWriteLock = magazineExpandLock.writeLock();
+        try {
+            Magazine[] mags = magazines;
+            if (closed || mags.length <= INITIAL_MAGAZINES) {
+                return;
+            }
+            int length = mags.length >> 1;
+            magazines = Arrays.copyOf(mags, length);
+            retired = Arrays.copyOfRange(mags, length, mags.length);
+        } finally {
+            magazineExpandLock.unlockWrite(magsExpandWriteLock);
+        }
+        for (Magazine mag : retired) {
+            long writeLock = mag.writeLock();
+            try {
+                mag.retired = true;
+                mag.close();
+            } finally {
+                mag.unlockWrite(writeLock);
+            }
+        }
+        magazineShrinks.increment();
+    }
+
+    @Override
+    public AdaptivePoolingAllocatorMetric metric() {
+        return metric;
+    }
+
+    int numMagazines() {
+        return magazines.length;
+    }
+
+    int numThreadLocalMagazines() {
+        return liveCachedMagazines == null ? 0 : liveCachedMagazines.size();
+    }
+
+    List<AdaptiveMagazineMetric> magazineMetrics() {
+        List<AdaptiveMagazineMetric> metrics = new ArrayList<>(Arrays.asList(magazines));
+        if (liveCachedMagazines != null) {
+            metrics.addAll(liveCachedMagazines);
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    long numChunks() {
+        long chunks = 0;
+        for (int i = 0; i < CHUNK_HISTO_BUCKET_COUNT; i++) {
+            chunks += chunkHistogram.get(i);
+        }
+        return chunks;
+    }
+
+    long usedMemory() {
+        return usedChunkMemory.sum();
+    }
+
+    long[] chunkSizeHistogram() {
+        long[] histogram = new long[CHUNK_HISTO_BUCKET_COUNT];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = chunkHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    long numChunkAllocations() {
+        return chunkAllocations.sum();
+    }
+
+    long numChunkReuses() {
+        return chunkReuses.sum();
+    }
+
+    long numChunkOverflows() {
+        return chunkOverflows.sum();
+    }
+
+    long numExpansionAttempts() {
+        return expansionAttempts.sum();
+    }
+
+    long numMagazineExpansions() {
+        return magazineExpansions.sum();
+    }
+
+    long numUnpooledAllocations() {
+        return unpooledAllocations.sum();
+    }
+
+    long numReclaimedChunks() {
+        return reclaimedChunks.sum();
+    }
+
+    long reclaimedBytes() {
+        return reclaimedBytes.sum();
+    }
+
+    long numMagazineShrinks() {
+        return magazineShrinks.sum();
+    }
+
+    private void chunkAllocated(int size) {
+        chunkAllocations.increment();
+        usedChunkMemory.add(size);
+        chunkHistogram.incrementAndGet(chunkSizeBucket(size));
+    }
+
+    private void chunkReleased(int size) {
+        usedChunkMemory.add(-size);
+        chunkHistogram.decrementAndGet(chunkSizeBucket(size));
+    }
+
+    static int chunkSizeBucket(int size) {
+        int shift = 31 - Integer.numberOfLeadingZeros(size) - CHUNK_HISTO_MIN_SHIFT;
+        return Math.max(0, Math.min(shift, CHUNK_HISTO_BUCKET_COUNT - 1));
+    }
+
     @Override
     public void close() {
         closed = true;
+        if (reclaimFuture != null) {
+            reclaimFuture.cancel();
+        }
         long magsExpandWriteLock = magazineExpandLock.writeLock();
         try {
             for (Magazine mag : magazines) {
@@ -411,6 +728,20 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
             Arrays.fill(histo, (short) 0);
         }
 
+        /**
+         * Sum up the recent histograms, without rotating them.
+         * <p>
+         * This method is thread-safe, but the result may be slightly stale.
+         */
+        protected int[] allocationSizeSums() {
+            short[][] hs = histos;
+            int[] result = new int[HISTO_BUCKET_COUNT];
+            for (int i = 0; i < HISTO_BUCKET_COUNT; i++) {
+                result[i] = (hs[0][i] & 0xFFFF) + (hs[1][i] & 0xFFFF) + (hs[2][i] & 0xFFFF) + (hs[3][i] & 0xFFFF);
+            }
+            return result;
+        }
+
         /**
          * Get the preferred chunk size, based on statistics from the {@linkplain #recordAllocationSize(int) recorded}
          * allocation sizes.
@@ -424,13 +755,20 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
         }
     }
 
-    private static final class Magazine extends AllocationStatistics {
+    private static final class Magazine extends AllocationStatistics implements AdaptiveMagazineMetric {
         private static final long serialVersionUID = -4068223712022528165L;
         private static final VarHandle NEXT_IN_LINE;
+        private static final VarHandle ALLOCATIONS;
+        private static final VarHandle CHUNK_ALLOCATIONS;
+        private static final VarHandle CHUNK_OVERFLOWS;
 
         static {
             try {
-                NEXT_IN_LINE = MethodHandles.lookup().findVarHandle(Magazine.class, "nextInLine", Buffer.class);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                NEXT_IN_LINE = lookup.findVarHandle(Magazine.class, "nextInLine", Buffer.class);
+                ALLOCATIONS = lookup.findVarHandle(Magazine.class, "allocations", long.class);
+                CHUNK_ALLOCATIONS = lookup.findVarHandle(Magazine.class, "chunkAllocations", long.class);
+                CHUNK_OVERFLOWS = lookup.findVarHandle(Magazine.class, "chunkOverflows", long.class);
             } catch (NoSuchFieldException | IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
@@ -438,6 +776,14 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
         private Buffer current;
         @SuppressWarnings("unused") // updated via VarHandle
         private volatile Buffer nextInLine;
+        volatile boolean retired;
+        // Only updated by the thread that holds the magazine, so lazily set, but read as metrics from any thread.
+        @SuppressWarnings("unused") // updated via VarHandle
+        private volatile long allocations;
+        @SuppressWarnings("unused") // updated via VarHandle
+        private volatile long chunkAllocations;
+        @SuppressWarnings("unused") // updated via VarHandle
+        private volatile long chunkOverflows;
 
         Magazine(AdaptivePoolingAllocator parent) {
             super(parent, null);
@@ -449,6 +795,7 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
 
         public Buffer allocate(int size, int sizeBucket) {
             recordAllocationSize(sizeBucket);
+            ALLOCATIONS.setRelease(this, allocations + 1);
             Buffer curr = current;
             if (curr != null && curr.capacity() >= size) {
                 if (curr.capacity() == size) {
@@ -458,15 +805,22 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
                 return curr.split(size);
             }
             if (curr != null) {
+                // Only count an overflow when there was a chunk, but it was too small for this allocation.
+                CHUNK_OVERFLOWS.setRelease(this, chunkOverflows + 1);
+                parent.chunkOverflows.increment();
                 curr.close();
             }
-            if (nextInLine != null) {
-                curr = (Buffer) NEXT_IN_LINE.getAndSet(this, (Buffer) null);
-            } else {
+            // The reclaimer may take the next-in-line chunk concurrently, so we must check what we got.
+            curr = nextInLine != null ? (Buffer) NEXT_IN_LINE.getAndSet(this, (Buffer) null) : null;
+            if (curr == null) {
                 curr = parent.centralQueue.poll();
                 if (curr == null) {
                     curr = newChunkAllocation(size);
+                } else {
+                    parent.chunkReuses.increment();
                 }
+            } else {
+                parent.chunkReuses.increment();
             }
             current = curr;
             final Buffer result;
@@ -494,14 +848,19 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
 
         private Buffer newChunkAllocation(int promptingSize) {
             int size = Math.max(promptingSize * BUFS_PER_CHUNK, preferredChunkSize());
-            return parent.manager.allocateShared(parent.allocatorControl, size, this::decorate, parent.allocationType);
+            CHUNK_ALLOCATIONS.setRelease(this, chunkAllocations + 1);
+            MemoryManager manager = parent.manager;
+            Buffer chunk = manager.allocateShared(parent.allocatorControl, size, this::decorate, parent.allocationType);
+            // Account for the size of the memory, like PoolDrop does when the chunk is released.
+            parent.chunkAllocated(manager.sizeOf(manager.unwrapRecoverableMemory(chunk)));
+            return chunk;
         }
 
         private Drop<Buffer> decorate(Drop<Buffer> drop) {
             if (drop instanceof ArcDrop) {
                 drop = ((ArcDrop<Buffer>) drop).unwrap();
             }
-            drop = CleanerDrop.wrap(ArcDrop.wrap(new PoolDrop(drop, this)), parent.manager);
+            drop = CleanerDrop.wrapWithoutSampling(ArcDrop.wrap(new PoolDrop(drop, this)), parent.manager);
             if (drop instanceof CleanerDrop) {
                 // Only avoid recording splits if we have a CleanerDrop here,
                 // because they're the only ones recording splits anyway.
@@ -510,8 +869,45 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
             return drop;
         }
 
+        @Override
+        public boolean isThreadLocal() {
+            return ownerEventExecutor != null;
+        }
+
+        @Override
+        public long numAllocations() {
+            return allocations;
+        }
+
+        @Override
+        public long numChunkAllocations() {
+            return chunkAllocations;
+        }
+
+        @Override
+        public long numChunkOverflows() {
+            return chunkOverflows;
+        }
+
+        @Override
+        public int preferredChunkSize() {
+            return super.preferredChunkSize();
+        }
+
+        @Override
+        public int[] allocationSizeHistogram() {
+            return allocationSizeSums();
+        }
+
         boolean trySetNextInLine(Buffer buffer) {
-            return (boolean) NEXT_IN_LINE.compareAndSet(this, null, buffer);
+            return !retired && (boolean) NEXT_IN_LINE.compareAndSet(this, null, buffer);
+        }
+
+        void releaseNextInLine() {
+            Buffer next = (Buffer) NEXT_IN_LINE.getAndSet(this, null);
+            if (next != null) {
+                reclaimChunk(next);
+            }
         }
 
         void close() {
@@ -532,6 +928,8 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
         private final Drop<Buffer> drop;
         private final Magazine magazine;
         private Object memory;
+        // Set by the reclaimer, which may run on another thread than the one that closes the last buffer.
+        volatile boolean reclaimed;
 
         PoolDrop(Drop<Buffer> drop, Magazine magazine) {
             this.drop = drop;
@@ -549,18 +947,26 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
             MemoryManager manager = parent.manager;
             int chunkSize = mag.preferredChunkSize();
             int memSize = manager.sizeOf(memory);
-            if (parent.closed || memSize < chunkSize || memSize > chunkSize + (chunkSize >> 1)) {
+            if (reclaimed) {
+                // The chunk was idle, and is being released by the reclaimer.
+                parent.reclaimedChunks.increment();
+                parent.reclaimedBytes.add(memSize);
+                parent.chunkReleased(memSize);
+                drop.drop(obj);
+            } else if (parent.closed || memSize < chunkSize || memSize > chunkSize + (chunkSize >> 1)) {
                 // Drop the chunk if the parent allocator is closed, or if the chunk is smaller than the
                 // preferred chunk size, or over 50% larger than the preferred chunk size.
+                parent.chunkReleased(memSize);
                 drop.drop(obj);
             } else {
-                Drop<Buffer> recoveredMemoryDrop = CleanerDrop.wrap(ArcDrop.wrap(this), manager);
+                Drop<Buffer> recoveredMemoryDrop = CleanerDrop.wrapWithoutSampling(ArcDrop.wrap(this), manager);
                 Buffer buffer = manager.recoverMemory(parent.allocatorControl, memory, recoveredMemoryDrop);
                 if (!mag.trySetNextInLine(buffer)) {
                     if (!parent.offerToQueue(buffer)) {
                         // The central queue is full. Drop the memory through the Buffer we created.
                         // Mark this PoolDrop for deallocation to avoid infinite recursion.
                         memory = DEALLOCATE;
+                        parent.chunkReleased(memSize);
                         buffer.close();
                     }
                 }
@@ -609,6 +1015,43 @@ public class AdaptivePoolingAllocator implements BufferAllocator {
         }
     }
 
+    /**
+     * Periodically reclaims idle memory from an allocator. The task only weakly references the allocator, so
+     * allocators that are not closed can still be garbage collected, which also cancels the task.
+     */
+    static final class ReclaimTask implements Runnable {
+        private final WeakReference<AdaptivePoolingAllocator> allocatorRef;
+        private volatile Future<Void> future;
+
+        ReclaimTask(AdaptivePoolingAllocator allocator) {
+            allocatorRef = new WeakReference<>(allocator);
+        }
+
+        static Future<Void> schedule(AdaptivePoolingAllocator allocator, long interval, TimeUnit unit) {
+            ReclaimTask task = new ReclaimTask(allocator);
+            Future<Void> future = GlobalEventExecutor.INSTANCE.scheduleWithFixedDelay(task, interval, interval, unit);
+            task.future = future;
+            return future;
+        }
+
+        @Override
+        public void run() {
+            AdaptivePoolingAllocator allocator = allocatorRef.get();
+            if (allocator == null || allocator.closed) {
+                Future<Void> future = this.future;
+                if (future != null) {
+                    future.cancel();
+                }
+                return;
+            }
+            try {
+                allocator.reclaim(false);
+            } catch (Throwable t) {
+                logger.warn("Failed to reclaim idle memory from {}", allocator, t);
+            }
+        }
+    }
+
     private static final class SimpleAllocatorControl implements AllocatorControl {
         private final BufferAllocator allocator;
 
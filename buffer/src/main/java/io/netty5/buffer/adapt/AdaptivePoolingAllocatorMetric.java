@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.adapt;
+
+import java.util.List;
+
+/**
+ * Metrics of an {@link AdaptivePoolingAllocator}.
+ */
+public interface AdaptivePoolingAllocatorMetric {
+
+    /**
+     * Return the number of magazines that are shared by all threads.
+     */
+    int numMagazines();
+
+    /**
+     * Return the number of magazines that are bound to an event executor thread.
+     */
+    int numThreadLocalMagazines();
+
+    /**
+     * Return an unmodifiable {@link List} of the {@link AdaptiveMagazineMetric}s of the shared magazines, followed by
+     * those of the magazines that are bound to an event executor thread.
+     */
+    List<AdaptiveMagazineMetric> magazineMetrics();
+
+    /**
+     * Return the number of chunks that are currently allocated, whether they are in use or idle.
+     */
+    long numChunks();
+
+    /**
+     * Return the number of bytes of memory held by the currently allocated chunks.
+     */
+    long usedMemory();
+
+    /**
+     * Return the number of currently allocated chunks, by chunk size.
+     * <p>
+     * Bucket {@code i} counts the chunks whose size is at least {@code 128 KiB << i}, and less than
+     * {@code 128 KiB << i + 1}. The last bucket counts all chunks of 16 MiB or more.
+     */
+    long[] chunkSizeHistogram();
+
+    /**
+     * Return the number of chunks that have been allocated from the memory manager.
+     */
+    long numChunkAllocations();
+
+    /**
+     * Return the number of times a magazine took an idle chunk into use, instead of allocating a new one.
+     */
+    long numChunkReuses();
+
+    /**
+     * Return the number of allocations that did not fit in the current chunk of their magazine, and overflowed into
+     * another chunk.
+     */
+    long numChunkOverflows();
+
+    /**
+     * Return the number of times an allocation found all of its candidate magazines busy, and attempted to expand
+     * the number of magazines.
+     */
+    long numExpansionAttempts();
+
+    /**
+     * Return the number of times the number of magazines was doubled, because of contention.
+     */
+    long numMagazineExpansions();
+
+    /**
+     * Return the number of allocations that were not pooled, either because they were too big, or because no
+     * magazine could be acquired.
+     */
+    long numUnpooledAllocations();
+
+    /**
+     * Return the number of idle chunks that have been released by {@link AdaptivePoolingAllocator#reclaim(boolean)}.
+     */
+    long numReclaimedChunks();
+
+    /**
+     * Return the number of bytes of idle chunk memory that have been released by
+     * {@link AdaptivePoolingAllocator#reclaim(boolean)}.
+     */
+    long reclaimedBytes();
+
+    /**
+     * Return the number of times the number of magazines was halved, because no contention was observed.
+     */
+    long numMagazineShrinks();
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.adapt;
+
+import io.netty5.util.internal.StringUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exposed metric for {@link AdaptivePoolingAllocator}.
+ */
+final class DefaultAdaptivePoolingAllocatorMetric implements AdaptivePoolingAllocatorMetric {
+
+    private final AdaptivePoolingAllocator allocator;
+
+    DefaultAdaptivePoolingAllocatorMetric(AdaptivePoolingAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public int numMagazines() {
+        return allocator.numMagazines();
+    }
+
+    @Override
+    public int numThreadLocalMagazines() {
+        return allocator.numThreadLocalMagazines();
+    }
+
+    @Override
+    public List<AdaptiveMagazineMetric> magazineMetrics() {
+        return allocator.magazineMetrics();
+    }
+
+    @Override
+    public long numChunks() {
+        return allocator.numChunks();
+    }
+
+    @Override
+    public long usedMemory() {
+        return allocator.usedMemory();
+    }
+
+    @Override
+    public long[] chunkSizeHistogram() {
+        return allocator.chunkSizeHistogram();
+    }
+
+    @Override
+    public long numChunkAllocations() {
+        return allocator.numChunkAllocations();
+    }
+
+    @Override
+    public long numChunkReuses() {
+        return allocator.numChunkReuses();
+    }
+
+    @Override
+    public long numChunkOverflows() {
+        return allocator.numChunkOverflows();
+    }
+
+    @Override
+    public long numExpansionAttempts() {
+        return allocator.numExpansionAttempts();
+    }
+
+    @Override
+    public long numMagazineExpansions() {
+        return allocator.numMagazineExpansions();
+    }
+
+    @Override
+    public long numUnpooledAllocations() {
+        return allocator.numUnpooledAllocations();
+    }
+
+    @Override
+    public long numReclaimedChunks() {
+        return allocator.numReclaimedChunks();
+    }
+
+    @Override
+    public long reclaimedBytes() {
+        return allocator.reclaimedBytes();
+    }
+
+    @Override
+    public long numMagazineShrinks() {
+        return allocator.numMagazineShrinks();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(StringUtil.simpleClassName(this))
+                .append("(usedMemory: ").append(usedMemory())
+                .append("; numMagazines: ").append(numMagazines())
+                .append("; numThreadLocalMagazines: ").append(numThreadLocalMagazines())
+                .append("; numChunks: ").append(numChunks())
+                .append("; chunkSizeHistogram: ").append(Arrays.toString(chunkSizeHistogram()))
+                .append("; numChunkAllocations: ").append(numChunkAllocations())
+                .append("; numChunkReuses: ").append(numChunkReuses())
+                .append("; numChunkOverflows: ").append(numChunkOverflows())
+                .append("; numExpansionAttempts: ").append(numExpansionAttempts())
+                .append("; numUnpooledAllocations: ").append(numUnpooledAllocations())
+                .append("; reclaimedBytes: ").append(reclaimedBytes())
+                .append(')');
+        return sb.toString();
+    }
+}
@@ -24,9 +24,11 @@ import io.netty5.buffer.Drop;
 import io.netty5.buffer.MemoryManager;
 import io.netty5.buffer.StandardAllocationTypes;
 import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.buffer.internal.MappedFileAllocation;
 import io.netty5.buffer.internal.WrappingAllocation;
 
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.function.Function;
 
 import static io.netty5.buffer.internal.InternalBufferUtils.bbslice;
@@ -47,16 +49,21 @@ public final class ByteBufferMemoryManager implements MemoryManager {
                                  AllocationType allocationType) {
         int capacity = Math.toIntExact(size);
         final ByteBuffer buffer;
+        Drop<Buffer> drop = drop();
         if (allocationType == StandardAllocationTypes.OFF_HEAP) {
             buffer = ByteBuffer.allocateDirect(capacity);
         } else if (allocationType == StandardAllocationTypes.ON_HEAP) {
             buffer = ByteBuffer.allocate(capacity);
         } else if (allocationType instanceof WrappingAllocation) {
             buffer = ByteBuffer.wrap(((WrappingAllocation) allocationType).getArray());
+        } else if (allocationType instanceof MappedFileAllocation) {
+            MappedByteBuffer mapped = ((MappedFileAllocation) allocationType).map(capacity);
+            buffer = mapped;
+            drop = MappedFileAllocation.unmapDrop(mapped);
         } else {
             throw new IllegalArgumentException("Unknown allocation type: " + allocationType);
         }
-        return createBuffer(buffer, allocatorControl, dropDecorator.apply(drop()));
+        return createBuffer(buffer, allocatorControl, dropDecorator.apply(drop));
     }
 
     @Override
@@ -38,11 +38,48 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
      */
     public static <T extends Buffer> Drop<T> wrap(Drop<T> drop, MemoryManager manager) {
         if (LeakDetection.ALWAYS_ATTACH_CLEANER || LeakDetection.leakDetectionEnabled > 0) {
-            return innerWrap(drop, manager, true);
+            return innerWrap(drop, manager, true, null);
+        }
+        if (LeakSampler.sample()) {
+            return innerWrap(drop, manager, true, LeakSampler.captureAllocationSite());
+        }
+        return drop;
+    }
+
+    /**
+     * Wrap the given drop instance, like {@link #wrap(Drop, MemoryManager)}, but never for the {@link LeakSampler}.
+     * <p>
+     * This is used by pooling allocators for the chunks of memory that they carve their buffers out of. A sampled
+     * chunk would only report the allocation site that happened to create the chunk, so these allocators instead
+     * {@linkplain #sample(Buffer, MemoryManager) sample} every buffer they hand out.
+     */
+    public static <T extends Buffer> Drop<T> wrapWithoutSampling(Drop<T> drop, MemoryManager manager) {
+        if (LeakDetection.ALWAYS_ATTACH_CLEANER || LeakDetection.leakDetectionEnabled > 0) {
+            return innerWrap(drop, manager, true, null);
         }
         return drop;
     }
 
+    /**
+     * Give the {@link LeakSampler} a chance to sample the given buffer, which a pooling allocator is about to return
+     * from its {@code allocate} method. A sampled buffer gets its drop wrapped in a cleaner, which reports the
+     * allocation site of this buffer if it leaks.
+     *
+     * @return The given buffer.
+     */
+    public static <T extends Buffer> T sample(T buffer, MemoryManager manager) {
+        if (LeakDetection.ALWAYS_ATTACH_CLEANER || LeakDetection.leakDetectionEnabled > 0 || !LeakSampler.sample()) {
+            // With full leak detection, the buffer already got a cleaner from the chunk it was split off of.
+            return buffer;
+        }
+        ResourceSupport<?, ?> resource = (ResourceSupport<?, ?>) buffer;
+        Drop<T> drop = InternalBufferUtils.unsafeGetDrop(resource);
+        CleanerDrop<T> cleanerDrop = innerWrap(drop, manager, true, LeakSampler.captureAllocationSite());
+        cleanerDrop.runner.prepareRecover(buffer);
+        InternalBufferUtils.unsafeSetDrop(resource, cleanerDrop);
+        return buffer;
+    }
+
     /**
      * Wrap the given drop instance, and produce a new drop instance that will also call the delegate drop instance if
      * it becomes cleanable.
@@ -52,13 +89,13 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
      * expose any way for them to be closed.
      */
     public static <T extends Buffer> Drop<T> wrapWithoutLeakDetection(Drop<T> drop, MemoryManager manager) {
-        return innerWrap(drop, manager, false);
+        return innerWrap(drop, manager, false, null);
     }
 
     private static <T extends Buffer> CleanerDrop<T> innerWrap(
-            Drop<T> drop, MemoryManager manager, boolean detectLeaks) {
+            Drop<T> drop, MemoryManager manager, boolean detectLeaks, LeakSampler.LeakSite allocationSite) {
         CleanerDrop<T> cleanerDrop = new CleanerDrop<>();
-        GatedRunner<T> runner = new GatedRunner<>(drop, manager, detectLeaks);
+        GatedRunner<T> runner = new GatedRunner<>(drop, manager, detectLeaks, allocationSite);
         cleanerDrop.cleanable = InternalBufferUtils.getCleaner().register(cleanerDrop, runner);
         cleanerDrop.runner = runner;
         return cleanerDrop;
@@ -82,14 +119,21 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
 
     @Override
     public Drop<T> fork() {
-        CleanerDrop<T> drop = innerWrap(runner.drop.fork(), runner.manager, true);
+        CleanerDrop<T> drop = innerWrap(runner.drop.fork(), runner.manager, true, runner.allocationSite);
         drop.runner.tracerFromSplitParent = true;
         drop.runner.tracer = runner.tracer;
         return drop;
     }
 
     public Drop<T> forkWithoutTracingSplit() {
-        return innerWrap(runner.drop.fork(), runner.manager, true);
+        return innerWrap(runner.drop.fork(), runner.manager, true, runner.allocationSite);
+    }
+
+    /**
+     * @return The drop instance that this drop delegates to.
+     */
+    public Drop<T> unwrap() {
+        return runner.drop;
     }
 
     @Override
@@ -103,14 +147,20 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
         final Drop<T> drop;
         final MemoryManager manager;
         final boolean detectLeaks;
+        // Non-null if this buffer was sampled by the LeakSampler, which then gets its leak reports.
+        final LeakSampler.LeakSite allocationSite;
         volatile boolean dropping;
         volatile boolean tracerFromSplitParent;
         LifecycleTracer tracer;
+        // The capacity of the buffer when it was attached. Buffers split off a pooled chunk recover the whole chunk.
+        int capacity;
 
-        private GatedRunner(Drop<T> drop, MemoryManager manager, boolean detectLeaks) {
+        private GatedRunner(Drop<T> drop, MemoryManager manager, boolean detectLeaks,
+                            LeakSampler.LeakSite allocationSite) {
             this.drop = drop;
             this.manager = manager;
             this.detectLeaks = detectLeaks;
+            this.allocationSite = allocationSite;
         }
 
         @SuppressWarnings("unchecked")
@@ -122,7 +172,9 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
                     drop.drop((T) obj);
                 } else {
                     try (Buffer recoveredBuffer = manager.recoverMemory(ALLOC_CONTROL, obj, (Drop<Buffer>) drop)) {
-                        if (detectLeaks) {
+                        if (allocationSite != null) {
+                            LeakSampler.reportLeak(allocationSite, capacity);
+                        } else if (detectLeaks) {
                             LeakDetection.reportLeak(tracer, "buffer (" + recoveredBuffer.capacity() + " bytes)");
                         }
                     }
@@ -137,6 +189,7 @@ public final class CleanerDrop<T extends Buffer> implements Drop<T> {
                 tracer.splitTo(recoveredTracer);
             }
             tracer = recoveredTracer;
+            capacity = obj.capacity();
             set(manager.unwrapRecoverableMemory(obj));
         }
     }
@@ -345,6 +345,11 @@ public interface InternalBufferUtils {
         return ResourceSupport.getTracer(obj).collectTraces();
     }
 
+    @SuppressWarnings("unchecked")
+    static <T> Drop<T> unsafeGetDrop(ResourceSupport<?, ?> obj) {
+        return (Drop<T>) obj.unsafeGetDrop();
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static void unsafeSetDrop(ResourceSupport<?, ?> obj, Drop<?> replacement) {
         obj.unsafeSetDrop((Drop) replacement);
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.internal;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.util.concurrent.GlobalEventExecutor;
+import io.netty5.util.internal.SystemPropertyUtil;
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A low-overhead leak detector, that only tracks a random sample of the allocated buffers.
+ * <p>
+ * When sampling is enabled, one in every {@linkplain #samplingInterval() N} buffers has a cleaner attached, and the
+ * stack trace of its allocation recorded. All other buffers are allocated exactly as if leak detection was disabled.
+ * The sampling interval adapts to the allocation rate, such that roughly
+ * {@code io.netty5.buffer.leakDetectionSampling.targetSamplesPerSecond} buffers are sampled per second, but never
+ * fewer than one in {@code io.netty5.buffer.leakDetectionSampling.interval} buffers.
+ * <p>
+ * Leaks of sampled buffers are aggregated by their {@linkplain LeakSite allocation site}, and a summary of the sites
+ * that leaked is logged at the {@code ERROR} level at most once every
+ * {@code io.netty5.buffer.leakDetectionSampling.summaryIntervalSeconds}.
+ * <p>
+ * Sampling is enabled with the {@code io.netty5.buffer.leakDetectionSampling} system property, or {@link #enable(int)}.
+ * It only applies while full {@linkplain LeakDetection leak detection} is disabled.
+ */
+@UnstableApi
+public final class LeakSampler {
+    private static final Logger logger = LoggerFactory.getLogger(LeakSampler.class);
+    private static final int DEFAULT_INTERVAL;
+    private static final int MAX_INTERVAL = 1 << 20;
+    private static final int TARGET_SAMPLES_PER_SECOND;
+    private static final long SUMMARY_INTERVAL_NANOS;
+    private static final int SITE_DEPTH = 8;
+    private static final int MAX_SITES = 1024;
+    private static final int MAX_SITES_PER_SUMMARY = 10;
+    private static final Set<String> ALLOCATOR_PACKAGES = Set.of(
+            "io.netty5.buffer",
+            "io.netty5.buffer.internal",
+            "io.netty5.buffer.pool",
+            "io.netty5.buffer.adapt",
+            "io.netty5.buffer.unsafe",
+            "io.netty5.buffer.bytebuffer",
+            "io.netty5.buffer.memseg");
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final LeakSite UNKNOWN_SITE = new LeakSite(new StackTraceElement[0]);
+
+    private static final ConcurrentHashMap<LeakSite, LeakSite> SITES = new ConcurrentHashMap<>();
+    private static final AtomicBoolean SUMMARY_SCHEDULED = new AtomicBoolean();
+
+    // Zero when sampling is disabled.
+    private static final AtomicInteger SAMPLING_INTERVAL = new AtomicInteger();
+    // The sampling window is claimed by moving its start forward, so only one thread adapts the interval per window.
+    private static final AtomicLong WINDOW_START_NANOS = new AtomicLong();
+    private static final AtomicInteger WINDOW_SAMPLES = new AtomicInteger();
+    private static volatile int minimumInterval;
+    // Protected by the LeakSampler class monitor.
+    private static long lastSummaryNanos;
+
+    static {
+        DEFAULT_INTERVAL = Math.max(1, SystemPropertyUtil.getInt(
+                "io.netty5.buffer.leakDetectionSampling.interval", 128));
+        TARGET_SAMPLES_PER_SECOND = Math.max(1, SystemPropertyUtil.getInt(
+                "io.netty5.buffer.leakDetectionSampling.targetSamplesPerSecond", 100));
+        SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(Math.max(1, SystemPropertyUtil.getInt(
+                "io.netty5.buffer.leakDetectionSampling.summaryIntervalSeconds", 60)));
+        boolean enabled = SystemPropertyUtil.getBoolean("io.netty5.buffer.leakDetectionSampling", false);
+        if (logger.isDebugEnabled()) {
+            logger.debug("-Dio.netty5.buffer.leakDetectionSampling: {}", enabled);
+            logger.debug("-Dio.netty5.buffer.leakDetectionSampling.interval: {}", DEFAULT_INTERVAL);
+            logger.debug("-Dio.netty5.buffer.leakDetectionSampling.targetSamplesPerSecond: {}",
+                    TARGET_SAMPLES_PER_SECOND);
+            logger.debug("-Dio.netty5.buffer.leakDetectionSampling.summaryIntervalSeconds: {}",
+                    TimeUnit.NANOSECONDS.toSeconds(SUMMARY_INTERVAL_NANOS));
+        }
+        lastSummaryNanos = System.nanoTime() - SUMMARY_INTERVAL_NANOS;
+        if (enabled) {
+            enable(DEFAULT_INTERVAL);
+        }
+    }
+
+    private LeakSampler() {
+    }
+
+    /**
+     * Enable sampling leak detection, with the default minimum sampling interval.
+     */
+    public static void enable() {
+        enable(DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Enable sampling leak detection.
+     *
+     * @param minimumInterval The smallest sampling interval to use, where {@code 1} samples every buffer.
+     *                        The interval may grow beyond this, if buffers are allocated at a high rate.
+     */
+    public static synchronized void enable(int minimumInterval) {
+        if (minimumInterval < 1) {
+            throw new IllegalArgumentException("The minimum interval must be positive, but was " + minimumInterval);
+        }
+        LeakSampler.minimumInterval = minimumInterval;
+        WINDOW_START_NANOS.set(System.nanoTime());
+        WINDOW_SAMPLES.set(0);
+        SAMPLING_INTERVAL.set(minimumInterval);
+    }
+
+    /**
+     * Disable sampling leak detection. Buffers that have already been sampled are still reported if they leak.
+     */
+    public static synchronized void disable() {
+        SAMPLING_INTERVAL.set(0);
+    }
+
+    /**
+     * @return {@code true} if sampling leak detection is enabled.
+     */
+    public static boolean isEnabled() {
+        return SAMPLING_INTERVAL.get() != 0;
+    }
+
+    /**
+     * @return The current sampling interval, such that one in this many buffers are sampled,
+     * or {@code 0} if sampling is disabled.
+     */
+    public static int samplingInterval() {
+        return SAMPLING_INTERVAL.get();
+    }
+
+    /**
+     * @return A snapshot of the allocation sites that have leaked at least one sampled buffer,
+     * ordered by the number of leaks, most first.
+     */
+    public static List<LeakSite> leakSites() {
+        List<LeakSite> sites = new ArrayList<>();
+        for (LeakSite site : SITES.keySet()) {
+            if (site.leaks() > 0) {
+                sites.add(site);
+            }
+        }
+        if (UNKNOWN_SITE.leaks() > 0) {
+            sites.add(UNKNOWN_SITE);
+        }
+        sites.sort(Comparator.comparingLong(LeakSite::leaks).reversed());
+        return sites;
+    }
+
+    /**
+     * Decide if the buffer that is currently being allocated should be sampled.
+     * This is the only part of the sampling leak detection that affects buffers that are not sampled.
+     */
+    static boolean sample() {
+        int interval = SAMPLING_INTERVAL.get();
+        if (interval == 0 || interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0) {
+            return false;
+        }
+        adaptInterval(interval);
+        return true;
+    }
+
+    private static void adaptInterval(int interval) {
+        int samples = WINDOW_SAMPLES.incrementAndGet();
+        long start = WINDOW_START_NANOS.get();
+        long now = System.nanoTime();
+        long elapsed = now - start;
+        // Adapt as soon as the target is reached, so a burst of allocations does not sample for a whole second.
+        if (samples < TARGET_SAMPLES_PER_SECOND && elapsed < TimeUnit.SECONDS.toNanos(1) ||
+                !WINDOW_START_NANOS.compareAndSet(start, now)) {
+            return;
+        }
+        // We own the window that just ended. Samples counted by other threads after our read go to the next one.
+        WINDOW_SAMPLES.addAndGet(-samples);
+        // The number of samples over the window is an estimate of the allocation rate, divided by the interval.
+        double samplesPerSecond = samples * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsed);
+        double scale = samplesPerSecond / TARGET_SAMPLES_PER_SECOND;
+        int adapted = interval;
+        if (scale > 1) {
+            adapted = (int) Math.min(MAX_INTERVAL, Math.ceil(interval * scale));
+        } else if (scale < 0.5) {
+            adapted = Math.max(minimumInterval, interval >> 1);
+        }
+        if (adapted != interval) {
+            // Fails if sampling was disabled, or enabled again, concurrently.
+            SAMPLING_INTERVAL.compareAndSet(interval, adapted);
+        }
+    }
+
+    /**
+     * Get the allocation site of the buffer that is currently being allocated.
+     * The site is the caller of the allocator, followed by a few of its callers.
+     */
+    static LeakSite captureAllocationSite() {
+        StackTraceElement[] frames = WALKER.walk(stream -> stream
+                .dropWhile(frame -> ALLOCATOR_PACKAGES.contains(frame.getDeclaringClass().getPackageName()))
+                .limit(SITE_DEPTH)
+                .map(StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+        LeakSite site = new LeakSite(frames);
+        LeakSite existing = SITES.get(site);
+        if (existing != null) {
+            return existing;
+        }
+        if (SITES.size() >= MAX_SITES) {
+            return UNKNOWN_SITE;
+        }
+        existing = SITES.putIfAbsent(site, site);
+        return existing != null ? existing : site;
+    }
+
+    /**
+     * Called when a sampled buffer was garbage collected without being closed.
+     */
+    static void reportLeak(LeakSite site, int bytes) {
+        site.leaks.incrementAndGet();
+        site.leakedBytes.addAndGet(bytes);
+        if (SUMMARY_SCHEDULED.compareAndSet(false, true)) {
+            long delay = Math.max(0, SUMMARY_INTERVAL_NANOS - (System.nanoTime() - lastSummaryNanos));
+            GlobalEventExecutor.INSTANCE.schedule(LeakSampler::logSummary, delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void logSummary() {
+        List<LeakSite> sites = new ArrayList<>();
+        long leaks = 0;
+        long bytes = 0;
+        synchronized (LeakSampler.class) {
+            lastSummaryNanos = System.nanoTime();
+            for (LeakSite site : leakSites()) {
+                long siteLeaks = site.leaks() - site.reportedLeaks;
+                if (siteLeaks > 0) {
+                    long siteBytes = site.leakedBytes() - site.reportedBytes;
+                    site.reportedLeaks += siteLeaks;
+                    site.reportedBytes += siteBytes;
+                    leaks += siteLeaks;
+                    bytes += siteBytes;
+                    sites.add(site);
+                }
+            }
+        }
+        // Leaks reported from here on need a new summary.
+        SUMMARY_SCHEDULED.set(false);
+        if (sites.isEmpty() || !logger.isErrorEnabled()) {
+            return;
+        }
+        StringBuilder buf = new StringBuilder(1024)
+                .append("LEAK: ").append(leaks).append(" sampled buffers (").append(bytes)
+                .append(" bytes) from ").append(sites.size())
+                .append(" allocation sites were not closed before they were garbage collected. ")
+                .append("One in ").append(SAMPLING_INTERVAL.get())
+                .append(" buffers are currently sampled, so the actual number of leaks is likely higher. ")
+                .append("See https://netty.io/wiki/reference-counted-objects.html for more information.");
+        for (int i = 0; i < sites.size() && i < MAX_SITES_PER_SUMMARY; i++) {
+            LeakSite site = sites.get(i);
+            buf.append("\n#").append(i + 1).append(": ").append(site.leaks()).append(" leaks (")
+               .append(site.leakedBytes()).append(" bytes) in total, allocated at:");
+            site.appendFrames(buf);
+        }
+        if (sites.size() > MAX_SITES_PER_SUMMARY) {
+            buf.append("\n... and ").append(sites.size() - MAX_SITES_PER_SUMMARY).append(" more allocation sites.");
+        }
+        logger.error(buf.toString());
+    }
+
+    /**
+     * The place in the code where sampled buffers were allocated, and the number of them that have leaked.
+     */
+    public static final class LeakSite {
+        private final StackTraceElement[] frames;
+        private final int hash;
+        private final AtomicLong leaks = new AtomicLong();
+        private final AtomicLong leakedBytes = new AtomicLong();
+        // Protected by the LeakSampler class monitor.
+        private long reportedLeaks;
+        private long reportedBytes;
+
+        LeakSite(StackTraceElement[] frames) {
+            this.frames = frames;
+            hash = Arrays.hashCode(frames);
+        }
+
+        /**
+         * @return The innermost stack frames of the allocation, starting with the caller of the
+         * {@link BufferAllocator}. This is empty if too many distinct allocation sites have been sampled.
+         */
+        public StackTraceElement[] frames() {
+            return frames.clone();
+        }
+
+        /**
+         * @return The number of sampled {@link Buffer}s from this site, that were garbage collected without being
+         * closed.
+         */
+        public long leaks() {
+            return leaks.get();
+        }
+
+        /**
+         * @return The total capacity of the leaked sampled buffers from this site.
+         */
+        public long leakedBytes() {
+            return leakedBytes.get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof LeakSite && Arrays.equals(frames, ((LeakSite) o).frames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder(256)
+                    .append("LeakSite(leaks: ").append(leaks()).append(", leakedBytes: ").append(leakedBytes())
+                    .append(')');
+            appendFrames(buf);
+            return buf.toString();
+        }
+
+        private void appendFrames(StringBuilder buf) {
+            if (frames.length == 0) {
+                buf.append("\n\tat <unknown; too many allocation sites>");
+            }
+            for (StackTraceElement frame : frames) {
+                buf.append("\n\tat ").append(frame);
+            }
+        }
+    }
+}
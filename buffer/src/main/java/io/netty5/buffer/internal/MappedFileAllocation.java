@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.internal;
+
+import io.netty5.buffer.AllocationType;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.Drop;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.UnstableApi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An {@link AllocationType} for off-heap buffers that are backed by a read-only memory-mapped region of a file.
+ * <p>
+ * The region starts at the {@linkplain #getPosition() position} in the {@linkplain #getChannel() channel}, and is as
+ * long as the size of the allocation. Memory managers that do not have their own way of mapping files can use
+ * {@link #map(long)} and {@link #unmapDrop(MappedByteBuffer)}.
+ *
+ * @see MemoryManager#mapFile(FileChannel, long, int)
+ */
+@UnstableApi
+public final class MappedFileAllocation implements AllocationType {
+    private final FileChannel channel;
+    private final long position;
+
+    public MappedFileAllocation(FileChannel channel, long position) {
+        this.channel = channel;
+        this.position = position;
+    }
+
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Map the region of the file as a read-only {@link MappedByteBuffer}.
+     *
+     * @param size The size of the region.
+     * @return The mapped region of the file.
+     * @throws UncheckedIOException If the file could not be mapped.
+     */
+    public MappedByteBuffer map(long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a {@link Drop} that unmaps the given buffer, once it, and all buffers sharing its memory, are dropped.
+     * <p>
+     * If the buffer cannot be unmapped explicitly on this platform, it is instead unmapped when it is garbage
+     * collected.
+     *
+     * @param mapped A buffer returned from {@link #map(long)}.
+     * @return A drop that unmaps the buffer.
+     */
+    public static Drop<Buffer> unmapDrop(MappedByteBuffer mapped) {
+        return ArcDrop.wrap(new UnmapDrop(mapped));
+    }
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedFileAllocation(" + channel + ", position: " + position + ')';
+    }
+
+    private static final class UnmapDrop implements Drop<Buffer> {
+        private final MappedByteBuffer mapped;
+
+        UnmapDrop(MappedByteBuffer mapped) {
+            this.mapped = mapped;
+        }
+
+        @Override
+        public void drop(Buffer obj) {
+            PlatformDependent.freeDirectBuffer(mapped);
+        }
+
+        @Override
+        public Drop<Buffer> fork() {
+            throw new IllegalStateException(this + " cannot fork. Must be guarded by an ArcDrop.");
+        }
+
+        @Override
+        public void attach(Buffer obj) {
+        }
+
+        @Override
+        public String toString() {
+            return "UnmapDrop(" + mapped + ')';
+        }
+    }
+}
@@ -31,6 +31,63 @@ public interface BufferAllocatorMetric {
      */
     List<PoolArenaMetric> arenaMetrics();
 
+    /**
+     * Return the number of NUMA nodes the arenas are distributed across, or {@code 1} if NUMA-aware arena placement
+     * is disabled.
+     */
+    default int numNumaNodes() {
+        return 1;
+    }
+
+    /**
+     * Return the ids of the NUMA nodes the arenas are distributed across, in ascending order. Node ids are assigned
+     * by the operating system and need not be contiguous. If NUMA-aware arena placement is disabled, this is
+     * {@code [0]}.
+     */
+    default int[] numaNodes() {
+        return new int[] { 0 };
+    }
+
+    /**
+     * Return a {@link List} of the {@link PoolArenaMetric}s of the arenas that are bound to the given NUMA node.
+     *
+     * @param numaNode one of the {@linkplain #numaNodes() node ids}.
+     */
+    default List<PoolArenaMetric> arenaMetrics(int numaNode) {
+        checkSingleNode(numaNode);
+        return arenaMetrics();
+    }
+
+    /**
+     * Return the number of thread local caches that use an arena bound to the given NUMA node.
+     *
+     * @param numaNode one of the {@linkplain #numaNodes() node ids}.
+     */
+    default int numThreadLocalCaches(int numaNode) {
+        checkSingleNode(numaNode);
+        return numThreadLocalCaches();
+    }
+
+    /**
+     * Returns the number of bytes of memory used by the arenas bound to the given NUMA node.
+     *
+     * @param numaNode one of the {@linkplain #numaNodes() node ids}.
+     */
+    default long usedMemory(int numaNode) {
+        checkSingleNode(numaNode);
+        return usedMemory();
+    }
+
+    /**
+     * Returns the number of bytes of memory pinned to buffers by the arenas bound to the given NUMA node.
+     *
+     * @param numaNode one of the {@linkplain #numaNodes() node ids}.
+     */
+    default long pinnedMemory(int numaNode) {
+        checkSingleNode(numaNode);
+        return pinnedMemory();
+    }
+
     /**
      * Return the number of thread local caches used by this {@link PooledBufferAllocator}.
      */
@@ -61,4 +118,10 @@ public interface BufferAllocatorMetric {
      * {@link BufferAllocator}, or {@code -1} if unknown.
      */
     long pinnedMemory();
+
+    private static void checkSingleNode(int numaNode) {
+        if (numaNode != 0) {
+            throw new IllegalArgumentException("numaNode: " + numaNode + " (expected: 0)");
+        }
+    }
 }
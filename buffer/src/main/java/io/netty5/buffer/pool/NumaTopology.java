@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Describes the NUMA layout of the machine, as far as it can be discovered without native code.
+ * <p>
+ * On Linux the node layout is read from {@code /sys/devices/system/node} and the node of the calling thread is
+ * derived from {@code /proc/thread-self}. On every other platform, or when these files cannot be read, the topology
+ * consists of a single node and {@link #currentNode()} always returns {@code 0}.
+ */
+final class NumaTopology {
+    private static final Logger logger = LoggerFactory.getLogger(NumaTopology.class);
+    private static final Path NODE_DIR = Paths.get("/sys/devices/system/node");
+    private static final Path THREAD_STATUS = Paths.get("/proc/thread-self/status");
+    private static final Path THREAD_STAT = Paths.get("/proc/thread-self/stat");
+    // The "processor" field of /proc/[pid]/stat is field 39, which is index 36 when counting from the state field.
+    private static final int STAT_PROCESSOR_INDEX = 36;
+
+    static final NumaTopology SINGLE_NODE = new NumaTopology(new int[0], new int[] { 0 });
+
+    private static volatile NumaTopology detected;
+
+    // Maps a CPU id to its NUMA node, or -1 if the CPU is unknown.
+    private final int[] cpuToNode;
+    // The ids of the nodes that are present, in ascending order. Node ids are not necessarily contiguous.
+    private final int[] nodeIds;
+
+    NumaTopology(int[] cpuToNode, int[] nodeIds) {
+        this.cpuToNode = cpuToNode;
+        this.nodeIds = nodeIds;
+    }
+
+    /**
+     * Return the topology of the current machine. The result is computed once and then cached.
+     */
+    static NumaTopology detect() {
+        NumaTopology topology = detected;
+        if (topology == null) {
+            topology = detect0();
+            detected = topology;
+        }
+        return topology;
+    }
+
+    private static NumaTopology detect0() {
+        if (!Files.isDirectory(NODE_DIR)) {
+            return SINGLE_NODE;
+        }
+        try (DirectoryStream<Path> nodes = Files.newDirectoryStream(NODE_DIR, "node[0-9]*")) {
+            BitSet nodeIds = new BitSet();
+            int[] cpuToNode = new int[0];
+            for (Path node : nodes) {
+                int nodeId = Integer.parseInt(node.getFileName().toString().substring(4));
+                int[] cpus = parseCpuList(readFirstLine(node.resolve("cpulist")));
+                for (int cpu : cpus) {
+                    if (cpu >= cpuToNode.length) {
+                        int oldLength = cpuToNode.length;
+                        cpuToNode = Arrays.copyOf(cpuToNode, cpu + 1);
+                        Arrays.fill(cpuToNode, oldLength, cpuToNode.length, -1);
+                    }
+                    cpuToNode[cpu] = nodeId;
+                }
+                nodeIds.set(nodeId);
+            }
+            if (nodeIds.cardinality() < 2) {
+                return SINGLE_NODE;
+            }
+            NumaTopology topology = new NumaTopology(cpuToNode, nodeIds.stream().toArray());
+            logger.debug("Detected NUMA nodes {}", Arrays.toString(topology.nodeIds));
+            return topology;
+        } catch (Exception e) {
+            logger.debug("Failed to read the NUMA topology from {}, assuming a single node", NODE_DIR, e);
+            return SINGLE_NODE;
+        }
+    }
+
+    /**
+     * Return the number of NUMA nodes.
+     */
+    int numNodes() {
+        return nodeIds.length;
+    }
+
+    /**
+     * Return the id of the node at the given index, where the index is between {@code 0} and {@link #numNodes()}.
+     */
+    int nodeId(int index) {
+        return nodeIds[index];
+    }
+
+    /**
+     * Return the index of the node with the given id, or {@code -1} if there is no such node.
+     */
+    int nodeIndex(int nodeId) {
+        int index = Arrays.binarySearch(nodeIds, nodeId);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Return the ids of all nodes, in ascending order.
+     */
+    int[] nodeIds() {
+        return nodeIds.clone();
+    }
+
+    /**
+     * Return the NUMA node of the given CPU, or {@code -1} if unknown.
+     */
+    int nodeOfCpu(int cpu) {
+        return cpu >= 0 && cpu < cpuToNode.length ? cpuToNode[cpu] : -1;
+    }
+
+    /**
+     * Return the NUMA node the calling thread runs on, or {@code -1} if it cannot be determined.
+     * <p>
+     * If the CPU affinity of the thread is restricted to a single node, that node is returned. Otherwise the node of
+     * the CPU the thread last ran on is used. This involves reading from {@code /proc}, so callers should only do this
+     * once per thread, and not on every allocation.
+     */
+    int currentNode() {
+        if (nodeIds.length == 1) {
+            return nodeIds[0];
+        }
+        try {
+            int node = nodeOfCpus(readAllowedCpus());
+            if (node >= 0) {
+                return node;
+            }
+            return nodeOfCpu(readLastCpu());
+        } catch (Exception e) {
+            logger.debug("Failed to determine the NUMA node of thread {}", Thread.currentThread().getName(), e);
+            return -1;
+        }
+    }
+
+    /**
+     * Return the node that all the given CPUs belong to, or {@code -1} if they span multiple nodes.
+     */
+    int nodeOfCpus(int[] cpus) {
+        int node = -1;
+        for (int cpu : cpus) {
+            int cpuNode = nodeOfCpu(cpu);
+            if (cpuNode < 0 || node >= 0 && cpuNode != node) {
+                return -1;
+            }
+            node = cpuNode;
+        }
+        return node;
+    }
+
+    private static int[] readAllowedCpus() throws IOException {
+        List<String> lines = Files.readAllLines(THREAD_STATUS, StandardCharsets.US_ASCII);
+        for (String line : lines) {
+            if (line.startsWith("Cpus_allowed_list:")) {
+                return parseCpuList(line.substring("Cpus_allowed_list:".length()));
+            }
+        }
+        return new int[0];
+    }
+
+    private static int readLastCpu() throws IOException {
+        String stat = readFirstLine(THREAD_STAT);
+        // The command name may contain spaces, so only start splitting after its closing parenthesis.
+        String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+        return fields.length > STAT_PROCESSOR_INDEX ? Integer.parseInt(fields[STAT_PROCESSOR_INDEX]) : -1;
+    }
+
+    private static String readFirstLine(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.US_ASCII);
+        return lines.isEmpty() ? "" : lines.get(0);
+    }
+
+    /**
+     * Parse a Linux CPU list like {@code 0-3,8,10-11}.
+     */
+    static int[] parseCpuList(String list) {
+        list = list.trim();
+        if (list.isEmpty()) {
+            return new int[0];
+        }
+        int[] cpus = new int[16];
+        int count = 0;
+        for (String range : list.split(",")) {
+            int dash = range.indexOf('-');
+            int from = Integer.parseInt(range.substring(0, dash < 0 ? range.length() : dash).trim());
+            int to = dash < 0 ? from : Integer.parseInt(range.substring(dash + 1).trim());
+            for (int cpu = from; cpu <= to; cpu++) {
+                if (count == cpus.length) {
+                    cpus = Arrays.copyOf(cpus, count << 1);
+                }
+                cpus[count++] = cpu;
+            }
+        }
+        return Arrays.copyOf(cpus, count);
+    }
+}
@@ -24,6 +24,7 @@ import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -40,9 +41,13 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
     final PooledBufferAllocator parent;
     final MemoryManager manager;
     final AllocationType allocationType;
+    final int numaNode;
 
     final int numSmallSubpagePools;
     final int directMemoryCacheAlignment;
+    // The subpage pools are striped, so threads sharing this arena do not all contend on the same head lock.
+    // Pools are indexed by sizeIdx * numSubpageStripes + stripe.
+    final int numSubpageStripes;
     private final PoolSubpage[] smallSubpagePools;
 
     private final PoolChunkList q050;
@@ -70,19 +75,29 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
 
     // Number of thread caches backed by this arena.
     final AtomicInteger numThreadCaches = new AtomicInteger();
+    private final AtomicInteger nextSubpageStripe = new AtomicInteger();
+
+    // Per size class statistics of the thread caches backed by this arena, indexed by sizeIdx.
+    private final AtomicLongArray threadCacheHits;
+    private final AtomicLongArray threadCacheMisses;
+    private final AtomicLongArray threadCacheTrims;
 
     private final ReentrantLock lock = new ReentrantLock();
 
     protected PoolArena(PooledBufferAllocator parent, MemoryManager manager, AllocationType allocationType,
-                        int pageSize, int pageShifts, int chunkSize, int cacheAlignment) {
+                        int pageSize, int pageShifts, int chunkSize, int cacheAlignment, int numaNode,
+                        int numSubpageStripes) {
         super(pageSize, pageShifts, chunkSize, cacheAlignment);
         this.parent = parent;
         this.manager = manager;
         this.allocationType = allocationType;
+        this.numaNode = numaNode;
         directMemoryCacheAlignment = cacheAlignment;
 
+        assert (numSubpageStripes & numSubpageStripes - 1) == 0 : "numSubpageStripes must be a power of two";
+        this.numSubpageStripes = numSubpageStripes;
         numSmallSubpagePools = nSubpages;
-        smallSubpagePools = newSubpagePoolArray(numSmallSubpagePools);
+        smallSubpagePools = newSubpagePoolArray(numSmallSubpagePools * numSubpageStripes);
 
         q100 = new PoolChunkList(this, null, 100, Integer.MAX_VALUE, chunkSize);
         q075 = new PoolChunkList(this, q100, 75, 100, chunkSize);
@@ -99,6 +114,10 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         qInit.prevList(qInit);
 
         chunkListMetrics = List.of(qInit, q000, q025, q050, q075, q100);
+
+        threadCacheHits = new AtomicLongArray(nSizes);
+        threadCacheMisses = new AtomicLongArray(nSizes);
+        threadCacheTrims = new AtomicLongArray(nSizes);
     }
 
     private static PoolSubpage newSubpagePoolHead() {
@@ -138,7 +157,7 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
          * Synchronize on the head. This is needed as {@link PoolChunk#allocateSubpage(int)} and
          * {@link PoolChunk#free(long)} may modify the doubly linked list as well.
          */
-        PoolSubpage head = findSubpagePoolHead(sizeIdx);
+        PoolSubpage head = findSubpagePoolHead(sizeIdx, cache.subpageStripe);
         final boolean needsNormalAllocation;
         head.lock();
         try {
@@ -260,13 +279,21 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         }
     }
 
-    PoolSubpage findSubpagePoolHead(int sizeIdx) {
-        PoolSubpage head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(smallSubpagePools, sizeIdx);
+    /**
+     * Return the next subpage pool stripe to assign to a thread cache.
+     */
+    int nextSubpageStripe() {
+        return nextSubpageStripe.getAndIncrement() & numSubpageStripes - 1;
+    }
+
+    PoolSubpage findSubpagePoolHead(int sizeIdx, int stripe) {
+        int index = sizeIdx * numSubpageStripes + stripe;
+        PoolSubpage head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(smallSubpagePools, index);
         if (head == null) {
             head = newSubpagePoolHead();
-            if (!SUBPAGE_ARRAY.compareAndSet(smallSubpagePools, sizeIdx, null, head)) {
+            if (!SUBPAGE_ARRAY.compareAndSet(smallSubpagePools, index, null, head)) {
                 // We lost the race. Read the winning value.
-                head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(smallSubpagePools, sizeIdx);
+                head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(smallSubpagePools, index);
             }
         }
         return head;
@@ -277,9 +304,14 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         return numThreadCaches.get();
     }
 
+    @Override
+    public int numaNode() {
+        return numaNode;
+    }
+
     @Override
     public int numSmallSubpages() {
-        return smallSubpagePools.length;
+        return numSmallSubpagePools;
     }
 
     @Override
@@ -418,6 +450,27 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         return max(numHugeAllocations() - numHugeDeallocations(), 0);
     }
 
+    void recordThreadCacheStats(int sizeIdx, long hits, long misses, long trims) {
+        threadCacheHits.addAndGet(sizeIdx, hits);
+        threadCacheMisses.addAndGet(sizeIdx, misses);
+        threadCacheTrims.addAndGet(sizeIdx, trims);
+    }
+
+    @Override
+    public long numThreadCacheHits(int sizeIdx) {
+        return threadCacheHits.get(sizeIdx);
+    }
+
+    @Override
+    public long numThreadCacheMisses(int sizeIdx) {
+        return threadCacheMisses.get(sizeIdx);
+    }
+
+    @Override
+    public long numThreadCacheTrims(int sizeIdx) {
+        return threadCacheTrims.get(sizeIdx);
+    }
+
     @Override
     public long numActiveBytes() {
         long val = activeBytesHuge.longValue();
@@ -493,16 +546,19 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         }
     }
 
-    private static void appendPoolSubPages(StringBuilder buf, PoolSubpage[] subpages) {
+    private void appendPoolSubPages(StringBuilder buf, PoolSubpage[] subpages) {
         for (int i = 0; i < subpages.length; i ++) {
             PoolSubpage head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(subpages, i);
             if (head == null || head.next == head || head.next == null) {
                 continue;
             }
 
+            // The pools are striped, so print the size index and the stripe rather than the flattened array index.
             buf.append(StringUtil.NEWLINE)
-                    .append(i)
-                    .append(": ");
+                    .append(i / numSubpageStripes)
+                    .append(" (stripe ")
+                    .append(i % numSubpageStripes)
+                    .append("): ");
             PoolSubpage s = head.next;
             while (s != null && s != head) {
                 buf.append(s);
@@ -27,6 +27,13 @@ public interface PoolArenaMetric extends SizeClassesMetric {
      */
     int numThreadCaches();
 
+    /**
+     * Returns the NUMA node this arena is bound to, or {@code 0} if NUMA-aware arena placement is disabled.
+     */
+    default int numaNode() {
+        return 0;
+    }
+
     /**
      * Returns the number of small sub-pages for the arena.
      */
@@ -107,6 +114,48 @@ public interface PoolArenaMetric extends SizeClassesMetric {
      */
     long numActiveHugeAllocations();
 
+    /**
+     * Return the number of allocations of the given size class that were served by the thread caches backed by this
+     * arena.
+     * <p>
+     * Thread caches publish their statistics every 1024 allocations of a size class, and each time they are trimmed,
+     * so this lags behind the actual count.
+     *
+     * @param sizeIdx the size class, as returned by {@link #size2SizeIdx(int)}.
+     * @return the count, or {@code 0} if the implementation does not track it.
+     */
+    default long numThreadCacheHits(int sizeIdx) {
+        return 0;
+    }
+
+    /**
+     * Return the number of allocations of the given size class that the thread caches backed by this arena could
+     * not serve, and that had to be allocated from the arena instead.
+     * <p>
+     * Thread caches publish their statistics every 1024 allocations of a size class, and each time they are trimmed,
+     * so this lags behind the actual count.
+     *
+     * @param sizeIdx the size class, as returned by {@link #size2SizeIdx(int)}.
+     * @return the count, or {@code 0} if the implementation does not track it.
+     */
+    default long numThreadCacheMisses(int sizeIdx) {
+        return 0;
+    }
+
+    /**
+     * Return the number of cached entries of the given size class that the thread caches backed by this arena gave
+     * back to the arena because they were not used frequently enough.
+     * <p>
+     * Thread caches publish their statistics every 1024 allocations of a size class, and each time they are trimmed,
+     * so this lags behind the actual count.
+     *
+     * @param sizeIdx the size class, as returned by {@link #size2SizeIdx(int)}.
+     * @return the count, or {@code 0} if the implementation does not track it.
+     */
+    default long numThreadCacheTrims(int sizeIdx) {
+        return 0;
+    }
+
     /**
      * Return the number of active bytes that are currently allocated by the arena.
      */
@@ -198,9 +198,10 @@ final class PoolChunk implements PoolChunkMetric {
         MemoryManager manager = arena.manager;
         // Unlike a standard wrapping, the CleanerDrop needs to be inside the ArcDrop here, because it can only drop
         // once. And we need the ArcDrop for the reference counting by every buffer allocated from this chunk.
+        // The chunk is never sampled for leaks; the buffers allocated from it are, in UntetheredChunkAllocation.
         DropCaptor<Buffer> dropCaptor = new DropCaptor<>();
         base = manager.allocateShared(CONTROL, chunkSize, drop ->
-            dropCaptor.capture(ArcDrop.wrap(CleanerDrop.wrap(drop, manager))), arena.allocationType);
+            dropCaptor.capture(ArcDrop.wrap(CleanerDrop.wrapWithoutSampling(drop, manager))), arena.allocationType);
         baseDrop = dropCaptor.getDrop();
         memory = manager.unwrapRecoverableMemory(base);
         baseDrop.attach(base);
@@ -300,7 +301,7 @@ final class PoolChunk implements PoolChunkMetric {
         final long handle;
         if (sizeIdx <= arena.smallMaxSizeIdx) {
             // small
-            handle = allocateSubpage(sizeIdx);
+            handle = allocateSubpage(sizeIdx, cache == null ? 0 : cache.subpageStripe);
             if (handle < 0) {
                 return null;
             }
@@ -417,13 +418,14 @@ final class PoolChunk implements PoolChunkMetric {
      * subpage pool in the PoolArena that owns this PoolChunk
      *
      * @param sizeIdx sizeIdx of normalized size
+     * @param stripe the subpage pool stripe of the allocating thread
      *
      * @return index in memoryMap
      */
-    private long allocateSubpage(int sizeIdx) {
+    private long allocateSubpage(int sizeIdx, int stripe) {
         // Obtain the head of the PoolSubPage pool that is owned by the PoolArena and synchronize on it.
         // This is need as we may add it back and so alter the linked-list structure.
-        PoolSubpage head = arena.findSubpagePoolHead(sizeIdx);
+        PoolSubpage head = arena.findSubpagePoolHead(sizeIdx, stripe);
         head.lock();
         try {
             //allocate a new run
@@ -459,11 +461,10 @@ final class PoolChunk implements PoolChunkMetric {
         int runSize = runSize(pageShifts, handle);
         pinnedBytes -= runSize;
         if (isSubpage(handle)) {
-            int sizeIdx = arena.size2SizeIdx(normCapacity);
-            PoolSubpage head = arena.findSubpagePoolHead(sizeIdx);
-
             int sIdx = runOffset(handle);
             PoolSubpage subpage = subpages[sIdx];
+            // The subpage goes back to the pool stripe it was allocated from.
+            PoolSubpage head = subpage.poolHead;
 
             // Obtain the head of the PoolSubPage pool that is owned by the PoolArena and synchronize on it.
             // This is need as we may add it back and so alter the linked-list structure.
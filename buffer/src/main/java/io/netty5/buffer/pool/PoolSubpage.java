@@ -24,6 +24,8 @@ import static io.netty5.buffer.pool.PoolChunk.SIZE_SHIFT;
 
 final class PoolSubpage implements PoolSubpageMetric {
     final PoolChunk chunk;
+    // The head of the subpage pool this subpage is linked into whenever it has elements available.
+    final PoolSubpage poolHead;
     private final int pageShifts;
     private final int runOffset;
     private final int runSize;
@@ -44,6 +46,7 @@ final class PoolSubpage implements PoolSubpageMetric {
     /** Special constructor that creates a linked list head */
     PoolSubpage() {
         chunk = null;
+        poolHead = this;
         lock = new ReentrantLock();
         pageShifts = -1;
         runOffset = -1;
@@ -56,6 +59,7 @@ final class PoolSubpage implements PoolSubpageMetric {
 
     PoolSubpage(PoolSubpage head, PoolChunk chunk, int pageShifts, int runOffset, int runSize, int elemSize) {
         this.chunk = chunk;
+        poolHead = head;
         this.pageShifts = pageShifts;
         this.runOffset = runOffset;
         this.runSize = runSize;
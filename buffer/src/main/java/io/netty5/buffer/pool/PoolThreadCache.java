@@ -44,10 +44,17 @@ final class PoolThreadCache {
 
     private static final Logger logger = LoggerFactory.getLogger(PoolThreadCache.class);
     private static final int INTEGER_SIZE_MINUS_ONE = Integer.SIZE - 1;
+    // The smallest number of entries an adaptively sized cache shrinks to.
+    private static final int MIN_ADAPTIVE_CACHE_SIZE = 8;
+    // How many allocations a cache serves or misses before it publishes its statistics to the arena, if it is not
+    // trimmed before that.
+    private static final int STATS_FLUSH_THRESHOLD = 1024;
 
     final AtomicInteger arenaReferenceCounter;
 
     private final PoolArena arena;
+    // The subpage pool stripe of the arena that small allocations of this thread use when the cache misses.
+    final int subpageStripe;
     // Hold the caches for the different size classes, which are small and normal.
     private final MemoryRegionCache[] smallSubPageCaches;
     private final MemoryRegionCache[] normalCaches;
@@ -59,15 +66,26 @@ final class PoolThreadCache {
     PoolThreadCache(PoolArena arena,
                     int smallCacheSize, int normalCacheSize, int maxCachedBufferCapacity,
                     int freeSweepAllocationThreshold) {
+        this(arena, smallCacheSize, normalCacheSize, maxCachedBufferCapacity, freeSweepAllocationThreshold, false);
+    }
+
+    /**
+     * @param adaptive {@code true} if the number of entries each cache holds on to should follow the number of
+     * allocations observed between two trims, with {@code smallCacheSize} and {@code normalCacheSize} as the upper
+     * bounds, or {@code false} if the caches should always be allowed to fill up to these sizes.
+     */
+    PoolThreadCache(PoolArena arena,
+                    int smallCacheSize, int normalCacheSize, int maxCachedBufferCapacity,
+                    int freeSweepAllocationThreshold, boolean adaptive) {
         checkPositiveOrZero(maxCachedBufferCapacity, "maxCachedBufferCapacity");
         this.freeSweepAllocationThreshold = freeSweepAllocationThreshold;
         if (arena != null) {
             // Create the caches for the heap allocations
             MemoryRegionCache[] smallSubPageCaches = createSubPageCaches(
-                    smallCacheSize, arena.numSmallSubpagePools);
+                    smallCacheSize, arena.numSmallSubpagePools, adaptive);
 
             MemoryRegionCache[] normalCaches = createNormalCaches(
-                    normalCacheSize, maxCachedBufferCapacity, arena);
+                    normalCacheSize, maxCachedBufferCapacity, arena, adaptive);
 
             // Only check if there are caches in use.
             if ((smallSubPageCaches != null || normalCaches != null)
@@ -79,11 +97,13 @@ final class PoolThreadCache {
             this.arena = arena;
             this.smallSubPageCaches = smallSubPageCaches;
             this.normalCaches = normalCaches;
+            subpageStripe = arena.nextSubpageStripe();
             arenaReferenceCounter = arena.numThreadCaches;
             arenaReferenceCounter.getAndIncrement();
         } else {
             // No heapArena is configured so just null out all caches
             this.arena = null;
+            subpageStripe = 0;
             smallSubPageCaches = null;
             normalCaches = null;
             arenaReferenceCounter = null;
@@ -91,12 +111,12 @@ final class PoolThreadCache {
     }
 
     private static MemoryRegionCache[] createSubPageCaches(
-            int cacheSize, int numCaches) {
+            int cacheSize, int numCaches, boolean adaptive) {
         if (cacheSize > 0 && numCaches > 0) {
             MemoryRegionCache[] cache = new MemoryRegionCache[numCaches];
             for (int i = 0; i < cache.length; i++) {
                 // TODO: maybe use cacheSize / cache.length
-                cache[i] = new SubPageMemoryRegionCache(cacheSize);
+                cache[i] = new SubPageMemoryRegionCache(cacheSize, i, adaptive);
             }
             return cache;
         } else {
@@ -105,7 +125,7 @@ final class PoolThreadCache {
     }
 
     private static MemoryRegionCache[] createNormalCaches(
-            int cacheSize, int maxCachedBufferCapacity, PoolArena arena) {
+            int cacheSize, int maxCachedBufferCapacity, PoolArena arena, boolean adaptive) {
         if (cacheSize > 0 && maxCachedBufferCapacity > 0) {
             int max = Math.min(arena.chunkSize, maxCachedBufferCapacity);
 
@@ -113,7 +133,7 @@ final class PoolThreadCache {
             // bound is that we want to cache in general.
             List<MemoryRegionCache> cache = new ArrayList<>() ;
             for (int idx = arena.numSmallSubpagePools; idx < arena.nSizes && arena.sizeIdx2size(idx) <= max ; idx++) {
-                cache.add(new NormalMemoryRegionCache(cacheSize));
+                cache.add(new NormalMemoryRegionCache(cacheSize, idx, adaptive));
             }
             return cache.toArray(MemoryRegionCache[]::new);
         } else {
@@ -187,6 +207,8 @@ final class PoolThreadCache {
     void free() {
         if (arena != null) {
             int numFreed = free(smallSubPageCaches) + free(normalCaches);
+            flushStats(smallSubPageCaches);
+            flushStats(normalCaches);
 
             if (numFreed > 0 && logger.isDebugEnabled()) {
                 logger.debug("Freed {} thread-local buffer(s) from thread: {}", numFreed,
@@ -222,6 +244,21 @@ final class PoolThreadCache {
         if (arena != null) {
             trim(smallSubPageCaches);
             trim(normalCaches);
+            flushStats(smallSubPageCaches);
+            flushStats(normalCaches);
+        }
+    }
+
+    /**
+     * Publish the statistics gathered by the given caches since the last flush to the arena, where they can be read
+     * by other threads through the {@link PoolArenaMetric}.
+     */
+    private void flushStats(MemoryRegionCache[] caches) {
+        if (caches == null) {
+            return;
+        }
+        for (MemoryRegionCache c: caches) {
+            c.flushStats(arena);
         }
     }
 
@@ -268,8 +305,8 @@ final class PoolThreadCache {
      * Cache used for buffers which are backed by SMALL size.
      */
     private static final class SubPageMemoryRegionCache extends MemoryRegionCache {
-        SubPageMemoryRegionCache(int size) {
-            super(size, Small);
+        SubPageMemoryRegionCache(int size, int sizeIdx, boolean adaptive) {
+            super(size, sizeIdx, adaptive, Small);
         }
 
         @Override
@@ -282,8 +319,8 @@ final class PoolThreadCache {
      * Cache used for buffers which are backed by NORMAL size.
      */
     private static final class NormalMemoryRegionCache extends MemoryRegionCache {
-        NormalMemoryRegionCache(int size) {
-            super(size, Normal);
+        NormalMemoryRegionCache(int size, int sizeIdx, boolean adaptive) {
+            super(size, sizeIdx, adaptive, Normal);
         }
 
         @Override
@@ -294,14 +331,28 @@ final class PoolThreadCache {
 
     private abstract static class MemoryRegionCache {
         private final int size;
+        private final int sizeIdx;
+        private final boolean adaptive;
         private final Queue<Entry> queue;
         private final SizeClass sizeClass;
+        // The number of entries the cache currently holds on to. Only ever below size if the cache is adaptive.
+        // Written by the owning thread on trim and on misses, read by any thread that frees into this cache.
+        private volatile int limit;
         private int allocations;
+        private int misses;
+
+        // Statistics that have not yet been published to the arena.
+        private long unflushedHits;
+        private long unflushedMisses;
+        private long unflushedTrimmed;
 
-        MemoryRegionCache(int size, SizeClass sizeClass) {
+        MemoryRegionCache(int size, int sizeIdx, boolean adaptive, SizeClass sizeClass) {
             this.size = MathUtil.safeFindNextPositivePowerOfTwo(size);
+            this.sizeIdx = sizeIdx;
+            this.adaptive = adaptive;
             queue = PlatformDependent.newFixedMpscQueue(this.size);
             this.sizeClass = sizeClass;
+            limit = this.size;
         }
 
         /**
@@ -314,6 +365,10 @@ final class PoolThreadCache {
          * Add to cache if not already full.
          */
         public final boolean add(PoolChunk chunk, long handle, int normCapacity) {
+            // Only adaptive caches change their limit, so fixed-size caches skip the volatile read.
+            if (adaptive && queue.size() >= limit) {
+                return false;
+            }
             Entry entry = newEntry(chunk, handle, normCapacity);
             boolean queued = queue.offer(entry);
             if (!queued) {
@@ -330,6 +385,12 @@ final class PoolThreadCache {
         public final UntetheredMemory allocate(int size, PoolThreadCache threadCache) {
             Entry entry = queue.poll();
             if (entry == null) {
+                misses++;
+                unflushedMisses++;
+                if (adaptive) {
+                    growOnMiss();
+                }
+                maybeFlushStats(threadCache.arena);
                 return null;
             }
             UntetheredMemory buffer = allocBuf(entry.chunk, entry.handle, size, threadCache);
@@ -337,9 +398,28 @@ final class PoolThreadCache {
 
             // allocations are not thread-safe which is fine as this is only called from the same thread all time.
             allocations++;
+            unflushedHits++;
+            maybeFlushStats(threadCache.arena);
             return buffer;
         }
 
+        /**
+         * Grow the limit as soon as the cache missed more often since the last trim than it may hold entries, instead
+         * of waiting for the next trim to notice the demand.
+         */
+        private void growOnMiss() {
+            int limit = this.limit;
+            if (misses >= limit && limit < size) {
+                this.limit = Math.min(size, limit << 1);
+            }
+        }
+
+        private void maybeFlushStats(PoolArena arena) {
+            if (unflushedHits + unflushedMisses >= STATS_FLUSH_THRESHOLD) {
+                flushStats(arena);
+            }
+        }
+
         /**
          * Clear out this cache and free up all previous cached {@link PoolChunk}s and {@code handle}s.
          */
@@ -365,12 +445,39 @@ final class PoolThreadCache {
          * Free up cached {@link PoolChunk}s if not allocated frequently enough.
          */
         public final void trim() {
-            int free = size - allocations;
+            int free;
+            if (adaptive) {
+                // Hold on to as many entries as were asked for since the last trim, including the ones we could not
+                // serve, so a cache that keeps missing grows and a cache that is rarely used shrinks.
+                int demand = allocations + misses;
+                int newLimit = Math.min(size, Math.max(MIN_ADAPTIVE_CACHE_SIZE,
+                        MathUtil.safeFindNextPositivePowerOfTwo(demand)));
+                limit = newLimit;
+                free = queue.size() - newLimit;
+            } else {
+                free = size - allocations;
+            }
             allocations = 0;
+            misses = 0;
 
             // We not even allocated all the number that are
             if (free > 0) {
-                free(free);
+                unflushedTrimmed += free(free);
+            }
+        }
+
+        /**
+         * Publish the statistics of this cache to the given arena.
+         * <p>
+         * The statistics are only written by the thread that owns the cache. When the cache is freed by another
+         * thread, the counts of its most recent allocations may not be visible yet, and are lost.
+         */
+        final void flushStats(PoolArena arena) {
+            if (unflushedHits != 0 || unflushedMisses != 0 || unflushedTrimmed != 0) {
+                arena.recordThreadCacheStats(sizeIdx, unflushedHits, unflushedMisses, unflushedTrimmed);
+                unflushedHits = 0;
+                unflushedMisses = 0;
+                unflushedTrimmed = 0;
             }
         }
 
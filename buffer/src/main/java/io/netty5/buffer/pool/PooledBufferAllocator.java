@@ -28,6 +28,7 @@ import io.netty5.util.NettyRuntime;
 import io.netty5.util.concurrent.EventExecutor;
 import io.netty5.util.concurrent.FastThreadLocal;
 import io.netty5.util.concurrent.FastThreadLocalThread;
+import io.netty5.util.internal.MathUtil;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.StringUtil;
 import io.netty5.util.internal.SystemPropertyUtil;
@@ -36,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -60,9 +62,13 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
     private static final long DEFAULT_CACHE_TRIM_INTERVAL_MILLIS;
     private static final boolean DEFAULT_USE_CACHE_FOR_ALL_THREADS;
     private static final int DEFAULT_DIRECT_MEMORY_CACHE_ALIGNMENT;
+    private static final boolean DEFAULT_NUMA_AWARE;
+    private static final boolean DEFAULT_ADAPTIVE_THREAD_CACHE_SIZE;
+    private static final int DEFAULT_SUBPAGE_STRIPES;
 
     private static final int MIN_PAGE_SIZE = 4096;
     private static final int MAX_CHUNK_SIZE = (int) (((long) Integer.MAX_VALUE + 1) / 2);
+    private static final int MAX_AUTO_SUBPAGE_STRIPES = 8;
 
     private final Runnable trimTask = this::trimCurrentThreadCache;
     private final AllocatorControl pooledAllocatorControl = () -> this;
@@ -137,6 +143,17 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         DEFAULT_USE_CACHE_FOR_ALL_THREADS = SystemPropertyUtil.getBoolean(
                 "io.netty5.allocator.useCacheForAllThreads", false);
 
+        DEFAULT_NUMA_AWARE = SystemPropertyUtil.getBoolean("io.netty5.allocator.numaAware", false);
+
+        // If enabled, the thread caches shrink and grow each size class between trims, based on how many allocations
+        // of that size class they observed, with smallCacheSize and normalCacheSize as the upper bounds.
+        DEFAULT_ADAPTIVE_THREAD_CACHE_SIZE = SystemPropertyUtil.getBoolean(
+                "io.netty5.allocator.adaptiveThreadCacheSize", false);
+
+        // The number of subpage pools per size class in each arena. 0 means the number is derived from how many
+        // event loop threads are expected to share an arena.
+        DEFAULT_SUBPAGE_STRIPES = Math.max(0, SystemPropertyUtil.getInt("io.netty5.allocator.subpageStripes", 0));
+
         if (logger.isDebugEnabled()) {
             logger.debug("-Dio.netty5.allocator.numArenas: {}", DEFAULT_NUM_HEAP_ARENA);
             logger.debug("-Dio.netty5.allocator.numDirectArenas: {}", DEFAULT_NUM_DIRECT_ARENA);
@@ -157,12 +174,18 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
             logger.debug("-Dio.netty5.allocator.cacheTrimInterval: {}", DEFAULT_CACHE_TRIM_INTERVAL);
             logger.debug("-Dio.netty5.allocator.cacheTrimIntervalMillis: {}", DEFAULT_CACHE_TRIM_INTERVAL_MILLIS);
             logger.debug("-Dio.netty5.allocator.useCacheForAllThreads: {}", DEFAULT_USE_CACHE_FOR_ALL_THREADS);
+            logger.debug("-Dio.netty5.allocator.numaAware: {}", DEFAULT_NUMA_AWARE);
+            logger.debug("-Dio.netty5.allocator.adaptiveThreadCacheSize: {}", DEFAULT_ADAPTIVE_THREAD_CACHE_SIZE);
+            logger.debug("-Dio.netty5.allocator.subpageStripes: {}", DEFAULT_SUBPAGE_STRIPES);
         }
     }
 
     private final MemoryManager manager;
     private final AllocationType allocationType;
     private final PoolArena[] arenas;
+    // Arenas grouped by the NUMA node they are bound to, indexed by node.
+    private final PoolArena[][] nodeArenas;
+    private final NumaTopology topology;
     private final int smallCacheSize;
     private final int normalCacheSize;
     private final List<PoolArenaMetric> arenaMetrics;
@@ -196,8 +219,65 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
     public PooledBufferAllocator(MemoryManager manager, boolean direct, int numArenas, int pageSize, int maxOrder,
                                  int smallCacheSize, int normalCacheSize,
                                  boolean useCacheForAllThreads, int directMemoryCacheAlignment) {
+        this(manager, direct, numArenas, pageSize, maxOrder,
+             smallCacheSize, normalCacheSize,
+             useCacheForAllThreads, directMemoryCacheAlignment, DEFAULT_NUMA_AWARE);
+    }
+
+    /**
+     * Create a new pooled allocator.
+     * <p>
+     * If {@code numaAware} is {@code true}, and the machine has more than one NUMA node, the arenas are distributed
+     * evenly across the nodes, and each thread is bound to an arena on the node it runs on when it first allocates.
+     * Chunks are then only ever touched first by threads of the same node, so the operating system places their
+     * memory on that node. This works best when the allocating threads are pinned to the CPUs of a single node.
+     */
+    public PooledBufferAllocator(MemoryManager manager, boolean direct, int numArenas, int pageSize, int maxOrder,
+                                 int smallCacheSize, int normalCacheSize,
+                                 boolean useCacheForAllThreads, int directMemoryCacheAlignment, boolean numaAware) {
+        this(manager, direct? StandardAllocationTypes.OFF_HEAP : StandardAllocationTypes.ON_HEAP,
+             numArenas, pageSize, maxOrder,
+             smallCacheSize, normalCacheSize,
+             useCacheForAllThreads, directMemoryCacheAlignment, numaAware);
+    }
+
+    /**
+     * Create a new pooled allocator, with default settings, that allocates its chunks with the given
+     * {@link AllocationType}.
+     * <p>
+     * This can be used to pool memory with non-standard allocation types, that are supported by the given
+     * {@link MemoryManager}, such as huge page backed memory.
+     */
+    public PooledBufferAllocator(MemoryManager manager, AllocationType allocationType) {
+        this(manager, allocationType, allocationType.isDirect()? DEFAULT_NUM_DIRECT_ARENA : DEFAULT_NUM_HEAP_ARENA,
+             DEFAULT_PAGE_SIZE, DEFAULT_MAX_ORDER, DEFAULT_SMALL_CACHE_SIZE,
+             DEFAULT_NORMAL_CACHE_SIZE, DEFAULT_USE_CACHE_FOR_ALL_THREADS,
+             DEFAULT_DIRECT_MEMORY_CACHE_ALIGNMENT, DEFAULT_NUMA_AWARE);
+    }
+
+    /**
+     * Create a new pooled allocator that allocates its chunks with the given {@link AllocationType}.
+     * <p>
+     * The chunk size is {@code pageSize << maxOrder}. When the allocation type is backed by huge pages, the chunk
+     * size should be a multiple of the huge page size, so that no chunk shares a huge page with another.
+     */
+    public PooledBufferAllocator(MemoryManager manager, AllocationType allocationType,
+                                 int numArenas, int pageSize, int maxOrder,
+                                 int smallCacheSize, int normalCacheSize,
+                                 boolean useCacheForAllThreads, int directMemoryCacheAlignment, boolean numaAware) {
+        this(manager, allocationType, numArenas, pageSize, maxOrder,
+             smallCacheSize, normalCacheSize,
+             useCacheForAllThreads, directMemoryCacheAlignment,
+             numaAware ? NumaTopology.detect() : NumaTopology.SINGLE_NODE);
+    }
+
+    PooledBufferAllocator(MemoryManager manager, AllocationType allocationType,
+                          int numArenas, int pageSize, int maxOrder,
+                          int smallCacheSize, int normalCacheSize,
+                          boolean useCacheForAllThreads, int directMemoryCacheAlignment, NumaTopology topology) {
         this.manager = requireNonNull(manager, "MemoryManager");
-        allocationType = direct? StandardAllocationTypes.OFF_HEAP : StandardAllocationTypes.ON_HEAP;
+        this.allocationType = requireNonNull(allocationType, "allocationType");
+        this.topology = requireNonNull(topology, "topology");
         threadCache = new PoolThreadLocalCache(useCacheForAllThreads);
         this.smallCacheSize = smallCacheSize;
         this.normalCacheSize = normalCacheSize;
@@ -224,21 +304,24 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         int pageShifts = validateAndCalculatePageShifts(pageSize, directMemoryCacheAlignment);
 
         if (numArenas > 0) {
+            int subpageStripes = subpageStripes(numArenas);
             arenas = newArenaArray(numArenas);
             List<PoolArenaMetric> metrics = new ArrayList<>(arenas.length);
             for (int i = 0; i < arenas.length; i ++) {
                 PoolArena arena = new PoolArena(this, manager, allocationType,
                         pageSize, pageShifts, chunkSize,
-                        directMemoryCacheAlignment);
+                        directMemoryCacheAlignment, topology.nodeId(i % topology.numNodes()), subpageStripes);
                 arenas[i] = arena;
                 metrics.add(arena);
             }
             arenaMetrics = metrics;
             arenaMetricsView = Collections.unmodifiableList(metrics);
+            nodeArenas = groupArenasByNode(arenas, topology);
         } else {
             arenas = null;
             arenaMetrics = new ArrayList<>(1);
             arenaMetricsView = Collections.emptyList();
+            nodeArenas = null;
         }
 
         metric = new PooledBufferAllocatorMetric(this);
@@ -252,6 +335,35 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         return new PoolArena[size];
     }
 
+    private static int subpageStripes(int numArenas) {
+        if (DEFAULT_SUBPAGE_STRIPES > 0) {
+            return MathUtil.safeFindNextPositivePowerOfTwo(DEFAULT_SUBPAGE_STRIPES);
+        }
+        // By default there are as many event loop threads as arenas, and each of them gets its own arena. If there
+        // are fewer arenas, threads share them, and we stripe the subpage pools to keep them from contending.
+        int threadsPerArena = (NettyRuntime.availableProcessors() * 2 + numArenas - 1) / numArenas;
+        return Math.min(MAX_AUTO_SUBPAGE_STRIPES, MathUtil.safeFindNextPositivePowerOfTwo(threadsPerArena));
+    }
+
+    /**
+     * Group the arenas by the index of their node in the topology, as node ids need not be contiguous.
+     */
+    private static PoolArena[][] groupArenasByNode(PoolArena[] arenas, NumaTopology topology) {
+        PoolArena[][] nodeArenas = new PoolArena[topology.numNodes()][];
+        for (int index = 0; index < nodeArenas.length; index++) {
+            int node = topology.nodeId(index);
+            List<PoolArena> list = new ArrayList<>();
+            for (PoolArena arena : arenas) {
+                if (arena.numaNode == node) {
+                    list.add(arena);
+                }
+            }
+            // If there are fewer arenas than nodes, threads on the remaining nodes have to share remote arenas.
+            nodeArenas[index] = list.isEmpty() ? arenas : list.toArray(new PoolArena[0]);
+        }
+        return nodeArenas;
+    }
+
     private static int validateAndCalculatePageShifts(int pageSize, int alignment) {
         if (pageSize < MIN_PAGE_SIZE) {
             throw new IllegalArgumentException("pageSize: " + pageSize + " (expected: " + MIN_PAGE_SIZE + ')');
@@ -407,6 +519,21 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         return DEFAULT_NORMAL_CACHE_SIZE;
     }
 
+    /**
+     * Default NUMA-aware arena placement - System Property: io.netty5.allocator.numaAware - default false
+     */
+    public static boolean defaultNumaAware() {
+        return DEFAULT_NUMA_AWARE;
+    }
+
+    /**
+     * Default adaptive thread cache sizing - System Property: io.netty5.allocator.adaptiveThreadCacheSize
+     * - default false
+     */
+    public static boolean defaultAdaptiveThreadCacheSize() {
+        return DEFAULT_ADAPTIVE_THREAD_CACHE_SIZE;
+    }
+
     /**
      * Return {@code true} if direct memory cache alignment is supported, {@code false} otherwise.
      */
@@ -415,13 +542,29 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
     }
 
     public boolean isDirectBufferPooled() {
-        return allocationType == StandardAllocationTypes.OFF_HEAP;
+        return allocationType.isDirect();
     }
 
     public int numArenas() {
         return arenas.length;
     }
 
+    /**
+     * Return the number of NUMA nodes the arenas of this allocator are distributed across. This is {@code 1} if
+     * NUMA-aware arena placement is disabled, or if the machine only has a single node.
+     */
+    public int numNumaNodes() {
+        return topology.numNodes();
+    }
+
+    /**
+     * Return the ids of the NUMA nodes the arenas of this allocator are distributed across, in ascending order.
+     * Node ids are assigned by the operating system, and need not be contiguous.
+     */
+    public int[] numaNodes() {
+        return topology.nodeIds();
+    }
+
     final class PoolThreadLocalCache extends FastThreadLocal<PoolThreadCache> {
         private final boolean useCacheForAllThreads;
 
@@ -431,7 +574,7 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
 
         @Override
         protected synchronized PoolThreadCache initialValue() {
-            final PoolArena arena = leastUsedArena(arenas);
+            final PoolArena arena = leastUsedArena(arenasForCurrentThread());
 
             final Thread current = Thread.currentThread();
             final EventExecutor executor = ThreadExecutorMap.currentExecutor();
@@ -443,7 +586,8 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
                 executor != null) {
                 final PoolThreadCache cache = new PoolThreadCache(
                         arena, smallCacheSize, normalCacheSize,
-                        DEFAULT_MAX_CACHED_BUFFER_CAPACITY, DEFAULT_CACHE_TRIM_INTERVAL);
+                        DEFAULT_MAX_CACHED_BUFFER_CAPACITY, DEFAULT_CACHE_TRIM_INTERVAL,
+                        DEFAULT_ADAPTIVE_THREAD_CACHE_SIZE);
 
                 if (DEFAULT_CACHE_TRIM_INTERVAL_MILLIS > 0) {
                     if (executor != null) {
@@ -463,6 +607,14 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         }
     }
 
+    private PoolArena[] arenasForCurrentThread() {
+        if (nodeArenas == null || nodeArenas.length == 1) {
+            return arenas;
+        }
+        int index = topology.nodeIndex(topology.currentNode());
+        return index >= 0 ? nodeArenas[index] : arenas;
+    }
+
     static PoolArena leastUsedArena(PoolArena[] arenas) {
         if (arenas == null || arenas.length == 0) {
             return null;
@@ -507,6 +659,66 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         return total;
     }
 
+    /**
+     * Return the {@link PoolArenaMetric}s of the arenas bound to the given NUMA node.
+     */
+    List<PoolArenaMetric> arenaMetrics(int numaNode) {
+        checkNumaNode(numaNode);
+        List<PoolArenaMetric> metrics = new ArrayList<>();
+        for (PoolArenaMetric metric : arenaMetricsView) {
+            if (metric.numaNode() == numaNode) {
+                metrics.add(metric);
+            }
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * Return the number of thread local caches that use an arena bound to the given NUMA node.
+     */
+    int numThreadLocalCaches(int numaNode) {
+        int total = 0;
+        for (PoolArenaMetric metric : arenaMetrics(numaNode)) {
+            total += metric.numThreadCaches();
+        }
+        return total;
+    }
+
+    /**
+     * Return the number of bytes used by the arenas bound to the given NUMA node.
+     */
+    long usedMemory(int numaNode) {
+        long used = 0;
+        for (PoolArenaMetric metric : arenaMetrics(numaNode)) {
+            used += metric.numActiveBytes();
+            if (used < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Return the number of bytes pinned by the arenas bound to the given NUMA node.
+     */
+    long pinnedMemory(int numaNode) {
+        long used = 0;
+        for (PoolArenaMetric metric : arenaMetrics(numaNode)) {
+            used += metric.numPinnedBytes();
+            if (used < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return used;
+    }
+
+    private void checkNumaNode(int numaNode) {
+        if (topology.nodeIndex(numaNode) < 0) {
+            throw new IllegalArgumentException("numaNode: " + numaNode +
+                    " (expected one of: " + Arrays.toString(topology.nodeIds()) + ')');
+        }
+    }
+
     /**
      * Return the size of the small cache.
      */
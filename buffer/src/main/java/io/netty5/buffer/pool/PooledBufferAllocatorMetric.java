@@ -40,6 +40,36 @@ final class PooledBufferAllocatorMetric implements BufferAllocatorMetric {
         return allocator.arenaMetrics();
     }
 
+    @Override
+    public int numNumaNodes() {
+        return allocator.numNumaNodes();
+    }
+
+    @Override
+    public int[] numaNodes() {
+        return allocator.numaNodes();
+    }
+
+    @Override
+    public List<PoolArenaMetric> arenaMetrics(int numaNode) {
+        return allocator.arenaMetrics(numaNode);
+    }
+
+    @Override
+    public int numThreadLocalCaches(int numaNode) {
+        return allocator.numThreadLocalCaches(numaNode);
+    }
+
+    @Override
+    public long usedMemory(int numaNode) {
+        return allocator.usedMemory(numaNode);
+    }
+
+    @Override
+    public long pinnedMemory(int numaNode) {
+        return allocator.pinnedMemory(numaNode);
+    }
+
     @Override
     public int numThreadLocalCaches() {
         return allocator.numThreadLocalCaches();
@@ -80,7 +110,17 @@ final class PooledBufferAllocatorMetric implements BufferAllocatorMetric {
                 .append("; smallCacheSize: ").append(smallCacheSize())
                 .append("; normalCacheSize: ").append(normalCacheSize())
                 .append("; numThreadLocalCaches: ").append(numThreadLocalCaches())
-                .append("; chunkSize: ").append(chunkSize()).append(')');
+                .append("; chunkSize: ").append(chunkSize());
+        int numNumaNodes = numNumaNodes();
+        if (numNumaNodes > 1) {
+            for (int node = 0; node < numNumaNodes; node++) {
+                sb.append("; node ").append(node)
+                        .append(": (usedMemory: ").append(usedMemory(node))
+                        .append("; pinnedMemory: ").append(pinnedMemory(node))
+                        .append("; numThreadLocalCaches: ").append(numThreadLocalCaches(node)).append(')');
+            }
+        }
+        sb.append(')');
         return sb.toString();
     }
 }
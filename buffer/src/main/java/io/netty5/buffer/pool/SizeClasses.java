@@ -135,6 +135,11 @@ abstract class SizeClasses implements SizeClassesMetric {
     // spacing is 1 << LOG2_QUANTUM, so the size of array is lookupMaxclass >> LOG2_QUANTUM
     private final int[] size2idxTab;
 
+    @Override
+    public int numSizeClasses() {
+        return nSizes;
+    }
+
     @Override
     public int sizeIdx2size(int sizeIdx) {
         return sizeIdx2sizeTab[sizeIdx];
@@ -20,6 +20,16 @@ package io.netty5.buffer.pool;
  */
 public interface SizeClassesMetric {
 
+    /**
+     * Returns the number of size classes. Valid {@code sizeIdx} values range from {@code 0} to one less than this.
+     *
+     * @return number of size classes
+     * @throws UnsupportedOperationException if the implementation does not expose its number of size classes.
+     */
+    default int numSizeClasses() {
+        throw new UnsupportedOperationException("numSizeClasses");
+    }
+
     /**
      * Computes size from lookup table according to sizeIdx.
      *
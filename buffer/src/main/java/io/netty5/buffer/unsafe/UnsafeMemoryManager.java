@@ -25,11 +25,13 @@ import io.netty5.buffer.MemoryManager;
 import io.netty5.buffer.StandardAllocationTypes;
 import io.netty5.buffer.internal.ArcDrop;
 import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.buffer.internal.MappedFileAllocation;
 import io.netty5.buffer.internal.WrappingAllocation;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.SystemPropertyUtil;
 
 import java.lang.ref.Cleaner;
+import java.nio.MappedByteBuffer;
 import java.util.function.Function;
 
 import static io.netty5.buffer.internal.InternalBufferUtils.convert;
@@ -86,6 +88,13 @@ public final class UnsafeMemoryManager implements MemoryManager {
             base = ((WrappingAllocation) allocationType).getArray();
             address = PlatformDependent.byteArrayBaseOffset();
             memory = new UnsafeMemory(base, address, size32);
+        } else if (allocationType instanceof MappedFileAllocation) {
+            MappedByteBuffer mapped = ((MappedFileAllocation) allocationType).map(size32);
+            base = null;
+            address = PlatformDependent.directBufferAddress(mapped);
+            memory = new UnsafeMemory(base, address, size32);
+            // The drop keeps the mapping reachable, until it is unmapped.
+            drop = MappedFileAllocation.unmapDrop(mapped);
         } else {
             throw new IllegalArgumentException("Unknown allocation type: " + allocationType);
         }
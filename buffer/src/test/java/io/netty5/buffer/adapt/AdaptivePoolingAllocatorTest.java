@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.adapt;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AdaptivePoolingAllocatorTest {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Test
+    void reclaimReleasesIdleChunks() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            allocateAndCloseChunks(allocator);
+            AdaptivePoolingAllocatorMetric metric = allocator.metric();
+            assertThat(metric.numReclaimedChunks()).isZero();
+
+            long reclaimed = allocator.reclaim();
+            assertThat(reclaimed).isPositive();
+            assertThat(metric.reclaimedBytes()).isEqualTo(reclaimed);
+            assertThat(metric.numReclaimedChunks()).isPositive();
+            // Everything idle is gone, so there is nothing left to reclaim.
+            assertThat(allocator.reclaim()).isZero();
+
+            // The allocator keeps working after its idle chunks have been released.
+            allocateAndCloseChunks(allocator);
+        }
+    }
+
+    @Test
+    void reclaimKeepsChunksForRecentDemand() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            allocateAndCloseChunks(allocator);
+            allocator.reclaim();
+            // Reusing the chunks that were recycled by the first round counts as demand.
+            allocateAndCloseChunks(allocator);
+            allocateAndCloseChunks(allocator);
+            long reclaimedBefore = allocator.metric().reclaimedBytes();
+            allocator.reclaim(false);
+            assertThat(allocator.metric().reclaimedBytes()).isEqualTo(reclaimedBefore);
+        }
+    }
+
+    @Test
+    void backgroundReclaimReleasesIdleChunks() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            allocateAndCloseChunks(allocator);
+            // Run the task that is otherwise scheduled at the reclaim interval.
+            new AdaptivePoolingAllocator.ReclaimTask(allocator).run();
+            assertThat(allocator.metric().numReclaimedChunks()).isPositive();
+            assertThat(allocator.metric().numMagazines()).isEqualTo(4);
+
+            allocator.close();
+            long reclaimedChunks = allocator.metric().numReclaimedChunks();
+            new AdaptivePoolingAllocator.ReclaimTask(allocator).run();
+            assertThat(allocator.metric().numReclaimedChunks()).isEqualTo(reclaimedChunks);
+        }
+    }
+
+    @Test
+    void reclaimReleasesChunkOnceSplitOffBuffersAreClosed() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            // Use up the first chunk, so it gets recycled as the next-in-line chunk.
+            allocator.allocate(BUFFER_SIZE).close();
+            allocator.allocate(128 * 1024 - BUFFER_SIZE).close();
+            // The recycled chunk is too small for this buffer, so a new chunk is allocated for it and is put
+            // next-in-line, with this buffer split off of it.
+            Buffer large = allocator.allocate(1024 * 1024);
+            AdaptivePoolingAllocatorMetric metric = allocator.metric();
+            long chunks = metric.numChunks();
+
+            allocator.reclaim();
+            long reclaimedChunks = metric.numReclaimedChunks();
+            large.close();
+            // The chunk was marked when it was reclaimed, so it is released rather than recycled.
+            assertThat(metric.numReclaimedChunks()).isEqualTo(reclaimedChunks + 1);
+            assertThat(metric.numChunks()).isEqualTo(chunks - 1);
+        }
+    }
+
+    @Test
+    void reclaimShrinksUncontendedMagazines() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            AdaptivePoolingAllocatorMetric metric = allocator.metric();
+            int initialMagazines = metric.numMagazines();
+            allocator.tryExpandMagazines(initialMagazines);
+            assumeTrue(metric.numMagazines() > initialMagazines, "Not enough cores to expand the magazines");
+            allocateAndCloseChunks(allocator);
+
+            allocator.reclaim();
+            assertThat(metric.numMagazines()).isEqualTo(initialMagazines);
+            assertThat(metric.numMagazineShrinks()).isOne();
+            assertThat(metric.magazineMetrics()).hasSize(initialMagazines);
+            // The magazines can't shrink below their initial number.
+            allocator.reclaim();
+            assertThat(metric.numMagazineShrinks()).isOne();
+
+            allocateAndCloseChunks(allocator);
+        }
+    }
+
+    @Test
+    void metricsTrackChunksAndMagazines() {
+        try (AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), false, false, 0, TimeUnit.MILLISECONDS)) {
+            AdaptivePoolingAllocatorMetric metric = allocator.metric();
+            assertThat(metric.numChunks()).isZero();
+            assertThat(metric.magazineMetrics()).hasSize(metric.numMagazines());
+
+            List<Buffer> buffers = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                // This size does not divide the chunks evenly, so each chunk overflows when it runs out.
+                buffers.add(allocator.allocate(BUFFER_SIZE + 1));
+            }
+            assertThat(metric.numChunkAllocations()).isPositive();
+            assertThat(metric.numChunkOverflows()).isPositive();
+            assertThat(metric.numChunks()).isEqualTo(Arrays.stream(metric.chunkSizeHistogram()).sum());
+            assertThat(metric.usedMemory()).isGreaterThanOrEqualTo(64L * BUFFER_SIZE);
+            assertThat(metric.magazineMetrics().stream().mapToLong(AdaptiveMagazineMetric::numAllocations).sum())
+                    .isEqualTo(64);
+
+            // Buffers bigger than the maximum chunk size are never pooled.
+            allocator.allocate(AdaptivePoolingAllocator.MAX_CHUNK_SIZE + 1).close();
+            assertThat(metric.numUnpooledAllocations()).isEqualTo(1);
+
+            buffers.forEach(Buffer::close);
+            allocator.reclaim();
+            // Only the chunks that the magazines are currently allocating from are left.
+            assertThat(metric.numChunks()).isLessThanOrEqualTo(metric.numMagazines());
+        }
+    }
+
+    @Test
+    void chunkAccountingIsBalanced() {
+        AdaptivePoolingAllocator allocator = new AdaptivePoolingAllocator(
+                MemoryManager.instance(), true, false, 0, TimeUnit.MILLISECONDS);
+        AdaptivePoolingAllocatorMetric metric = allocator.metric();
+        allocator.allocate(BUFFER_SIZE).close();
+        // The first chunk is not an overflow, as there was no chunk before it.
+        assertThat(metric.numChunkAllocations()).isOne();
+        assertThat(metric.numChunkOverflows()).isZero();
+
+        allocateAndCloseChunks(allocator);
+        assertThat(metric.usedMemory()).isPositive();
+        allocator.close();
+        // Chunks are counted by the same measure when they are allocated, as when they are released.
+        assertThat(metric.numChunks()).isZero();
+        assertThat(metric.usedMemory()).isZero();
+    }
+
+    private static void allocateAndCloseChunks(AdaptivePoolingAllocator allocator) {
+        List<Buffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            buffers.add(allocator.allocate(BUFFER_SIZE));
+        }
+        buffers.forEach(Buffer::close);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.StandardAllocationTypes;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumaTopologyTest {
+
+    @Test
+    void parseCpuList() {
+        assertArrayEquals(new int[0], NumaTopology.parseCpuList(""));
+        assertArrayEquals(new int[] { 3 }, NumaTopology.parseCpuList("3\n"));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 8, 10, 11 }, NumaTopology.parseCpuList("0-3,8,10-11"));
+    }
+
+    @Test
+    void nodeOfCpus() {
+        NumaTopology topology = new NumaTopology(new int[] { 0, 0, 1, 1 }, new int[] { 0, 1 });
+        assertEquals(0, topology.nodeOfCpus(new int[] { 0, 1 }));
+        assertEquals(1, topology.nodeOfCpus(new int[] { 3 }));
+        assertEquals(-1, topology.nodeOfCpus(new int[] { 1, 2 }));
+        assertEquals(-1, topology.nodeOfCpus(new int[] { 7 }));
+    }
+
+    @Test
+    void arenasAreDistributedAcrossNodes() {
+        NumaTopology topology = new NumaTopology(new int[] { 0, 0, 1, 1 }, new int[] { 0, 1 });
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), StandardAllocationTypes.OFF_HEAP, 4, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 0, 0, true, 0, topology)) {
+            BufferAllocatorMetric metric = allocator.metric();
+            assertEquals(2, metric.numNumaNodes());
+            assertThat(metric.arenaMetrics(0)).hasSize(2).allMatch(arena -> arena.numaNode() == 0);
+            assertThat(metric.arenaMetrics(1)).hasSize(2).allMatch(arena -> arena.numaNode() == 1);
+            assertThrows(IllegalArgumentException.class, () -> metric.arenaMetrics(2));
+
+            try (Buffer ignore = allocator.allocate(256)) {
+                assertEquals(1, metric.numThreadLocalCaches(0) + metric.numThreadLocalCaches(1));
+                assertEquals(metric.usedMemory(), metric.usedMemory(0) + metric.usedMemory(1));
+                assertEquals(metric.pinnedMemory(), metric.pinnedMemory(0) + metric.pinnedMemory(1));
+            }
+        }
+    }
+
+    @Test
+    void arenasAreSizedByPresentNodes() {
+        // Node ids need not be contiguous, for instance when a node has no memory or is offline.
+        NumaTopology topology = new NumaTopology(new int[] { 0, 0, 2, 2 }, new int[] { 0, 2 });
+        assertEquals(2, topology.numNodes());
+        assertEquals(1, topology.nodeIndex(2));
+        assertEquals(-1, topology.nodeIndex(1));
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), StandardAllocationTypes.OFF_HEAP, 4, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 0, 0, true, 0, topology)) {
+            BufferAllocatorMetric metric = allocator.metric();
+            assertEquals(2, metric.numNumaNodes());
+            assertArrayEquals(new int[] { 0, 2 }, metric.numaNodes());
+            assertThat(metric.arenaMetrics(0)).hasSize(2).allMatch(arena -> arena.numaNode() == 0);
+            assertThat(metric.arenaMetrics(2)).hasSize(2).allMatch(arena -> arena.numaNode() == 2);
+            assertThrows(IllegalArgumentException.class, () -> metric.arenaMetrics(1));
+        }
+    }
+}
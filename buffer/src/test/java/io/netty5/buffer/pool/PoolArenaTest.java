@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PoolArenaTest {
+    private static final int SIZE = 1024;
+
+    @Test
+    void freedSubpageReturnsToTheStripeItWasAllocatedFrom() throws Exception {
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), true, 1, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 0, 0, false)) {
+            PoolArena arena = (PoolArena) allocator.metric().arenaMetrics().get(0);
+            assumeTrue(arena.numSubpageStripes > 1);
+            PoolThreadCache cache = new PoolThreadCache(arena, 0, 0, 0, 0, false);
+            PoolThreadCache otherCache = new PoolThreadCache(arena, 0, 0, 0, 0, false);
+            assertNotEquals(cache.subpageStripe, otherCache.subpageStripe);
+            int sizeIdx = arena.size2SizeIdx(SIZE);
+            PoolSubpage head = arena.findSubpagePoolHead(sizeIdx, cache.subpageStripe);
+            PoolSubpage otherHead = arena.findSubpagePoolHead(sizeIdx, otherCache.subpageStripe);
+
+            // Fill the subpage, which then leaves its pool.
+            List<UntetheredMemory> allocations = new ArrayList<>();
+            allocations.add(arena.allocate(cache, SIZE));
+            PoolSubpage subpage = head.next;
+            assertTrue(subpage != head);
+            while (head.next != head) {
+                allocations.add(arena.allocate(cache, SIZE));
+            }
+
+            // Free from a thread that uses another stripe of the arena.
+            UntetheredMemory freed = allocations.remove(allocations.size() - 1);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            new Thread(() -> {
+                freed.<Buffer>drop().drop(null);
+                future.complete(null);
+            }).start();
+            future.get(10, TimeUnit.SECONDS);
+            assertSame(subpage, head.next);
+            assertSame(otherHead, otherHead.next);
+
+            for (UntetheredMemory memory : allocations) {
+                memory.<Buffer>drop().drop(null);
+            }
+            cache.free();
+            otherCache.free();
+        }
+    }
+
+    @Test
+    void toStringPrintsSizeIndexAndStripe() {
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), true, 1, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 0, 0, false)) {
+            PoolArena arena = (PoolArena) allocator.metric().arenaMetrics().get(0);
+            PoolThreadCache cache = new PoolThreadCache(arena, 0, 0, 0, 0, false);
+            UntetheredMemory memory = arena.allocate(cache, SIZE);
+            String expected = arena.size2SizeIdx(SIZE) + " (stripe " + cache.subpageStripe + "): ";
+            String string = arena.toString();
+            assertTrue(string.contains(expected), string);
+            memory.<Buffer>drop().drop(null);
+            cache.free();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolThreadCacheTest {
+
+    @Test
+    void sizeClassStatisticsArePublishedOnTrim() {
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), true, 1, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 256, 64, true)) {
+            PoolArenaMetric arena = allocator.metric().arenaMetrics().get(0);
+            int smallIdx = arena.size2SizeIdx(256);
+            int normalIdx = arena.size2SizeIdx(16 * 1024);
+
+            // The first allocation of each size misses the cache, and every following one hits.
+            for (int i = 0; i < 10; i++) {
+                allocator.allocate(256).close();
+                allocator.allocate(16 * 1024).close();
+            }
+            assertEquals(0, arena.numThreadCacheHits(smallIdx));
+
+            allocator.trimCurrentThreadCache();
+            assertEquals(9, arena.numThreadCacheHits(smallIdx));
+            assertEquals(1, arena.numThreadCacheMisses(smallIdx));
+            assertEquals(9, arena.numThreadCacheHits(normalIdx));
+            assertEquals(1, arena.numThreadCacheMisses(normalIdx));
+            // Far fewer allocations than the cache size happened, so the cached entries are given back to the arena.
+            assertEquals(1, arena.numThreadCacheTrims(smallIdx));
+            assertEquals(1, arena.numThreadCacheTrims(normalIdx));
+            assertEquals(0, arena.numThreadCacheHits(arena.size2SizeIdx(512)));
+        }
+    }
+
+    @Test
+    void sizeClassStatisticsArePublishedBeforeTrim() {
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), true, 1, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 256, 64, true)) {
+            PoolArenaMetric arena = allocator.metric().arenaMetrics().get(0);
+            int smallIdx = arena.size2SizeIdx(256);
+
+            // Far fewer allocations than the trim interval, but enough for the cache to publish what it has seen.
+            for (int i = 0; i < 2048; i++) {
+                allocator.allocate(256).close();
+            }
+            assertTrue(arena.numThreadCacheHits(smallIdx) >= 1023);
+            assertEquals(1, arena.numThreadCacheMisses(smallIdx));
+        }
+    }
+
+    @Test
+    void adaptiveCacheGrowsOnMissesBeforeTrim() {
+        try (PooledBufferAllocator allocator = new PooledBufferAllocator(
+                MemoryManager.instance(), true, 1, PooledBufferAllocator.defaultPageSize(),
+                PooledBufferAllocator.defaultMaxOrder(), 0, 0, false)) {
+            PoolArena arena = (PoolArena) allocator.metric().arenaMetrics().get(0);
+            PoolThreadCache cache = new PoolThreadCache(arena, 256, 0, 0, Integer.MAX_VALUE, true);
+            // Without any demand, the cache shrinks to its smallest size.
+            cache.trim();
+
+            // Every allocation misses, so the cache grows to hold as many entries as were asked for.
+            allocateAndFree(arena, cache, 64);
+            int smallIdx = arena.size2SizeIdx(256);
+            cache.trim();
+            assertEquals(64, arena.numThreadCacheMisses(smallIdx));
+
+            // All the freed entries were kept, so they can all be reused.
+            allocateAndFree(arena, cache, 64);
+            cache.trim();
+            assertEquals(64, arena.numThreadCacheHits(smallIdx));
+            cache.free();
+        }
+    }
+
+    private static void allocateAndFree(PoolArena arena, PoolThreadCache cache, int count) {
+        List<UntetheredMemory> allocations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            allocations.add(arena.allocate(cache, 256));
+        }
+        for (UntetheredMemory memory : allocations) {
+            memory.<Buffer>drop().drop(null);
+        }
+    }
+}
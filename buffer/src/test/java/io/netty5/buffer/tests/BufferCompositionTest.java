@@ -30,6 +30,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.opentest4j.TestAbortedException;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static io.netty5.buffer.internal.InternalBufferUtils.acquire;
@@ -746,6 +747,115 @@ public class BufferCompositionTest extends BufferTestSupport {
         }
     }
 
+    @Test
+    public void flattenMustMergeComponentsAndKeepOffsets() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose(asList(
+                     allocator.allocate(3).send(),
+                     allocator.allocate(3).send(),
+                     allocator.allocate(4).send()))) {
+            composite.writeLong(0x0102030405060708L);
+            assertThat(composite.readShort()).isEqualTo((short) 0x0102);
+            assertThat(composite.flatten()).isSameAs(composite);
+            assertThat(composite.countComponents()).isEqualTo(1);
+            assertThat(composite.capacity()).isEqualTo(10);
+            assertThat(composite.readerOffset()).isEqualTo(2);
+            assertThat(composite.writerOffset()).isEqualTo(8);
+            assertThat(composite.getInt(2)).isEqualTo(0x03040506);
+            composite.writeShort((short) 0x090A);
+            assertThat(composite.readLong()).isEqualTo(0x030405060708090AL);
+        }
+    }
+
+    @Test
+    public void compactOfPartiallyReadCompositeMustKeepCapacityAndMoveOffsets() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose(asList(
+                     allocator.allocate(3).send(),
+                     allocator.allocate(3).send(),
+                     allocator.allocate(4).send()))) {
+            composite.writeLong(0x0102030405060708L);
+            assertThat(composite.readInt()).isEqualTo(0x01020304);
+            assertThat(composite.compact()).isSameAs(composite);
+            assertThat(composite.capacity()).isEqualTo(10);
+            assertThat(composite.readerOffset()).isZero();
+            assertThat(composite.writerOffset()).isEqualTo(4);
+            assertThat(composite.writableBytes()).isEqualTo(6);
+            composite.writeShort((short) 0x090A).writeInt(0x0B0C0D0E);
+            assertThat(composite.readInt()).isEqualTo(0x05060708);
+            assertThat(composite.readShort()).isEqualTo((short) 0x090A);
+            assertThat(composite.readInt()).isEqualTo(0x0B0C0D0E);
+        }
+    }
+
+    @Test
+    public void flattenMustKeepReadOnlyState() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose(asList(
+                     allocator.allocate(4).writeInt(0x01020304).send(),
+                     allocator.allocate(4).writeInt(0x05060708).send()))) {
+            composite.makeReadOnly().flatten();
+            assertThat(composite.countComponents()).isEqualTo(1);
+            assertTrue(composite.readOnly());
+            assertThat(composite.readLong()).isEqualTo(0x0102030405060708L);
+        }
+    }
+
+    @Test
+    public void flattenOfNonOwnedCompositeBufferMustThrow() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose(asList(
+                     allocator.allocate(4).send(),
+                     allocator.allocate(4).send()))) {
+            try (Buffer ignore = acquire((ResourceSupport<?, ?>) composite)) {
+                assertThrows(IllegalStateException.class, composite::flatten);
+            }
+            assertThat(composite.countComponents()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void accessAcrossManyComponentsMustFindTheRightComponent() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose()) {
+            for (int i = 0; i < 64; i++) {
+                composite.extendWith(allocator.allocate(3).send());
+            }
+            for (int i = 0; i < composite.capacity(); i++) {
+                composite.writeByte((byte) i);
+            }
+            for (int i = composite.capacity() - 1; i >= 0; i -= 7) {
+                assertThat(composite.getByte(i)).isEqualTo((byte) i);
+            }
+            for (int i = 0; i < composite.capacity(); i++) {
+                assertThat(composite.readByte()).isEqualTo((byte) i);
+            }
+        }
+    }
+
+    @Test
+    public void randomReadsMustNotReplaceComponentsOfWideComposite() {
+        try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled();
+             CompositeBuffer composite = allocator.compose()) {
+            for (int i = 0; i < 256; i++) {
+                composite.extendWith(allocator.allocate(4).writeInt(i).send());
+            }
+            try (var iteration = composite.forEachComponent()) {
+                var component = iteration.firstReadable();
+                ByteBuffer held = component.readableBuffer();
+                for (int i = composite.capacity() - Integer.BYTES; i > 0; i -= 7 * Integer.BYTES) {
+                    assertThat(composite.getInt(i)).isEqualTo(i / Integer.BYTES);
+                    // A get across a component boundary.
+                    assertThat(composite.getInt(i - 2)).isEqualTo((i / Integer.BYTES - 1) << 16);
+                }
+                assertThat(held.getInt(0)).isEqualTo(0);
+                assertThat(component.readableBuffer().getInt(0)).isEqualTo(0);
+            }
+            composite.getInt(composite.capacity() / 2);
+            assertThat(composite.countComponents()).isEqualTo(256);
+        }
+    }
+
     @Test
     public void failureInDecomposeMustCloseConstituentBuffers() throws Exception {
         try (BufferAllocator allocator = BufferAllocator.onHeapUnpooled()) {
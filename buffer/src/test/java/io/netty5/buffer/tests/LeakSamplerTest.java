@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.tests;
+
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.adapt.AdaptivePoolingAllocator;
+import io.netty5.buffer.internal.LeakSampler;
+import io.netty5.buffer.internal.LeakSampler.LeakSite;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(value = 5, unit = TimeUnit.MINUTES)
+@Isolated
+public class LeakSamplerTest {
+    @AfterEach
+    void disableSampling() {
+        LeakSampler.disable();
+    }
+
+    static Stream<Named<Supplier<BufferAllocator>>> allocators() {
+        return Stream.of(
+                Named.of("offHeapUnpooled", BufferAllocator::offHeapUnpooled),
+                Named.of("offHeapPooled", BufferAllocator::offHeapPooled),
+                Named.of("adaptive", () -> new AdaptivePoolingAllocator(true)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("allocators")
+    void leaksAreAggregatedByAllocationSite(Supplier<BufferAllocator> allocatorSupplier) throws Exception {
+        try (BufferAllocator allocator = allocatorSupplier.get()) {
+            // Let pooling allocators create their chunks before sampling is enabled. The leaked buffers must be
+            // sampled when they are allocated, not when the chunk they come from was.
+            allocateChunk(allocator);
+            long leaksBefore = findSite("leakBuffer").map(LeakSite::leaks).orElse(0L);
+            long bytesBefore = findSite("leakBuffer").map(LeakSite::leakedBytes).orElse(0L);
+            LeakSampler.enable(1);
+            for (int i = 0; i < 3; i++) {
+                leakBuffer(allocator);
+            }
+            allocator.allocate(64).close(); // Sampled, but not leaked.
+            Optional<LeakSite> site;
+            int counter = 0;
+            do {
+                produceGarbage();
+                site = findSite("leakBuffer");
+                counter++;
+                assertThat(counter).isLessThan(5000);
+            } while (site.isEmpty() || site.get().leaks() < leaksBefore + 3);
+
+            StackTraceElement[] frames = site.get().frames();
+            assertEquals("leakBuffer", frames[0].getMethodName());
+            assertEquals(LeakSamplerTest.class.getName(), frames[0].getClassName());
+            assertEquals(leaksBefore + 3, site.get().leaks());
+            assertEquals(bytesBefore + 3 * 128, site.get().leakedBytes());
+        }
+    }
+
+    @Test
+    void samplingIntervalAdaptsToConcurrentAllocations() throws Exception {
+        LeakSampler.enable(1);
+        try (BufferAllocator allocator = new AdaptivePoolingAllocator(true)) {
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        allocator.allocate(8).close();
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThat(LeakSampler.samplingInterval()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    void samplingIntervalAdaptsToAllocationRate() {
+        LeakSampler.enable(1);
+        try (BufferAllocator allocator = BufferAllocator.offHeapUnpooled()) {
+            for (int i = 0; i < 10_000; i++) {
+                allocator.allocate(8).close();
+            }
+            // Ten thousand allocations in much less than a second is far above the targeted sampling rate.
+            assertThat(LeakSampler.samplingInterval()).isGreaterThan(1);
+        }
+        LeakSampler.disable();
+        assertFalse(LeakSampler.isEnabled());
+        assertEquals(0, LeakSampler.samplingInterval());
+        LeakSampler.enable(64);
+        assertTrue(LeakSampler.isEnabled());
+        assertEquals(64, LeakSampler.samplingInterval());
+    }
+
+    private static void allocateChunk(BufferAllocator allocator) {
+        allocator.allocate(128).close();
+    }
+
+    private static void leakBuffer(BufferAllocator allocator) {
+        allocator.allocate(128);
+    }
+
+    private static Optional<LeakSite> findSite(String methodName) {
+        return LeakSampler.leakSites().stream()
+                .filter(site -> site.frames().length > 0 && methodName.equals(site.frames()[0].getMethodName()))
+                .findFirst();
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static void produceGarbage() throws InterruptedException {
+        ThreadLocalRandom.current().ints(256).mapToObj(String::valueOf).collect(Collectors.toList());
+        System.gc();
+        Thread.sleep(1);
+    }
+}
@@ -21,11 +21,18 @@ import io.netty5.buffer.BufferReadOnlyException;
 import io.netty5.buffer.MemoryManager;
 import io.netty5.buffer.internal.ResourceSupport;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceConfigurationError;
@@ -199,6 +206,72 @@ public class MemoryManagerTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("managers")
+    public void mappedFileBufferMustHaveFileContents(MemoryManager manager, @TempDir Path dir) throws IOException {
+        Path file = writeFile(dir, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Buffer buffer = mapFile(manager, channel, 2, 8)) {
+            assertTrue(buffer.readOnly());
+            assertTrue(buffer.isDirect());
+            assertThat(buffer.capacity()).isEqualTo(8);
+            assertThat(buffer.readableBytes()).isEqualTo(8);
+            assertEquals(0x030405060708090AL, buffer.readLong());
+            verifyWriteInaccessible(buffer, BufferReadOnlyException.class);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("managers")
+    public void mappedFileBufferSplitsAndReadOnlyCopiesMustOutliveParent(MemoryManager manager, @TempDir Path dir)
+            throws IOException {
+        Path file = writeFile(dir, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        Buffer split;
+        Buffer copy;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Buffer buffer = mapFile(manager, channel, 0, 8)) {
+            split = buffer.split(4);
+            copy = buffer.copy(0, 2, true);
+        }
+        try (split; copy) {
+            assertTrue(split.readOnly());
+            assertTrue(copy.readOnly());
+            assertEquals(0x01020304, split.readInt());
+            assertEquals((short) 0x0506, copy.readShort());
+        }
+        assertFalse(split.isAccessible());
+        assertFalse(copy.isAccessible());
+    }
+
+    @ParameterizedTest
+    @MethodSource("managers")
+    public void mappingBeyondEndOfReadOnlyFileMustThrow(MemoryManager manager, @TempDir Path dir) throws IOException {
+        Path file = writeFile(dir, new byte[] { 1, 2, 3, 4 });
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> mapFile(manager, channel, 0, 8));
+            assertThrows(IllegalArgumentException.class, () -> mapFile(manager, channel, -1, 4));
+        }
+    }
+
+    private static Path writeFile(Path dir, byte[] contents) throws IOException {
+        return Files.write(dir.resolve("mapped"), contents);
+    }
+
+    private static Buffer mapFile(MemoryManager manager, FileChannel channel, long position, int length)
+            throws IOException {
+        try {
+            return MemoryManager.using(manager, () -> {
+                try {
+                    return MemoryManager.mapFile(channel, position, length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     private static Buffer wrap(MemoryManager manager, byte[] bytes) {
         return MemoryManager.using(manager, () -> {
             return MemoryManager.unsafeWrap(bytes);
@@ -26,16 +26,26 @@ import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
+import java.util.Map;
 import java.util.Queue;
+import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
+import static io.netty5.util.internal.PlatformDependent.newFixedSpscQueue;
 import static io.netty5.util.internal.PlatformDependent.newMpscQueue;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 /**
  * Light-weight object pool based on a thread-local stack.
+ * <p>
+ * Objects recycled by a thread other than the one that created them are collected in a small per-thread magazine,
+ * one for each pool the thread returns objects to, so threads returning objects to the same pool do not contend with
+ * each other. The owner of the pool takes over whole magazines when it runs out of objects. The objects in magazines
+ * count against the maximum capacity of the pool.
  *
  * @param <T> the type of the pooled object
  */
@@ -63,6 +73,8 @@ public abstract class Recycler<T> {
     private static final int DEFAULT_QUEUE_CHUNK_SIZE_PER_THREAD;
     private static final boolean BLOCKING_POOL;
     private static final boolean BATCH_FAST_TL_ONLY;
+    private static final boolean MAGAZINES;
+    private static final boolean STATS_ENABLED;
 
     static {
         // In the future, we might have different maxCapacity for different object types.
@@ -84,6 +96,9 @@ public abstract class Recycler<T> {
 
         BLOCKING_POOL = SystemPropertyUtil.getBoolean("io.netty5.recycler.blocking", false);
         BATCH_FAST_TL_ONLY = SystemPropertyUtil.getBoolean("io.netty5.recycler.batchFastThreadLocalOnly", true);
+        // The blocking pool is meant for debugging, so keep every returned object in the one queue it can inspect.
+        MAGAZINES = !BLOCKING_POOL && SystemPropertyUtil.getBoolean("io.netty5.recycler.magazines", true);
+        STATS_ENABLED = SystemPropertyUtil.getBoolean("io.netty5.recycler.stats", false);
 
         if (logger.isDebugEnabled()) {
             if (DEFAULT_MAX_CAPACITY_PER_THREAD == 0) {
@@ -92,12 +107,16 @@ public abstract class Recycler<T> {
                 logger.debug("-Dio.netty5.recycler.chunkSize: disabled");
                 logger.debug("-Dio.netty5.recycler.blocking: disabled");
                 logger.debug("-Dio.netty5.recycler.batchFastThreadLocalOnly: disabled");
+                logger.debug("-Dio.netty5.recycler.magazines: disabled");
+                logger.debug("-Dio.netty5.recycler.stats: disabled");
             } else {
                 logger.debug("-Dio.netty5.recycler.maxCapacityPerThread: {}", DEFAULT_MAX_CAPACITY_PER_THREAD);
                 logger.debug("-Dio.netty5.recycler.ratio: {}", RATIO);
                 logger.debug("-Dio.netty5.recycler.chunkSize: {}", DEFAULT_QUEUE_CHUNK_SIZE_PER_THREAD);
                 logger.debug("-Dio.netty5.recycler.blocking: {}", BLOCKING_POOL);
                 logger.debug("-Dio.netty5.recycler.batchFastThreadLocalOnly: {}", BATCH_FAST_TL_ONLY);
+                logger.debug("-Dio.netty5.recycler.magazines: {}", MAGAZINES);
+                logger.debug("-Dio.netty5.recycler.stats: {}", STATS_ENABLED);
             }
         }
     }
@@ -105,10 +124,23 @@ public abstract class Recycler<T> {
     private final int maxCapacityPerThread;
     private final int interval;
     private final int chunkSize;
+    private final Counters counters = STATS_ENABLED ? new Counters() : null;
+    private final FastThreadLocal<ForeignMagazines> foreignMagazines = MAGAZINES ? new FastThreadLocal<>() {
+        @Override
+        protected ForeignMagazines initialValue() {
+            return new ForeignMagazines();
+        }
+
+        @Override
+        protected void onRemoval(ForeignMagazines value) throws Exception {
+            super.onRemoval(value);
+            value.clear();
+        }
+    } : null;
     private final FastThreadLocal<LocalPool<T>> threadLocal = new FastThreadLocal<>() {
         @Override
         protected LocalPool<T> initialValue() {
-            return new LocalPool<>(maxCapacityPerThread, interval, chunkSize);
+            return new LocalPool<>(maxCapacityPerThread, interval, chunkSize, counters, foreignMagazines);
         }
 
         @Override
@@ -116,8 +148,10 @@ public abstract class Recycler<T> {
             super.onRemoval(value);
             MessagePassingQueue<DefaultHandle<T>> handles = value.pooledHandles;
             value.pooledHandles = null;
+            value.readyMagazines = null;
             value.owner = null;
             handles.clear();
+            value.batch.clear();
         }
     };
 
@@ -142,11 +176,18 @@ public abstract class Recycler<T> {
 
     @SuppressWarnings("unchecked")
     public final T get() {
+        Counters counters = this.counters;
         if (maxCapacityPerThread == 0) {
+            if (counters != null) {
+                counters.misses.increment();
+            }
             return newObject((Handle<T>) NOOP_HANDLE);
         }
         LocalPool<T> localPool = threadLocal.get();
         DefaultHandle<T> handle = localPool.claim();
+        if (counters != null) {
+            (handle == null ? counters.misses : counters.hits).increment();
+        }
         T obj;
         if (handle == null) {
             handle = localPool.newHandle();
@@ -166,7 +207,25 @@ public abstract class Recycler<T> {
     @VisibleForTesting
     final int threadLocalSize() {
         LocalPool<T> localPool = threadLocal.getIfExists();
-        return localPool == null ? 0 : localPool.pooledHandles.size() + localPool.batch.size();
+        if (localPool == null) {
+            return 0;
+        }
+        // Take over everything other threads handed back, so it is accounted for.
+        localPool.drainMagazines(Integer.MAX_VALUE);
+        return localPool.pooledHandles.size() + localPool.batch.size();
+    }
+
+    /**
+     * Return a snapshot of the statistics of this {@link Recycler}. Statistics are only collected when the
+     * {@code io.netty5.recycler.stats} system property is set to {@code true}, otherwise all values are zero.
+     */
+    @UnstableApi
+    public final Stats stats() {
+        Counters counters = this.counters;
+        if (counters == null) {
+            return new Stats(0, 0, 0, 0);
+        }
+        return new Stats(counters.hits.sum(), counters.misses.sum(), counters.recycled.sum(), counters.dropped.sum());
     }
 
     /**
@@ -177,6 +236,82 @@ public abstract class Recycler<T> {
     @SuppressWarnings("ClassNameSameAsAncestorName") // Can't change this due to compatibility.
     public interface Handle<T> extends ObjectPool.Handle<T>  { }
 
+    /**
+     * Statistics of a {@link Recycler}, as returned by {@link Recycler#stats()}.
+     */
+    @UnstableApi
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long recycled;
+        private final long dropped;
+
+        Stats(long hits, long misses, long recycled, long dropped) {
+            this.hits = hits;
+            this.misses = misses;
+            this.recycled = recycled;
+            this.dropped = dropped;
+        }
+
+        /**
+         * Return the number of {@link Recycler#get()} calls that were served from the pool.
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * Return the number of {@link Recycler#get()} calls that had to create a new object.
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * Return the number of recycled objects that were kept in the pool.
+         */
+        public long recycled() {
+            return recycled;
+        }
+
+        /**
+         * Return the number of recycled objects that were discarded, because the pool was full or its owning thread
+         * has terminated.
+         */
+        public long dropped() {
+            return dropped;
+        }
+
+        /**
+         * Return the fraction of {@link Recycler#get()} calls that were served from the pool.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        /**
+         * Return the fraction of recycled objects that were discarded.
+         */
+        public double dropRate() {
+            long total = recycled + dropped;
+            return total == 0 ? 0 : (double) dropped / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Recycler.Stats(hits: " + hits + ", misses: " + misses +
+                    ", recycled: " + recycled + ", dropped: " + dropped + ')';
+        }
+    }
+
+    private static final class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder recycled = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+
     @UnstableApi
     public abstract static class EnhancedHandle<T> implements Handle<T> {
 
@@ -250,17 +385,35 @@ public abstract class Recycler<T> {
     }
 
     private static final class LocalPool<T> implements MessagePassingQueue.Consumer<DefaultHandle<T>> {
+        private static final AtomicIntegerFieldUpdater<LocalPool<?>> MAGAZINE_RESERVATIONS_UPDATER;
+        static {
+            AtomicIntegerFieldUpdater<?> updater =
+                    AtomicIntegerFieldUpdater.newUpdater(LocalPool.class, "magazineReservations");
+            //noinspection unchecked
+            MAGAZINE_RESERVATIONS_UPDATER = (AtomicIntegerFieldUpdater<LocalPool<?>>) updater;
+        }
+
+        private final int maxCapacity;
         private final int ratioInterval;
         private final int chunkSize;
         private final ArrayDeque<DefaultHandle<T>> batch;
+        private final Counters counters;
+        private final FastThreadLocal<ForeignMagazines> foreignMagazines;
         private volatile Thread owner;
         private volatile MessagePassingQueue<DefaultHandle<T>> pooledHandles;
+        private volatile MessagePassingQueue<Magazine<T>> readyMagazines;
+        // The capacity of all announced magazines, which counts against maxCapacity along with pooledHandles.
+        private volatile int magazineReservations;
         private int ratioCounter;
 
         @SuppressWarnings("unchecked")
-        LocalPool(int maxCapacity, int ratioInterval, int chunkSize) {
+        LocalPool(int maxCapacity, int ratioInterval, int chunkSize, Counters counters,
+                  FastThreadLocal<ForeignMagazines> foreignMagazines) {
+            this.maxCapacity = maxCapacity;
             this.ratioInterval = ratioInterval;
             this.chunkSize = chunkSize;
+            this.counters = counters;
+            this.foreignMagazines = foreignMagazines;
             batch = new ArrayDeque<DefaultHandle<T>>(chunkSize);
             Thread currentThread = Thread.currentThread();
             owner = !BATCH_FAST_TL_ONLY || currentThread instanceof FastThreadLocalThread ? currentThread : null;
@@ -269,6 +422,10 @@ public abstract class Recycler<T> {
             } else {
                 pooledHandles = (MessagePassingQueue<DefaultHandle<T>>) newMpscQueue(chunkSize, maxCapacity);
             }
+            // Without a known owner we can not tell which threads are foreign, so everything goes through the queue.
+            if (foreignMagazines != null && owner != null) {
+                readyMagazines = (MessagePassingQueue<Magazine<T>>) newMpscQueue();
+            }
             ratioCounter = ratioInterval; // Start at interval so the first one will be recycled.
         }
 
@@ -279,6 +436,9 @@ public abstract class Recycler<T> {
             }
             if (batch.isEmpty()) {
                 handles.drain(this, chunkSize);
+                if (batch.isEmpty()) {
+                    drainMagazines(chunkSize);
+                }
             }
             DefaultHandle<T> handle = batch.pollFirst();
             if (null != handle) {
@@ -287,6 +447,31 @@ public abstract class Recycler<T> {
             return handle;
         }
 
+        /**
+         * Move the handles of the magazines other threads have handed over into the batch, until at least
+         * {@code limit} handles were moved or no magazines are left.
+         */
+        void drainMagazines(int limit) {
+            MessagePassingQueue<Magazine<T>> ready = readyMagazines;
+            if (ready == null) {
+                return;
+            }
+            int drained = 0;
+            Magazine<T> magazine;
+            while (drained < limit && (magazine = ready.relaxedPoll()) != null) {
+                // Clear the flag before draining, so handles added concurrently make the producer announce again.
+                magazine.clearAnnounced();
+                drained += magazine.handles.drain(this, chunkSize);
+                if (!magazine.handles.isEmpty() && magazine.announce()) {
+                    // Still announced, so it keeps its reservation.
+                    ready.relaxedOffer(magazine);
+                } else {
+                    // Empty, or announced again by its producer, which made a reservation of its own.
+                    MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, -magazine.handles.capacity());
+                }
+            }
+        }
+
         void release(DefaultHandle<T> handle, boolean guarded) {
             if (guarded) {
                 handle.toAvailable();
@@ -294,17 +479,71 @@ public abstract class Recycler<T> {
                 handle.unguardedToAvailable();
             }
             Thread owner = this.owner;
-            if (owner != null && Thread.currentThread() == owner && batch.size() < chunkSize) {
+            Thread currentThread = Thread.currentThread();
+            boolean pooled;
+            if (owner != null && currentThread == owner && batch.size() < chunkSize) {
                 accept(handle);
+                pooled = true;
             } else if (owner != null && isTerminated(owner)) {
                 this.owner = null;
                 pooledHandles = null;
+                readyMagazines = null;
+                pooled = false;
+            } else if (owner != null && currentThread != owner && offerToMagazine(handle)) {
+                pooled = true;
             } else {
                 MessagePassingQueue<DefaultHandle<T>> handles = pooledHandles;
-                if (handles != null) {
-                    handles.relaxedOffer(handle);
+                int reservations = magazineReservations;
+                pooled = handles != null && (reservations == 0 || handles.size() + reservations < maxCapacity) &&
+                        handles.relaxedOffer(handle);
+            }
+            Counters counters = this.counters;
+            if (counters != null) {
+                (pooled ? counters.recycled : counters.dropped).increment();
+            }
+        }
+
+        private boolean offerToMagazine(DefaultHandle<T> handle) {
+            MessagePassingQueue<Magazine<T>> ready = readyMagazines;
+            if (ready == null) {
+                return false;
+            }
+            Magazine<T> magazine = foreignMagazines.get().magazineFor(this);
+            // Reserve the capacity of the magazine before filling it, if it will have to be announced.
+            boolean reserved = !magazine.isAnnounced();
+            if (reserved && !reserve(magazine)) {
+                return false;
+            }
+            if (!magazine.handles.relaxedOffer(handle)) {
+                // The owner has not caught up yet, fall back to the shared queue.
+                if (reserved) {
+                    MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, -magazine.handles.capacity());
+                }
+                return false;
+            }
+            if (magazine.announce()) {
+                if (!reserved) {
+                    // The owner took the magazine over since we looked, which may take us over the capacity by a
+                    // magazine. We can not take the handle back out, and the magazine must be handed over.
+                    MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, magazine.handles.capacity());
                 }
+                ready.relaxedOffer(magazine);
+            } else if (reserved) {
+                // The owner announced it again in the meantime, and kept its reservation.
+                MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, -magazine.handles.capacity());
             }
+            return true;
+        }
+
+        private boolean reserve(Magazine<T> magazine) {
+            MessagePassingQueue<DefaultHandle<T>> handles = pooledHandles;
+            int capacity = magazine.handles.capacity();
+            if (handles == null ||
+                    MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, capacity) + handles.size() > maxCapacity) {
+                MAGAZINE_RESERVATIONS_UPDATER.addAndGet(this, -capacity);
+                return false;
+            }
+            return true;
         }
 
         private static boolean isTerminated(Thread owner) {
@@ -327,6 +566,90 @@ public abstract class Recycler<T> {
         }
     }
 
+    /**
+     * Handles recycled by one thread into the {@link LocalPool} of another thread. Only the recycling thread adds to
+     * a magazine, and only the owner of the pool takes from it.
+     * <p>
+     * A magazine is handed to the owner through {@link LocalPool#readyMagazines} when it goes from empty to non-empty,
+     * so the owner only has to look at magazines that hold something, and the producers only touch the shared queue
+     * once per batch instead of once per handle.
+     */
+    private static final class Magazine<T> {
+        private static final AtomicIntegerFieldUpdater<Magazine<?>> ANNOUNCED_UPDATER;
+        static {
+            AtomicIntegerFieldUpdater<?> updater = AtomicIntegerFieldUpdater.newUpdater(Magazine.class, "announced");
+            //noinspection unchecked
+            ANNOUNCED_UPDATER = (AtomicIntegerFieldUpdater<Magazine<?>>) updater;
+        }
+
+        final MessagePassingQueue<DefaultHandle<T>> handles;
+        private volatile int announced;
+
+        @SuppressWarnings("unchecked")
+        Magazine(int capacity) {
+            handles = (MessagePassingQueue<DefaultHandle<T>>) newFixedSpscQueue(capacity);
+        }
+
+        /**
+         * Return {@code true} if the magazine was not announced to the owner yet, and must be handed over by the
+         * caller. This is a full fence, so the owner can not miss a handle that was added before.
+         */
+        boolean announce() {
+            return ANNOUNCED_UPDATER.getAndSet(this, 1) == 0;
+        }
+
+        boolean isAnnounced() {
+            return announced != 0;
+        }
+
+        void clearAnnounced() {
+            announced = 0;
+        }
+    }
+
+    /**
+     * The magazines of the current thread, for each {@link LocalPool} it recycled handles into.
+     * <p>
+     * Neither the pools nor the magazines are referenced strongly, as the handles in a magazine reference their pool.
+     * A magazine that holds handles is announced, and so kept alive by its pool. Once the owner of a pool terminated,
+     * the pool can be collected together with its magazines. An empty magazine may be collected too, and is then
+     * simply created again.
+     */
+    private static final class ForeignMagazines {
+        private final Map<LocalPool<?>, MagazineRef> magazines = new WeakHashMap<>();
+        private MagazineRef last;
+
+        @SuppressWarnings("unchecked")
+        <T> Magazine<T> magazineFor(LocalPool<T> pool) {
+            MagazineRef ref = last;
+            if (ref == null || ref.pool.get() != pool) {
+                ref = magazines.get(pool);
+            }
+            Magazine<?> magazine = ref == null ? null : ref.get();
+            if (magazine == null) {
+                magazine = new Magazine<T>(pool.chunkSize);
+                ref = new MagazineRef(pool, magazine);
+                magazines.put(pool, ref);
+            }
+            last = ref;
+            return (Magazine<T>) magazine;
+        }
+
+        void clear() {
+            magazines.clear();
+            last = null;
+        }
+    }
+
+    private static final class MagazineRef extends WeakReference<Magazine<?>> {
+        final WeakReference<LocalPool<?>> pool;
+
+        MagazineRef(LocalPool<?> pool, Magazine<?> magazine) {
+            super(magazine);
+            this.pool = new WeakReference<>(pool);
+        }
+    }
+
     /**
      * This is an implementation of {@link MessagePassingQueue}, similar to what might be returned from
      * {@link PlatformDependent#newMpscQueue(int)}, but intended to be used for debugging purpose.
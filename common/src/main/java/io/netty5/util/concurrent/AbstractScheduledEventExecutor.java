@@ -18,6 +18,9 @@ package io.netty5.util.concurrent;
 import io.netty5.util.internal.DefaultPriorityQueue;
 import io.netty5.util.internal.PriorityQueue;
 import io.netty5.util.internal.PriorityQueueNode;
+import io.netty5.util.internal.SystemPropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Comparator;
 import java.util.Queue;
@@ -31,6 +34,18 @@ import static java.util.concurrent.Executors.callable;
  * Abstract base class for {@link EventExecutor}s that want to support scheduling.
  */
 public abstract class AbstractScheduledEventExecutor extends AbstractEventExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(AbstractScheduledEventExecutor.class);
+
+    private static final boolean DEFAULT_USE_TIMING_WHEEL =
+            SystemPropertyUtil.getBoolean("io.netty5.eventexecutor.timingWheel", false);
+    private static final long TIMING_WHEEL_TICK_NANOS = TimeUnit.MICROSECONDS.toNanos(
+            Math.max(1, SystemPropertyUtil.getLong("io.netty5.eventexecutor.timingWheelTickMicros", 1000)));
+
+    static {
+        logger.debug("-Dio.netty5.eventexecutor.timingWheel: {}", DEFAULT_USE_TIMING_WHEEL);
+        logger.debug("-Dio.netty5.eventexecutor.timingWheelTickMicros: {}",
+                TimeUnit.NANOSECONDS.toMicros(TIMING_WHEEL_TICK_NANOS));
+    }
 
     private static final Comparator<RunnableScheduledFutureNode<?>> SCHEDULED_FUTURE_TASK_COMPARATOR =
             Comparable::compareTo;
@@ -55,12 +70,28 @@ public abstract class AbstractScheduledEventExecutor extends AbstractEventExecut
         return deadlineNanos < 0 ? Long.MAX_VALUE : deadlineNanos;
     }
 
+    /**
+     * Returns {@code true} if scheduled tasks should be kept in a hierarchical timing wheel rather than in a binary
+     * heap. A timing wheel adds and cancels tasks in constant time, which pays off when an executor has a large number
+     * of outstanding timeouts that are mostly cancelled before they expire, as is typical for idle and read timeouts.
+     * <p>
+     * The default is taken from the {@code io.netty5.eventexecutor.timingWheel} system property, and sub-classes may
+     * override this to decide per executor. This is called once, when the first task is scheduled.
+     */
+    protected boolean useTimingWheel() {
+        return DEFAULT_USE_TIMING_WHEEL;
+    }
+
     PriorityQueue<RunnableScheduledFutureNode<?>> scheduledTaskQueue() {
         if (scheduledTaskQueue == null) {
-            scheduledTaskQueue = new DefaultPriorityQueue<>(
-                    SCHEDULED_FUTURE_TASK_COMPARATOR,
-                    // Use same initial capacity as java.util.PriorityQueue
-                    11);
+            if (useTimingWheel()) {
+                scheduledTaskQueue = new TimingWheelScheduledTaskQueue(ticker(), TIMING_WHEEL_TICK_NANOS);
+            } else {
+                scheduledTaskQueue = new DefaultPriorityQueue<>(
+                        SCHEDULED_FUTURE_TASK_COMPARATOR,
+                        // Use same initial capacity as java.util.PriorityQueue
+                        11);
+            }
         }
         return scheduledTaskQueue;
     }
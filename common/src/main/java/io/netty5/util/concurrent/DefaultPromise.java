@@ -15,6 +15,7 @@
  */
 package io.netty5.util.concurrent;
 
+import io.netty5.util.internal.ObjectPool;
 import io.netty5.util.internal.StringUtil;
 import io.netty5.util.internal.ThrowableUtil;
 import org.slf4j.Logger;
@@ -56,15 +57,24 @@ public class DefaultPromise<V> implements Promise<V>, Future<V>,
     private final EventExecutor executor;
 
     /**
-     * One or more listeners. Can be a {@link FutureListener} or a {@link DefaultFutureListeners}.
+     * One or more listeners. Can be a {@link FutureListener}, a {@link FutureContextListener} or a
+     * {@link DefaultFutureListeners}.
      * If {@code null}, it means either 1) no listeners were added yet or 2) all listeners were notified.
      * <p>
-     * Note that if a {@link FutureContextListener} is added, we immediately upgrade to a {@link DefaultFutureListeners}
-     * as we otherwise wouldn't have room to store the associated context object.
+     * A single listener is stored inline, together with its context in {@link #listenerContext}. We only upgrade to a
+     * {@link DefaultFutureListeners} once a second listener is added.
      * <p>
      * Threading - synchronized(this). We must support adding listeners when there is no EventExecutor.
      */
     private Object listeners;
+    /**
+     * The context of a single {@link FutureContextListener} stored in {@link #listeners}, or {@code null} if it is a
+     * {@link FutureListener}. The context is {@link #NULL_CONTEXT} if the listener was added with a {@code null}
+     * context.
+     * <p>
+     * Threading - synchronized(this).
+     */
+    private Object listenerContext;
     /**
      * Threading - synchronized(this). We are required to hold the monitor to use Java's underlying wait()/notifyAll().
      */
@@ -216,8 +226,9 @@ public class DefaultPromise<V> implements Promise<V>, Future<V>,
     public Future<V> addListener(FutureListener<? super V> listener) {
         requireNonNull(listener, "listener");
 
-        addListener0(listener, null);
-        if (isDone()) {
+        if (!addListener0(listener, null)) {
+            notifyListener(listener, null);
+        } else if (isDone()) {
             notifyListeners();
         }
 
@@ -228,8 +239,10 @@ public class DefaultPromise<V> implements Promise<V>, Future<V>,
     public <C> Future<V> addListener(C context, FutureContextListener<? super C, ? super V> listener) {
         requireNonNull(listener, "listener");
 
-        addListener0(listener, context == null ? NULL_CONTEXT : context);
-        if (isDone()) {
+        Object listenerContext = context == null ? NULL_CONTEXT : context;
+        if (!addListener0(listener, listenerContext)) {
+            notifyListener(listener, listenerContext);
+        } else if (isDone()) {
             notifyListeners();
         }
 
@@ -406,45 +419,87 @@ public class DefaultPromise<V> implements Promise<V>, Future<V>,
     }
 
     private void notifyListeners() {
-        safeExecute(executor(), new NotifyListeners(this));
+        safeExecute(executor(), NotifyListeners.newInstance(this, null, null));
     }
 
+    /**
+     * Notify a listener that was not stored, because it was added after this promise completed and all previously
+     * added listeners were notified.
+     */
+    private void notifyListener(Object listener, Object context) {
+        safeExecute(executor(), NotifyListeners.newInstance(this, listener, context));
+    }
+
+    /**
+     * Notifies either all the stored listeners of a promise, or a single listener that was never stored. Instances are
+     * recycled, as every completed promise with listeners needs one.
+     */
     private static final class NotifyListeners implements Runnable {
-        private final DefaultPromise<?> promise;
+        private static final ObjectPool<NotifyListeners> RECYCLER = ObjectPool.newPool(NotifyListeners::new);
 
-        private NotifyListeners(DefaultPromise<?> promise) {
-            this.promise = promise;
+        private final ObjectPool.Handle<NotifyListeners> handle;
+        private DefaultPromise<?> promise;
+        private Object listener;
+        private Object context;
+
+        private NotifyListeners(ObjectPool.Handle<NotifyListeners> handle) {
+            this.handle = handle;
+        }
+
+        static NotifyListeners newInstance(DefaultPromise<?> promise, Object listener, Object context) {
+            NotifyListeners task = RECYCLER.get();
+            task.promise = promise;
+            task.listener = listener;
+            task.context = context;
+            return task;
         }
 
         @Override
         public void run() {
-            promise.notifyListenersNow();
+            DefaultPromise<?> promise = this.promise;
+            Object listener = this.listener;
+            Object context = this.context;
+            this.promise = null;
+            this.listener = null;
+            this.context = null;
+            // Recycle before notifying, so the listeners can reuse this instance for the promises they complete.
+            handle.recycle(this);
+            if (listener == null) {
+                promise.notifyListenersNow();
+            } else {
+                notifyListener0(promise, listener, context);
+            }
         }
     }
 
-    @SuppressWarnings({ "unchecked", "MethodOnlyUsedFromInnerClass" })
+    @SuppressWarnings("MethodOnlyUsedFromInnerClass")
     private void notifyListenersNow() {
         Object listeners;
+        Object listenerContext;
         synchronized (this) {
             // Only proceed if there are listeners to notify.
             if (this.listeners == null) {
                 return;
             }
             listeners = this.listeners;
+            listenerContext = this.listenerContext;
             this.listeners = null;
+            this.listenerContext = null;
         }
         for (;;) {
             if (listeners instanceof DefaultFutureListeners) {
                 notifyListeners0((DefaultFutureListeners) listeners);
             } else {
-                notifyListener0(this, (FutureListener<V>) listeners);
+                notifyListener0(this, listeners, listenerContext);
             }
             synchronized (this) {
                 if (this.listeners == null) {
                     return;
                 }
                 listeners = this.listeners;
+                listenerContext = this.listenerContext;
                 this.listeners = null;
+                this.listenerContext = null;
             }
         }
     }
@@ -453,29 +508,47 @@ public class DefaultPromise<V> implements Promise<V>, Future<V>,
         listeners.notifyListeners(this, logger);
     }
 
-    static <V> void notifyListener0(Future<V> future, FutureListener<? super V> l) {
+    @SuppressWarnings("unchecked")
+    private static <V> void notifyListener0(DefaultPromise<V> future, Object listener, Object context) {
         try {
-            l.operationComplete(future);
+            // A context is only present for a FutureContextListener, see DefaultFutureListeners.notifyListeners(...).
+            if (context != null) {
+                FutureContextListener<Object, V> fcl = (FutureContextListener<Object, V>) listener;
+                fcl.operationComplete(context == NULL_CONTEXT ? null : context, future);
+            } else {
+                ((FutureListener<V>) listener).operationComplete(future);
+            }
         } catch (Throwable t) {
             if (logger.isWarnEnabled()) {
-                logger.warn("An exception was thrown by " + l.getClass().getName() + ".operationComplete()", t);
+                logger.warn("An exception was thrown by " + listener.getClass().getName() + ".operationComplete()", t);
             }
         }
     }
 
-    private synchronized void addListener0(Object listener, Object context) {
-        if (listeners == null && context == null) {
+    /**
+     * Store the given listener, to be notified once this promise completes.
+     *
+     * @return {@code false} if the listener was not stored, because this promise is already complete and has no other
+     * listeners waiting to be notified. The caller must then notify it on its own, which also keeps listeners off
+     * shared completed futures, such as the one of {@link EventExecutor#newSucceededFuture(Object)}.
+     */
+    private synchronized boolean addListener0(Object listener, Object context) {
+        if (listeners == null) {
+            if (isDone()) {
+                return false;
+            }
             listeners = listener;
+            listenerContext = context;
         } else if (listeners instanceof DefaultFutureListeners) {
             ((DefaultFutureListeners) listeners).add(listener, context);
         } else {
             DefaultFutureListeners listeners = new DefaultFutureListeners();
-            if (this.listeners != null) {
-                listeners.add(this.listeners, null);
-            }
+            listeners.add(this.listeners, listenerContext);
             listeners.add(listener, context);
             this.listeners = listeners;
+            listenerContext = null;
         }
+        return true;
     }
 
     private boolean setSuccess0(V result) {
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import java.util.List;
+
+/**
+ * Factory that creates new {@link EventExecutorChooser}s.
+ *
+ * @see EventExecutorChoosers
+ */
+public interface EventExecutorChooserFactory {
+
+    /**
+     * Returns a new {@link EventExecutorChooser} that chooses among the given executors.
+     *
+     * @param executors the {@link EventExecutor}s to choose from, which must not be empty.
+     */
+    EventExecutorChooser newChooser(List<? extends EventExecutor> executors);
+
+    /**
+     * Chooses the next {@link EventExecutor} to use.
+     * <p>
+     * Implementations must be thread-safe, as {@link #next()} may be called from any thread.
+     */
+    @FunctionalInterface
+    interface EventExecutorChooser {
+
+        /**
+         * Returns the new {@link EventExecutor} to use.
+         */
+        EventExecutor next();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static io.netty5.util.internal.ObjectUtil.checkNonEmpty;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Expose helper methods which create different {@link EventExecutorChooserFactory}s.
+ * <p>
+ * The load-aware choosers read the load of each executor when choosing, so their choices reflect the current load
+ * rather than a snapshot. Reading the load must be cheap and thread-safe.
+ */
+public final class EventExecutorChoosers {
+    private static final EventExecutorChooserFactory ROUND_ROBIN = executors -> {
+        EventExecutor[] children = toArray(executors);
+        if (isPowerOfTwo(children.length)) {
+            return new PowerOfTwoRoundRobinChooser(children);
+        }
+        return new RoundRobinChooser(children);
+    };
+    private static final EventExecutorChooserFactory LEAST_PENDING_TASKS =
+            leastLoaded(EventExecutorChoosers::pendingTasks);
+
+    private EventExecutorChoosers() { }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that chooses the executors in round-robin order.
+     * This is the default.
+     */
+    public static EventExecutorChooserFactory roundRobin() {
+        return ROUND_ROBIN;
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that chooses the executor with the fewest
+     * {@linkplain SingleThreadEventExecutor#pendingTasks() pending tasks}.
+     */
+    public static EventExecutorChooserFactory leastPendingTasks() {
+        return LEAST_PENDING_TASKS;
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that chooses the executor with the lowest load, as computed by
+     * the given function. Executors with equal load are chosen in round-robin order.
+     * <p>
+     * This looks at the load of every executor on each choice, so it is best suited to groups with few executors.
+     *
+     * @param load the function that returns the current load of an executor.
+     */
+    public static EventExecutorChooserFactory leastLoaded(ToLongFunction<? super EventExecutor> load) {
+        requireNonNull(load, "load");
+        return executors -> new LeastLoadedChooser(toArray(executors), load);
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that picks two executors at random, and chooses the one with the
+     * lower load, as computed by the given function.
+     * <p>
+     * This balances the load nearly as well as always choosing the least loaded executor, at a constant cost.
+     * Because the choice is randomized, it also avoids sending a burst of work to the same executor before its load
+     * has been updated.
+     *
+     * @param load the function that returns the current load of an executor.
+     */
+    public static EventExecutorChooserFactory powerOfTwoChoices(ToLongFunction<? super EventExecutor> load) {
+        requireNonNull(load, "load");
+        return executors -> new PowerOfTwoChoicesChooser(toArray(executors), load);
+    }
+
+    /**
+     * Returns the number of pending tasks of the given executor, if it is a {@link SingleThreadEventExecutor},
+     * or {@code 0} otherwise.
+     */
+    public static long pendingTasks(EventExecutor executor) {
+        if (executor instanceof SingleThreadEventExecutor) {
+            return ((SingleThreadEventExecutor) executor).pendingTasks();
+        }
+        return 0;
+    }
+
+    private static EventExecutor[] toArray(List<? extends EventExecutor> executors) {
+        return checkNonEmpty(executors.toArray(new EventExecutor[0]), "executors");
+    }
+
+    private static boolean isPowerOfTwo(int val) {
+        return (val & -val) == val;
+    }
+
+    private static final class PowerOfTwoRoundRobinChooser implements EventExecutorChooser {
+        // Use a 'long' counter to avoid non-round-robin behaviour at the 32-bit overflow boundary.
+        // The 64-bit long solves this by placing the overflow so far into the future, that no system
+        // will encounter this in practice.
+        private final AtomicLong idx = new AtomicLong();
+        private final EventExecutor[] executors;
+
+        PowerOfTwoRoundRobinChooser(EventExecutor[] executors) {
+            this.executors = executors;
+        }
+
+        @Override
+        public EventExecutor next() {
+            return executors[(int) idx.getAndIncrement() & executors.length - 1];
+        }
+    }
+
+    private static final class RoundRobinChooser implements EventExecutorChooser {
+        private final AtomicLong idx = new AtomicLong();
+        private final EventExecutor[] executors;
+
+        RoundRobinChooser(EventExecutor[] executors) {
+            this.executors = executors;
+        }
+
+        @Override
+        public EventExecutor next() {
+            return executors[(int) Math.abs(idx.getAndIncrement() % executors.length)];
+        }
+    }
+
+    private static final class LeastLoadedChooser implements EventExecutorChooser {
+        private final AtomicLong idx = new AtomicLong();
+        private final EventExecutor[] executors;
+        private final ToLongFunction<? super EventExecutor> load;
+
+        LeastLoadedChooser(EventExecutor[] executors, ToLongFunction<? super EventExecutor> load) {
+            this.executors = executors;
+            this.load = load;
+        }
+
+        @Override
+        public EventExecutor next() {
+            EventExecutor[] executors = this.executors;
+            // Start at a rotating offset, so ties are broken in round-robin order.
+            int start = (int) Math.abs(idx.getAndIncrement() % executors.length);
+            EventExecutor best = executors[start];
+            long bestLoad = load.applyAsLong(best);
+            for (int i = 1; i < executors.length && bestLoad > 0; i++) {
+                EventExecutor candidate = executors[(start + i) % executors.length];
+                long candidateLoad = load.applyAsLong(candidate);
+                if (candidateLoad < bestLoad) {
+                    best = candidate;
+                    bestLoad = candidateLoad;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class PowerOfTwoChoicesChooser implements EventExecutorChooser {
+        private final EventExecutor[] executors;
+        private final ToLongFunction<? super EventExecutor> load;
+
+        PowerOfTwoChoicesChooser(EventExecutor[] executors, ToLongFunction<? super EventExecutor> load) {
+            this.executors = executors;
+            this.load = load;
+        }
+
+        @Override
+        public EventExecutor next() {
+            EventExecutor[] executors = this.executors;
+            if (executors.length == 1) {
+                return executors[0];
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(executors.length);
+            // Pick a second executor that is distinct from the first.
+            int second = (first + 1 + random.nextInt(executors.length - 1)) % executors.length;
+            EventExecutor a = executors[first];
+            EventExecutor b = executors[second];
+            return load.applyAsLong(b) < load.applyAsLong(a) ? b : a;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+/**
+ * Metrics of a single threaded {@link EventExecutor}. All methods can be called from any thread.
+ * <p>
+ * The task metrics are only collected once the metric was {@linkplain EventExecutorMetricProvider#metric()
+ * requested}, or from the start if the {@code io.netty5.eventexecutor.taskMetrics} system property is set to
+ * {@code true}. Tasks that ran before that are not counted.
+ */
+public interface EventExecutorMetric {
+
+    /**
+     * Return the number of tasks the executor ran to completion, including the scheduled tasks. The probes that
+     * sample the {@linkplain #queueDelayHistogram() queue delay} are not counted.
+     */
+    long numCompletedTasks();
+
+    /**
+     * Return the longest time any single task ran for, in nanoseconds. A high value points at a task that blocked
+     * the executor thread.
+     */
+    long maxTaskRunNanos();
+
+    /**
+     * Return the number of sampled tasks by the time they waited in the task queue before running.
+     * <p>
+     * Bucket {@code 0} counts the tasks that waited less than a microsecond. Bucket {@code i} counts the tasks that
+     * waited at least {@code 2^(i - 1)} and less than {@code 2^i} microseconds. The last bucket counts all tasks
+     * that waited {@code 2^(length - 2)} microseconds or more.
+     * <p>
+     * Only about one in every 1024 submitted tasks is sampled, so this costs next to nothing.
+     */
+    long[] queueDelayHistogram();
+}
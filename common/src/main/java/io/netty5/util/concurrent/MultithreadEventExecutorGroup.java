@@ -15,6 +15,7 @@
  */
 package io.netty5.util.concurrent;
 
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
 import io.netty5.util.internal.EmptyArrays;
 
 import java.util.Arrays;
@@ -25,9 +26,9 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static java.util.Objects.requireNonNull;
 
 /**
  * {@link EventExecutorGroup} implementation that handles their tasks with multiple threads at
@@ -39,7 +40,7 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
     private final List<EventExecutor> readonlyChildren;
     private final AtomicInteger terminatedChildren = new AtomicInteger();
     private final Promise<Void> terminationFuture = GlobalEventExecutor.INSTANCE.newPromise();
-    private final boolean powerOfTwo;
+    private final EventExecutorChooser chooser;
 
     /**
      * Create a new instance.
@@ -63,6 +64,20 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
                 RejectedExecutionHandlers.reject());
     }
 
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that chooses the executor returned by
+     *                          {@link #next()}.
+     */
+    public MultithreadEventExecutorGroup(int nThreads, Executor executor,
+                                         EventExecutorChooserFactory chooserFactory) {
+        this(nThreads, executor, chooserFactory, SingleThreadEventExecutor.DEFAULT_MAX_PENDING_EXECUTOR_TASKS,
+                RejectedExecutionHandlers.reject(), EmptyArrays.EMPTY_OBJECTS);
+    }
+
     /**
      * Create a new instance.
      *
@@ -117,14 +132,32 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
      */
     protected MultithreadEventExecutorGroup(int nThreads, Executor executor, int maxPendingTasks,
                                             RejectedExecutionHandler rejectedHandler, Object... args) {
+        this(nThreads, executor, EventExecutorChoosers.roundRobin(), maxPendingTasks, rejectedHandler, args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the Executor to use, or {@code null} if the default should be used.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that chooses the executor returned by
+     *                          {@link #next()}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param args              arguments which will passed to each {@link #newChild(Executor, int,
+     * RejectedExecutionHandler, Object...)} call
+     */
+    protected MultithreadEventExecutorGroup(int nThreads, Executor executor,
+                                            EventExecutorChooserFactory chooserFactory, int maxPendingTasks,
+                                            RejectedExecutionHandler rejectedHandler, Object... args) {
         checkPositive(nThreads, "nThreads");
+        requireNonNull(chooserFactory, "chooserFactory");
 
         if (executor == null) {
             executor = new ThreadPerTaskExecutor(new DefaultThreadFactory(getClass()));
         }
 
         children = new EventExecutor[nThreads];
-        powerOfTwo = isPowerOfTwo(children.length);
         for (int i = 0; i < nThreads; i ++) {
             boolean success = false;
             try {
@@ -165,13 +198,9 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
             e.terminationFuture().addListener(terminationListener);
         }
         readonlyChildren = Collections.unmodifiableList(Arrays.asList(children));
+        chooser = chooserFactory.newChooser(readonlyChildren);
     }
 
-    // Use a 'long' counter to avoid non-round-robin behaviour at the 32-bit overflow boundary.
-    // The 64-bit long solves this by placing the overflow so far into the future, that no system
-    // will encounter this in practice.
-    private final AtomicLong idx = new AtomicLong();
-
     /**
      * The {@link EventExecutor}s that are used by this {@link MultithreadEventExecutorGroup}.
      */
@@ -180,19 +209,13 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
     }
 
     /**
-     * Returns the next {@link EventExecutor} to use. The default implementation will use round-robin, but you may
-     * override this to change the selection algorithm.
+     * Returns the next {@link EventExecutor} to use. The default implementation asks the {@link EventExecutorChooser}
+     * created by the {@link EventExecutorChooserFactory} given to the constructor, which is round-robin unless
+     * otherwise specified, but you may override this to change the selection algorithm.
      */
     @Override
     public EventExecutor next() {
-        if (powerOfTwo) {
-            return children[(int) idx.getAndIncrement() & children.length - 1];
-        }
-        return children[(int) Math.abs(idx.getAndIncrement() % children.length)];
-    }
-
-    private static boolean isPowerOfTwo(int val) {
-        return (val & -val) == val;
+        return chooser.next();
     }
 
     @Override
@@ -15,6 +15,8 @@
  */
 package io.netty5.util.concurrent;
 
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.StringUtil;
 import io.netty5.util.internal.SystemPropertyUtil;
 import io.netty5.util.internal.ThreadExecutorMap;
 import org.jetbrains.annotations.Async.Execute;
@@ -31,12 +33,14 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -44,13 +48,24 @@ import static java.util.Objects.requireNonNull;
  * {@link OrderedEventExecutor}'s implementation that execute all its submitted tasks in a single thread.
  *
  */
-public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor implements OrderedEventExecutor {
+public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor
+        implements OrderedEventExecutor, EventExecutorMetricProvider {
 
     protected static final int DEFAULT_MAX_PENDING_EXECUTOR_TASKS = Math.max(16,
             SystemPropertyUtil.getInt("io.netty5.eventexecutor.maxPendingTasks", Integer.MAX_VALUE));
 
     private static final Logger logger = LoggerFactory.getLogger(SingleThreadEventExecutor.class);
 
+    private static final boolean TASK_METRICS =
+            SystemPropertyUtil.getBoolean("io.netty5.eventexecutor.taskMetrics", false);
+    // Must be a power of two.
+    private static final int QUEUE_DELAY_SAMPLE_RATE = 1024;
+    private static final int QUEUE_DELAY_BUCKETS = 22;
+
+    static {
+        logger.debug("-Dio.netty5.eventexecutor.taskMetrics: {}", TASK_METRICS);
+    }
+
     private static final int ST_NOT_STARTED = 1;
     private static final int ST_STARTED = 2;
     private static final int ST_SHUTTING_DOWN = 3;
@@ -69,6 +84,10 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private static final AtomicReferenceFieldUpdater<SingleThreadEventExecutor, ThreadProperties> PROPERTIES_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(
                     SingleThreadEventExecutor.class, ThreadProperties.class, "threadProperties");
+    private static final AtomicIntegerFieldUpdater<SingleThreadEventExecutor> PARKED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(SingleThreadEventExecutor.class, "parked");
+    private static final AtomicLongFieldUpdater<SingleThreadEventExecutor> COMPLETED_TASKS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(SingleThreadEventExecutor.class, "completedTasks");
 
     private final Queue<Runnable> taskQueue;
 
@@ -77,6 +96,8 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private volatile ThreadProperties threadProperties;
     private final Executor executor;
     private volatile boolean interrupted;
+    // 1 while the executor thread is parked in takeTask() or about to be.
+    private volatile int parked;
 
     private final CountDownLatch threadLock = new CountDownLatch(1);
     private final Set<Runnable> shutdownHooks = new LinkedHashSet<>();
@@ -85,6 +106,15 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     private long lastExecutionTime;
 
+    private volatile boolean taskMetrics = TASK_METRICS;
+    // Racy increments only skew when a sample is taken, which is fine.
+    private int submittedTasks;
+    // Only modified from within the event loop.
+    private volatile long completedTasks;
+    private volatile long maxTaskRunNanos;
+    private final AtomicLongArray queueDelayHistogram = new AtomicLongArray(QUEUE_DELAY_BUCKETS);
+    private final EventExecutorMetric metric = new SingleThreadEventExecutorMetric();
+
     @SuppressWarnings({ "FieldMayBeFinal", "unused" })
     private volatile int state = ST_NOT_STARTED;
 
@@ -147,18 +177,18 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     /**
      * Create a new {@link Queue} which will holds the tasks to execute. This default implementation will return a
-     * {@link LinkedBlockingQueue} but if your sub-class of {@link SingleThreadEventExecutor} will not do any blocking
-     * calls on the this {@link Queue} it may make sense to {@code @Override} this and return some more performant
-     * implementation that does not support blocking operations at all.
+     * lock-free multi-producer single-consumer queue, which does not allocate on every offer.
      *
-     * Be aware that the implementation of {@link #run()} depends on a {@link BlockingQueue} so you will need to
-     * override {@link #run()} as well if you return a non {@link BlockingQueue} from this method.
+     * The queue may also be a {@link BlockingQueue}, in which case {@link #takeTask()} blocks on the queue itself.
+     * Otherwise {@link #takeTask()} parks the executor thread, and relies on {@link #wakeup(boolean)} to unpark it,
+     * so sub-classes that override {@link #wakeup(boolean)} and use {@link #takeTask()} must call the super method.
      *
      * As this method is called from within the constructor you can only use the parameters passed into the method when
      * overriding this method.
      */
     protected Queue<Runnable> newTaskQueue(int maxPendingTasks) {
-        return new LinkedBlockingQueue<>(maxPendingTasks);
+        return maxPendingTasks == Integer.MAX_VALUE ? PlatformDependent.newMpscQueue()
+                : PlatformDependent.newMpscQueue(maxPendingTasks);
     }
 
     /**
@@ -192,10 +222,6 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     /**
      * Take the next {@link Runnable} from the task queue and so will block if no task is currently present.
-     * <p>
-     * Be aware that this method will throw an {@link UnsupportedOperationException} if the task queue, which was
-     * created via {@link #newTaskQueue(int)}, does not implement {@link BlockingQueue}.
-     * </p>
      *
      * This method must be called from the {@link EventExecutor} thread.
      *
@@ -204,7 +230,7 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     protected final Runnable takeTask() {
         assert inEventLoop();
         if (!(taskQueue instanceof BlockingQueue)) {
-            throw new UnsupportedOperationException();
+            return parkAndTakeTask();
         }
 
         BlockingQueue<Runnable> taskQueue = (BlockingQueue<Runnable>) this.taskQueue;
@@ -248,6 +274,52 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
         }
     }
 
+    private Runnable parkAndTakeTask() {
+        for (;;) {
+            RunnableScheduledFuture<?> scheduledTask = peekScheduledTask();
+            long delayNanos = scheduledTask == null ? 0 : scheduledTask.delayNanos();
+            Runnable task = null;
+            if (scheduledTask == null || delayNanos > 0) {
+                task = taskQueue.poll();
+                if (task == null) {
+                    // Announce that we are about to park before checking the queue one last time. A producer that
+                    // offers a task after our check is guaranteed to see the flag and unpark us in wakeup(boolean).
+                    PARKED_UPDATER.set(this, 1);
+                    if (taskQueue.isEmpty()) {
+                        if (scheduledTask == null) {
+                            LockSupport.park(this);
+                        } else {
+                            LockSupport.parkNanos(this, delayNanos);
+                        }
+                    }
+                    // If a producer already cleared the flag, it unparked us.
+                    boolean wokenUp = PARKED_UPDATER.getAndSet(this, 0) == 0;
+                    if (Thread.interrupted()) {
+                        // Waken up.
+                        return null;
+                    }
+                    task = taskQueue.poll();
+                    if (task == null && (wokenUp || scheduledTask == null)) {
+                        return null;
+                    }
+                }
+                if (task == WAKEUP_TASK) {
+                    return null;
+                }
+            }
+            if (task == null) {
+                // We need to fetch the scheduled tasks now as otherwise there may be a chance that
+                // scheduled tasks are never executed if there is always one task in the taskQueue.
+                fetchFromScheduledTaskQueue();
+                task = taskQueue.poll();
+            }
+
+            if (task != null) {
+                return task;
+            }
+        }
+    }
+
     private boolean fetchFromScheduledTaskQueue() {
         long nanoTime = ticker().nanoTime();
         RunnableScheduledFuture<?> scheduledTask  = pollScheduledTask(nanoTime);
@@ -334,7 +406,45 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     }
 
     private void runTask(@Execute Runnable task) {
-        task.run();
+        if (!taskMetrics || task instanceof QueueDelayProbe) {
+            task.run();
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long runNanos = System.nanoTime() - startNanos;
+            if (runNanos > maxTaskRunNanos) {
+                maxTaskRunNanos = runNanos;
+            }
+            COMPLETED_TASKS_UPDATER.lazySet(this, completedTasks + 1);
+        }
+    }
+
+    private void recordQueueDelay(long delayNanos) {
+        long delayMicros = delayNanos / 1000;
+        int bucket = delayMicros <= 0 ? 0 : Math.min(64 - Long.numberOfLeadingZeros(delayMicros),
+                QUEUE_DELAY_BUCKETS - 1);
+        queueDelayHistogram.lazySet(bucket, queueDelayHistogram.get(bucket) + 1);
+    }
+
+    /**
+     * Returns the {@link EventExecutorMetric} of this executor. The task metrics are collected from the first call
+     * on, unless {@code -Dio.netty5.eventexecutor.taskMetrics=true} enabled them from the start.
+     */
+    @Override
+    public EventExecutorMetric metric() {
+        taskMetrics = true;
+        return metric;
+    }
+
+    /**
+     * Returns {@code true} if this executor collects its task metrics, because {@link #metric()} was called or
+     * {@code -Dio.netty5.eventexecutor.taskMetrics=true} is set.
+     */
+    protected final boolean isCollectingTaskMetrics() {
+        return taskMetrics;
     }
 
     /**
@@ -414,9 +524,7 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     /**
      * Run tasks that are submitted to this {@link SingleThreadEventExecutor}.
-     * The implementation depends on the fact that {@link #newTaskQueue(int)} returns a
-     * {@link BlockingQueue}. If you change this by overriding {@link #newTaskQueue(int)}
-     * be aware that you also need to override {@link #run()}.
+     * The implementation blocks in {@link #takeTask()} while there are no tasks to run.
      *
      * This method must be called from the {@link EventExecutor} thread.
      */
@@ -441,9 +549,14 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     protected void wakeup(boolean inEventLoop) {
         if (!inEventLoop) {
-            // Use offer as we actually only need this to unblock the thread and if offer fails we do not care as there
-            // is already something in the queue.
-            taskQueue.offer(WAKEUP_TASK);
+            if (addTaskWakesUp) {
+                // Use offer as we actually only need this to unblock the thread and if offer fails we do not care as
+                // there is already something in the queue.
+                taskQueue.offer(WAKEUP_TASK);
+            } else if (parked == 1 && PARKED_UPDATER.compareAndSet(this, 1, 0)) {
+                // Only the producer that wins the race pays for the unpark.
+                LockSupport.unpark(thread);
+            }
         }
     }
 
@@ -658,6 +771,11 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
         boolean inEventLoop = inEventLoop();
         addTask(task);
+        if (taskMetrics && (++submittedTasks & (QUEUE_DELAY_SAMPLE_RATE - 1)) == 0 && !isShuttingDown()) {
+            // Follow the task with a probe that measures how long it waits in the queue. The task already takes care
+            // of waking up the executor, and if the queue is full the sample is simply skipped.
+            taskQueue.offer(new QueueDelayProbe(System.nanoTime()));
+        }
         if (!inEventLoop) {
             startThread();
             if (isShutdown()) {
@@ -902,4 +1020,45 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
             return t.isAlive();
         }
     }
+
+    private final class QueueDelayProbe implements Runnable {
+        private final long submittedNanos;
+
+        QueueDelayProbe(long submittedNanos) {
+            this.submittedNanos = submittedNanos;
+        }
+
+        @Override
+        public void run() {
+            recordQueueDelay(System.nanoTime() - submittedNanos);
+        }
+    }
+
+    private final class SingleThreadEventExecutorMetric implements EventExecutorMetric {
+        @Override
+        public long numCompletedTasks() {
+            return completedTasks;
+        }
+
+        @Override
+        public long maxTaskRunNanos() {
+            return maxTaskRunNanos;
+        }
+
+        @Override
+        public long[] queueDelayHistogram() {
+            long[] histogram = new long[queueDelayHistogram.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = queueDelayHistogram.get(i);
+            }
+            return histogram;
+        }
+
+        @Override
+        public String toString() {
+            return StringUtil.simpleClassName(this) +
+                    "(completedTasks: " + numCompletedTasks() +
+                    "; maxTaskRunNanos: " + maxTaskRunNanos() + ')';
+        }
+    }
 }
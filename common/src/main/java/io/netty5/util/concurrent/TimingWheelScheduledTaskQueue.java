@@ -0,0 +1,473 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.AbstractScheduledEventExecutor.RunnableScheduledFutureNode;
+import io.netty5.util.internal.DefaultPriorityQueue;
+import io.netty5.util.internal.PriorityQueue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.netty5.util.internal.PriorityQueueNode.INDEX_NOT_IN_QUEUE;
+
+/**
+ * A hierarchical timing wheel that holds the scheduled tasks of an {@link AbstractScheduledEventExecutor}.
+ * <p>
+ * Tasks are hashed into {@value #LEVELS} levels of {@value #WHEEL_SIZE} buckets each, where a bucket of level
+ * {@code n} spans {@code WHEEL_SIZE^n} ticks. Adding a task is O(1), and removing one only marks it, so that it is
+ * dropped once its bucket is reached. As time advances, the buckets of the higher levels are cascaded into the lower
+ * ones, and the buckets of the lowest level are moved into a small heap, which orders the tasks that are due by their
+ * exact deadline. This keeps the {@link PriorityQueue} contract: {@link #peek()} returns the task with the closest
+ * deadline, which is looked up in the first non-empty bucket and cached while no task is due, so the executor can
+ * still compute how long it may block.
+ * <p>
+ * This is meant for executors with a large number of outstanding timeouts, most of which are cancelled or
+ * rescheduled before they expire, where every insert and removal would otherwise cost O(log n) in a binary heap.
+ * <p>
+ * This class is not thread-safe, and must only be used from the thread of its executor.
+ */
+final class TimingWheelScheduledTaskQueue extends AbstractQueue<RunnableScheduledFutureNode<?>>
+        implements PriorityQueue<RunnableScheduledFutureNode<?>> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+    private static final int OVERFLOW_SHIFT = LEVELS * WHEEL_BITS;
+    // Marks a task that is referenced by one of the buckets of the wheel.
+    private static final int INDEX_IN_WHEEL = -2;
+    // Removed tasks are only purged from the buckets eagerly once there are more of them than live ones.
+    private static final int MIN_PURGE_THRESHOLD = 1024;
+
+    private final Ticker ticker;
+    private final long tickNanos;
+    private final DefaultPriorityQueue<RunnableScheduledFutureNode<?>> ready;
+    private final Bucket[] buckets = new Bucket[LEVELS * WHEEL_SIZE];
+    private final long[] occupied = new long[LEVELS];
+    // Tasks that are too far in the future to be hashed into the wheel.
+    private final Bucket overflow = new Bucket();
+
+    // The next tick to process. Tasks due before it are in the ready heap, and all others are in the wheel.
+    private long cursor;
+    // The number of live tasks in the wheel, including the overflow bucket.
+    private int wheelTasks;
+    // The number of removed tasks that are still referenced by a bucket.
+    private int removedTasks;
+    // The live task with the closest deadline in the wheel, or null if it needs to be looked up again.
+    private RunnableScheduledFutureNode<?> closest;
+
+    TimingWheelScheduledTaskQueue(Ticker ticker, long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos: " + tickNanos + " (expected: > 0)");
+        }
+        this.ticker = ticker;
+        this.tickNanos = tickNanos;
+        ready = new DefaultPriorityQueue<>(Comparable::compareTo, 11);
+        cursor = tick(ticker.nanoTime());
+    }
+
+    private long tick(long deadlineNanos) {
+        return Math.max(0, deadlineNanos) / tickNanos;
+    }
+
+    @Override
+    public int size() {
+        return ready.size() + wheelTasks;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wheelTasks == 0 && ready.isEmpty();
+    }
+
+    @Override
+    public boolean offer(RunnableScheduledFutureNode<?> node) {
+        if (node.priorityQueueIndex(ready) != INDEX_NOT_IN_QUEUE) {
+            throw new IllegalArgumentException("node.priorityQueueIndex(): " + node.priorityQueueIndex(ready) +
+                    " (expected: " + INDEX_NOT_IN_QUEUE + ") + node: " + node);
+        }
+        add0(node);
+        return true;
+    }
+
+    private void add0(RunnableScheduledFutureNode<?> node) {
+        long tick = tick(node.deadlineNanos());
+        if (tick < cursor) {
+            ready.offer(node);
+        } else {
+            node.priorityQueueIndex(ready, INDEX_IN_WHEEL);
+            wheelTasks++;
+            hash(node, tick);
+            if (closest != null && node.deadlineNanos() < closest.deadlineNanos()) {
+                closest = node;
+            }
+        }
+    }
+
+    private void hash(RunnableScheduledFutureNode<?> node, long tick) {
+        // The level is the highest group of bits in which the tick differs from the cursor, so every task of a
+        // bucket shares all the higher groups with the cursor, and the bucket must be cascaded once the cursor
+        // reaches its first tick.
+        long diff = tick ^ cursor;
+        int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / WHEEL_BITS;
+        if (level >= LEVELS) {
+            overflow.add(node);
+            return;
+        }
+        int slot = (int) (tick >>> level * WHEEL_BITS) & WHEEL_MASK;
+        int index = level * WHEEL_SIZE + slot;
+        Bucket bucket = buckets[index];
+        if (bucket == null) {
+            bucket = buckets[index] = new Bucket();
+        }
+        bucket.add(node);
+        occupied[level] |= 1L << slot;
+    }
+
+    @Override
+    public RunnableScheduledFutureNode<?> peek() {
+        advance(tick(ticker.nanoTime()));
+        RunnableScheduledFutureNode<?> node = ready.peek();
+        if (node != null || wheelTasks == 0) {
+            return node;
+        }
+        // Nothing is due yet, so the executor only needs the closest deadline to know how long it may block.
+        if (closest == null) {
+            closest = findClosest();
+        }
+        return closest;
+    }
+
+    @Override
+    public RunnableScheduledFutureNode<?> poll() {
+        return peek() == null ? null : ready.poll();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object o) {
+        final RunnableScheduledFutureNode<?> node;
+        try {
+            node = (RunnableScheduledFutureNode<?>) o;
+        } catch (ClassCastException e) {
+            return false;
+        }
+        return removeTyped(node);
+    }
+
+    @Override
+    public boolean removeTyped(RunnableScheduledFutureNode<?> node) {
+        if (node.priorityQueueIndex(ready) != INDEX_IN_WHEEL) {
+            return ready.removeTyped(node);
+        }
+        // Leave the task in its bucket, it will be dropped when the bucket is reached.
+        node.priorityQueueIndex(ready, INDEX_NOT_IN_QUEUE);
+        wheelTasks--;
+        if (node == closest) {
+            closest = null;
+        }
+        if (++removedTasks >= MIN_PURGE_THRESHOLD && removedTasks > wheelTasks) {
+            purge();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean contains(Object o) {
+        final RunnableScheduledFutureNode<?> node;
+        try {
+            node = (RunnableScheduledFutureNode<?>) o;
+        } catch (ClassCastException e) {
+            return false;
+        }
+        return containsTyped(node);
+    }
+
+    @Override
+    public boolean containsTyped(RunnableScheduledFutureNode<?> node) {
+        return node.priorityQueueIndex(ready) == INDEX_IN_WHEEL || ready.containsTyped(node);
+    }
+
+    @Override
+    public void priorityChanged(RunnableScheduledFutureNode<?> node) {
+        if (removeTyped(node)) {
+            add0(node);
+        }
+    }
+
+    /**
+     * Process all ticks up to and including the given one.
+     */
+    private void advance(long targetTick) {
+        while (cursor <= targetTick) {
+            long next = nextBucketTick();
+            if (next > targetTick) {
+                // There is nothing to do until after the target tick.
+                cursor = targetTick + 1;
+                return;
+            }
+            cursor = next;
+            processTick();
+            cursor++;
+        }
+    }
+
+    /**
+     * Find the live task with the closest deadline in the wheel. The buckets of a level all start after those of the
+     * lower levels, so this only needs to look at the first bucket that holds a live task.
+     */
+    private RunnableScheduledFutureNode<?> findClosest() {
+        for (int level = 0; level < LEVELS; level++) {
+            long bits = occupied[level];
+            while (bits != 0) {
+                int slot = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                RunnableScheduledFutureNode<?> node = buckets[level * WHEEL_SIZE + slot].closest(ready);
+                if (node != null) {
+                    return node;
+                }
+            }
+        }
+        return overflow.closest(ready);
+    }
+
+    /**
+     * Return the first tick, starting at the cursor, at which a bucket of any level is reached, or
+     * {@link Long#MAX_VALUE} if the wheel is empty.
+     */
+    private long nextBucketTick() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            long bits = occupied[level] & -1L << ((int) (cursor >>> shift) & WHEEL_MASK);
+            if (bits != 0) {
+                long base = cursor & -1L << shift + WHEEL_BITS;
+                next = Math.min(next, base | (long) Long.numberOfTrailingZeros(bits) << shift);
+            }
+        }
+        if (overflow.size != 0) {
+            long overflowTick = (cursor + (1L << OVERFLOW_SHIFT) - 1) >>> OVERFLOW_SHIFT << OVERFLOW_SHIFT;
+            if (overflowTick >= 0) {
+                next = Math.min(next, overflowTick);
+            }
+        }
+        return next;
+    }
+
+    private void processTick() {
+        closest = null;
+        // Cascade the buckets that start at this tick from the highest level down, so that their tasks are hashed
+        // into the lower levels before those are processed.
+        if ((cursor & (1L << OVERFLOW_SHIFT) - 1) == 0 && overflow.size != 0) {
+            rehash(overflow);
+        }
+        if ((cursor & WHEEL_MASK) == 0) {
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = level * WHEEL_BITS;
+                if ((cursor & (1L << shift) - 1) == 0) {
+                    int slot = (int) (cursor >>> shift) & WHEEL_MASK;
+                    if ((occupied[level] & 1L << slot) != 0) {
+                        occupied[level] &= ~(1L << slot);
+                        rehash(buckets[level * WHEEL_SIZE + slot]);
+                    }
+                }
+            }
+        }
+        int slot = (int) cursor & WHEEL_MASK;
+        if ((occupied[0] & 1L << slot) != 0) {
+            occupied[0] &= ~(1L << slot);
+            Bucket bucket = buckets[slot];
+            for (int i = 0; i < bucket.size; i++) {
+                RunnableScheduledFutureNode<?> node = bucket.nodes[i];
+                if (node.priorityQueueIndex(ready) == INDEX_IN_WHEEL) {
+                    node.priorityQueueIndex(ready, INDEX_NOT_IN_QUEUE);
+                    wheelTasks--;
+                    ready.offer(node);
+                } else {
+                    releaseRemoved();
+                }
+            }
+            bucket.clear();
+        }
+    }
+
+    private void rehash(Bucket bucket) {
+        // Take the tasks out first, as some of them may be hashed into the same bucket again.
+        RunnableScheduledFutureNode<?>[] nodes = bucket.nodes;
+        int size = bucket.size;
+        bucket.nodes = Bucket.EMPTY;
+        bucket.size = 0;
+        for (int i = 0; i < size; i++) {
+            RunnableScheduledFutureNode<?> node = nodes[i];
+            if (node.priorityQueueIndex(ready) == INDEX_IN_WHEEL) {
+                node.priorityQueueIndex(ready, INDEX_NOT_IN_QUEUE);
+                wheelTasks--;
+                add0(node);
+            } else {
+                releaseRemoved();
+            }
+            nodes[i] = null;
+        }
+        if (bucket.nodes == Bucket.EMPTY) {
+            // Reuse the array, so cascading does not allocate.
+            bucket.nodes = nodes;
+        }
+    }
+
+    private void releaseRemoved() {
+        // A task that was removed and added again may be referenced by more than one bucket, so this is not exact.
+        if (removedTasks > 0) {
+            removedTasks--;
+        }
+    }
+
+    /**
+     * Drop all removed tasks from the buckets.
+     */
+    private void purge() {
+        for (int level = 0; level < LEVELS; level++) {
+            long bits = occupied[level];
+            while (bits != 0) {
+                int slot = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (buckets[level * WHEEL_SIZE + slot].purge(ready)) {
+                    occupied[level] &= ~(1L << slot);
+                }
+            }
+        }
+        overflow.purge(ready);
+        removedTasks = 0;
+    }
+
+    private void clearWheel() {
+        for (Bucket bucket : buckets) {
+            if (bucket != null) {
+                bucket.clear();
+            }
+        }
+        overflow.clear();
+        Arrays.fill(occupied, 0);
+        wheelTasks = 0;
+        removedTasks = 0;
+        closest = null;
+    }
+
+    private List<RunnableScheduledFutureNode<?>> snapshot() {
+        List<RunnableScheduledFutureNode<?>> nodes = new ArrayList<>(size());
+        Collections.addAll(nodes, ready.toArray(new RunnableScheduledFutureNode<?>[0]));
+        for (Bucket bucket : buckets) {
+            if (bucket != null) {
+                bucket.addLiveTo(nodes, ready);
+            }
+        }
+        overflow.addLiveTo(nodes, ready);
+        return nodes;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <X> X[] toArray(X[] a) {
+        return snapshot().toArray(a);
+    }
+
+    /**
+     * This iterator does not return elements in any particular order.
+     */
+    @Override
+    public Iterator<RunnableScheduledFutureNode<?>> iterator() {
+        return Collections.unmodifiableList(snapshot()).iterator();
+    }
+
+    @Override
+    public void clear() {
+        for (RunnableScheduledFutureNode<?> node : snapshot()) {
+            node.priorityQueueIndex(ready, INDEX_NOT_IN_QUEUE);
+        }
+        ready.clear();
+        clearWheel();
+    }
+
+    @Override
+    public void clearIgnoringIndexes() {
+        ready.clearIgnoringIndexes();
+        clearWheel();
+    }
+
+    private static final class Bucket {
+        static final RunnableScheduledFutureNode<?>[] EMPTY = new RunnableScheduledFutureNode<?>[0];
+
+        RunnableScheduledFutureNode<?>[] nodes = EMPTY;
+        int size;
+
+        void add(RunnableScheduledFutureNode<?> node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, Math.max(8, size << 1));
+            }
+            nodes[size++] = node;
+        }
+
+        /**
+         * Drop the removed tasks, and return {@code true} if the bucket is empty afterwards.
+         */
+        boolean purge(DefaultPriorityQueue<?> ready) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                RunnableScheduledFutureNode<?> node = nodes[i];
+                if (node.priorityQueueIndex(ready) == INDEX_IN_WHEEL) {
+                    nodes[live++] = node;
+                }
+            }
+            Arrays.fill(nodes, live, size, null);
+            size = live;
+            return live == 0;
+        }
+
+        RunnableScheduledFutureNode<?> closest(DefaultPriorityQueue<?> ready) {
+            RunnableScheduledFutureNode<?> closest = null;
+            for (int i = 0; i < size; i++) {
+                RunnableScheduledFutureNode<?> node = nodes[i];
+                if (node.priorityQueueIndex(ready) == INDEX_IN_WHEEL &&
+                        (closest == null || node.deadlineNanos() < closest.deadlineNanos())) {
+                    closest = node;
+                }
+            }
+            return closest;
+        }
+
+        void addLiveTo(List<RunnableScheduledFutureNode<?>> list, DefaultPriorityQueue<?> ready) {
+            for (int i = 0; i < size; i++) {
+                RunnableScheduledFutureNode<?> node = nodes[i];
+                if (node.priorityQueueIndex(ready) == INDEX_IN_WHEEL) {
+                    list.add(node);
+                }
+            }
+        }
+
+        void clear() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+        }
+    }
+}
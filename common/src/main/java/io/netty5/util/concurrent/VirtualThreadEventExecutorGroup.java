@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link EventExecutorGroup} that runs every task on a new virtual thread, for handlers that must call blocking APIs
+ * such as JDBC. Unlike a {@link DefaultEventExecutorGroup} or an {@link UnorderedThreadPoolEventExecutor}, it does not
+ * need a large pool of platform threads to sustain many concurrent blocking calls.
+ * <p>
+ * Every call to {@link #next()} returns a new {@link OrderedEventExecutor}, which runs its tasks one after the other in
+ * the order they were submitted, like the executors of a {@link NonStickyEventExecutorGroup}. To keep the tasks of a
+ * channel in order, obtain one executor per channel and submit all of its tasks to it:
+ *
+ * <pre>
+ * EventExecutorGroup blockingGroup = new VirtualThreadEventExecutorGroup();
+ * ...
+ * public void handlerAdded(ChannelHandlerContext ctx) {
+ *     blockingExecutor = blockingGroup.next();
+ * }
+ *
+ * public void channelRead(ChannelHandlerContext ctx, Object msg) {
+ *     blockingExecutor.submit(() -&gt; queryDatabase(msg)).addListener(ctx.executor(), ...);
+ * }
+ * </pre>
+ *
+ * Tasks submitted to the group itself may run concurrently. Scheduling is not supported; schedule on the event loop
+ * of the channel instead, and offload from there.
+ * <p>
+ * Virtual threads require Java 21 or newer, see {@link #isAvailable()}. They are looked up at runtime, so this class
+ * can be used on older Java versions with a {@link ThreadFactory} of platform threads.
+ */
+@UnstableApi
+public final class VirtualThreadEventExecutorGroup implements EventExecutorGroup {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadEventExecutorGroup.class);
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    private static final Throwable UNAVAILABILITY_CAUSE;
+
+    static {
+        ThreadFactory factory = null;
+        Throwable cause = null;
+        try {
+            // Thread.ofVirtual().name("virtualThreadEventExecutorGroup-", 0).factory()
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass))
+                    .invoke();
+            builder = lookup.findVirtual(ofVirtualClass, "name",
+                    MethodType.methodType(ofVirtualClass, String.class, long.class))
+                    .invoke(builder, "virtualThreadEventExecutorGroup-", 0L);
+            factory = (ThreadFactory) lookup.findVirtual(builderClass, "factory",
+                    MethodType.methodType(ThreadFactory.class))
+                    .invoke(builder);
+        } catch (Throwable t) {
+            // Either an older Java version, or a preview feature that was not enabled.
+            cause = t;
+        }
+        VIRTUAL_THREAD_FACTORY = factory;
+        UNAVAILABILITY_CAUSE = cause;
+        logger.debug("Virtual threads: {}", cause == null ? "available" : "unavailable");
+    }
+
+    private final ThreadPerTaskEventExecutor executor;
+    private final NonStickyEventExecutorGroup group;
+
+    /**
+     * Creates a new instance that runs its tasks on virtual threads.
+     *
+     * @throws UnsupportedOperationException if virtual threads are not {@linkplain #isAvailable() available}.
+     */
+    public VirtualThreadEventExecutorGroup() {
+        this(virtualThreadFactory());
+    }
+
+    /**
+     * Creates a new instance that runs every task on a new thread of the given {@link ThreadFactory}, which is
+     * expected to create virtual threads, for example to give them a different name.
+     */
+    public VirtualThreadEventExecutorGroup(ThreadFactory threadFactory) {
+        executor = new ThreadPerTaskEventExecutor(requireNonNull(threadFactory, "threadFactory"));
+        group = new NonStickyEventExecutorGroup(executor);
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not available", UNAVAILABILITY_CAUSE);
+        }
+        return VIRTUAL_THREAD_FACTORY;
+    }
+
+    /**
+     * Returns {@code true} if virtual threads are available, which requires Java 21 or newer.
+     */
+    public static boolean isAvailable() {
+        return UNAVAILABILITY_CAUSE == null;
+    }
+
+    /**
+     * Returns the cause of virtual threads being unavailable, or {@code null} if they are {@linkplain #isAvailable()
+     * available}.
+     */
+    public static Throwable unavailabilityCause() {
+        return UNAVAILABILITY_CAUSE;
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return executor.isShuttingDown();
+    }
+
+    @Override
+    public Future<Void> shutdownGracefully() {
+        return executor.shutdownGracefully();
+    }
+
+    @Override
+    public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        return executor.shutdownGracefully(quietPeriod, timeout, unit);
+    }
+
+    @Override
+    public Future<Void> terminationFuture() {
+        return executor.terminationFuture();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public EventExecutor next() {
+        return group.next();
+    }
+
+    @Override
+    public Iterator<EventExecutor> iterator() {
+        return group.iterator();
+    }
+
+    @Override
+    public Future<Void> submit(Runnable task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return executor.submit(task, result);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public Future<Void> schedule(Runnable task, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<Void> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<Void> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Unordered {@link EventExecutor} that starts a new thread for every task.
+     */
+    private static final class ThreadPerTaskEventExecutor extends AbstractEventExecutor {
+        private final ThreadFactory threadFactory;
+        private final AtomicInteger activeTasks = new AtomicInteger();
+        private final Promise<Void> terminationFuture = GlobalEventExecutor.INSTANCE.newPromise();
+        private volatile boolean shutdown;
+
+        ThreadPerTaskEventExecutor(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            requireNonNull(task, "task");
+            // Count the task before checking for shutdown, so we never terminate while it is being started.
+            activeTasks.incrementAndGet();
+            if (shutdown) {
+                taskDone();
+                throw new RejectedExecutionException("executor shut down");
+            }
+            boolean started = false;
+            try {
+                threadFactory.newThread(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        taskDone();
+                    }
+                }).start();
+                started = true;
+            } finally {
+                if (!started) {
+                    taskDone();
+                }
+            }
+        }
+
+        private void taskDone() {
+            if (activeTasks.decrementAndGet() == 0 && shutdown) {
+                terminationFuture.trySuccess(null);
+            }
+        }
+
+        @Override
+        public boolean inEventLoop(Thread thread) {
+            return false;
+        }
+
+        @Override
+        public boolean isShuttingDown() {
+            return shutdown;
+        }
+
+        @Override
+        public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+            // The running tasks cannot be interrupted safely, so we only stop accepting new ones and wait for them.
+            shutdown = true;
+            if (activeTasks.get() == 0) {
+                terminationFuture.trySuccess(null);
+            }
+            return terminationFuture();
+        }
+
+        @Override
+        public Future<Void> terminationFuture() {
+            return terminationFuture.asFuture();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return terminationFuture.isDone();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return terminationFuture.asFuture().asStage().await(timeout, unit);
+        }
+
+        @Override
+        public Future<Void> schedule(Runnable task, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
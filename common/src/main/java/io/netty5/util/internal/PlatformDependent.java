@@ -19,10 +19,12 @@ import org.jctools.queues.MpmcArrayQueue;
 import org.jctools.queues.MpscArrayQueue;
 import org.jctools.queues.MpscChunkedArrayQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jctools.queues.SpscArrayQueue;
 import org.jctools.queues.atomic.MpmcAtomicArrayQueue;
 import org.jctools.queues.atomic.MpscAtomicArrayQueue;
 import org.jctools.queues.atomic.MpscChunkedAtomicArrayQueue;
 import org.jctools.queues.atomic.MpscUnboundedAtomicArrayQueue;
+import org.jctools.queues.atomic.SpscAtomicArrayQueue;
 import org.jctools.queues.atomic.SpscLinkedAtomicQueue;
 import org.jctools.queues.unpadded.SpscLinkedUnpaddedQueue;
 import org.jctools.util.Pow2;
@@ -1000,6 +1002,10 @@ public final class PlatformDependent {
         static <T> Queue<T> newFixedMpscQueue(int capacity) {
             return hasUnsafe() ? new MpscArrayQueue<>(capacity) : new MpscAtomicArrayQueue<>(capacity);
         }
+
+        static <T> Queue<T> newFixedSpscQueue(int capacity) {
+            return hasUnsafe() ? new SpscArrayQueue<>(capacity) : new SpscAtomicArrayQueue<>(capacity);
+        }
     }
 
     /**
@@ -1051,6 +1057,14 @@ public final class PlatformDependent {
         return QueueChoice.newFixedMpscQueue(capacity);
     }
 
+    /**
+     * Create a new {@link Queue} which is safe to use for a single producer (one thread!) and a single
+     * consumer (one thread!) with the given fixed {@code capacity}.
+     */
+    public static <T> Queue<T> newFixedSpscQueue(int capacity) {
+        return QueueChoice.newFixedSpscQueue(capacity);
+    }
+
     /**
      * Return the {@link ClassLoader} for the given {@link Class}.
      */
@@ -15,12 +15,17 @@
 */
 package io.netty5.util;
 
+import io.netty5.util.concurrent.FastThreadLocalThread;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import java.lang.ref.Cleaner;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -425,6 +430,120 @@ public class RecyclerTest {
                 " internally");
     }
 
+    @Test
+    public void testRecycleManyAtDifferentThread() throws Exception {
+        // A ratio of 0 pools every handle, and more objects than the chunk size are returned at once.
+        final Recycler<HandledObject> recycler = newRecycler(256, 0, 16);
+        final HandledObject[] array = new HandledObject[100];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = recycler.get();
+        }
+
+        final Thread thread = newThread(() -> {
+            for (HandledObject object : array) {
+                object.recycle();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Set<HandledObject> recycled = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(recycled, array);
+        for (int i = 0; i < array.length; i++) {
+            assertTrue(recycled.remove(recycler.get()));
+        }
+    }
+
+    @Test
+    @Timeout(value = 5000, unit = TimeUnit.MILLISECONDS)
+    public void testPoolOfTerminatedOwnerCanBeCollected() throws Exception {
+        final Recycler<HandledObject> recycler = newRecycler(256, 0, 16);
+        WeakReference<HandledObject> reference = recycleIntoMagazineOfTerminatedOwner(recycler);
+
+        // The object is still in the magazine of this thread. Loop until it was collected along with the pool it
+        // belongs to. If it can not be collected the Test will fail due of a timeout.
+        while (reference.get() != null) {
+            System.gc();
+            Thread.sleep(50);
+        }
+    }
+
+    private static WeakReference<HandledObject> recycleIntoMagazineOfTerminatedOwner(Recycler<HandledObject> recycler)
+            throws Exception {
+        final AtomicReference<HandledObject> object = new AtomicReference<>();
+        final CountDownLatch created = new CountDownLatch(1);
+        final CountDownLatch recycled = new CountDownLatch(1);
+        // Magazines are only used for pools with a known owner, which must be a FastThreadLocalThread by default.
+        Thread owner = new FastThreadLocalThread(() -> {
+            object.set(recycler.get());
+            created.countDown();
+            try {
+                recycled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        owner.start();
+        created.await();
+        WeakReference<HandledObject> reference = new WeakReference<>(object.get());
+        object.getAndSet(null).recycle();
+        recycled.countDown();
+        owner.join();
+        return reference;
+    }
+
+    @Test
+    public void testMagazinesCountAgainstMaxCapacity() throws Exception {
+        final int maxCapacity = 64;
+        final Recycler<HandledObject> recycler = newRecycler(maxCapacity, 0, 16);
+        final HandledObject[] array = new HandledObject[maxCapacity * 2];
+        final CountDownLatch created = new CountDownLatch(1);
+        final CountDownLatch recycled = new CountDownLatch(1);
+        final AtomicInteger pooled = new AtomicInteger();
+        Thread owner = new FastThreadLocalThread(() -> {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = recycler.get();
+            }
+            created.countDown();
+            try {
+                recycled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pooled.set(recycler.threadLocalSize());
+        });
+        owner.start();
+        created.await();
+
+        // Every thread fills a magazine of its own, before falling back to the shared queue.
+        int perThread = array.length / 4;
+        for (int t = 0; t < 4; t++) {
+            final int from = t * perThread;
+            Thread thread = newThread(() -> {
+                for (int i = from; i < from + perThread; i++) {
+                    array[i].recycle();
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+        recycled.countDown();
+        owner.join();
+
+        assertThat(pooled.get()).isPositive().isLessThanOrEqualTo(maxCapacity);
+    }
+
+    @Test
+    public void testStatsRates() {
+        Recycler.Stats stats = new Recycler.Stats(3, 1, 6, 2);
+        assertEquals(0.75, stats.hitRate());
+        assertEquals(0.25, stats.dropRate());
+
+        Recycler.Stats empty = new Recycler.Stats(0, 0, 0, 0);
+        assertEquals(0, empty.hitRate());
+        assertEquals(0, empty.dropRate());
+    }
+
     static final class HandledObject {
         Recycler.Handle<HandledObject> handle;
 
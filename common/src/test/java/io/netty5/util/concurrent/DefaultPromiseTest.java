@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -456,6 +457,42 @@ public class DefaultPromiseTest {
         promise.setSuccess(result);
     }
 
+    @Test
+    public void mustNotifyMixedListenersInOrder() {
+        DefaultPromise<Object> promise = new DefaultPromise<>(INSTANCE);
+        Object context = new Object();
+        List<Object> notified = new ArrayList<>();
+        promise.addListener(context, (ctx, future) -> notified.add(ctx));
+        promise.addListener(future -> notified.add("listener"));
+        promise.addListener(null, (ctx, future) -> notified.add(ctx));
+        promise.setSuccess(null);
+        // Listeners added after completion are notified directly, after the ones that were added before.
+        promise.addListener(context, (ctx, future) -> notified.add(ctx));
+        promise.addListener(future -> notified.add("late listener"));
+        assertEquals(Arrays.asList(context, "listener", null, context, "late listener"), notified);
+    }
+
+    @Test
+    public void mustNotifyListenersOfSharedSucceededFuture() throws Exception {
+        EventExecutor executor = new TestEventExecutor();
+        try {
+            Future<Void> future = executor.newSucceededFuture(null);
+            assertSame(future, executor.newSucceededFuture(null));
+            int listeners = 1000;
+            CountDownLatch latch = new CountDownLatch(listeners);
+            for (int i = 0; i < listeners; i++) {
+                if ((i & 1) == 0) {
+                    future.addListener(f -> latch.countDown());
+                } else {
+                    future.addListener(latch, (l, f) -> l.countDown());
+                }
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
     @Test
     public void getNowOnUnfinishedPromiseMustThrow() {
         DefaultPromise<Object> promise = new DefaultPromise<>(INSTANCE);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EventExecutorChoosersTest {
+    private List<EventExecutor> executors;
+    private final Map<EventExecutor, Long> loads = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        executors = Arrays.asList(new TestEventExecutor(), new TestEventExecutor(), new TestEventExecutor());
+        for (EventExecutor executor : executors) {
+            loads.put(executor, 0L);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (EventExecutor executor : executors) {
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    public void testRoundRobin() {
+        EventExecutorChooser chooser = EventExecutorChoosers.roundRobin().newChooser(executors);
+        for (int i = 0; i < 7; i++) {
+            assertSame(executors.get(i % executors.size()), chooser.next());
+        }
+    }
+
+    @Test
+    public void testLeastLoaded() {
+        EventExecutorChooser chooser = EventExecutorChoosers.leastLoaded(loads::get).newChooser(executors);
+        loads.put(executors.get(0), 5L);
+        loads.put(executors.get(1), 1L);
+        loads.put(executors.get(2), 3L);
+        for (int i = 0; i < executors.size(); i++) {
+            assertSame(executors.get(1), chooser.next());
+        }
+    }
+
+    @Test
+    public void testLeastLoadedBreaksTiesInRoundRobinOrder() {
+        EventExecutorChooser chooser = EventExecutorChoosers.leastLoaded(loads::get).newChooser(executors);
+        for (int i = 0; i < 7; i++) {
+            assertSame(executors.get(i % executors.size()), chooser.next());
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesNeverChoosesMostLoaded() {
+        EventExecutorChooser chooser = EventExecutorChoosers.powerOfTwoChoices(loads::get).newChooser(executors);
+        loads.put(executors.get(2), 10L);
+        for (int i = 0; i < 100; i++) {
+            assertNotSame(executors.get(2), chooser.next());
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Queue;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -240,6 +241,97 @@ public class SingleThreadEventExecutorTest {
         });
     }
 
+    @Test
+    public void testParkedExecutorWakesUpForTasks() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            assertTimeoutPreemptively(ofSeconds(10), () -> {
+                for (int round = 0; round < 100; round++) {
+                    // Let the executor thread park before every burst of tasks.
+                    Thread.sleep(1);
+                    CountDownLatch latch = new CountDownLatch(4 * 16);
+                    for (int i = 0; i < 4; i++) {
+                        producers.execute(() -> {
+                            for (int j = 0; j < 16; j++) {
+                                executor.execute(latch::countDown);
+                            }
+                        });
+                    }
+                    latch.await();
+                }
+            });
+        } finally {
+            producers.shutdown();
+            executor.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    public void testBlockingTaskQueue() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor(Executors.defaultThreadFactory()) {
+            @Override
+            protected Queue<Runnable> newTaskQueue(int maxPendingTasks) {
+                return new LinkedBlockingQueue<>(maxPendingTasks);
+            }
+        };
+        try {
+            assertTimeoutPreemptively(ofSeconds(5), () -> {
+                TestRunnable scheduledTask = new TestRunnable();
+                Future<?> f = executor.schedule(scheduledTask, 100, TimeUnit.MILLISECONDS);
+                TestRunnable task = new TestRunnable();
+                executor.submit(task).asStage().sync();
+                f.asStage().sync();
+
+                assertThat(task.ran.get()).isTrue();
+                assertThat(scheduledTask.ran.get()).isTrue();
+            });
+        } finally {
+            executor.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    public void testMetric() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor();
+        try {
+            EventExecutorMetric metric = executor.metric();
+            executor.submit(() -> {
+                Thread.sleep(50);
+                return null;
+            }).asStage().sync();
+            for (int i = 0; i < 2048; i++) {
+                executor.execute(DUMMY_TASK);
+            }
+            executor.submit(DUMMY_TASK).asStage().sync();
+
+            // Read from the executor, so all tasks before this one are counted. The queue delay probes are not.
+            assertThat(executor.submit(metric::numCompletedTasks).asStage().get()).isEqualTo(2050);
+            assertThat(metric.maxTaskRunNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            long samples = 0;
+            for (long count : metric.queueDelayHistogram()) {
+                samples += count;
+            }
+            assertThat(samples).isGreaterThan(0);
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    public void testMetricCollectedOnceRequested() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor();
+        try {
+            executor.submit(DUMMY_TASK).asStage().sync();
+
+            EventExecutorMetric metric = executor.metric();
+            assertThat(executor.submit(metric::numCompletedTasks).asStage().get()).isZero();
+            assertThat(executor.submit(metric::numCompletedTasks).asStage().get()).isEqualTo(1);
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
     private static final class TestRunnable implements Runnable {
         final AtomicBoolean ran = new AtomicBoolean();
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.AbstractScheduledEventExecutor.RunnableScheduledFutureNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelScheduledTaskQueueTest {
+    private static final Callable<Void> NOOP = () -> null;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MockTicker ticker = Ticker.newMockTicker();
+    private final SingleThreadEventExecutor executor = new SingleThreadEventExecutor();
+    private final TimingWheelScheduledTaskQueue queue = new TimingWheelScheduledTaskQueue(ticker, TICK_NANOS);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    private RunnableScheduledFutureNode<?> newTask(long deadlineNanos) {
+        return (RunnableScheduledFutureNode<?>) AbstractScheduledEventExecutor.newRunnableScheduledFuture(
+                executor, executor.newPromise(), NOOP, deadlineNanos, 0);
+    }
+
+    @Test
+    public void testTasksArePolledInDeadlineOrder() {
+        Random random = new Random(42);
+        List<RunnableScheduledFutureNode<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            // Spread the deadlines over all levels of the wheel.
+            long delayNanos = (long) (Math.pow(10, random.nextInt(13)) * random.nextDouble());
+            RunnableScheduledFutureNode<?> task = newTask(delayNanos);
+            tasks.add(task);
+            assertTrue(queue.offer(task));
+        }
+        assertEquals(tasks.size(), queue.size());
+        tasks.sort(Comparator.comparingLong(RunnableScheduledFuture::deadlineNanos));
+
+        int polled = 0;
+        while (polled < tasks.size()) {
+            RunnableScheduledFutureNode<?> next = queue.peek();
+            assertEquals(tasks.get(polled).deadlineNanos(), next.deadlineNanos());
+            if (next.deadlineNanos() > ticker.nanoTime()) {
+                ticker.advance(next.deadlineNanos() - ticker.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            assertSame(next, queue.poll());
+            polled++;
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    public void testPeekReturnsClosestTaskBeforeItIsDue() {
+        RunnableScheduledFutureNode<?> far = newTask(TimeUnit.HOURS.toNanos(2));
+        RunnableScheduledFutureNode<?> near = newTask(TimeUnit.MINUTES.toNanos(5));
+        queue.add(far);
+        queue.add(near);
+        assertSame(near, queue.peek());
+
+        RunnableScheduledFutureNode<?> nearer = newTask(TimeUnit.SECONDS.toNanos(3));
+        queue.add(nearer);
+        assertSame(nearer, queue.peek());
+
+        assertTrue(queue.removeTyped(nearer));
+        assertSame(near, queue.peek());
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testRemovedTasksAreNotPolled() {
+        List<RunnableScheduledFutureNode<?>> tasks = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            RunnableScheduledFutureNode<?> task = newTask(TimeUnit.MILLISECONDS.toNanos(i));
+            tasks.add(task);
+            queue.add(task);
+        }
+        for (int i = 0; i < tasks.size(); i += 2) {
+            assertTrue(queue.containsTyped(tasks.get(i)));
+            assertTrue(queue.removeTyped(tasks.get(i)));
+            assertFalse(queue.containsTyped(tasks.get(i)));
+            assertFalse(queue.removeTyped(tasks.get(i)));
+        }
+        assertEquals(2500, queue.size());
+        assertEquals(2500, queue.toArray().length);
+
+        ticker.advance(1, TimeUnit.HOURS);
+        for (int i = 1; i < tasks.size(); i += 2) {
+            assertSame(tasks.get(i), queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testTaskBeyondTheWheel() {
+        RunnableScheduledFutureNode<?> never = newTask(Long.MAX_VALUE);
+        queue.add(never);
+        assertSame(never, queue.peek());
+
+        RunnableScheduledFutureNode<?> task = newTask(TimeUnit.DAYS.toNanos(1000));
+        queue.add(task);
+        assertSame(task, queue.peek());
+        ticker.advance(1000, TimeUnit.DAYS);
+        assertSame(task, queue.poll());
+        assertSame(never, queue.peek());
+        assertNull(queue.poll());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testClear() {
+        RunnableScheduledFutureNode<?> ready = newTask(0);
+        RunnableScheduledFutureNode<?> scheduled = newTask(TimeUnit.SECONDS.toNanos(10));
+        queue.add(ready);
+        queue.add(scheduled);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        // Both tasks can be added again after they were cleared.
+        queue.add(ready);
+        queue.add(scheduled);
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testExecutorWithTimingWheel() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor() {
+            @Override
+            protected boolean useTimingWheel() {
+                return true;
+            }
+        };
+        try {
+            assertTimeoutPreemptively(ofSeconds(5), () -> {
+                CountDownLatch latch = new CountDownLatch(3);
+                List<Integer> order = new ArrayList<>();
+                Future<?> cancelled = executor.schedule(() -> order.add(-1), 50, TimeUnit.MILLISECONDS);
+                executor.schedule(() -> {
+                    order.add(3);
+                    latch.countDown();
+                }, 300, TimeUnit.MILLISECONDS);
+                executor.schedule(() -> {
+                    order.add(2);
+                    latch.countDown();
+                }, 100, TimeUnit.MILLISECONDS);
+                executor.schedule(() -> {
+                    order.add(1);
+                    latch.countDown();
+                }, 10, TimeUnit.MILLISECONDS);
+                assertTrue(cancelled.cancel());
+                latch.await();
+                assertThat(order).containsExactly(1, 2, 3);
+            });
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).asStage().sync();
+        }
+    }
+}
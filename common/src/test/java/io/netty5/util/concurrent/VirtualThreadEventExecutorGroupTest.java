@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public class VirtualThreadEventExecutorGroupTest {
+
+    private static VirtualThreadEventExecutorGroup newGroup() {
+        // Fall back to platform threads on Java versions without virtual threads.
+        return VirtualThreadEventExecutorGroup.isAvailable() ? new VirtualThreadEventExecutorGroup()
+                : new VirtualThreadEventExecutorGroup(Thread::new);
+    }
+
+    @Test
+    public void testUnavailable() {
+        assumeFalse(VirtualThreadEventExecutorGroup.isAvailable());
+        assertThrows(UnsupportedOperationException.class, VirtualThreadEventExecutorGroup::new);
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testOrdering() throws Throwable {
+        VirtualThreadEventExecutorGroup group = newGroup();
+        try {
+            EventExecutor executor = group.next();
+            assertTrue(executor instanceof OrderedEventExecutor);
+            assertFalse(executor.inEventLoop());
+
+            AtomicReference<Throwable> cause = new AtomicReference<>();
+            AtomicInteger last = new AtomicInteger();
+            int tasks = 10000;
+            Future<?> future = null;
+            for (int i = 1; i <= tasks; i++) {
+                final int id = i;
+                future = executor.submit(() -> {
+                    if (!executor.inEventLoop()) {
+                        cause.compareAndSet(null, new AssertionError("Not in event loop"));
+                    }
+                    if (!last.compareAndSet(id - 1, id)) {
+                        cause.compareAndSet(null, new AssertionError(
+                                "Out of order or concurrent execution of id(" + id + "), last(" + last.get() + ')'));
+                    }
+                });
+            }
+            future.asStage().sync();
+            assertNull(cause.get());
+            assertEquals(tasks, last.get());
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testBlockingTasksOfDifferentExecutorsRunConcurrently() throws Exception {
+        VirtualThreadEventExecutorGroup group = newGroup();
+        try {
+            int executors = 100;
+            CountDownLatch allStarted = new CountDownLatch(executors);
+            CountDownLatch done = new CountDownLatch(executors);
+            for (int i = 0; i < executors; i++) {
+                group.next().execute(() -> {
+                    allStarted.countDown();
+                    try {
+                        // Blocks until every task has started, which needs one thread per task.
+                        if (allStarted.await(5, TimeUnit.SECONDS)) {
+                            done.countDown();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testShutdownWaitsForRunningTasks() throws Exception {
+        VirtualThreadEventExecutorGroup group = newGroup();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Void> task = group.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        started.await();
+
+        Future<Void> termination = group.shutdownGracefully();
+        assertTrue(group.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> group.execute(() -> { }));
+        assertThrows(RejectedExecutionException.class, () -> group.next().execute(() -> { }));
+        assertFalse(termination.isDone());
+        assertFalse(group.isTerminated());
+
+        release.countDown();
+        task.asStage().sync();
+        assertTrue(group.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(group.isTerminated());
+    }
+}
@@ -91,6 +91,16 @@ import static java.util.Objects.requireNonNull;
  * ...
  * </pre>
  *
+ * <h3>Coarse timeouts</h3>
+ * By default, every handler schedules its own timeout tasks on the event loop of its channel. When an
+ * {@link IdleTracker} is given, the timeouts of all handlers on an event loop are tracked by one coarse timer instead,
+ * which is much cheaper with a large number of mostly idle connections, at the cost of precision.
+ *
+ * <h3>Re-registration</h3>
+ * The timeouts are stopped when the {@link Channel} is deregistered, and scheduled again on its new event loop once it
+ * is registered, for example when it is {@linkplain io.netty5.channel.AbstractChannel#migrate migrated}. The time the
+ * {@link Channel} was idle before still counts.
+ *
  * @see ReadTimeoutHandler
  * @see WriteTimeoutHandler
  */
@@ -103,10 +113,16 @@ public class IdleStateHandler implements ChannelHandler {
         firstWriterIdleEvent = firstAllIdleEvent = true;
     };
 
+    private final IdleTracker tracker;
     private final long readerIdleTimeNanos;
     private final long writerIdleTimeNanos;
     private final long allIdleTimeNanos;
 
+    // Only used with an IdleTracker, which does not return a Future for the tasks it schedules.
+    private AbstractIdleTask readerIdleTask;
+    private AbstractIdleTask writerIdleTask;
+    private AbstractIdleTask allIdleTask;
+
     private Future<?> readerIdleTimeout;
     private long lastReadTime;
     private boolean firstReaderIdleEvent = true;
@@ -121,6 +137,7 @@ public class IdleStateHandler implements ChannelHandler {
     private byte state;
     private static final byte ST_INITIALIZED = 1;
     private static final byte ST_DESTROYED = 2;
+    private static final byte ST_SUSPENDED = 3;
 
     private boolean reading;
 
@@ -169,7 +186,35 @@ public class IdleStateHandler implements ChannelHandler {
      */
     public IdleStateHandler(long readerIdleTime, long writerIdleTime, long allIdleTime,
             TimeUnit unit) {
+        this(null, readerIdleTime, writerIdleTime, allIdleTime, unit);
+    }
+
+    /**
+     * Creates a new instance firing {@link IdleStateEvent}s, whose timeouts are tracked by the given
+     * {@link IdleTracker}.
+     * @param tracker
+     *        the {@link IdleTracker} that tracks the timeouts of this handler, or {@code null} to schedule them
+     *        on the event loop of the channel
+     * @param readerIdleTime
+     *        an {@link IdleStateEvent} whose state is {@link IdleState#READER_IDLE}
+     *        will be triggered when no read was performed for the specified
+     *        period of time.  Specify {@code 0} to disable.
+     * @param writerIdleTime
+     *        an {@link IdleStateEvent} whose state is {@link IdleState#WRITER_IDLE}
+     *        will be triggered when no write was performed for the specified
+     *        period of time.  Specify {@code 0} to disable.
+     * @param allIdleTime
+     *        an {@link IdleStateEvent} whose state is {@link IdleState#ALL_IDLE}
+     *        will be triggered when neither read nor write was performed for
+     *        the specified period of time.  Specify {@code 0} to disable.
+     * @param unit
+     *        the {@link TimeUnit} of {@code readerIdleTime},
+     *        {@code writeIdleTime}, and {@code allIdleTime}
+     */
+    public IdleStateHandler(IdleTracker tracker, long readerIdleTime, long writerIdleTime, long allIdleTime,
+            TimeUnit unit) {
         requireNonNull(unit, "unit");
+        this.tracker = tracker;
 
         if (readerIdleTime <= 0) {
             readerIdleTimeNanos = 0;
@@ -238,6 +283,17 @@ public class IdleStateHandler implements ChannelHandler {
         ctx.fireChannelRegistered();
     }
 
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+        if (state == ST_INITIALIZED) {
+            // The channel may be registered with another event loop next, so stop the timeouts that run on this one.
+            // channelRegistered() schedules them again.
+            cancelTimeouts();
+            state = ST_SUSPENDED;
+        }
+        ctx.fireChannelUnregistered();
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         // This method will be invoked only if this handler was added
@@ -303,28 +359,38 @@ public class IdleStateHandler implements ChannelHandler {
     private void initialize(ChannelHandlerContext ctx) {
         // Avoid the case where destroy() is called before scheduling timeouts.
         // See: https://github.com/netty/netty/issues/143
+        boolean resumed;
         switch (state) {
         case 1:
         case 2:
             return;
+        case 3:
+            resumed = true;
+            break;
         default:
-             break;
+            resumed = false;
+            break;
         }
 
         state = ST_INITIALIZED;
 
-        lastReadTime = lastWriteTime = ticksInNanos();
+        if (!resumed) {
+            lastReadTime = lastWriteTime = ticksInNanos();
+        }
+        // When resumed, run the tasks right away, so they account for the time the channel was already idle.
         if (readerIdleTimeNanos > 0) {
-            readerIdleTimeout = schedule(ctx, new ReaderIdleTimeoutTask(ctx),
-                    readerIdleTimeNanos, TimeUnit.NANOSECONDS);
+            readerIdleTask = new ReaderIdleTimeoutTask(ctx);
+            readerIdleTimeout = schedule(ctx, readerIdleTask, resumed ? 0 : readerIdleTimeNanos,
+                    TimeUnit.NANOSECONDS);
         }
         if (writerIdleTimeNanos > 0) {
-            writerIdleTimeout = schedule(ctx, new WriterIdleTimeoutTask(ctx),
-                    writerIdleTimeNanos, TimeUnit.NANOSECONDS);
+            writerIdleTask = new WriterIdleTimeoutTask(ctx);
+            writerIdleTimeout = schedule(ctx, writerIdleTask, resumed ? 0 : writerIdleTimeNanos,
+                    TimeUnit.NANOSECONDS);
         }
         if (allIdleTimeNanos > 0) {
-            allIdleTimeout = schedule(ctx, new AllIdleTimeoutTask(ctx),
-                    allIdleTimeNanos, TimeUnit.NANOSECONDS);
+            allIdleTask = new AllIdleTimeoutTask(ctx);
+            allIdleTimeout = schedule(ctx, allIdleTask, resumed ? 0 : allIdleTimeNanos, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -341,12 +407,25 @@ public class IdleStateHandler implements ChannelHandler {
      */
     @VisibleForTesting
     Future<?> schedule(ChannelHandlerContext ctx, Runnable task, long delay, TimeUnit unit) {
+        if (tracker != null) {
+            tracker.schedule(ctx, (AbstractIdleTask) task, unit.toNanos(delay));
+            return null;
+        }
         return ctx.executor().schedule(task, delay, unit);
     }
 
     private void destroy() {
         state = ST_DESTROYED;
+        cancelTimeouts();
+    }
 
+    private void cancelTimeouts() {
+        if (tracker != null) {
+            cancel(readerIdleTask);
+            cancel(writerIdleTask);
+            cancel(allIdleTask);
+            readerIdleTask = writerIdleTask = allIdleTask = null;
+        }
         if (readerIdleTimeout != null) {
             readerIdleTimeout.cancel();
             readerIdleTimeout = null;
@@ -361,6 +440,12 @@ public class IdleStateHandler implements ChannelHandler {
         }
     }
 
+    private void cancel(AbstractIdleTask task) {
+        if (task != null) {
+            tracker.cancel(task);
+        }
+    }
+
     /**
      * Is called when an {@link IdleStateEvent} should be fired. This implementation calls
      * {@link ChannelHandlerContext#fireChannelInboundEvent(Object)}.
@@ -385,7 +470,7 @@ public class IdleStateHandler implements ChannelHandler {
         }
     }
 
-    private abstract static class AbstractIdleTask implements Runnable {
+    private abstract static class AbstractIdleTask extends IdleTracker.Timeout {
 
         private final ChannelHandlerContext ctx;
 
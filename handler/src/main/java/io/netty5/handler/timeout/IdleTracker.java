@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.handler.timeout;
+
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.Future;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks the timeouts of {@link IdleStateHandler}s, {@link ReadTimeoutHandler}s and {@link WriteTimeoutHandler}s
+ * with one coarse timer per event loop, instead of scheduling a task on the event loop for every timeout.
+ * <p>
+ * The handlers of all channels of an event loop share a single periodic task, which advances a hashed wheel of
+ * timeouts once per tick. Adding and removing a timeout is O(1) and does not allocate, and every tick only looks at
+ * the timeouts that hash to the current bucket. Channel activity only records a timestamp, as it does without a
+ * tracker. The price is precision: a timeout never fires early, but it may fire up to two ticks late.
+ * <p>
+ * This pays off with a large number of mostly idle connections per event loop, where the scheduled tasks of the
+ * handlers would otherwise dominate the work of the scheduler. A single instance can be shared by any number of
+ * handlers, channels and event loops:
+ *
+ * <pre>
+ * IdleTracker tracker = new IdleTracker();
+ * ...
+ * channel.pipeline().addLast(new {@link IdleStateHandler}(tracker, 60, 30, 0, TimeUnit.SECONDS));
+ * </pre>
+ */
+public final class IdleTracker {
+    private static final Logger logger = LoggerFactory.getLogger(IdleTracker.class);
+
+    /**
+     * The default tick, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final long tickNanos;
+    private final ConcurrentMap<EventExecutor, LoopTimeouts> loops = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance with a tick of {@value #DEFAULT_TICK_MILLIS} milliseconds.
+     */
+    public IdleTracker() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tick
+     *        the interval at which timeouts are checked, which is also the precision of the timeouts
+     * @param unit
+     *        the {@link TimeUnit} of {@code tick}
+     */
+    public IdleTracker(long tick, TimeUnit unit) {
+        requireNonNull(unit, "unit");
+        if (tick <= 0) {
+            throw new IllegalArgumentException("tick: " + tick + " (expected: > 0)");
+        }
+        tickNanos = unit.toNanos(tick);
+    }
+
+    /**
+     * Return the tick that was given when creating this instance, in milliseconds.
+     */
+    public long getTickInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+
+    /**
+     * Schedule the given {@link Timeout} to run on the event loop of the {@link io.netty5.channel.Channel} of the
+     * given {@link ChannelHandlerContext} after at least the given delay. If it is already scheduled, it is
+     * rescheduled. This must be called from the event loop.
+     */
+    void schedule(ChannelHandlerContext ctx, Timeout timeout, long delayNanos) {
+        // Key by the event loop of the channel rather than ctx.executor(), which may be a wrapper that is distinct
+        // for every handler context, but always runs on the same thread.
+        EventExecutor executor = ctx.channel().executor();
+        assert executor.inEventLoop();
+        LoopTimeouts loop = loops.get(executor);
+        if (loop == null) {
+            loop = new LoopTimeouts(executor);
+            loops.put(executor, loop);
+        }
+        LoopTimeouts previous = timeout.loop;
+        if (previous != null && previous != loop) {
+            cancel(timeout);
+        }
+        loop.schedule(timeout, delayNanos);
+    }
+
+    /**
+     * Cancel the given {@link Timeout}, if it is scheduled. This must be called from the event loop.
+     */
+    void cancel(Timeout timeout) {
+        LoopTimeouts loop = timeout.loop;
+        if (loop != null) {
+            assert loop.executor.inEventLoop();
+            loop.unschedule(timeout);
+            if (loop.size == 0) {
+                loop.release();
+            }
+        }
+    }
+
+    /**
+     * Return the number of event loops that currently have timeouts scheduled.
+     */
+    @VisibleForTesting
+    int activeLoops() {
+        return loops.size();
+    }
+
+    /**
+     * A task that can be scheduled with an {@link IdleTracker}. A timeout is also the node of the list of its bucket,
+     * so it can only be scheduled once at a time.
+     */
+    abstract static class Timeout implements Runnable {
+        private static final byte ST_IDLE = 0;
+        private static final byte ST_SCHEDULED = 1;
+        private static final byte ST_EXPIRED = 2;
+
+        private LoopTimeouts loop;
+        private Timeout prev;
+        private Timeout next;
+        private long deadline;
+        private byte state;
+    }
+
+    private final class LoopTimeouts implements Runnable {
+        private final EventExecutor executor;
+        private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+        private final List<Timeout> expired = new ArrayList<>();
+        private Future<Void> ticker;
+        private long tick;
+        private int size;
+
+        LoopTimeouts(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        void schedule(Timeout timeout, long delayNanos) {
+            unschedule(timeout);
+            // The current tick has already partly elapsed, so add one more to never fire early.
+            long ticks = Math.max(0, (delayNanos + tickNanos - 1) / tickNanos) + 1;
+            timeout.loop = this;
+            timeout.deadline = tick + ticks;
+            timeout.state = Timeout.ST_SCHEDULED;
+            int bucket = (int) timeout.deadline & WHEEL_MASK;
+            Timeout head = buckets[bucket];
+            if (head != null) {
+                head.prev = timeout;
+                timeout.next = head;
+            }
+            buckets[bucket] = timeout;
+            if (size++ == 0 && ticker == null) {
+                ticker = executor.scheduleAtFixedRate(this, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void unschedule(Timeout timeout) {
+            if (timeout.state == Timeout.ST_SCHEDULED) {
+                unlink(timeout);
+            }
+            timeout.state = Timeout.ST_IDLE;
+            timeout.loop = null;
+        }
+
+        private void unlink(Timeout timeout) {
+            if (timeout.prev == null) {
+                buckets[(int) timeout.deadline & WHEEL_MASK] = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = timeout.next = null;
+            size--;
+        }
+
+        @Override
+        public void run() {
+            long tick = ++this.tick;
+            // Take the expired timeouts out of the bucket before running any of them, as running a timeout may cancel
+            // or schedule others.
+            Timeout timeout = buckets[(int) tick & WHEEL_MASK];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadline <= tick) {
+                    unlink(timeout);
+                    timeout.state = Timeout.ST_EXPIRED;
+                    expired.add(timeout);
+                }
+                timeout = next;
+            }
+            for (int i = 0; i < expired.size(); i++) {
+                timeout = expired.get(i);
+                // Skip the timeouts that were cancelled by one that ran before them.
+                if (timeout.state == Timeout.ST_EXPIRED) {
+                    timeout.state = Timeout.ST_IDLE;
+                    timeout.loop = null;
+                    try {
+                        timeout.run();
+                    } catch (Throwable t) {
+                        logger.warn("An exception was thrown by {}.", timeout.getClass().getName(), t);
+                    }
+                }
+            }
+            expired.clear();
+
+            if (size == 0) {
+                release();
+            }
+        }
+
+        /**
+         * Stop ticking until a timeout is scheduled again, and do not keep idle event loops referenced.
+         */
+        void release() {
+            if (ticker != null) {
+                ticker.cancel();
+                ticker = null;
+            }
+            loops.remove(executor, this);
+        }
+    }
+}
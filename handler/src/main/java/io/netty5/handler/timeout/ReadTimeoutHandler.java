@@ -81,7 +81,22 @@ public class ReadTimeoutHandler extends IdleStateHandler {
      *        the {@link TimeUnit} of {@code timeout}
      */
     public ReadTimeoutHandler(long timeout, TimeUnit unit) {
-        super(timeout, 0, 0, unit);
+        this(null, timeout, unit);
+    }
+
+    /**
+     * Creates a new instance, whose timeout is tracked by the given {@link IdleTracker}.
+     *
+     * @param tracker
+     *        the {@link IdleTracker} that tracks the timeout of this handler, or {@code null} to schedule it on the
+     *        event loop of the channel
+     * @param timeout
+     *        read timeout
+     * @param unit
+     *        the {@link TimeUnit} of {@code timeout}
+     */
+    public ReadTimeoutHandler(IdleTracker tracker, long timeout, TimeUnit unit) {
+        super(tracker, timeout, 0, 0, unit);
     }
 
     @Override
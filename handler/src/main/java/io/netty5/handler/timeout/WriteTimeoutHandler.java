@@ -58,12 +58,20 @@ import static java.util.Objects.requireNonNull;
  * bootstrap.childHandler(new MyChannelInitializer());
  * ...
  * </pre>
+ *
+ * When an {@link IdleTracker} is given, the timeouts of all writes on an event loop are tracked by one coarse timer,
+ * instead of scheduling a task on the event loop for every write.
+ * <p>
+ * The timeouts are stopped when the {@link io.netty5.channel.Channel} is deregistered, and start over on its new
+ * event loop once it is registered again.
+ *
  * @see ReadTimeoutHandler
  * @see IdleStateHandler
  */
 public class WriteTimeoutHandler implements ChannelHandler {
     private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
+    private final IdleTracker tracker;
     private final long timeoutNanos;
 
     /**
@@ -92,7 +100,23 @@ public class WriteTimeoutHandler implements ChannelHandler {
      *        the {@link TimeUnit} of {@code timeout}
      */
     public WriteTimeoutHandler(long timeout, TimeUnit unit) {
+        this(null, timeout, unit);
+    }
+
+    /**
+     * Creates a new instance, whose timeouts are tracked by the given {@link IdleTracker}.
+     *
+     * @param tracker
+     *        the {@link IdleTracker} that tracks the timeouts of this handler, or {@code null} to schedule them on
+     *        the event loop of the channel
+     * @param timeout
+     *        write timeout
+     * @param unit
+     *        the {@link TimeUnit} of {@code timeout}
+     */
+    public WriteTimeoutHandler(IdleTracker tracker, long timeout, TimeUnit unit) {
         requireNonNull(unit, "unit");
+        this.tracker = tracker;
 
         if (timeout <= 0) {
             timeoutNanos = 0;
@@ -110,6 +134,24 @@ public class WriteTimeoutHandler implements ChannelHandler {
         return f;
     }
 
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+        // The channel may be registered with another event loop next, so stop the timeouts that run on this one.
+        // channelRegistered() schedules them again.
+        for (WriteTimeoutTask task = lastTask; task != null; task = task.prev) {
+            task.cancelTimeout();
+        }
+        ctx.fireChannelUnregistered();
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        for (WriteTimeoutTask task = lastTask; task != null; task = task.prev) {
+            schedule(ctx, task);
+        }
+        ctx.fireChannelRegistered();
+    }
+
     @Override
     public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
         assert ctx.executor().inEventLoop();
@@ -117,7 +159,7 @@ public class WriteTimeoutHandler implements ChannelHandler {
         lastTask = null;
         while (task != null) {
             assert task.ctx.executor().inEventLoop();
-            task.scheduledFuture.cancel();
+            task.cancelTimeout();
             WriteTimeoutTask prev = task.prev;
             task.prev = null;
             task.next = null;
@@ -128,9 +170,9 @@ public class WriteTimeoutHandler implements ChannelHandler {
     private void scheduleTimeout(final ChannelHandlerContext ctx, final Future<Void> future) {
         // Schedule a timeout.
         final WriteTimeoutTask task = new WriteTimeoutTask(ctx, future);
-        task.scheduledFuture = ctx.executor().schedule(task, timeoutNanos, TimeUnit.NANOSECONDS);
+        schedule(ctx, task);
 
-        if (!task.scheduledFuture.isDone()) {
+        if (task.scheduledFuture == null || !task.scheduledFuture.isDone()) {
             addWriteTimeoutTask(task);
 
             // Cancel the scheduled timeout if the flush promise is complete.
@@ -138,6 +180,14 @@ public class WriteTimeoutHandler implements ChannelHandler {
         }
     }
 
+    private void schedule(ChannelHandlerContext ctx, WriteTimeoutTask task) {
+        if (tracker != null) {
+            tracker.schedule(ctx, task, timeoutNanos);
+        } else {
+            task.scheduledFuture = ctx.executor().schedule(task, timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private void addWriteTimeoutTask(WriteTimeoutTask task) {
         assert task.ctx.executor().inEventLoop();
         if (lastTask != null) {
@@ -181,7 +231,7 @@ public class WriteTimeoutHandler implements ChannelHandler {
         }
     }
 
-    private final class WriteTimeoutTask implements Runnable, FutureListener<Void> {
+    private final class WriteTimeoutTask extends IdleTracker.Timeout implements FutureListener<Void> {
 
         private final ChannelHandlerContext ctx;
         private final Future<Void> future;
@@ -196,8 +246,20 @@ public class WriteTimeoutHandler implements ChannelHandler {
             this.future = future;
         }
 
+        void cancelTimeout() {
+            if (tracker != null) {
+                tracker.cancel(this);
+            } else {
+                scheduledFuture.cancel();
+            }
+        }
+
         @Override
         public void run() {
+            if (tracker != null) {
+                // We may have been passed to the executor by operationComplete(...), while still being tracked.
+                tracker.cancel(this);
+            }
             // Was not written yet so issue a write timeout
             // The promise itself will be failed with a ClosedChannelException once the close() was issued
             // See https://github.com/netty/netty/issues/2159
@@ -213,14 +275,17 @@ public class WriteTimeoutHandler implements ChannelHandler {
 
         @Override
         public void operationComplete(Future<? extends Void> future) throws Exception {
-            // scheduledFuture has already be set when reaching here
-            scheduledFuture.cancel();
-
             // Check if its safe to modify the "doubly-linked-list" that we maintain. If its not we will schedule the
             // modification so its picked up by the executor..
             if (ctx.executor().inEventLoop()) {
+                // scheduledFuture has already be set when reaching here
+                cancelTimeout();
                 removeWriteTimeoutTask(this);
             } else {
+                if (tracker == null) {
+                    // scheduledFuture has already be set when reaching here
+                    scheduledFuture.cancel();
+                }
                 // So let's just pass outself to the executor which will then take care of remove this task
                 // from the doubly-linked list. Schedule ourself is fine as the promise itself is done.
                 //
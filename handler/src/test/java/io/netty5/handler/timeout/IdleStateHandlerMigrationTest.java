@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.handler.timeout;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.channel.AbstractChannel;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.local.LocalAddress;
+import io.netty5.channel.local.LocalChannel;
+import io.netty5.channel.local.LocalIoHandler;
+import io.netty5.channel.local.LocalServerChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class IdleStateHandlerMigrationTest {
+    private EventLoopGroup group;
+    private EventLoop loop1;
+    private EventLoop loop2;
+    private Channel serverChannel;
+    private Channel clientChannel;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        group = new MultithreadEventLoopGroup(2, LocalIoHandler.newFactory());
+        Iterator<?> loops = group.iterator();
+        loop1 = (EventLoop) loops.next();
+        loop2 = (EventLoop) loops.next();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (clientChannel != null) {
+            clientChannel.close().asStage().sync();
+        }
+        if (serverChannel != null) {
+            serverChannel.close().asStage().sync();
+        }
+        group.shutdownGracefully(0, 0, SECONDS).asStage().sync();
+    }
+
+    @Test
+    public void testIdleEventFiresOnNewEventLoop() throws Exception {
+        testIdleEventFiresOnNewEventLoop(null);
+    }
+
+    @Test
+    public void testIdleEventFiresOnNewEventLoopWithTracker() throws Exception {
+        testIdleEventFiresOnNewEventLoop(new IdleTracker(10, TimeUnit.MILLISECONDS));
+    }
+
+    private void testIdleEventFiresOnNewEventLoop(IdleTracker tracker) throws Exception {
+        BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        LocalAddress address = new LocalAddress(IdleStateHandlerMigrationTest.class);
+        serverChannel = new ServerBootstrap()
+                .group(loop2, loop2)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelHandler() { })
+                .bind(address).asStage().get();
+        clientChannel = new Bootstrap()
+                .group(loop1)
+                .channel(LocalChannel.class)
+                .handler(new IdleStateHandler(tracker, 500, 0, 0, TimeUnit.MILLISECONDS) {
+                    @Override
+                    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) {
+                        // Record where the timeout ran, before the event could be passed on to another thread.
+                        events.add(loop1.inEventLoop() ? loop1 : loop2.inEventLoop() ? loop2 : Thread.currentThread());
+                        events.add(evt);
+                    }
+                })
+                .connect(address).asStage().get();
+
+        ((AbstractChannel<?, ?, ?>) clientChannel).migrate(loop2).asStage().sync();
+        assertSame(loop2, clientChannel.executor());
+
+        assertSame(loop2, events.poll(5, SECONDS));
+        assertEquals(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT, events.take());
+        // The timeout keeps running on the new event loop.
+        assertSame(loop2, events.poll(5, SECONDS));
+        assertEquals(IdleStateEvent.READER_IDLE_STATE_EVENT, events.take());
+    }
+}
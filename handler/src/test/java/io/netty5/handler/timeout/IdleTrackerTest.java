@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.handler.timeout;
+
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.embedded.EmbeddedChannel;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.MockTicker;
+import io.netty5.util.concurrent.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdleTrackerTest {
+
+    private final MockTicker ticker = Ticker.newMockTicker();
+    private final IdleTracker tracker = new IdleTracker(100, TimeUnit.MILLISECONDS);
+
+    @Test
+    public void testReaderIdle() throws Exception {
+        final List<Object> events = new ArrayList<>();
+        IdleStateHandler idleStateHandler = new IdleStateHandler(tracker, 1, 0, 0, TimeUnit.SECONDS) {
+            @Override
+            long ticksInNanos() {
+                return ticker.nanoTime();
+            }
+        };
+        EmbeddedChannel channel = new EmbeddedChannel(ticker, idleStateHandler, new ChannelHandler() {
+            @Override
+            public void channelInboundEvent(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+            }
+        });
+        try {
+            // The timeout never fires early...
+            advance(channel, 1000);
+            assertTrue(events.isEmpty());
+            // ... but at most two ticks late.
+            advance(channel, 200);
+            assertEquals(List.of(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT), events);
+
+            // Reading pushes the next event back, and starts a new idle period.
+            advance(channel, 500);
+            channel.writeInbound("message");
+            assertEquals("message", channel.readInbound());
+            advance(channel, 900);
+            assertEquals(1, events.size());
+            advance(channel, 400);
+            assertEquals(List.of(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT,
+                    IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT), events);
+
+            // Without further reads, the following events are not the first of their idle period.
+            advance(channel, 1200);
+            assertEquals(IdleStateEvent.READER_IDLE_STATE_EVENT, events.get(2));
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testRemovedHandlerDoesNotFire() throws Exception {
+        final List<Object> events = new ArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel(ticker, new IdleStateHandler(tracker, 0, 0, 1, TimeUnit.SECONDS),
+                new ChannelHandler() {
+            @Override
+            public void channelInboundEvent(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+            }
+        });
+        try {
+            channel.pipeline().remove(IdleStateHandler.class);
+            advance(channel, 5000);
+            assertTrue(events.isEmpty());
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        final List<Throwable> exceptions = new ArrayList<>();
+        ReadTimeoutHandler readTimeoutHandler = new ReadTimeoutHandler(tracker, 1, TimeUnit.SECONDS) {
+            @Override
+            long ticksInNanos() {
+                return ticker.nanoTime();
+            }
+        };
+        EmbeddedChannel channel = new EmbeddedChannel(ticker, readTimeoutHandler, new ChannelHandler() {
+            @Override
+            public void channelExceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                exceptions.add(cause);
+            }
+        });
+        advance(channel, 1000);
+        assertTrue(channel.isOpen());
+        advance(channel, 200);
+        assertFalse(channel.isOpen());
+        assertEquals(1, exceptions.size());
+        assertTrue(exceptions.get(0) instanceof ReadTimeoutException);
+    }
+
+    @Test
+    public void testWriteTimeout() throws Exception {
+        final List<Throwable> exceptions = new ArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel(ticker, new ChannelHandler() {
+            @Override
+            public Future<Void> write(ChannelHandlerContext ctx, Object msg) {
+                // Never complete the write.
+                return ctx.<Void>newPromise().asFuture();
+            }
+        }, new WriteTimeoutHandler(tracker, 1, TimeUnit.SECONDS), new ChannelHandler() {
+            @Override
+            public void channelExceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                exceptions.add(cause);
+            }
+        });
+        channel.writeAndFlush("message");
+        advance(channel, 1000);
+        assertTrue(channel.isOpen());
+        advance(channel, 200);
+        assertFalse(channel.isOpen());
+        assertEquals(1, exceptions.size());
+        assertTrue(exceptions.get(0) instanceof WriteTimeoutException);
+    }
+
+    @Test
+    public void testCompletedWriteDoesNotTimeOut() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(ticker, new WriteTimeoutHandler(tracker, 1, TimeUnit.SECONDS));
+        assertTrue(channel.writeOutbound("message"));
+        advance(channel, 5000);
+        assertTrue(channel.isOpen());
+        assertEquals("message", channel.readOutbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    public void testHandlersOfOneChannelShareOneLoop() throws Exception {
+        // Handlers that report pending outbound bytes get an executor of their own, which wraps the event loop.
+        EmbeddedChannel channel = new EmbeddedChannel(ticker,
+                new PendingBytesIdleStateHandler(), new PendingBytesIdleStateHandler());
+        try {
+            assertEquals(1, tracker.activeLoops());
+            channel.pipeline().removeFirst();
+            assertEquals(1, tracker.activeLoops());
+            channel.pipeline().removeFirst();
+            assertEquals(0, tracker.activeLoops());
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private void advance(EmbeddedChannel channel, long millis) {
+        // Step one tick at a time, like a real event loop would run the periodic task of the tracker.
+        for (long i = 0; i < millis; i += tracker.getTickInMillis()) {
+            ticker.advance(tracker.getTickInMillis(), TimeUnit.MILLISECONDS);
+            channel.runScheduledPendingTasks();
+        }
+    }
+
+    private final class PendingBytesIdleStateHandler extends IdleStateHandler {
+        PendingBytesIdleStateHandler() {
+            super(tracker, 1, 1, 1, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public long pendingOutboundBytes(ChannelHandlerContext ctx) {
+            return 0;
+        }
+    }
+}
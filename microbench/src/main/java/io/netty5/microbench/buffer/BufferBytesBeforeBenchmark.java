@@ -18,8 +18,6 @@ package io.netty5.microbench.buffer;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferAllocator;
 import io.netty5.buffer.MemoryManager;
-import io.netty5.buffer.bytebuffer.ByteBufferMemoryManager;
-import io.netty5.buffer.unsafe.UnsafeMemoryManager;
 import io.netty5.microbench.util.AbstractMicrobenchmark;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
@@ -52,6 +50,7 @@ public class BufferBytesBeforeBenchmark extends AbstractMicrobenchmark {
             "16",
             "23",
             "32",
+            "256",
     })
     private int size;
 
@@ -79,19 +78,27 @@ public class BufferBytesBeforeBenchmark extends AbstractMicrobenchmark {
             "false",
     })
     private boolean direct;
+    /**
+     * The {@linkplain MemoryManager#implementationName() implementation name} of the memory manager to use.
+     * <p>
+     * The {@code MemorySegment} implementation can be compared as well, when its module is on the class path, with
+     * {@code -p memoryManager=MemorySegment}. It searches with the {@code jdk.incubator.vector} API when the JVM is
+     * started with {@code --add-modules jdk.incubator.vector}, unless {@code -Dio.netty5.buffer.vectorized=false}.
+     */
     @Param({
-            "false",
-            "true",
+            "Unsafe",
+            "ByteBuffer",
     })
-    private boolean noUnsafe;
+    private String memoryManager;
 
     @Setup(Level.Trial)
     public void init() {
         SplittableRandom random = new SplittableRandom(seed);
         permutations = 1 << logPermutations;
         data = new Buffer[permutations];
-        MemoryManager memoryManager = noUnsafe ? new ByteBufferMemoryManager() : new UnsafeMemoryManager();
-        BufferAllocator allocator = MemoryManager.using(memoryManager, () -> direct?
+        MemoryManager manager = MemoryManager.lookupImplementation(memoryManager).orElseThrow(
+                () -> new IllegalArgumentException("Memory manager not available: " + memoryManager));
+        BufferAllocator allocator = MemoryManager.using(manager, () -> direct?
                 BufferAllocator.offHeapUnpooled() : BufferAllocator.onHeapUnpooled());
         needleBuffer = allocator.allocate(needleBufferLength);
         for (int j = 0; j < needleBufferLength; j++) {
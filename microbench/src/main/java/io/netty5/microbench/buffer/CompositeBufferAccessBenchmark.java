@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.buffer;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.CompositeBuffer;
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.Send;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sequential and random access into composite buffers made of many small components, such as the ones that
+ * aggregate HTTP/2 DATA frames.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+public class CompositeBufferAccessBenchmark extends AbstractMicrobenchmark {
+    private static final int COMPONENT_SIZE = 64;
+    private static final int ACCESSES = 1024;
+
+    @Param({ "1", "16", "256", "4096" })
+    public int components;
+
+    @Param({ "false", "true" })
+    public boolean flatten;
+
+    private BufferAllocator allocator;
+    private CompositeBuffer composite;
+    private int[] randomOffsets;
+
+    @Setup
+    public void setUp() {
+        allocator = BufferAllocator.offHeapUnpooled();
+        List<Send<Buffer>> sends = new ArrayList<>(components);
+        for (int i = 0; i < components; i++) {
+            Buffer component = allocator.allocate(COMPONENT_SIZE);
+            component.fill((byte) i).skipWritableBytes(COMPONENT_SIZE);
+            sends.add(component.send());
+        }
+        composite = allocator.compose(sends);
+        if (flatten) {
+            composite.flatten();
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        randomOffsets = new int[ACCESSES];
+        for (int i = 0; i < ACCESSES; i++) {
+            randomOffsets[i] = random.nextInt(composite.capacity() - Integer.BYTES);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        composite.close();
+        allocator.close();
+    }
+
+    @Benchmark
+    public long randomGetByte() {
+        long sum = 0;
+        for (int offset : randomOffsets) {
+            sum += composite.getByte(offset);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGetInt() {
+        long sum = 0;
+        for (int offset : randomOffsets) {
+            sum += composite.getInt(offset);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sequentialGetInt() {
+        long sum = 0;
+        for (int offset = 0, end = composite.capacity() - Integer.BYTES; offset <= end; offset += Integer.BYTES) {
+            sum += composite.getInt(offset);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.buffer;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.pool.PooledBufferAllocator;
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.concurrent.SingleThreadEventExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This scenario performs a benchmark which simulates many event-loop threads sharing a single arena, with their
+ * thread caches disabled, so that every small allocation and release goes through the subpage pools of the arena.
+ */
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 4, time = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MTContendedAllocateBenchmark extends AbstractMicrobenchmark {
+    private static final int ALLOCATIONS_PER_THREAD = 10000;
+
+    @Param({ "1", "2", "4", "8", "16", "32", "64" })
+    public int threads;
+
+    /**
+     * The number of subpage pool stripes per size class; 0 derives it from the number of arenas.
+     */
+    @Param({ "1", "0" })
+    public String subpageStripes;
+
+    private SingleThreadEventExecutor[] execs;
+    private BufferAllocator allocator;
+
+    @Override
+    protected String[] jvmArgs() {
+        return new String[] {
+                "-XX:+UnlockDiagnosticVMOptions",
+                "-XX:+DebugNonSafepoints",
+                "-Dio.netty5.leakDetection.level=disabled",
+                "-Dio.netty5.buffer.leakDetectionEnabled=false",
+                "-Dio.netty5.buffer.lifecycleTracingEnabled=false",
+        };
+    }
+
+    @Setup
+    public void setup() {
+        // Every parameter combination runs in its own fork, so the allocator has not been initialized yet.
+        System.setProperty("io.netty5.allocator.subpageStripes", subpageStripes);
+        allocator = new PooledBufferAllocator(MemoryManager.instance(), true, 1,
+                PooledBufferAllocator.defaultPageSize(), PooledBufferAllocator.defaultMaxOrder(), 0, 0, true);
+        execs = IntStream.range(0, threads)
+                .mapToObj(i -> new SingleThreadEventExecutor())
+                .toArray(SingleThreadEventExecutor[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Stream.of(execs).forEach(SingleThreadEventExecutor::shutdownGracefully);
+        allocator.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void contendedSmallAllocations() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(threads);
+        Runnable task = () -> {
+            for (int j = 0; j < ALLOCATIONS_PER_THREAD; j ++) {
+                int size = ThreadLocalRandom.current().nextInt(1, 1024);
+                try (Buffer buf = allocator.allocate(size)) {
+                    buf.writeByte((byte) j);
+                }
+            }
+            latch.countDown();
+        };
+        for (SingleThreadEventExecutor exec : execs) {
+            exec.execute(task);
+        }
+        latch.await();
+    }
+}
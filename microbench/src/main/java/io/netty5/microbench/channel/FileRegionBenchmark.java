@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.channel;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelInitializer;
+import io.netty5.channel.DefaultFileRegion;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.IoHandlerFactory;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.ServerChannel;
+import io.netty5.channel.nio.NioIoHandler;
+import io.netty5.channel.socket.nio.NioServerSocketChannel;
+import io.netty5.channel.socket.nio.NioSocketChannel;
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.NetUtil;
+import io.netty5.util.concurrent.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a file over a loopback connection with {@link DefaultFileRegion}s, and measures how many times per second
+ * the whole file reaches the client. The {@code nio} and {@code epoll} transports use {@code sendfile}, while
+ * {@code io_uring} splices the file through a pipe.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class FileRegionBenchmark extends AbstractMicrobenchmark {
+
+    public enum Transport {
+        nio, epoll, io_uring
+    }
+
+    @Param
+    public Transport transport;
+
+    @Param({ "65536", "1048576", "16777216" })
+    public int fileSize;
+
+    private File file;
+    private EventLoopGroup group;
+    private Channel serverChannel;
+    private Channel clientChannel;
+    private FileReceiver receiver;
+    private Buffer request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        file = File.createTempFile("netty-file-region", ".bin");
+        file.deleteOnExit();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            byte[] bytes = new byte[8192];
+            ThreadLocalRandom.current().nextBytes(bytes);
+            for (int written = 0; written < fileSize; written += bytes.length) {
+                raf.write(bytes, 0, Math.min(bytes.length, fileSize - written));
+            }
+        }
+
+        group = new MultithreadEventLoopGroup(2, ioHandlerFactory());
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(serverChannelClass())
+                .childHandler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(new ChannelHandler() {
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                // Every request byte asks for the whole file.
+                                try (Buffer buf = (Buffer) msg) {
+                                    for (int i = buf.readableBytes(); i > 0; i--) {
+                                        ctx.write(new DefaultFileRegion(file, 0, fileSize));
+                                    }
+                                }
+                                ctx.flush();
+                            }
+                        });
+                    }
+                })
+                .bind(new InetSocketAddress(NetUtil.LOCALHOST, 0)).asStage().get();
+
+        receiver = new FileReceiver(fileSize);
+        clientChannel = new Bootstrap()
+                .group(group)
+                .channel(clientChannelClass())
+                .handler(receiver)
+                .connect(serverChannel.localAddress()).asStage().get();
+        request = clientChannel.bufferAllocator().allocate(1);
+        request.writeByte((byte) 'f').makeReadOnly();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        clientChannel.close().asStage().sync();
+        serverChannel.close().asStage().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        request.close();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    public Object serveFile() throws Exception {
+        Promise<Void> received = clientChannel.executor().newPromise();
+        clientChannel.executor().execute(() -> {
+            receiver.expect(received);
+            clientChannel.writeAndFlush(request.copy(true));
+        });
+        return received.asFuture().asStage().sync();
+    }
+
+    private IoHandlerFactory ioHandlerFactory() throws Exception {
+        Class<?> factoryClass;
+        switch (transport) {
+            case nio: return NioIoHandler.newFactory();
+            case epoll: factoryClass = Class.forName("io.netty5.channel.epoll.EpollIoHandler"); break;
+            case io_uring: factoryClass = Class.forName("io.netty5.channel.uring.IOUringIoHandler"); break;
+            default: throw new UnsupportedOperationException("Unrecognized transport: " + transport);
+        }
+        Method newFactory = factoryClass.getDeclaredMethod("newFactory");
+        return (IoHandlerFactory) newFactory.invoke(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends ServerChannel> serverChannelClass() throws ClassNotFoundException {
+        switch (transport) {
+            case nio: return NioServerSocketChannel.class;
+            case epoll: return (Class<? extends ServerChannel>) Class.forName(
+                    "io.netty5.channel.epoll.EpollServerSocketChannel");
+            case io_uring: return (Class<? extends ServerChannel>) Class.forName(
+                    "io.netty5.channel.uring.IOUringServerSocketChannel");
+            default: throw new UnsupportedOperationException("Unrecognized transport: " + transport);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Channel> clientChannelClass() throws ClassNotFoundException {
+        switch (transport) {
+            case nio: return NioSocketChannel.class;
+            case epoll: return (Class<? extends Channel>) Class.forName(
+                    "io.netty5.channel.epoll.EpollSocketChannel");
+            case io_uring: return (Class<? extends Channel>) Class.forName(
+                    "io.netty5.channel.uring.IOUringSocketChannel");
+            default: throw new UnsupportedOperationException("Unrecognized transport: " + transport);
+        }
+    }
+
+    private static final class FileReceiver implements ChannelHandler {
+        private final int fileSize;
+        private Promise<Void> received;
+        private int remaining;
+
+        FileReceiver(int fileSize) {
+            this.fileSize = fileSize;
+        }
+
+        void expect(Promise<Void> received) {
+            this.received = received;
+            remaining = fileSize;
+        }
+
+        @Override
+        public boolean isSharable() {
+            return true;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            try (Buffer buf = (Buffer) msg) {
+                remaining -= buf.readableBytes();
+            }
+            if (remaining == 0) {
+                received.setSuccess(null);
+            } else if (remaining < 0) {
+                received.setFailure(new IllegalStateException("Received more than the file size"));
+            }
+        }
+    }
+}
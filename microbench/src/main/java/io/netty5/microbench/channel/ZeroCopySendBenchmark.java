@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.channel;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.DefaultBufferAllocators;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelInitializer;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.IoHandlerFactory;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.ServerChannel;
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.NetUtil;
+import io.netty5.util.concurrent.Promise;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends a payload over a loopback connection and measures how many times per second the whole payload reaches the
+ * client, with and without zero-copy sends. The {@code epoll} transport uses {@code MSG_ZEROCOPY} and
+ * {@code io_uring} uses {@code IORING_OP_SEND_ZC} for payloads of at least {@link #threshold} bytes.
+ * <p>
+ * Note that loopback traffic is never sent from the pinned pages, the kernel copies it and still delivers a
+ * notification, so this mostly shows the overhead of zero-copy sends. Run it across a real NIC to see the gain.
+ * <p>
+ * Besides the throughput, the {@code cpuNanos} secondary result reports the CPU time the whole process spent per
+ * second, in both the event loops and the kernel. Divide it by the throughput to get the CPU cost of one send.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ZeroCopySendBenchmark extends AbstractMicrobenchmark {
+
+    public enum Transport {
+        epoll, io_uring
+    }
+
+    @Param
+    public Transport transport;
+
+    @Param({ "4096", "65536", "1048576" })
+    public int payloadSize;
+
+    /**
+     * The {@code WRITE_ZERO_COPY_THRESHOLD} of the server; {@code -1} disables zero-copy sends.
+     */
+    @Param({ "-1", "16384" })
+    public int threshold;
+
+    private EventLoopGroup group;
+    private Channel serverChannel;
+    private Channel clientChannel;
+    private PayloadReceiver receiver;
+    private Buffer payload;
+    private Buffer request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        byte[] bytes = new byte[payloadSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        payload = DefaultBufferAllocators.offHeapAllocator().copyOf(bytes).makeReadOnly();
+
+        group = new MultithreadEventLoopGroup(2, ioHandlerFactory());
+        serverChannel = new ServerBootstrap()
+                .group(group)
+                .channel(serverChannelClass())
+                .childOption(writeZeroCopyThresholdOption(), threshold)
+                .childHandler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(new ChannelHandler() {
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                // Every request byte asks for the whole payload.
+                                try (Buffer buf = (Buffer) msg) {
+                                    for (int i = buf.readableBytes(); i > 0; i--) {
+                                        // A read-only copy of a read-only buffer shares its memory.
+                                        ctx.write(payload.copy(true));
+                                    }
+                                }
+                                ctx.flush();
+                            }
+                        });
+                    }
+                })
+                .bind(new InetSocketAddress(NetUtil.LOCALHOST, 0)).asStage().get();
+
+        receiver = new PayloadReceiver(payloadSize);
+        clientChannel = new Bootstrap()
+                .group(group)
+                .channel(clientChannelClass())
+                .handler(receiver)
+                .connect(serverChannel.localAddress()).asStage().get();
+        request = clientChannel.bufferAllocator().allocate(1);
+        request.writeByte((byte) 'p').makeReadOnly();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        clientChannel.close().asStage().sync();
+        serverChannel.close().asStage().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        request.close();
+        payload.close();
+    }
+
+    @Benchmark
+    public Object send(CpuCounter cpu) throws Exception {
+        long start = CpuCounter.processCpuTime();
+        Promise<Void> received = clientChannel.executor().newPromise();
+        clientChannel.executor().execute(() -> {
+            receiver.expect(received);
+            clientChannel.writeAndFlush(request.copy(true));
+        });
+        Object result = received.asFuture().asStage().sync();
+        cpu.cpuNanos += CpuCounter.processCpuTime() - start;
+        return result;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class CpuCounter {
+        private static final com.sun.management.OperatingSystemMXBean OS =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        public long cpuNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cpuNanos = 0;
+        }
+
+        static long processCpuTime() {
+            return OS.getProcessCpuTime();
+        }
+    }
+
+    private IoHandlerFactory ioHandlerFactory() throws Exception {
+        Class<?> factoryClass = Class.forName(transport == Transport.epoll ?
+                "io.netty5.channel.epoll.EpollIoHandler" : "io.netty5.channel.uring.IOUringIoHandler");
+        Method newFactory = factoryClass.getDeclaredMethod("newFactory");
+        return (IoHandlerFactory) newFactory.invoke(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChannelOption<Integer> writeZeroCopyThresholdOption() throws Exception {
+        Class<?> optionClass = Class.forName(transport == Transport.epoll ?
+                "io.netty5.channel.epoll.EpollChannelOption" : "io.netty5.channel.uring.IOUringChannelOption");
+        return (ChannelOption<Integer>) optionClass.getField("WRITE_ZERO_COPY_THRESHOLD").get(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends ServerChannel> serverChannelClass() throws ClassNotFoundException {
+        return (Class<? extends ServerChannel>) Class.forName(transport == Transport.epoll ?
+                "io.netty5.channel.epoll.EpollServerSocketChannel" :
+                "io.netty5.channel.uring.IOUringServerSocketChannel");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Channel> clientChannelClass() throws ClassNotFoundException {
+        return (Class<? extends Channel>) Class.forName(transport == Transport.epoll ?
+                "io.netty5.channel.epoll.EpollSocketChannel" : "io.netty5.channel.uring.IOUringSocketChannel");
+    }
+
+    private static final class PayloadReceiver implements ChannelHandler {
+        private final int payloadSize;
+        private Promise<Void> received;
+        private int remaining;
+
+        PayloadReceiver(int payloadSize) {
+            this.payloadSize = payloadSize;
+        }
+
+        void expect(Promise<Void> received) {
+            this.received = received;
+            remaining = payloadSize;
+        }
+
+        @Override
+        public boolean isSharable() {
+            return true;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            try (Buffer buf = (Buffer) msg) {
+                remaining -= buf.readableBytes();
+            }
+            if (remaining == 0) {
+                received.setSuccess(null);
+            } else if (remaining < 0) {
+                received.setFailure(new IllegalStateException("Received more than the payload size"));
+            }
+        }
+    }
+}
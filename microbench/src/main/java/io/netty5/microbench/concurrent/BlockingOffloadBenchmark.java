@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.concurrent;
+
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.concurrent.DefaultEventExecutorGroup;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.EventExecutorGroup;
+import io.netty5.util.concurrent.NonStickyEventExecutorGroup;
+import io.netty5.util.concurrent.UnorderedThreadPoolEventExecutor;
+import io.netty5.util.concurrent.VirtualThreadEventExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to complete a burst of concurrent blocking calls, one per channel, when they are offloaded
+ * to a pool of platform threads or to virtual threads. Every channel uses its own executor of the group, as a handler
+ * that keeps its blocking calls in order would.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingOffloadBenchmark extends AbstractMicrobenchmark {
+    private static final int POOL_THREADS = 200;
+
+    public enum ExecutorType {
+        DEFAULT_EVENT_EXECUTOR_GROUP,
+        NON_STICKY_UNORDERED_THREAD_POOL,
+        VIRTUAL_THREADS
+    }
+
+    @Param
+    public ExecutorType executorType;
+
+    @Param({ "10000" })
+    public int concurrentCalls;
+
+    /**
+     * How long every blocking call takes, like a database query.
+     */
+    @Param({ "10" })
+    public int blockingMillis;
+
+    private EventExecutorGroup group;
+    private EventExecutor[] executors;
+
+    @Setup
+    public void setup() {
+        switch (executorType) {
+            case DEFAULT_EVENT_EXECUTOR_GROUP:
+                group = new DefaultEventExecutorGroup(POOL_THREADS);
+                break;
+            case NON_STICKY_UNORDERED_THREAD_POOL:
+                group = new NonStickyEventExecutorGroup(new UnorderedThreadPoolEventExecutor(POOL_THREADS));
+                break;
+            case VIRTUAL_THREADS:
+                group = new VirtualThreadEventExecutorGroup();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor type: " + executorType);
+        }
+        executors = new EventExecutor[concurrentCalls];
+        for (int i = 0; i < executors.length; i++) {
+            executors[i] = group.next();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).asStage().sync();
+    }
+
+    @Benchmark
+    public void blockingCalls() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(executors.length);
+        final long blockingMillis = this.blockingMillis;
+        Runnable task = () -> {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        };
+        for (EventExecutor executor : executors) {
+            executor.execute(task);
+        }
+        latch.await();
+    }
+}
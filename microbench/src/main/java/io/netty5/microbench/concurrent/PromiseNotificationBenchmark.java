@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.concurrent;
+
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.FutureContextListener;
+import io.netty5.util.concurrent.FutureListener;
+import io.netty5.util.concurrent.ImmediateEventExecutor;
+import io.netty5.util.concurrent.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of completing a promise and notifying its listeners, as happens for every write. Run with
+ * {@code -prof gc} to see the allocation rate.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromiseNotificationBenchmark extends AbstractMicrobenchmark {
+
+    @Param({ "0", "1", "3" })
+    public int listeners;
+
+    private EventExecutor executor;
+    private FutureListener<Void> listener;
+    private FutureContextListener<Blackhole, Void> contextListener;
+    private Future<Void> completedFuture;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        executor = ImmediateEventExecutor.INSTANCE;
+        listener = future -> blackhole.consume(future);
+        contextListener = (bh, future) -> bh.consume(future);
+        completedFuture = executor.newSucceededFuture(null);
+    }
+
+    /**
+     * Add the listeners to a new promise and complete it.
+     */
+    @Benchmark
+    public Promise<Void> completeWithListeners() {
+        Promise<Void> promise = executor.newPromise();
+        for (int i = 0; i < listeners; i++) {
+            promise.asFuture().addListener(listener);
+        }
+        promise.setSuccess(null);
+        return promise;
+    }
+
+    /**
+     * Add the listeners with a context to a new promise and complete it, like the channel pipeline does.
+     */
+    @Benchmark
+    public Promise<Void> completeWithContextListeners(Blackhole blackhole) {
+        Promise<Void> promise = executor.newPromise();
+        for (int i = 0; i < listeners; i++) {
+            promise.asFuture().addListener(blackhole, contextListener);
+        }
+        promise.setSuccess(null);
+        return promise;
+    }
+
+    /**
+     * Add the listeners to an already completed future that is shared, like the succeeded futures of event loops.
+     */
+    @Benchmark
+    public void addListenersToCompletedFuture(Blackhole blackhole) {
+        for (int i = 0; i < listeners; i++) {
+            completedFuture.addListener(blackhole, contextListener);
+        }
+    }
+}
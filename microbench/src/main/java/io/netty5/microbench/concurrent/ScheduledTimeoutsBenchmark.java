@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.concurrent;
+
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.SingleThreadEventExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of rescheduling timeouts on an executor that has a large number of outstanding ones, as happens
+ * with an idle or read timeout per connection, when they are kept in a binary heap or in a timing wheel.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduledTimeoutsBenchmark extends AbstractMicrobenchmark {
+    private static final int RESCHEDULES_PER_INVOCATION = 1000;
+    private static final Runnable TIMEOUT = () -> {
+        // NOOP
+    };
+
+    @Param({ "false", "true" })
+    public boolean timingWheel;
+
+    @Param({ "1000000" })
+    public int outstandingTimeouts;
+
+    private SingleThreadEventExecutor executor;
+    private Future<?>[] timeouts;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() throws Exception {
+        final boolean timingWheel = this.timingWheel;
+        executor = new SingleThreadEventExecutor() {
+            @Override
+            protected boolean useTimingWheel() {
+                return timingWheel;
+            }
+        };
+        timeouts = new Future<?>[outstandingTimeouts];
+        random = new SplittableRandom(42);
+        executor.submit(() -> {
+            for (int i = 0; i < timeouts.length; i++) {
+                timeouts[i] = schedule();
+            }
+        }).asStage().sync();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        executor.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).asStage().sync();
+    }
+
+    private Future<?> schedule() {
+        // Timeouts between 30 and 60 seconds, so none of them expire during the benchmark.
+        return executor.schedule(TIMEOUT, 30_000 + random.nextInt(30_000), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel a random outstanding timeout and schedule a new one, like a handler that resets its timeout whenever
+     * there is activity on its connection.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RESCHEDULES_PER_INVOCATION)
+    public Object rescheduleTimeouts() throws Exception {
+        return executor.submit(() -> {
+            for (int i = 0; i < RESCHEDULES_PER_INVOCATION; i++) {
+                int index = random.nextInt(timeouts.length);
+                timeouts[index].cancel();
+                timeouts[index] = schedule();
+            }
+        }).asStage().sync().future();
+    }
+}
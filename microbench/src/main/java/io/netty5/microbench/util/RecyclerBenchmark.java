@@ -23,6 +23,7 @@ import org.jctools.queues.atomic.MpmcAtomicArrayQueue;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -144,6 +145,35 @@ public class RecyclerBenchmark extends AbstractMicrobenchmark {
         } while (!control.stopMeasurement);
     }
 
+    // One thread allocates and several others recycle, so the returns to the pool of the producer are contended.
+    // Compare the results with -Dio.netty5.recycler.magazines=false to see the effect of per-thread magazines.
+    @Benchmark
+    @Group("crossThreadRecycle")
+    public void crossThreadProducer(ProducerConsumerState state, Control control) throws Exception {
+        Queue<DummyObject> queue = state.queue;
+        DummyObject object = state.recycler.get();
+        while (!control.stopMeasurement) {
+            if (queue.offer(object)) {
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("crossThreadRecycle")
+    @GroupThreads(3)
+    public void crossThreadConsumer(ProducerConsumerState state, Control control) throws Exception {
+        Queue<DummyObject> queue = state.queue;
+        DummyObject object;
+        do {
+            object = queue.poll();
+            if (object != null) {
+                object.recycle();
+                return;
+            }
+        } while (!control.stopMeasurement);
+    }
+
     @SuppressWarnings("unused")
     private static final class DummyObject {
         private final EnhancedHandle<DummyObject> handle;
@@ -15,9 +15,17 @@
  */
 package io.netty5.microbench.util;
 
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.internal.LeakDetection;
+import io.netty5.buffer.internal.LeakSampler;
 import io.netty5.util.ResourceLeakDetector;
+import io.netty5.util.SafeCloseable;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 public class ResourceLeakDetectorBenchmark extends AbstractMicrobenchmark {
 
@@ -33,4 +41,40 @@ public class ResourceLeakDetectorBenchmark extends AbstractMicrobenchmark {
     public Object open() {
         return detector.track(DUMMY);
     }
+
+    @Benchmark
+    public void allocateAndCloseBuffer(BufferLeakDetection state) {
+        state.allocator.allocate(128).close();
+    }
+
+    @State(Scope.Benchmark)
+    public static class BufferLeakDetection {
+        /**
+         * How buffer leaks are detected: not at all, by sampling at the default rate, or by tracking every buffer.
+         */
+        @Param({ "disabled", "sampled", "enabled" })
+        public String mode;
+
+        BufferAllocator allocator;
+        private SafeCloseable callback;
+
+        @Setup
+        public void setup() {
+            if ("sampled".equals(mode)) {
+                LeakSampler.enable();
+            } else if ("enabled".equals(mode)) {
+                callback = LeakDetection.onLeakDetected(leak -> { });
+            }
+            allocator = BufferAllocator.offHeapPooled();
+        }
+
+        @TearDown
+        public void tearDown() {
+            allocator.close();
+            LeakSampler.disable();
+            if (callback != null) {
+                callback.close();
+            }
+        }
+    }
 }
@@ -77,6 +77,12 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
             // Re-ordering can easily introduce bugs and bad side-effects, as we found out painfully in the
             // past.
 
+            // The error queue may hold notifications that have nothing to do with a failure of the socket, so give the
+            // channel a chance to consume them before anything else.
+            if (epollOps.contains(EpollIoOps.EPOLLERR)) {
+                epollErrReady();
+            }
+
             // First check for EPOLLOUT as we may need to fail the connect ChannelPromise before try
             // to read from the file descriptor.
             // See https://github.com/netty/netty/issues/3785
@@ -402,6 +408,14 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
         executor().execute(readNowRunnable);
     }
 
+    /**
+     * Called once EPOLLERR event is ready to be processed, before {@link #epollOutReady()} and
+     * {@link #epollInReady()} surface a potential socket error.
+     */
+    protected void epollErrReady() {
+        // NOOP
+    }
+
     /**
      * Called once EPOLLRDHUP event is ready to be processed
      */
@@ -52,6 +52,19 @@ public final class EpollChannelOption<T> extends UnixChannelOption<T> {
     public static final ChannelOption<Map<InetAddress, byte[]>> TCP_MD5SIG = valueOf("TCP_MD5SIG");
     public static final ChannelOption<Integer> MAX_DATAGRAM_PAYLOAD_SIZE = valueOf("MAX_DATAGRAM_PAYLOAD_SIZE");
     public static final ChannelOption<Boolean> UDP_GRO = valueOf("UDP_GRO");
+    /**
+     * Write buffers of at least this many bytes with {@code MSG_ZEROCOPY}, which lets the kernel send straight from the
+     * buffer instead of copying it into the socket first. The buffer is only released once the kernel reports on the
+     * socket error queue that it no longer uses it. Smaller buffers are written with ordinary sends, as pinning the
+     * memory costs more than copying it. Defaults to {@code -1}, which disables zero-copy sends.
+     * Setting it to a non-negative value enables {@code SO_ZEROCOPY}, which requires Linux 4.14 or later.
+     * <p>
+     * Closing the channel keeps the socket open until all outstanding completions have been reported, for at most
+     * {@code io.netty5.epoll.zeroCopyCloseTimeoutMillis} (5 seconds by default). Buffers whose sends are still in
+     * flight after that are never handed back to their allocator, and are left to the garbage collector.
+     */
+    public static final ChannelOption<Integer> WRITE_ZERO_COPY_THRESHOLD =
+            valueOf(EpollChannelOption.class, "WRITE_ZERO_COPY_THRESHOLD");
 
     /**
      * Returns the {@code TCP_INFO} for the current socket.
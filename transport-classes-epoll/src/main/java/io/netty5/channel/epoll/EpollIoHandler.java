@@ -387,6 +387,7 @@ public class EpollIoHandler implements IoHandler {
                     nextWakeupNanos.set(curDeadlineNanos);
                     try {
                         if (context.canBlock()) {
+                            long waitStartNanos = System.nanoTime();
                             if (curDeadlineNanos == prevDeadlineNanos) {
                                 // No timer activity needed
                                 strategy = epollWaitNoTimerChange();
@@ -398,6 +399,7 @@ public class EpollIoHandler implements IoHandler {
                                 strategy = Native.epollReady(result);
                                 prevDeadlineNanos = Native.epollTimerWasUsed(result) ? curDeadlineNanos : NONE;
                             }
+                            context.reportIoWait(System.nanoTime() - waitStartNanos);
                         }
                     } finally {
                         // Try get() first to avoid much more expensive CAS in the case we
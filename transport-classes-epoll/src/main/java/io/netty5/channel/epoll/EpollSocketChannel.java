@@ -42,7 +42,12 @@ import io.netty5.util.Resource;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.GlobalEventExecutor;
 import io.netty5.util.concurrent.Promise;
+import io.netty5.util.collection.IntObjectHashMap;
+import io.netty5.util.collection.IntObjectMap;
 import io.netty5.util.internal.StringUtil;
+import io.netty5.util.internal.SystemPropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -56,6 +61,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static io.netty5.channel.ChannelOption.IP_TOS;
 import static io.netty5.channel.ChannelOption.SO_KEEPALIVE;
@@ -112,6 +118,8 @@ import static java.util.Objects.requireNonNull;
  * </tr><tr>
  * <td>{@link EpollChannelOption#SO_BUSY_POLL}</td><td>X</td><td>X</td><td>-</td>
  * </tr><tr>
+ * <td>{@link EpollChannelOption#WRITE_ZERO_COPY_THRESHOLD}</td><td>X</td><td>X</td><td>-</td>
+ * </tr><tr>
  * <td>{@link UnixChannelOption#SO_PEERCRED}</td><td></td><td></td><td>X</td>
  * </tr><tr>
  * <td>{@link UnixChannelOption#DOMAIN_SOCKET_READ_MODE}</td><td></td><td></td><td>X</td>
@@ -122,9 +130,14 @@ public final class EpollSocketChannel
         extends AbstractEpollChannel<EpollServerSocketChannel>
         implements SocketChannel {
 
+    private static final Logger logger = LoggerFactory.getLogger(EpollSocketChannel.class);
     private static final Set<ChannelOption<?>> SUPPORTED_OPTIONS = supportedOptions();
     private static final Set<ChannelOption<?>> SUPPORTED_OPTIONS_DOMAIN_SOCKET = supportedOptionsDomainSocket();
 
+    // How long a close waits for the kernel to report the completion of outstanding MSG_ZEROCOPY sends.
+    private static final long ZERO_COPY_CLOSE_TIMEOUT_MILLIS =
+            SystemPropertyUtil.getLong("io.netty5.epoll.zeroCopyCloseTimeoutMillis", 5000);
+
     private static final String EXPECTED_TYPES =
             " (expected: " + StringUtil.simpleClassName(Buffer.class) + ", " +
                     StringUtil.simpleClassName(DefaultFileRegion.class) + ')';
@@ -137,6 +150,15 @@ public final class EpollSocketChannel
 
     private volatile boolean tcpFastopen;
 
+    private volatile int writeZeroCopyThreshold = -1;
+
+    // Buffers written with MSG_ZEROCOPY, keyed by the id the kernel assigned to the send, which must stay alive until
+    // the kernel reports their completion on the error queue.
+    private IntObjectMap<Buffer> zeroCopyPending;
+    private int zeroCopyNextId;
+    private int[] zeroCopyRange;
+    private Promise<Void> zeroCopyDrained;
+
     public EpollSocketChannel(EventLoop eventLoop) {
         this(eventLoop, (ProtocolFamily) null);
     }
@@ -191,7 +213,20 @@ public final class EpollSocketChannel
         int written;
         if (readableComponents == 1) {
             attempted = buf.readableBytes();
-            written = doWriteBytes(buf);
+            int threshold = writeZeroCopyThreshold;
+            if (threshold >= 0 && readableBytes >= threshold) {
+                written = doWriteBytesZeroCopy(buf);
+                if (written > 0) {
+                    // The written bytes were already split off the buffer.
+                    writeSink.complete(attempted, written, readableBytes == written ? 1 : 0, true);
+                    return;
+                }
+                if (written < 0) {
+                    written = doWriteBytes(buf);
+                }
+            } else {
+                written = doWriteBytes(buf);
+            }
         }  else {
             attempted = Math.min(writeSink.estimatedMaxBytesPerGatheringWrite(), buf.readableBytes());
             ByteBuffer[] nioBuffers = new ByteBuffer[readableComponents];
@@ -209,6 +244,81 @@ public final class EpollSocketChannel
         writeSink.complete(attempted, written, readableBytes == written ? 1 : 0, written > 0);
     }
 
+    /**
+     * Write the first readable component of the given {@link Buffer} with {@code MSG_ZEROCOPY}. The written bytes are
+     * split off the buffer and kept alive until the kernel reports the completion of the send.
+     * Returns {@code -1} if the kernel could not pin the memory and the caller should fall back to a copying send.
+     */
+    private int doWriteBytesZeroCopy(Buffer buf) throws Exception {
+        int written;
+        try (var iterator = buf.forEachComponent()) {
+            var component = iterator.firstReadable();
+            long address = component.readableNativeAddress();
+            assert address != 0;
+            written = socket.sendAddressZeroCopy(address, 0, component.readableBytes());
+        }
+        if (written > 0) {
+            if (zeroCopyPending == null) {
+                zeroCopyPending = new IntObjectHashMap<>();
+                zeroCopyRange = new int[2];
+            }
+            // The kernel numbers every successful MSG_ZEROCOPY send on the socket, starting at zero.
+            zeroCopyPending.put(zeroCopyNextId++, buf.readSplit(written));
+        }
+        return written;
+    }
+
+    @Override
+    protected void epollErrReady() {
+        if (zeroCopyPending != null && !zeroCopyPending.isEmpty()) {
+            releaseCompletedZeroCopyBuffers();
+            if (zeroCopyPending.isEmpty() && zeroCopyDrained != null) {
+                zeroCopyDrained.trySuccess(null);
+            }
+        }
+    }
+
+    private void releaseCompletedZeroCopyBuffers() {
+        int[] range = zeroCopyRange;
+        try {
+            int res;
+            while ((res = socket.recvZeroCopyCompletion(range)) >= 0) {
+                if (res == 1) {
+                    // The range is inclusive and the ids may wrap around.
+                    for (int id = range[0];; id++) {
+                        Buffer buf = zeroCopyPending.remove(id);
+                        if (buf != null) {
+                            buf.close();
+                        }
+                        if (id == range[1]) {
+                            break;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to read zero-copy completions of {}", this, e);
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        try {
+            if (zeroCopyPending != null && !zeroCopyPending.isEmpty() && isOpen()) {
+                releaseCompletedZeroCopyBuffers();
+            }
+            super.doClose();
+        } finally {
+            if (zeroCopyPending != null && !zeroCopyPending.isEmpty()) {
+                // No completions can be read once the socket is closed, while the kernel may still transmit from the
+                // pinned pages. Closing the buffers would let the allocator reuse that memory under the kernel, so
+                // they are left to the garbage collector instead.
+                logger.debug("Closed {} with {} zero-copy sends still in flight", this, zeroCopyPending.size());
+                zeroCopyPending.clear();
+            }
+        }
+    }
+
     /**
      * Write multiple bytes via {@link IovArray}.
      * @param array The array which contains the content to write.
@@ -532,6 +642,9 @@ public final class EpollSocketChannel
             if (option == EpollChannelOption.SO_BUSY_POLL) {
                 return (T) Integer.valueOf(getSoBusyPoll());
             }
+            if (option == EpollChannelOption.WRITE_ZERO_COPY_THRESHOLD) {
+                return (T) Integer.valueOf(getWriteZeroCopyThreshold());
+            }
             if (option == DOMAIN_SOCKET_READ_MODE) {
                 return (T) getReadMode();
             }
@@ -589,6 +702,8 @@ public final class EpollSocketChannel
                 setTcpFastOpenConnect((Boolean) value);
             } else if (option == EpollChannelOption.SO_BUSY_POLL) {
                 setSoBusyPoll((Integer) value);
+            } else if (option == EpollChannelOption.WRITE_ZERO_COPY_THRESHOLD) {
+                setWriteZeroCopyThreshold((Integer) value);
             } else if (option == DOMAIN_SOCKET_READ_MODE) {
                 setReadMode((DomainSocketReadMode) value);
             } else if (option == EpollChannelOption.TCP_INFO) {
@@ -619,7 +734,8 @@ public final class EpollSocketChannel
                 EpollChannelOption.TCP_KEEPINTVL, EpollChannelOption.TCP_USER_TIMEOUT,
                 EpollChannelOption.IP_BIND_ADDRESS_NO_PORT, EpollChannelOption.IP_TRANSPARENT,
                 EpollChannelOption.TCP_MD5SIG, EpollChannelOption.TCP_QUICKACK, ChannelOption.TCP_FASTOPEN_CONNECT,
-                EpollChannelOption.SO_BUSY_POLL, EpollChannelOption.TCP_NOTSENT_LOWAT, EpollChannelOption.TCP_INFO);
+                EpollChannelOption.SO_BUSY_POLL, EpollChannelOption.TCP_NOTSENT_LOWAT, EpollChannelOption.TCP_INFO,
+                EpollChannelOption.WRITE_ZERO_COPY_THRESHOLD);
     }
 
     private static Set<ChannelOption<?>> supportedOptionsDomainSocket() {
@@ -968,6 +1084,25 @@ public final class EpollSocketChannel
         }
     }
 
+    /**
+     * Sets the minimum size of buffers that are written with {@code MSG_ZEROCOPY}, or {@code -1} to disable it.
+     * Enabling it turns on {@code SO_ZEROCOPY} for the socket.
+     */
+    private void setWriteZeroCopyThreshold(int threshold) {
+        if (threshold >= 0 && writeZeroCopyThreshold < 0) {
+            try {
+                socket.setZeroCopy(true);
+            } catch (IOException e) {
+                throw new ChannelException(e);
+            }
+        }
+        writeZeroCopyThreshold = Math.max(threshold, -1);
+    }
+
+    private int getWriteZeroCopyThreshold() {
+        return writeZeroCopyThreshold;
+    }
+
     private void setReadMode(DomainSocketReadMode mode) {
         requireNonNull(mode, "mode");
         this.mode = mode;
@@ -1030,6 +1165,26 @@ public final class EpollSocketChannel
 
     @Override
     protected Future<Executor> prepareToClose() {
+        if (zeroCopyPending != null && !zeroCopyPending.isEmpty() && isOpen() && !executor().isShuttingDown()) {
+            releaseCompletedZeroCopyBuffers();
+            if (!zeroCopyPending.isEmpty()) {
+                // The completions of the outstanding zero-copy sends can only be read while the socket is open, so
+                // keep it open until they all arrived on the error queue, or give up after a while.
+                Promise<Void> drained = executor().newPromise();
+                zeroCopyDrained = drained;
+                Future<?> timeout = executor().schedule(
+                        () -> drained.trySuccess(null), ZERO_COPY_CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return drained.asFuture().flatMap(v -> {
+                    timeout.cancel();
+                    Future<Executor> closeExecutor = prepareToClose0();
+                    return closeExecutor != null ? closeExecutor : executor().newSucceededFuture(executor());
+                });
+            }
+        }
+        return prepareToClose0();
+    }
+
+    private Future<Executor> prepareToClose0() {
         if (socket.protocolFamily() != SocketProtocolFamily.UNIX) {
             try {
                 // Check isOpen() first as otherwise it will throw a RuntimeException
@@ -302,6 +302,43 @@ public final class LinuxSocket extends Socket {
         setUdpGro(intValue(), gro ? 1 : 0);
     }
 
+    boolean isZeroCopy() throws IOException {
+        return isZeroCopy(intValue()) != 0;
+    }
+
+    void setZeroCopy(boolean zeroCopy) throws IOException {
+        setZeroCopy(intValue(), zeroCopy ? 1 : 0);
+    }
+
+    /**
+     * Send with {@code MSG_ZEROCOPY}. Returns {@code -1} if the kernel could not pin the pages of the buffer, in which
+     * case the caller should fall back to a copying send.
+     */
+    int sendAddressZeroCopy(long address, int pos, int limit) throws IOException {
+        int res = sendAddressZeroCopy(intValue(), address, pos, limit);
+        if (res >= 0) {
+            return res;
+        }
+        if (res == Native.ERRNO_ENOBUFS_NEGATIVE) {
+            return -1;
+        }
+        return ioResult("sendAddressZeroCopy", res);
+    }
+
+    /**
+     * Reads one zero-copy completion from the error queue into the given array, as the inclusive range of completed
+     * send ids. Returns {@code 1} if a completion was read, {@code 0} if the queue held another message and
+     * {@code -1} if the queue is empty.
+     */
+    int recvZeroCopyCompletion(int[] range) throws IOException {
+        int res = recvZeroCopyCompletion(intValue(), range);
+        if (res >= 0) {
+            return res;
+        }
+        ioResult("recvZeroCopyCompletion", res);
+        return -1;
+    }
+
     long sendFile(DefaultFileRegion src, long baseOffset, long offset, long length) throws IOException {
         // Open the file-region as it may be created via the lazy constructor. This is needed as we directly access
         // the FileChannel field via JNI.
@@ -508,4 +545,8 @@ public final class LinuxSocket extends Socket {
     private static native void setTimeToLive(int fd, int ttl) throws IOException;
     private static native int isUdpGro(int fd) throws IOException;
     private static native void setUdpGro(int fd, int gro) throws IOException;
+    private static native int isZeroCopy(int fd) throws IOException;
+    private static native void setZeroCopy(int fd, int zeroCopy) throws IOException;
+    private static native int sendAddressZeroCopy(int fd, long address, int pos, int limit);
+    private static native int recvZeroCopyCompletion(int fd, int[] range);
 }
@@ -33,6 +33,7 @@ import java.net.UnknownHostException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.Selector;
 
+import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.enobufs;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollerr;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollet;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollin;
@@ -114,6 +115,7 @@ public final class Native {
     public static final int EPOLLRDHUP = epollrdhup();
     public static final int EPOLLET = epollet();
     public static final int EPOLLERR = epollerr();
+    static final int ERRNO_ENOBUFS_NEGATIVE = -enobufs();
 
     public static final boolean IS_SUPPORTING_SENDMMSG = isSupportingSendmmsg();
     static final boolean IS_SUPPORTING_RECVMMSG = isSupportingRecvmmsg();
@@ -63,6 +63,8 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         implements UnixChannel {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractIOUringChannel.class);
     private static final int MAX_READ_AHEAD_PACKETS = 8;
+    // Stands in for the buffer of a pending read, when the kernel picks the buffer from the ring of the IoHandler.
+    private static final Object BUFFER_RING_READ = new Object();
 
     static final FutureContextListener<Buffer, Void> CLOSE_BUFFER = (b, f) -> SilentDispose.dispose(b, LOGGER);
 
@@ -99,15 +101,20 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
                 case Native.IORING_OP_ACCEPT:
                 case Native.IORING_OP_RECVMSG:
                 case Native.IORING_OP_READ:
-                    readComplete(res, udata);
+                    readComplete(res, event.flags(), udata);
 
                     break;
                 case Native.IORING_OP_WRITEV:
                 case Native.IORING_OP_SEND:
                 case Native.IORING_OP_SENDMSG:
                 case Native.IORING_OP_WRITE:
+                case Native.IORING_OP_SPLICE:
                     writeComplete(res, udata);
 
+                    break;
+                case Native.IORING_OP_SEND_ZC:
+                    sendZcComplete(res, event.flags(), udata);
+
                     break;
                 case Native.IORING_OP_POLL_ADD:
                     //pollAddComplete(res, data);
@@ -120,17 +127,27 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
                     }
                     break;
                 case Native.IORING_OP_ASYNC_CANCEL:
+                    break;
+                case Native.IORING_OP_REMOVE_BUFFERS:
+                    removeRecvBuffersComplete();
+
                     break;
                 case Native.IORING_OP_CONNECT:
                     connectComplete(res, udata);
 
                     break;
                 case Native.IORING_OP_CLOSE:
+                    closeComplete(res, udata);
 
                     break;
             }
         }
 
+        @Override
+        public int fileDescriptor() {
+            return socket.intValue();
+        }
+
         @Override
         public void close() throws Exception {
             closeTransportNow();
@@ -147,6 +164,24 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     private long pollRdhupId;
     private long lastConnectId;
 
+    // Multishot receive into a small group of buffers provided to the kernel, see IOUringChannelOption.MULTISHOT_RECV.
+    private boolean multishotRecv;
+    private long multishotRecvUdata;
+    private boolean multishotRecvCancelled;
+    private int recvBufferGroup = -1;
+    private int recvBufferSize;
+    private Buffer[] recvBuffers;
+    private boolean multishotRecvFromBufferRing;
+    // Set once the buffers were taken back on close, and until the kernel confirmed it, see prepareToClose().
+    private boolean releasingRecvBuffers;
+    private boolean removingRecvBuffers;
+    private boolean closeCompleted;
+
+    // Reads into the ring of provided buffers of the IoHandler, see IOUringChannelOption.BUFFER_RING_RECV.
+    private boolean bufferRingRecv;
+    // Set when the ring ran dry, so the next read brings its own buffer instead of waiting for the ring to refill.
+    private boolean bufferRingExhausted;
+
     protected AbstractIOUringChannel(P parent, EventLoop eventLoop, boolean supportingDisconnect,
                                      ReadHandleFactory defaultReadHandleFactory,
                                      WriteHandleFactory defaultWriteHandleFactory,
@@ -222,6 +257,13 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     }
 
     private void submitRead() {
+        if (multishotRecv && armMultishotRecv()) {
+            return;
+        }
+        if (bufferRingRecv && submitBufferRingRead(false)) {
+            return;
+        }
+        bufferRingExhausted = false;
         // Submit reads until read handle says stop, we fill the submission queue, or hit max limit
         int maxPackets = Math.min(registration().ioHandler().remaining(), MAX_READ_AHEAD_PACKETS);
         int sumPackets = 0;
@@ -241,6 +283,14 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
 
     private void submitNonBlockingRead() {
         assert readsPending.isEmpty();
+        if (multishotRecv && armMultishotRecv()) {
+            // An armed multishot receive notices the EOF by itself.
+            return;
+        }
+        if (bufferRingRecv && submitBufferRingRead(true)) {
+            return;
+        }
+        bufferRingExhausted = false;
         int bufferSize = nextReadBufferSize();
         if (bufferSize == 0) {
             return;
@@ -282,10 +332,163 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         }
     }
 
+    /**
+     * Submits a single receive that leaves it to the kernel to pick a buffer from the ring of the IoHandler, once
+     * data arrives.
+     *
+     * @return {@code false} if no buffer ring could be set up, or it ran dry, and reads must bring their own buffer
+     * instead.
+     */
+    private boolean submitBufferRingRead(boolean nonBlocking) {
+        IOUringBufferRing bufferRing = bufferRing();
+        if (bufferRing == null || bufferRingExhausted) {
+            return false;
+        }
+        if (nextReadBufferSize() == 0) {
+            return true;
+        }
+        lastReadId = nextOpsId();
+        int msgFlags = nonBlocking ? Native.MSG_DONTWAIT : 0;
+        long udata = registration().submit(IOUringIoOps.newRecvBufferSelect(
+                fd().intValue(), 0, msgFlags, (short) bufferRing.bufferGroup(), lastReadId));
+        readsPending.push(BUFFER_RING_READ, udata);
+        return true;
+    }
+
+    private IOUringBufferRing bufferRing() {
+        IOUringBufferRing bufferRing = bufferRingRecv ? registration().ioHandler().bufferRing() : null;
+        if (bufferRing == null) {
+            bufferRingRecv = false;
+        }
+        return bufferRing;
+    }
+
+    final boolean isBufferRingRecv() {
+        return bufferRingRecv;
+    }
+
+    final void setBufferRingRecv(boolean bufferRingRecv) {
+        this.bufferRingRecv = bufferRingRecv && IOUring.isBufferRingSupported();
+    }
+
+    final boolean isMultishotRecv() {
+        return multishotRecv;
+    }
+
+    final void setMultishotRecv(boolean multishotRecv) {
+        this.multishotRecv = multishotRecv && IOUring.isRecvMultishotSupported();
+    }
+
+    /**
+     * Arms the multishot receive, unless it is armed already.
+     *
+     * @return {@code false} if no buffer group could be set up, and single-shot reads must be used instead.
+     */
+    private boolean armMultishotRecv() {
+        if (multishotRecvUdata != 0) {
+            return true;
+        }
+        IOUringIoRegistration registration = registration();
+        IOUringBufferRing bufferRing = bufferRingExhausted ? null : bufferRing();
+        bufferRingExhausted = false;
+        multishotRecvFromBufferRing = bufferRing != null;
+        if (bufferRing != null) {
+            multishotRecvUdata = registration.submit(IOUringIoOps.newRecvMultishot(
+                    fd().intValue(), 0, 0, (short) bufferRing.bufferGroup(), nextOpsId()));
+            return true;
+        }
+        if (recvBuffers == null) {
+            int bufferSize = nextReadBufferSize();
+            if (bufferSize == 0) {
+                return true;
+            }
+            int bufferGroup = registration.ioHandler().nextBufferGroupId();
+            if (bufferGroup < 0) {
+                multishotRecv = false;
+                return false;
+            }
+            recvBufferGroup = bufferGroup;
+            recvBufferSize = bufferSize;
+            recvBuffers = new Buffer[MAX_READ_AHEAD_PACKETS];
+            for (int bufferId = 0; bufferId < recvBuffers.length; bufferId++) {
+                provideRecvBuffer(bufferId);
+            }
+        }
+        multishotRecvUdata = registration.submit(IOUringIoOps.newRecvMultishot(
+                fd().intValue(), 0, 0, (short) recvBufferGroup, nextOpsId()));
+        return true;
+    }
+
+    private void provideRecvBuffer(int bufferId) {
+        Buffer buffer = readBufferAllocator().allocate(recvBufferSize);
+        assert buffer.isDirect();
+        assert buffer.countWritableComponents() == 1;
+        recvBuffers[bufferId] = buffer;
+        try (var itr = buffer.forEachComponent()) {
+            var cmp = itr.firstWritable();
+            registration().submit(IOUringIoOps.newProvideBuffers(cmp.writableNativeAddress(), cmp.writableBytes(),
+                    1, (short) recvBufferGroup, bufferId, (short) 0));
+        }
+    }
+
+    private void multishotRecvComplete(int res, int flags, long udata) {
+        Buffer buffer = null;
+        if ((flags & Native.IORING_CQE_F_BUFFER) != 0) {
+            int bufferId = flags >>> Native.IORING_CQE_BUFFER_SHIFT;
+            if (multishotRecvFromBufferRing) {
+                buffer = registration().ioHandler().bufferRing().take(bufferId);
+            } else {
+                buffer = recvBuffers[bufferId];
+                recvBuffers[bufferId] = null;
+                if (active) {
+                    // Give the kernel a replacement right away, so the receive does not run out of buffers.
+                    provideRecvBuffer(bufferId);
+                }
+            }
+        }
+        if (res >= 0) {
+            if (buffer == null) {
+                // EOF, when the kernel did not pick a buffer.
+                buffer = readBufferAllocator().allocate(0);
+            }
+            buffer.skipWritableBytes(res);
+            readsCompleted.push(buffer, udata);
+        } else {
+            if (buffer != null) {
+                SilentDispose.dispose(buffer, logger());
+            }
+            if (res != Native.ERRNO_ECANCELED_NEGATIVE && res != Native.ERRNO_ENOBUFS_NEGATIVE) {
+                readsCompleted.push(new Failure(res), udata);
+            }
+        }
+        if ((flags & Native.IORING_CQE_F_MORE) == 0) {
+            // The receive was terminated, by us, by EOF or an error, or because it ran out of buffers.
+            multishotRecvUdata = 0;
+            if (res == Native.ERRNO_ENOBUFS_NEGATIVE && multishotRecvFromBufferRing) {
+                // Re-arming on the shared ring would spin until other channels return their buffers, so the
+                // receive uses buffers of its own until it terminates again.
+                bufferRingExhausted = true;
+            }
+            boolean cancelled = multishotRecvCancelled;
+            multishotRecvCancelled = false;
+            if (active && (cancelled ? isReadPending() : res > 0 || res == Native.ERRNO_ENOBUFS_NEGATIVE)) {
+                armMultishotRecv();
+            } else if (releasingRecvBuffers) {
+                tryReleaseRecvBuffers();
+            }
+        }
+    }
+
     @Override
     protected void doClearScheduledRead() {
         if (isRegistered()) {
             IOUringIoRegistration registration = registration();
+            if (multishotRecvUdata != 0 && !multishotRecvCancelled) {
+                // Whatever arrives until the cancellation lands is kept for the next read.
+                multishotRecvCancelled = true;
+                registration.submit(IOUringIoOps.newAsyncCancel(
+                        fd().intValue(), 0, multishotRecvUdata, Native.IORING_OP_RECV));
+            }
             // Using the lastReadId to differentiate our reads, means we avoid accidentally cancelling any future read.
             while (readsPending.poll()) {
                 Object obj = readsPending.getPolledObject();
@@ -298,8 +501,12 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         }
     }
 
-    void readComplete(int res, long udata) {
+    void readComplete(int res, int flags, long udata) {
         assert executor().inEventLoop();
+        if (udata == multishotRecvUdata && udata != 0) {
+            multishotRecvComplete(res, flags, udata);
+            return;
+        }
         if (res == Native.ERRNO_ECANCELED_NEGATIVE || res == Errors.ERRNO_EAGAIN_NEGATIVE) {
             Object obj = cancelledReads.remove(udata);
             if (obj == null) {
@@ -311,13 +518,31 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
             return;
         }
 
-        final Object obj;
+        Object obj;
         if (readsPending.hasNextStamp(udata) && readsPending.poll()) {
             obj = readsPending.getPolledObject();
         } else {
             // Out-of-order read completion? Weird. Should this ever happen?
             obj = readsPending.remove(udata);
         }
+        if (obj == BUFFER_RING_READ && res == Native.ERRNO_ENOBUFS_NEGATIVE) {
+            // The buffer ring ran dry. Retrying on the ring would spin until other channels return their buffers,
+            // so the next read brings its own buffer, and the reads after that go back to the ring.
+            bufferRingExhausted = true;
+            if (isReadPending()) {
+                executor().execute(pendingRead);
+            }
+            return;
+        }
+        if ((flags & Native.IORING_CQE_F_BUFFER) != 0) {
+            // The kernel picked a buffer from the ring. We must take it out of the ring even if we already tried to
+            // cancel the read, and then we keep the data for the next read, as the multishot receive does.
+            cancelledReads.remove(udata);
+            obj = registration().ioHandler().bufferRing().take(flags >>> Native.IORING_CQE_BUFFER_SHIFT);
+        } else if (obj == BUFFER_RING_READ) {
+            // EOF, when the kernel did not pick a buffer.
+            obj = readBufferAllocator().allocate(0);
+        }
         if (obj != null) {
             if (res >= 0) {
                 Resource.touch(obj, "read completed");
@@ -432,6 +657,14 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
 
     abstract void writeComplete(int result, long udata);
 
+    /**
+     * Called for both the send completion and the notification of an {@code IORING_OP_SEND_ZC}, which only
+     * channels that support zero-copy sends submit.
+     */
+    void sendZcComplete(int result, int flags, long udata) {
+        throw new AssertionError("Unexpected SEND_ZC completion");
+    }
+
     /**
      * Connect to the remote peer
      */
@@ -532,6 +765,13 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         return (IOUringIoRegistration) super.registration();
     }
 
+    @Override
+    protected boolean isMigrationSupported() {
+        // Reads, polls and multishot operations stay in flight after the channel was deregistered, and their
+        // completions are delivered by the ring of the old event loop.
+        return false;
+    }
+
     private void submitPollRdHup() {
         int fd = fd().intValue();
         IOUringIoRegistration registration = registration();
@@ -594,16 +834,61 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
                 registration.submit(IOUringIoOps.newPollRemove(
                         fd().intValue(), 0, pollRdhupId, (short) Native.POLLRDHUP));
             }
+
+            // Take back the buffers we provided for multishot receives. The kernel may write into them until both the
+            // removal and the final completion of the multishot receive came in, so only then are they disposed, and
+            // the group id handed out again. The close promise waits for this.
+            if (recvBuffers != null) {
+                releasingRecvBuffers = true;
+                removingRecvBuffers = true;
+                registration.submit(IOUringIoOps.newRemoveBuffers(
+                        recvBuffers.length, (short) recvBufferGroup, (short) 0));
+            }
         }
 
         closeTransportNow();
         return prepareClosePromise.asFuture();
     }
 
+    private void removeRecvBuffersComplete() {
+        if (removingRecvBuffers) {
+            removingRecvBuffers = false;
+            tryReleaseRecvBuffers();
+        }
+    }
+
+    /**
+     * Disposes the buffers provided for multishot receives, once the kernel can no longer use them.
+     */
+    private void tryReleaseRecvBuffers() {
+        if (recvBuffers == null || !releasingRecvBuffers || removingRecvBuffers || multishotRecvUdata != 0) {
+            return;
+        }
+        disposeRecvBuffers();
+        registration().ioHandler().releaseBufferGroupId(recvBufferGroup);
+        recvBufferGroup = -1;
+        if (closeCompleted) {
+            prepareClosePromise.trySuccess(executor());
+        }
+    }
+
+    private void disposeRecvBuffers() {
+        for (Buffer buffer : recvBuffers) {
+            if (buffer != null) {
+                SilentDispose.trySilentDispose(buffer, logger());
+            }
+        }
+        recvBuffers = null;
+    }
+
     @Override
     protected void doClose() {
         tryDisposeAll(readsPending);
         tryDisposeAll(readsCompleted);
+        if (recvBuffers != null) {
+            // We were not registered when closing, so the removal could not be submitted.
+            disposeRecvBuffers();
+        }
         if (connectRemoteAddressMem != null) {
             SilentDispose.trySilentDispose(connectRemoteAddressMem, logger());
             connectRemoteAddressMem = null;
@@ -627,7 +912,11 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
 
     void closeComplete(int res, long udata) {
         if (socket.markClosed()) {
-            prepareClosePromise.setSuccess(executor());
+            closeCompleted = true;
+            if (!removingRecvBuffers && multishotRecvUdata == 0) {
+                tryReleaseRecvBuffers();
+                prepareClosePromise.trySuccess(executor());
+            }
         }
     }
 
@@ -23,9 +23,25 @@ import org.slf4j.LoggerFactory;
 public final class IOUring {
     private static final Logger logger = LoggerFactory.getLogger(IOUring.class);
     private static final Throwable UNAVAILABILITY_CAUSE;
+    private static final boolean SPLICE_SUPPORTED;
+    private static final boolean ACCEPT_MULTISHOT_SUPPORTED;
+    private static final boolean RECV_MULTISHOT_SUPPORTED;
+    private static final boolean BUFFER_RING_SUPPORTED;
+    private static final boolean SEND_ZC_SUPPORTED;
+    private static final boolean SQPOLL_SUPPORTED;
+    private static final boolean SINGLE_ISSUER_SUPPORTED;
+    private static final boolean DEFER_TASKRUN_SUPPORTED;
 
     static {
         Throwable cause = null;
+        boolean spliceSupported = false;
+        boolean acceptMultishotSupported = false;
+        boolean recvMultishotSupported = false;
+        boolean bufferRingSupported = false;
+        boolean sendZcSupported = false;
+        boolean sqPollSupported = false;
+        boolean singleIssuerSupported = false;
+        boolean deferTaskRunSupported = false;
         try {
             if (SystemPropertyUtil.getBoolean("io.netty5.transport.noNative", false)) {
                 cause = new UnsupportedOperationException(
@@ -39,6 +55,17 @@ public final class IOUring {
                     try {
                         ringBuffer = Native.createRingBuffer();
                         Native.checkAllIOSupported(ringBuffer.fd());
+                        spliceSupported = Native.isIOSupported(ringBuffer.fd(), Native.IORING_OP_SPLICE);
+                        // Multishot modes are flags of existing operations, so the probe cannot tell us about them.
+                        acceptMultishotSupported = Native.isKernelVersionAtLeast(kernelVersion, 5, 19);
+                        recvMultishotSupported = Native.isKernelVersionAtLeast(kernelVersion, 6, 0) &&
+                                Native.isIOSupported(ringBuffer.fd(), Native.IORING_OP_PROVIDE_BUFFERS);
+                        bufferRingSupported = Native.isKernelVersionAtLeast(kernelVersion, 5, 19);
+                        sendZcSupported = Native.isIOSupported(ringBuffer.fd(), Native.IORING_OP_SEND_ZC);
+                        // Setup flags are not covered by the probe either. Before 5.11 SQPOLL needed privileges.
+                        sqPollSupported = Native.isKernelVersionAtLeast(kernelVersion, 5, 11);
+                        singleIssuerSupported = Native.isKernelVersionAtLeast(kernelVersion, 6, 0);
+                        deferTaskRunSupported = Native.isKernelVersionAtLeast(kernelVersion, 6, 1);
                     } finally {
                         if (ringBuffer != null) {
                             try {
@@ -64,6 +91,16 @@ public final class IOUring {
         }
 
         UNAVAILABILITY_CAUSE = cause;
+        SPLICE_SUPPORTED = cause == null && spliceSupported &&
+                SystemPropertyUtil.getBoolean("io.netty5.iouring.spliceFileRegion", true);
+        logger.debug("-Dio.netty5.iouring.spliceFileRegion: {}", SPLICE_SUPPORTED);
+        ACCEPT_MULTISHOT_SUPPORTED = cause == null && acceptMultishotSupported;
+        RECV_MULTISHOT_SUPPORTED = cause == null && recvMultishotSupported;
+        BUFFER_RING_SUPPORTED = cause == null && bufferRingSupported;
+        SEND_ZC_SUPPORTED = cause == null && sendZcSupported;
+        SQPOLL_SUPPORTED = cause == null && sqPollSupported;
+        SINGLE_ISSUER_SUPPORTED = cause == null && singleIssuerSupported;
+        DEFER_TASKRUN_SUPPORTED = cause == null && deferTaskRunSupported;
     }
 
     public static boolean isAvailable() {
@@ -81,6 +118,70 @@ public final class IOUring {
         return UNAVAILABILITY_CAUSE;
     }
 
+    /**
+     * Returns {@code true} if {@link io.netty5.channel.DefaultFileRegion}s are written with {@code IORING_OP_SPLICE},
+     * without copying the file contents into user space.
+     */
+    static boolean isSpliceSupported() {
+        return SPLICE_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports multishot {@code IORING_OP_ACCEPT}, see
+     * {@link IOUringChannelOption#MULTISHOT_ACCEPT}.
+     */
+    public static boolean isAcceptMultishotSupported() {
+        return ACCEPT_MULTISHOT_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports multishot {@code IORING_OP_RECV} with provided buffers, see
+     * {@link IOUringChannelOption#MULTISHOT_RECV}.
+     */
+    public static boolean isRecvMultishotSupported() {
+        return RECV_MULTISHOT_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports registered rings of provided buffers, see
+     * {@link IOUringChannelOption#BUFFER_RING_RECV}.
+     */
+    public static boolean isBufferRingSupported() {
+        return BUFFER_RING_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports {@code IORING_OP_SEND_ZC}, see
+     * {@link IOUringChannelOption#WRITE_ZERO_COPY_THRESHOLD}.
+     */
+    public static boolean isSendZcSupported() {
+        return SEND_ZC_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports {@code IORING_SETUP_SQPOLL} without special privileges, see
+     * {@link IOUringIoHandlerConfig#setSqPoll(boolean)}.
+     */
+    public static boolean isSqPollSupported() {
+        return SQPOLL_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports {@code IORING_SETUP_SINGLE_ISSUER}, see
+     * {@link IOUringIoHandlerConfig#setSingleIssuer(boolean)}.
+     */
+    public static boolean isSingleIssuerSupported() {
+        return SINGLE_ISSUER_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports {@code IORING_SETUP_DEFER_TASKRUN}, see
+     * {@link IOUringIoHandlerConfig#setDeferTaskRun(boolean)}.
+     */
+    public static boolean isDeferTaskRunSupported() {
+        return DEFER_TASKRUN_SUPPORTED;
+    }
+
     private IOUring() {
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.SilentDispose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * A ring of buffers that is registered with {@code io_uring_register_buf_ring} as a buffer group, so that a receive
+ * with {@code IOSQE_BUFFER_SELECT} does not need a buffer of its own until data actually arrives. The kernel then
+ * takes the next buffer from the ring and reports its id in the completion flags.
+ * <p>
+ * The ring is shared by all channels of an {@link IOUringIoHandler}, and must only be used from its event loop.
+ */
+final class IOUringBufferRing {
+    private static final Logger logger = LoggerFactory.getLogger(IOUringBufferRing.class);
+
+    // struct io_uring_buf { __u64 addr; __u32 len; __u16 bid; __u16 resv; }
+    private static final int SIZEOF_IO_URING_BUF = 16;
+    private static final int IO_URING_BUF_OFFSETOF_LEN = 8;
+    private static final int IO_URING_BUF_OFFSETOF_BID = 12;
+    // The tail of the ring overlaps with the resv field of the first struct io_uring_buf.
+    private static final int RING_OFFSETOF_TAIL = 14;
+    // The ring must be page aligned. This is the largest page size we expect, so it works for all of them.
+    private static final int RING_ALIGNMENT = 64 * 1024;
+
+    private final int ringFd;
+    private final int bufferGroup;
+    private final int bufferSize;
+    private final BufferAllocator allocator;
+    private final Buffer[] buffers;
+    private final int mask;
+    private final long memory;
+    private final long ringAddress;
+    private short tail;
+
+    private IOUringBufferRing(int ringFd, int bufferGroup, int entries, int bufferSize, BufferAllocator allocator,
+                              long memory, long ringAddress) {
+        this.ringFd = ringFd;
+        this.bufferGroup = bufferGroup;
+        this.bufferSize = bufferSize;
+        this.allocator = allocator;
+        this.memory = memory;
+        this.ringAddress = ringAddress;
+        buffers = new Buffer[entries];
+        mask = entries - 1;
+    }
+
+    /**
+     * Creates and registers a new ring, filled with {@code entries} buffers of {@code bufferSize} bytes.
+     *
+     * @return the ring, or {@code null} if the kernel refused to register it.
+     */
+    static IOUringBufferRing newBufferRing(int ringFd, int bufferGroup, int entries, int bufferSize,
+                                           BufferAllocator allocator) {
+        assert entries > 0 && (entries & entries - 1) == 0 && entries <= 32768 : entries;
+        long size = (long) entries * SIZEOF_IO_URING_BUF;
+        long memory = PlatformDependent.allocateMemory(size + RING_ALIGNMENT);
+        long ringAddress = (memory + RING_ALIGNMENT - 1) & -RING_ALIGNMENT;
+        PlatformDependent.setMemory(ringAddress, size, (byte) 0);
+        int res = Native.ioUringRegisterBufRing(ringFd, ringAddress, entries, bufferGroup);
+        if (res < 0) {
+            PlatformDependent.freeMemory(memory);
+            logger.debug("Failed to register a buffer ring for buffer group {} (errno={})", bufferGroup, -res);
+            return null;
+        }
+        IOUringBufferRing ring = new IOUringBufferRing(
+                ringFd, bufferGroup, entries, bufferSize, allocator, memory, ringAddress);
+        for (int bufferId = 0; bufferId < entries; bufferId++) {
+            ring.add(bufferId);
+        }
+        ring.publishTail();
+        return ring;
+    }
+
+    /**
+     * Returns the buffer group id that must be used with {@code IOSQE_BUFFER_SELECT} to read into this ring.
+     */
+    int bufferGroup() {
+        return bufferGroup;
+    }
+
+    /**
+     * Takes the buffer the kernel selected for a completion with {@code IORING_CQE_F_BUFFER} set out of the ring,
+     * and puts a new buffer in its place.
+     *
+     * @param bufferId the buffer id from the completion flags.
+     * @return the buffer, whose writer offset must still be moved past the bytes the kernel wrote into it.
+     */
+    Buffer take(int bufferId) {
+        Buffer buffer = buffers[bufferId];
+        buffers[bufferId] = null;
+        add(bufferId);
+        publishTail();
+        return buffer;
+    }
+
+    private void add(int bufferId) {
+        Buffer buffer = allocator.allocate(bufferSize);
+        assert buffer.isDirect();
+        assert buffer.countWritableComponents() == 1;
+        buffers[bufferId] = buffer;
+        long entryAddress = ringAddress + (long) (tail & mask) * SIZEOF_IO_URING_BUF;
+        try (var itr = buffer.forEachComponent()) {
+            var cmp = itr.firstWritable();
+            PlatformDependent.putLong(entryAddress, cmp.writableNativeAddress());
+            PlatformDependent.putInt(entryAddress + IO_URING_BUF_OFFSETOF_LEN, cmp.writableBytes());
+            // Leave the resv field alone, as for the first entry it is where the tail of the ring lives.
+            PlatformDependent.putShort(entryAddress + IO_URING_BUF_OFFSETOF_BID, (short) bufferId);
+        }
+        tail++;
+    }
+
+    private void publishTail() {
+        // The kernel must see the entries before it sees the tail that makes them available.
+        VarHandle.releaseFence();
+        PlatformDependent.putShort(ringAddress + RING_OFFSETOF_TAIL, tail);
+    }
+
+    /**
+     * Unregisters the ring and releases all the buffers that are still in it. Must only be called once the kernel
+     * can no longer write into them.
+     */
+    void close() {
+        int res = Native.ioUringUnregisterBufRing(ringFd, bufferGroup);
+        if (res < 0) {
+            logger.debug("Failed to unregister the buffer ring for buffer group {} (errno={})", bufferGroup, -res);
+        }
+        for (Buffer buffer : buffers) {
+            if (buffer != null) {
+                SilentDispose.trySilentDispose(buffer, logger);
+            }
+        }
+        PlatformDependent.freeMemory(memory);
+    }
+}
@@ -44,4 +44,44 @@ public class IOUringChannelOption<T> extends UnixChannelOption<T> {
 
     public static final ChannelOption<Integer> MAX_DATAGRAM_PAYLOAD_SIZE = valueOf("MAX_DATAGRAM_PAYLOAD_SIZE");
     public static final ChannelOption<Boolean> UDP_GRO = valueOf("UDP_GRO");
+
+    /**
+     * Accept connections with a single multishot {@code IORING_OP_ACCEPT}, which stays armed while the server
+     * channel is reading, instead of submitting a new accept for every connection.
+     * Ignored on kernels that do not support it, see {@link IOUring#isAcceptMultishotSupported()}.
+     */
+    public static final ChannelOption<Boolean> MULTISHOT_ACCEPT =
+            valueOf(IOUringChannelOption.class, "MULTISHOT_ACCEPT");
+    /**
+     * Read with a single multishot {@code IORING_OP_RECV}, which stays armed while the channel is reading and lets
+     * the kernel pick one of a small set of provided buffers whenever data arrives, instead of submitting a new
+     * receive for every read.
+     * Ignored on kernels that do not support it, see {@link IOUring#isRecvMultishotSupported()}.
+     */
+    public static final ChannelOption<Boolean> MULTISHOT_RECV = valueOf(IOUringChannelOption.class, "MULTISHOT_RECV");
+    /**
+     * Read into a ring of buffers that is registered with the kernel and shared by all channels of the
+     * {@link IOUringIoHandler}. A pending receive does not hold a buffer, the kernel picks one from the ring only once
+     * data arrives, so idle channels do not pin any read memory. Can be combined with {@link #MULTISHOT_RECV}.
+     * The size of the ring and its buffers are set with the {@code io.netty5.iouring.bufferRingEntries} and
+     * {@code io.netty5.iouring.bufferRingBufferSize} system properties.
+     * <p>
+     * Because the ring is shared, its buffers come from the default off-heap allocator and all have the same size.
+     * The {@linkplain ChannelOption#BUFFER_ALLOCATOR allocator} of the channel is only used when the ring ran dry,
+     * for a single read that brings its own buffer, and the {@linkplain ChannelOption#READ_HANDLE_FACTORY read handle}
+     * of the channel decides whether to read, but not how much.
+     * Ignored on kernels that do not support it, see {@link IOUring#isBufferRingSupported()}.
+     */
+    public static final ChannelOption<Boolean> BUFFER_RING_RECV =
+            valueOf(IOUringChannelOption.class, "BUFFER_RING_RECV");
+    /**
+     * Write buffers of at least this many bytes with {@code IORING_OP_SEND_ZC}, which lets the kernel send straight
+     * from the buffer instead of copying it into the socket first. The buffer is only released once the kernel
+     * notifies us that it no longer uses it, which on TCP is when the peer acknowledged the data.
+     * Smaller buffers are written with ordinary sends, as pinning the memory costs more than copying it.
+     * Defaults to {@code -1}, which disables zero-copy sends.
+     * Ignored on kernels that do not support it, see {@link IOUring#isSendZcSupported()}.
+     */
+    public static final ChannelOption<Integer> WRITE_ZERO_COPY_THRESHOLD =
+            valueOf(IOUringChannelOption.class, "WRITE_ZERO_COPY_THRESHOLD");
 }
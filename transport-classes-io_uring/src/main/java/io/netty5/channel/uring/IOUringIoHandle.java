@@ -21,5 +21,12 @@ import io.netty5.channel.IoHandle;
  * {@link IoHandle} implementation for io_uring.
  */
 public interface IOUringIoHandle extends IoHandle {
-    // Marker interface.
+
+    /**
+     * Returns the file descriptor that the operations of this handle target, which the {@link IOUringIoHandler} may
+     * register as a fixed file, or {@code -1} if there is none.
+     */
+    default int fileDescriptor() {
+        return -1;
+    }
 }
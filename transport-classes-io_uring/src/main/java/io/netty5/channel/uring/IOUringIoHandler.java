@@ -15,6 +15,7 @@
  */
 package io.netty5.channel.uring;
 
+import io.netty5.buffer.DefaultBufferAllocators;
 import io.netty5.channel.EventLoop;
 import io.netty5.channel.IoExecutionContext;
 import io.netty5.channel.IoHandle;
@@ -25,13 +26,16 @@ import io.netty5.channel.IoRegistration;
 import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.util.collection.IntObjectHashMap;
 import io.netty5.util.collection.IntObjectMap;
+import io.netty5.util.internal.MathUtil;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.StringUtil;
+import io.netty5.util.internal.SystemPropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -45,9 +49,18 @@ import static java.util.Objects.requireNonNull;
 public final class IOUringIoHandler implements IoHandler, CompletionCallback {
     private static final Logger logger = LoggerFactory.getLogger(IOUringIoHandler.class);
     private static final short RING_CLOSE = 1;
+    private static final int BUFFER_RING_ENTRIES = MathUtil.safeFindNextPositivePowerOfTwo(Math.min(32768,
+            SystemPropertyUtil.getInt("io.netty5.iouring.bufferRingEntries", 256)));
+    private static final int BUFFER_RING_BUFFER_SIZE =
+            Math.max(64, SystemPropertyUtil.getInt("io.netty5.iouring.bufferRingBufferSize", 8192));
 
     private final RingBuffer ringBuffer;
     private final IntObjectMap<DefaultIoUringIoRegistration> registrations;
+    private final BitSet bufferGroupIds = new BitSet();
+    private final BitSet fixedFileIndexes = new BitSet();
+    private final int fixedFiles;
+    private IOUringBufferRing bufferRing;
+    private boolean bufferRingUnavailable;
 
     private final AtomicBoolean eventfdAsyncNotify = new AtomicBoolean();
     private final FileDescriptor eventfd;
@@ -64,12 +77,25 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
     private static final int RINGFD_ID = EVENTFD_ID - 1;
 
     IOUringIoHandler(RingBuffer ringBuffer) {
+        this(ringBuffer, 0);
+    }
+
+    IOUringIoHandler(RingBuffer ringBuffer, int fixedFiles) {
         // Ensure that we load all native bits as otherwise it may fail when try to use native methods in IovArray
         IOUring.ensureAvailability();
         this.ringBuffer = requireNonNull(ringBuffer, "ringBuffer");
         registrations = new IntObjectHashMap<>();
         eventfd = Native.newBlockingEventFd();
         eventfdReadBuf = PlatformDependent.allocateMemory(8);
+        if (fixedFiles > 0) {
+            int res = Native.ioUringRegisterFiles(ringBuffer.fd(), fixedFiles);
+            if (res < 0) {
+                logger.debug("Failed to register {} fixed files with ring {}, using plain file descriptors: {}",
+                        fixedFiles, ringBuffer.fd(), res);
+                fixedFiles = 0;
+            }
+        }
+        this.fixedFiles = fixedFiles;
     }
 
     @Override
@@ -83,9 +109,11 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
             if (context.deadlineNanos() != -1) {
                 submitTimeout(context);
             }
+            long waitStartNanos = System.nanoTime();
             submissionQueue.submitAndWait();
+            context.reportIoWait(System.nanoTime() - waitStartNanos);
         } else {
-            submissionQueue.submit();
+            submissionQueue.submitAndGetEvents();
         }
         return completionQueue.process(this);
     }
@@ -227,6 +255,10 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
             return;
         }
         closeCompleted = true;
+        if (bufferRing != null) {
+            bufferRing.close();
+            bufferRing = null;
+        }
         ringBuffer.close();
         try {
             eventfd.close();
@@ -255,10 +287,104 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
             }
         }
 
+        int fd = ioHandle.fileDescriptor();
+        if (fd >= 0) {
+            registration.setFixedFile(fd, nextFixedFileIndex(fd));
+        }
+
         ringBuffer.ioUringSubmissionQueue().incrementHandledFds();
         return registration;
     }
 
+    /**
+     * Puts the given file descriptor into a free slot of the fixed file table and returns its index, or returns
+     * {@code -1} if the table is full or there is none.
+     */
+    private int nextFixedFileIndex(int fd) {
+        int index = fixedFileIndexes.nextClearBit(0);
+        if (index >= fixedFiles) {
+            return -1;
+        }
+        int res = Native.ioUringRegisterFilesUpdate(ringBuffer.fd(), index, fd);
+        if (res < 0) {
+            logger.debug("Failed to register fd {} as fixed file {}: {}", fd, index, res);
+            return -1;
+        }
+        fixedFileIndexes.set(index);
+        return index;
+    }
+
+    private void releaseFixedFileIndex(int index) {
+        // Clearing the slot drops the ring's reference to the file, so it is really closed once the fd is too.
+        int res = Native.ioUringRegisterFilesUpdate(ringBuffer.fd(), index, -1);
+        if (res < 0) {
+            logger.debug("Failed to clear fixed file {}: {}", index, res);
+            return;
+        }
+        fixedFileIndexes.clear(index);
+    }
+
+    /**
+     * Returns {@code true} if the fd of the given operation refers to a file, and so may be a fixed file.
+     */
+    private static boolean isFixedFileOp(byte op) {
+        switch (op) {
+            case Native.IORING_OP_READV:
+            case Native.IORING_OP_WRITEV:
+            case Native.IORING_OP_READ:
+            case Native.IORING_OP_WRITE:
+            case Native.IORING_OP_RECV:
+            case Native.IORING_OP_SEND:
+            case Native.IORING_OP_SEND_ZC:
+            case Native.IORING_OP_RECVMSG:
+            case Native.IORING_OP_SENDMSG:
+            case Native.IORING_OP_ACCEPT:
+            case Native.IORING_OP_CONNECT:
+            case Native.IORING_OP_POLL_ADD:
+            case Native.IORING_OP_SHUTDOWN:
+            case Native.IORING_OP_SPLICE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns a buffer group id that is not used by any other channel of this ring, or {@code -1} if all
+     * {@code 65536} ids are taken.
+     */
+    int nextBufferGroupId() {
+        int id = bufferGroupIds.nextClearBit(0);
+        if (id > 0xFFFF) {
+            return -1;
+        }
+        bufferGroupIds.set(id);
+        return id;
+    }
+
+    void releaseBufferGroupId(int id) {
+        bufferGroupIds.clear(id);
+    }
+
+    /**
+     * Returns the ring of provided buffers that is shared by all channels of this ring, creating it on first use, or
+     * {@code null} if it could not be registered.
+     */
+    IOUringBufferRing bufferRing() {
+        if (bufferRing == null && !bufferRingUnavailable) {
+            int bufferGroup = IOUring.isBufferRingSupported() ? nextBufferGroupId() : -1;
+            if (bufferGroup >= 0) {
+                bufferRing = IOUringBufferRing.newBufferRing(ringBuffer.fd(), bufferGroup, BUFFER_RING_ENTRIES,
+                        BUFFER_RING_BUFFER_SIZE, DefaultBufferAllocators.offHeapAllocator());
+                if (bufferRing == null) {
+                    releaseBufferGroupId(bufferGroup);
+                }
+            }
+            bufferRingUnavailable = bufferRing == null;
+        }
+        return bufferRing;
+    }
+
     private int nextRegistrationId() {
         int id;
         do {
@@ -275,6 +401,8 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
         private boolean removeLater;
         private int outstandingCompletions;
         private int id;
+        private int fd = -1;
+        private int fixedFileIndex = -1;
 
         DefaultIoUringIoRegistration(EventLoop eventLoop, IOUringIoHandle handle) {
             this.eventLoop = eventLoop;
@@ -285,6 +413,11 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
             this.id = id;
         }
 
+        void setFixedFile(int fd, int fixedFileIndex) {
+            this.fd = fd;
+            this.fixedFileIndex = fixedFileIndex;
+        }
+
         @Override
         public long submit(IoOps ops) {
             IOUringIoOps ioOps = (IOUringIoOps) ops;
@@ -301,8 +434,15 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
         }
 
         private void submit0(IOUringIoOps ioOps, long udata) {
-            ringBuffer.ioUringSubmissionQueue().enqueueSqe(ioOps.opcode(), ioOps.flags(), ioOps.ioPrio(),
-                    ioOps.rwFlags(), ioOps.fd(), ioOps.bufferAddress(), ioOps.length(), ioOps.offset(), udata);
+            int flags = ioOps.flags();
+            int fd = ioOps.fd();
+            if (fixedFileIndex >= 0 && fd == this.fd && isFixedFileOp(ioOps.opcode())) {
+                flags |= Native.IOSQE_FIXED_FILE;
+                fd = fixedFileIndex;
+            }
+            ringBuffer.ioUringSubmissionQueue().enqueueSqe(ioOps.opcode(), flags, ioOps.ioPrio(),
+                    ioOps.rwFlags(), fd, ioOps.bufferAddress(), ioOps.length(), ioOps.offset(),
+                    ioOps.spliceFdIn(), ioOps.bufferGroup(), udata);
             outstandingCompletions++;
         }
 
@@ -329,6 +469,11 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
         }
 
         private void tryRemove() {
+            if (fixedFileIndex >= 0) {
+                // Operations that are still in flight hold their own reference to the file.
+                releaseFixedFileIndex(fixedFileIndex);
+                fixedFileIndex = -1;
+            }
             if (outstandingCompletions > 0) {
                 // We have some completions outstanding, we will remove the id <-> registration mapping
                 // once these are done.
@@ -361,6 +506,10 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
         void handle(int res, int flags, byte op, short data) {
             event.update(res, flags, id, op, data);
             handle.handle(this, event);
+            if ((flags & Native.IORING_CQE_F_MORE) != 0) {
+                // A multishot operation that stays armed, more completions will follow for the same submission.
+                return;
+            }
             if (--outstandingCompletions == 0 && removeLater) {
                 // No more outstanding completions, remove the fd <-> registration mapping now.
                 removeLater = false;
@@ -420,4 +569,27 @@ public final class IOUringIoHandler implements IoHandler, CompletionCallback {
             return new IOUringIoHandler(ringBuffer);
         };
     }
+
+    /**
+     * Returns a factory of handlers whose rings are set up according to the given {@link IOUringIoHandlerConfig}.
+     * The configuration is read once, later changes to it do not affect the returned factory.
+     */
+    public static IoHandlerFactory newFactory(IOUringIoHandlerConfig config) {
+        IOUring.ensureAvailability();
+        requireNonNull(config, "config");
+        if (config.isSqPoll() && config.isDeferTaskRun()) {
+            throw new IllegalArgumentException("SQPOLL cannot be combined with DEFER_TASKRUN");
+        }
+        int ringSize = config.getRingSize();
+        int kernelWorkerOffloadThreshold = config.getKernelWorkerOffloadThreshold();
+        int setupFlags = config.setupFlags();
+        int sqPollIdleMillis = config.getSqPollIdleMillis();
+        int sqPollCpu = Math.max(0, config.getSqPollCpu());
+        int fixedFiles = config.getFixedFiles();
+        return () -> {
+            RingBuffer ringBuffer = Native.createRingBuffer(
+                    ringSize, kernelWorkerOffloadThreshold, setupFlags, sqPollIdleMillis, sqPollCpu);
+            return new IOUringIoHandler(ringBuffer, fixedFiles);
+        };
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
+
+/**
+ * Configuration of the ring created by {@link IOUringIoHandler#newFactory(IOUringIoHandlerConfig)}.
+ * <p>
+ * The modes that are not supported by the running kernel are ignored, see {@link IOUring#isSqPollSupported()},
+ * {@link IOUring#isSingleIssuerSupported()} and {@link IOUring#isDeferTaskRunSupported()}.
+ */
+public final class IOUringIoHandlerConfig {
+    private int ringSize = Native.DEFAULT_RING_SIZE;
+    private int kernelWorkerOffloadThreshold = Native.DEFAULT_IOSEQ_ASYNC_THRESHOLD;
+    private boolean sqPoll;
+    private int sqPollIdleMillis;
+    private int sqPollCpu = -1;
+    private boolean singleIssuer;
+    private boolean deferTaskRun;
+    private int fixedFiles;
+
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    /**
+     * Sets the number of entries of the submission queue.
+     */
+    public IOUringIoHandlerConfig setRingSize(int ringSize) {
+        this.ringSize = checkPositive(ringSize, "ringSize");
+        return this;
+    }
+
+    public int getKernelWorkerOffloadThreshold() {
+        return kernelWorkerOffloadThreshold;
+    }
+
+    /**
+     * Sets the number of registered channels from which on all operations are submitted with {@code IOSQE_ASYNC},
+     * which makes the kernel hand them to its worker threads instead of trying them inline first.
+     */
+    public IOUringIoHandlerConfig setKernelWorkerOffloadThreshold(int kernelWorkerOffloadThreshold) {
+        this.kernelWorkerOffloadThreshold = kernelWorkerOffloadThreshold;
+        return this;
+    }
+
+    public boolean isSqPoll() {
+        return sqPoll;
+    }
+
+    /**
+     * Sets whether the ring is created with {@code IORING_SETUP_SQPOLL}, which has a kernel thread poll the
+     * submission queue so that submitting does not need a system call while that thread is awake. The thread costs
+     * a CPU while it polls. Cannot be combined with {@link #setDeferTaskRun(boolean)}.
+     */
+    public IOUringIoHandlerConfig setSqPoll(boolean sqPoll) {
+        this.sqPoll = sqPoll;
+        return this;
+    }
+
+    public int getSqPollIdleMillis() {
+        return sqPollIdleMillis;
+    }
+
+    /**
+     * Sets how long the {@code SQPOLL} thread keeps polling an empty submission queue before it goes to sleep.
+     * {@code 0} uses the kernel default of one second.
+     */
+    public IOUringIoHandlerConfig setSqPollIdleMillis(int sqPollIdleMillis) {
+        this.sqPollIdleMillis = checkPositiveOrZero(sqPollIdleMillis, "sqPollIdleMillis");
+        return this;
+    }
+
+    public int getSqPollCpu() {
+        return sqPollCpu;
+    }
+
+    /**
+     * Sets the CPU the {@code SQPOLL} thread is pinned to, or {@code -1} to let the scheduler place it.
+     */
+    public IOUringIoHandlerConfig setSqPollCpu(int sqPollCpu) {
+        if (sqPollCpu < -1) {
+            throw new IllegalArgumentException("sqPollCpu: " + sqPollCpu + " (expected: >= -1)");
+        }
+        this.sqPollCpu = sqPollCpu;
+        return this;
+    }
+
+    public boolean isSingleIssuer() {
+        return singleIssuer;
+    }
+
+    /**
+     * Sets whether the ring is created with {@code IORING_SETUP_SINGLE_ISSUER}, which tells the kernel that only the
+     * event loop thread submits to it so that it can skip some locking.
+     */
+    public IOUringIoHandlerConfig setSingleIssuer(boolean singleIssuer) {
+        this.singleIssuer = singleIssuer;
+        return this;
+    }
+
+    public boolean isDeferTaskRun() {
+        return deferTaskRun;
+    }
+
+    /**
+     * Sets whether the ring is created with {@code IORING_SETUP_DEFER_TASKRUN}, which has the kernel post completions
+     * only when the event loop asks for them, instead of interrupting it. Implies
+     * {@link #setSingleIssuer(boolean) single issuer} and cannot be combined with {@link #setSqPoll(boolean)}.
+     */
+    public IOUringIoHandlerConfig setDeferTaskRun(boolean deferTaskRun) {
+        this.deferTaskRun = deferTaskRun;
+        return this;
+    }
+
+    public int getFixedFiles() {
+        return fixedFiles;
+    }
+
+    /**
+     * Sets the size of the table of fixed files registered with the ring. Registered channels take a slot while
+     * one is free, and their operations then use {@code IOSQE_FIXED_FILE}, which saves the kernel from looking up
+     * the file descriptor for every operation. {@code 0} disables fixed files.
+     */
+    public IOUringIoHandlerConfig setFixedFiles(int fixedFiles) {
+        this.fixedFiles = checkPositiveOrZero(fixedFiles, "fixedFiles");
+        return this;
+    }
+
+    /**
+     * Returns the {@code IORING_SETUP_*} flags for the modes that are enabled and supported by the kernel.
+     */
+    int setupFlags() {
+        int flags = 0;
+        if (sqPoll && IOUring.isSqPollSupported()) {
+            flags |= Native.IORING_SETUP_SQPOLL;
+            if (sqPollCpu >= 0) {
+                flags |= Native.IORING_SETUP_SQ_AFF;
+            }
+        }
+        if ((singleIssuer || deferTaskRun) && IOUring.isSingleIssuerSupported()) {
+            // The ring is created disabled and enabled by the event loop, as that becomes the single issuer.
+            flags |= Native.IORING_SETUP_SINGLE_ISSUER | Native.IORING_SETUP_R_DISABLED;
+            if (deferTaskRun && IOUring.isDeferTaskRunSupported()) {
+                flags |= Native.IORING_SETUP_DEFER_TASKRUN;
+            }
+        }
+        return flags;
+    }
+}
@@ -31,6 +31,8 @@ public final class IOUringIoOps implements IoOps {
     private final long bufferAddress;
     private final int length;
     private final long offset;
+    private final int spliceFdIn;
+    private final short bufferGroup;
     private final short data;
 
     /**
@@ -48,6 +50,45 @@ public final class IOUringIoOps implements IoOps {
      */
     public IOUringIoOps(byte opcode, int flags, short ioPrio, int fd, int rwFlags, long bufferAddress,
                         int length, long offset, short data) {
+        this(opcode, flags, ioPrio, fd, rwFlags, bufferAddress, length, offset, 0, data);
+    }
+
+    /**
+     * Create a new instance
+     *
+     * @param opcode        the operation.
+     * @param flags         the flags
+     * @param ioPrio        the priority.
+     * @param fd            the filedescriptor.
+     * @param rwFlags       the flags specific for the op.
+     * @param bufferAddress the bufferaddress
+     * @param length        the length
+     * @param offset        the offset.
+     * @param spliceFdIn    the filedescriptor to read from, for {@code OP_SPLICE} and {@code OP_TEE}.
+     * @param data          the user data that will be passed back on completion.
+     */
+    public IOUringIoOps(byte opcode, int flags, short ioPrio, int fd, int rwFlags, long bufferAddress,
+                        int length, long offset, int spliceFdIn, short data) {
+        this(opcode, flags, ioPrio, fd, rwFlags, bufferAddress, length, offset, spliceFdIn, (short) 0, data);
+    }
+
+    /**
+     * Create a new instance
+     *
+     * @param opcode        the operation.
+     * @param flags         the flags
+     * @param ioPrio        the priority.
+     * @param fd            the filedescriptor.
+     * @param rwFlags       the flags specific for the op.
+     * @param bufferAddress the bufferaddress
+     * @param length        the length
+     * @param offset        the offset.
+     * @param spliceFdIn    the filedescriptor to read from, for {@code OP_SPLICE} and {@code OP_TEE}.
+     * @param bufferGroup   the group of provided buffers to select from, when {@code IOSQE_BUFFER_SELECT} is set.
+     * @param data          the user data that will be passed back on completion.
+     */
+    public IOUringIoOps(byte opcode, int flags, short ioPrio, int fd, int rwFlags, long bufferAddress,
+                        int length, long offset, int spliceFdIn, short bufferGroup, short data) {
         this.opcode = opcode;
         this.flags = flags;
         this.ioPrio = ioPrio;
@@ -56,6 +97,8 @@ public final class IOUringIoOps implements IoOps {
         this.bufferAddress = bufferAddress;
         this.length = length;
         this.offset = offset;
+        this.spliceFdIn = spliceFdIn;
+        this.bufferGroup = bufferGroup;
         this.data = data;
     }
 
@@ -131,6 +174,24 @@ public final class IOUringIoOps implements IoOps {
         return offset;
     }
 
+    /**
+     * Returns the filedescriptor to read from. This is specific to the opcode.
+     *
+     * @return  spliceFdIn
+     */
+    public int spliceFdIn() {
+        return spliceFdIn;
+    }
+
+    /**
+     * Returns the group of provided buffers to select from. This is specific to the opcode.
+     *
+     * @return  bufferGroup
+     */
+    public short bufferGroup() {
+        return bufferGroup;
+    }
+
     /**
      * Returns the data that the user attached to the op. This data will be passed back on completion.
      *
@@ -151,6 +212,8 @@ public final class IOUringIoOps implements IoOps {
                 ", bufferAddress=" + bufferAddress +
                 ", length=" + length +
                 ", offset=" + offset +
+                ", spliceFdIn=" + spliceFdIn +
+                ", bufferGroup=" + bufferGroup +
                 ", data=" + data +
                 '}';
     }
@@ -254,6 +317,22 @@ public final class IOUringIoOps implements IoOps {
                 acceptedAddressMemoryAddress, 0, acceptedAddressLengthMemoryAddress, data);
     }
 
+    /**
+     * Returns a new multishot {@code OP_ACCEPT} {@link IOUringIoOps}, which keeps producing a completion for every
+     * accepted connection until it is cancelled or fails.
+     * The peer address is not captured, as every completion would overwrite the same memory.
+     *
+     * @param fd                                    the filedescriptor
+     * @param flags                                 the flags.
+     * @param acceptFlags                           the accept flags.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newAcceptMultishot(int fd, int flags, int acceptFlags, short data) {
+        return new IOUringIoOps(Native.IORING_OP_ACCEPT, flags, Native.IORING_ACCEPT_MULTISHOT, fd, acceptFlags,
+                0, 0, 0, data);
+    }
+
     /**
      * Returns a new {@code OP_WRITEV} {@link IOUringIoOps}.
      *
@@ -305,6 +384,87 @@ public final class IOUringIoOps implements IoOps {
                 Native.IORING_OP_RECV, flags, (short) 0, fd, recvFlags, memoryAddress, length, 0, data);
     }
 
+    /**
+     * Returns a new multishot {@code OP_RECV} {@link IOUringIoOps}, which keeps producing a completion whenever
+     * data arrives, each time into a buffer the kernel selects from the given buffer group.
+     *
+     * @param fd                                    the filedescriptor
+     * @param flags                                 the flags.
+     * @param recvFlags                             the recv flags.
+     * @param bufferGroup                           the group of provided buffers to select from.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newRecvMultishot(int fd, int flags, int recvFlags, short bufferGroup, short data) {
+        return new IOUringIoOps(Native.IORING_OP_RECV, flags | Native.IOSQE_BUFFER_SELECT,
+                Native.IORING_RECV_MULTISHOT, fd, recvFlags, 0, 0, 0, 0, bufferGroup, data);
+    }
+
+    /**
+     * Returns a new {@code OP_RECV} {@link IOUringIoOps}, which reads into a buffer the kernel selects from the given
+     * buffer group once data arrives.
+     *
+     * @param fd                                    the filedescriptor
+     * @param flags                                 the flags.
+     * @param recvFlags                             the recv flags.
+     * @param bufferGroup                           the group of provided buffers to select from.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newRecvBufferSelect(int fd, int flags, int recvFlags, short bufferGroup, short data) {
+        return new IOUringIoOps(Native.IORING_OP_RECV, flags | Native.IOSQE_BUFFER_SELECT,
+                (short) 0, fd, recvFlags, 0, 0, 0, 0, bufferGroup, data);
+    }
+
+    /**
+     * Returns a new {@code OP_PROVIDE_BUFFERS} {@link IOUringIoOps}.
+     *
+     * @param memoryAddress                         the memory address of the first buffer.
+     * @param length                                the length of each buffer.
+     * @param count                                 the number of consecutive buffers.
+     * @param bufferGroup                           the group to add the buffers to.
+     * @param bufferId                              the id of the first buffer.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newProvideBuffers(long memoryAddress, int length, int count, short bufferGroup,
+                                                 int bufferId, short data) {
+        return new IOUringIoOps(Native.IORING_OP_PROVIDE_BUFFERS, 0, (short) 0, count, 0, memoryAddress, length,
+                bufferId, 0, bufferGroup, data);
+    }
+
+    /**
+     * Returns a new {@code OP_REMOVE_BUFFERS} {@link IOUringIoOps}.
+     *
+     * @param count                                 the maximum number of buffers to remove.
+     * @param bufferGroup                           the group to remove the buffers from.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newRemoveBuffers(int count, short bufferGroup, short data) {
+        return new IOUringIoOps(Native.IORING_OP_REMOVE_BUFFERS, 0, (short) 0, count, 0, 0, 0, 0, 0,
+                bufferGroup, data);
+    }
+
+    /**
+     * Returns a new {@code OP_SEND_ZC} {@link IOUringIoOps}, which sends without copying the buffer into the socket.
+     * Unless the send failed, a second completion flagged with {@code IORING_CQE_F_NOTIF} follows once the kernel no
+     * longer uses the buffer.
+     *
+     * @param fd                                    the filedescriptor
+     * @param flags                                 the flags.
+     * @param sendFlags                             the send flags.
+     * @param memoryAddress                         the memory address of the buffer.
+     * @param length                                the length of the buffer.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newSendZc(
+            int fd, int flags, int sendFlags, long memoryAddress, int length, short data) {
+        return new IOUringIoOps(
+                Native.IORING_OP_SEND_ZC, flags, (short) 0, fd, sendFlags, memoryAddress, length, 0, data);
+    }
+
     /**
      * Returns a new {@code OP_RECVMSG} {@link IOUringIoOps}.
      *
@@ -337,6 +497,26 @@ public final class IOUringIoOps implements IoOps {
                 Native.IORING_OP_SEND, flags, (short) 0, fd, sendFlags, memoryAddress, length, 0, data);
     }
 
+    /**
+     * Returns a new {@code OP_SPLICE} {@link IOUringIoOps}.
+     *
+     * @param fdIn                                  the filedescriptor to read from.
+     * @param offIn                                 the offset to read from, or {@code -1} for pipes.
+     * @param fdOut                                 the filedescriptor to write to.
+     * @param offOut                                the offset to write to, or {@code -1} for pipes and sockets.
+     * @param nbytes                                the number of bytes to move.
+     * @param spliceFlags                           the splice flags.
+     * @param flags                                 the flags.
+     * @param data                                  the data
+     * @return                                      ops.
+     */
+    public static IOUringIoOps newSplice(int fdIn, long offIn, int fdOut, long offOut, int nbytes,
+                                         int spliceFlags, int flags, short data) {
+        // The input offset goes into the address field, which is a union with splice_off_in.
+        return new IOUringIoOps(Native.IORING_OP_SPLICE, flags, (short) 0, fdOut, spliceFlags, offIn, nbytes,
+                offOut, fdIn, data);
+    }
+
     /**
      * Returns a new {@code OP_SHUTDOWN} {@link IOUringIoOps}.
      *
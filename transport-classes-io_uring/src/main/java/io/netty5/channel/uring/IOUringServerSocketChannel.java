@@ -52,6 +52,7 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         implements ServerSocketChannel {
     private static final Logger LOGGER = LoggerFactory.getLogger(IOUringDatagramChannel.class);
     private static final short IS_ACCEPT = 1;
+    private static final short IS_MULTISHOT_ACCEPT = 2;
     private final ByteBuffer sockaddrMemory;
     private final long sockaddrPtr;
     private final long addrlenPtr;
@@ -62,6 +63,9 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     private final byte[] inet6AddressArray = new byte[SockaddrIn.IPV6_ADDRESS_LENGTH];
 
     private volatile int backlog = NetUtil.SOMAXCONN;
+    private volatile boolean multishotAccept;
+    private long multishotAcceptUdata;
+    private boolean multishotAcceptCancelled;
 
     public IOUringServerSocketChannel(EventLoop eventLoop, EventLoopGroup childEventLoopGroup) {
         super(null, eventLoop, false, new ServerChannelReadHandleFactory(), new ServerChannelWriteHandleFactory(),
@@ -84,7 +88,9 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
 
     @Override
     protected void doRead(boolean wasReadPendingAlready) throws Exception {
-        if (!wasReadPendingAlready) {
+        if (multishotAccept) {
+            armMultishotAccept();
+        } else if (!wasReadPendingAlready) {
             IOUringIoRegistration registration = registration();
             IOUringIoOps ops = IOUringIoOps.newAccept(fd().intValue(), 0, 0,
                     sockaddrPtr, addrlenPtr, IS_ACCEPT);
@@ -92,8 +98,39 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         }
     }
 
+    private void armMultishotAccept() {
+        if (multishotAcceptUdata == 0) {
+            IOUringIoRegistration registration = registration();
+            multishotAcceptUdata = registration.submit(
+                    IOUringIoOps.newAcceptMultishot(fd().intValue(), 0, 0, IS_MULTISHOT_ACCEPT));
+        }
+    }
+
     @Override
-    void readComplete(int res, long udata) {
+    protected void doClearScheduledRead() {
+        if (multishotAcceptUdata != 0 && !multishotAcceptCancelled && isRegistered()) {
+            // Connections accepted until the cancellation lands are still passed on, so that no fd is lost.
+            multishotAcceptCancelled = true;
+            registration().submit(IOUringIoOps.newAsyncCancel(
+                    fd().intValue(), 0, multishotAcceptUdata, Native.IORING_OP_ACCEPT));
+        }
+    }
+
+    @Override
+    void readComplete(int res, int flags, long udata) {
+        if (udata == multishotAcceptUdata && (flags & Native.IORING_CQE_F_MORE) == 0) {
+            // The multishot accept is done, either cancelled or stopped by an error.
+            // Reading again arms a new one.
+            multishotAcceptUdata = 0;
+            boolean cancelled = multishotAcceptCancelled;
+            multishotAcceptCancelled = false;
+            if (res == Native.ERRNO_ECANCELED_NEGATIVE) {
+                if (isActive() && (!cancelled || isReadPending())) {
+                    armMultishotAccept();
+                }
+                return;
+            }
+        }
         currentCompletionResult = res;
         currentCompletionData = UserData.decodeData(udata);
         readNow();
@@ -103,14 +140,14 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     protected boolean doReadNow(ReadSink readSink) throws IOException {
         int res = currentCompletionResult;
         short data = currentCompletionData;
-        if (data != IS_ACCEPT) {
+        if (data != IS_ACCEPT && data != IS_MULTISHOT_ACCEPT) {
             readSink.processRead(0, 0, null);
             return false;
         }
         currentCompletionResult = 0;
         currentCompletionData = 0;
         if (res >= 0) {
-            Channel channel = newChildChannel(res);
+            Channel channel = newChildChannel(res, data == IS_ACCEPT);
             readSink.processRead(1, 1, channel);
         } else if (res == ERRNO_EAGAIN_NEGATIVE || res == ERRNO_EWOULDBLOCK_NEGATIVE) {
             // Check if we failed because there was nothing to accept atm.
@@ -127,9 +164,10 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         throw new UnsupportedOperationException();
     }
 
-    private Channel newChildChannel(int fd) {
+    private Channel newChildChannel(int fd, boolean peerCaptured) {
         final SocketAddress peer;
-        if (socket.protocolFamily() == SocketProtocolFamily.UNIX) {
+        if (socket.protocolFamily() == SocketProtocolFamily.UNIX || !peerCaptured) {
+            // A multishot accept does not capture the peer address, so the child channel looks it up itself.
             peer = null;
         } else {
             peer = buildAddress();
@@ -213,6 +251,9 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         if (option == ChannelOption.SO_BACKLOG) {
             return (T) Integer.valueOf(getBacklog());
         }
+        if (option == IOUringChannelOption.MULTISHOT_ACCEPT) {
+            return (T) Boolean.valueOf(multishotAccept);
+        }
         return super.getExtendedOption(option);
     }
 
@@ -220,6 +261,8 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     protected <T> void setExtendedOption(ChannelOption<T> option, T value) {
         if (option == ChannelOption.SO_BACKLOG) {
             setBacklog((Integer) value);
+        } else if (option == IOUringChannelOption.MULTISHOT_ACCEPT) {
+            multishotAccept = (Boolean) value && IOUring.isAcceptMultishotSupported();
         } else {
             super.setExtendedOption(option, value);
         }
@@ -227,7 +270,7 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
 
     @Override
     protected boolean isExtendedOptionSupported(ChannelOption<?> option) {
-        if (option == ChannelOption.SO_BACKLOG) {
+        if (option == ChannelOption.SO_BACKLOG || option == IOUringChannelOption.MULTISHOT_ACCEPT) {
             return true;
         }
         return super.isExtendedOptionSupported(option);
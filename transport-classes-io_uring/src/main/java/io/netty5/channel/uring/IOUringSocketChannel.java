@@ -21,6 +21,7 @@ import io.netty5.channel.AdaptiveReadHandleFactory;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.ChannelPipeline;
 import io.netty5.channel.ChannelShutdownDirection;
+import io.netty5.channel.DefaultFileRegion;
 import io.netty5.channel.EventLoop;
 import io.netty5.channel.FileRegion;
 import io.netty5.channel.ReadHandleFactory;
@@ -29,6 +30,7 @@ import io.netty5.channel.socket.SocketChannel;
 import io.netty5.channel.socket.SocketChannelWriteHandleFactory;
 import io.netty5.channel.socket.SocketProtocolFamily;
 import io.netty5.channel.unix.Errors;
+import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.channel.unix.IovArray;
 import io.netty5.channel.unix.UnixChannelUtil;
 import io.netty5.util.concurrent.Future;
@@ -55,12 +57,21 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
     private static final Logger LOGGER = LoggerFactory.getLogger(IOUringDatagramChannel.class);
     private static final short IS_WRITE = 0;
     private static final short IS_CONNECT = 1;
+    private static final short IS_SPLICE_IN = 2;
+    private static final short IS_SPLICE_OUT = 3;
+    // Matches the default pipe capacity, so splicing a chunk into the empty pipe never has to wait for the reader.
+    private static final int SPLICE_CHUNK_SIZE = 64 * 1024;
 
     private final IovArray writeIovs;
     private final ObjectRing<Promise<Void>> writePromises;
+    private final ObjectRing<ZeroCopyWriter> zeroCopyNotifications;
 
     private Buffer connectInitalData;
     private MsgHdrMemory connectMsgHdr;
+    private FileDescriptor[] splicePipe;
+    private SpliceWriter spliceWriter;
+    private ZeroCopyWriter zeroCopyWriter;
+    private int writeZeroCopyThreshold = -1;
     private boolean writeInFlight;
     private boolean moreWritesPending;
 
@@ -78,6 +89,7 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
                 socket, remote, active);
         writeIovs = new IovArray();
         writePromises = new ObjectRing<>();
+        zeroCopyNotifications = new ObjectRing<>();
     }
 
     @Override
@@ -150,16 +162,49 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         // If we already have an outstanding write promise, we can't write anymore until it completes.
         if (!writeInFlight) {
             writeSink.consumeEachFlushedMessage(this::submitWriteMessage);
-            IOUringIoRegistration registration = registration();
-            IOUringIoOps ops = IOUringIoOps.newWritev(fd().intValue(), 0, 0, writeIovs.memoryAddress(0),
-                    writeIovs.count(), IS_WRITE);
-            registration.submit(ops);
+            if (spliceWriter != null) {
+                spliceWriter.submitSplices();
+            } else if (zeroCopyWriter != null) {
+                zeroCopyWriter.submitSend();
+            } else {
+                IOUringIoRegistration registration = registration();
+                IOUringIoOps ops = IOUringIoOps.newWritev(fd().intValue(), 0, 0, writeIovs.memoryAddress(0),
+                        writeIovs.count(), IS_WRITE);
+                registration.submit(ops);
+            }
             writeInFlight = true;
         }
     }
 
     private boolean submitWriteMessage(Object msg, Promise<Void> promise) {
-        if (msg instanceof Buffer) {
+        if (spliceWriter != null || zeroCopyWriter != null) {
+            // A spliced file region or a zero-copy send is written on its own; the following messages wait until it
+            // is done.
+            return false;
+        }
+        if (msg instanceof DefaultFileRegion && IOUring.isSpliceSupported()) {
+            if (writeIovs.count() > 0) {
+                // Write out the buffers in front of the region first, to preserve ordering.
+                return false;
+            }
+            DefaultFileRegion region = (DefaultFileRegion) msg;
+            if (region.transferred() == region.count()) {
+                promise.setSuccess(null);
+                return true;
+            }
+            try {
+                spliceWriter = new SpliceWriter(region, promise);
+            } catch (IOException e) {
+                promise.setFailure(e);
+                return true;
+            }
+        } else if (msg instanceof Buffer && isZeroCopyWrite((Buffer) msg)) {
+            if (writeIovs.count() > 0) {
+                // Write out the buffers in front of this one first, to preserve ordering.
+                return false;
+            }
+            zeroCopyWriter = new ZeroCopyWriter((Buffer) msg, promise);
+        } else if (msg instanceof Buffer) {
             Buffer buf = (Buffer) msg;
             if (buf.readableBytes() + writeIovs.size() < writeIovs.maxBytes() &&
                     buf.countReadableComponents() + writeIovs.count() < IOV_MAX) {
@@ -184,10 +229,34 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         return true;
     }
 
+    private boolean isZeroCopyWrite(Buffer buf) {
+        return writeZeroCopyThreshold >= 0 && buf.readableBytes() >= writeZeroCopyThreshold &&
+                buf.readableBytes() > 0 && buf.countReadableComponents() == 1;
+    }
+
+    @Override
+    void sendZcComplete(int result, int flags, long udata) {
+        if ((flags & Native.IORING_CQE_F_NOTIF) != 0) {
+            ZeroCopyWriter writer = zeroCopyNotifications.remove(udata);
+            if (writer != null) {
+                writer.notificationComplete();
+            }
+            return;
+        }
+        assert zeroCopyWriter != null;
+        zeroCopyWriter.sendComplete(result, flags, udata);
+    }
+
     @Override
     void writeComplete(int result, long udata) {
-        writeInFlight = false;
         short data = UserData.decodeData(udata);
+        if (data == IS_SPLICE_IN || data == IS_SPLICE_OUT) {
+            // The write stays in flight until the whole region has been spliced.
+            assert spliceWriter != null;
+            spliceWriter.spliceComplete(data, result);
+            return;
+        }
+        writeInFlight = false;
         if (data == IS_CONNECT) {
             assert connectInitalData != null;
             if (result > 0) {
@@ -251,7 +320,7 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         // We only do one write at a time, because on TCP we have to do the writes in-order,
         // and operations in io_uring can complete out-of-order.
         moreWritesPending = true;
-        return !writePromises.isEmpty();
+        return !writePromises.isEmpty() || spliceWriter != null || zeroCopyWriter != null;
     }
 
     @Override
@@ -303,6 +372,27 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
             super.doClose();
         } finally {
             writeIovs.release();
+            if (splicePipe != null) {
+                closePipe(splicePipe);
+                splicePipe = null;
+            }
+        }
+    }
+
+    private FileDescriptor[] splicePipe() throws IOException {
+        if (splicePipe == null) {
+            splicePipe = FileDescriptor.pipe();
+        }
+        return splicePipe;
+    }
+
+    private void closePipe(FileDescriptor[] pipe) {
+        for (FileDescriptor fd : pipe) {
+            try {
+                fd.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close a splice pipe of {}", this, e);
+            }
         }
     }
 
@@ -315,6 +405,15 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
                 throw new UncheckedIOException(e);
             }
         }
+        if (option == IOUringChannelOption.MULTISHOT_RECV) {
+            return (T) Boolean.valueOf(isMultishotRecv());
+        }
+        if (option == IOUringChannelOption.BUFFER_RING_RECV) {
+            return (T) Boolean.valueOf(isBufferRingRecv());
+        }
+        if (option == IOUringChannelOption.WRITE_ZERO_COPY_THRESHOLD) {
+            return (T) Integer.valueOf(writeZeroCopyThreshold);
+        }
         return super.getExtendedOption(option);
     }
 
@@ -326,6 +425,13 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
+        } else if (option == IOUringChannelOption.MULTISHOT_RECV) {
+            setMultishotRecv((Boolean) value);
+        } else if (option == IOUringChannelOption.BUFFER_RING_RECV) {
+            setBufferRingRecv((Boolean) value);
+        } else if (option == IOUringChannelOption.WRITE_ZERO_COPY_THRESHOLD) {
+            int threshold = (Integer) value;
+            writeZeroCopyThreshold = IOUring.isSendZcSupported() ? Math.max(-1, threshold) : -1;
         } else {
             super.setExtendedOption(option, value);
         }
@@ -333,7 +439,9 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
 
     @Override
     protected boolean isExtendedOptionSupported(ChannelOption<?> option) {
-        return option == ChannelOption.TCP_FASTOPEN_CONNECT || super.isExtendedOptionSupported(option);
+        return option == ChannelOption.TCP_FASTOPEN_CONNECT || option == IOUringChannelOption.MULTISHOT_RECV ||
+                option == IOUringChannelOption.BUFFER_RING_RECV ||
+                option == IOUringChannelOption.WRITE_ZERO_COPY_THRESHOLD || super.isExtendedOptionSupported(option);
     }
 
     private final class RegionWriter implements WritableByteChannel, FutureListener<Void> {
@@ -398,6 +506,173 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         }
     }
 
+    /**
+     * Writes a {@link DefaultFileRegion} by splicing chunks of the file into a pipe, and from the pipe into the
+     * socket, so the file contents never have to be copied into user space.
+     * Each chunk is submitted as two linked {@code IORING_OP_SPLICE} operations.
+     */
+    private final class SpliceWriter {
+        private final DefaultFileRegion region;
+        private final Promise<Void> promise;
+        private final int fileFd;
+        private final int pipeIn;
+        private final int pipeOut;
+        private long position;
+        private long remaining;
+        private int piped;
+        private Throwable cause;
+
+        SpliceWriter(DefaultFileRegion region, Promise<Void> promise) throws IOException {
+            this.region = region;
+            this.promise = promise;
+            fileFd = LinuxSocket.fileRegionFd(region);
+            FileDescriptor[] pipe = splicePipe();
+            pipeOut = pipe[0].intValue();
+            pipeIn = pipe[1].intValue();
+            position = region.position() + region.transferred();
+            remaining = region.count() - region.transferred();
+        }
+
+        void submitSplices() {
+            IOUringIoRegistration registration = registration();
+            int socketFd = fd().intValue();
+            if (piped > 0) {
+                // The previous chunk was only partially written to the socket, so drain the pipe first.
+                registration.submit(IOUringIoOps.newSplice(pipeOut, -1, socketFd, -1, piped,
+                        Native.SPLICE_F_MOVE, 0, IS_SPLICE_OUT));
+            } else {
+                int length = (int) Math.min(remaining, SPLICE_CHUNK_SIZE);
+                registration.submit(IOUringIoOps.newSplice(fileFd, position, pipeIn, -1, length,
+                        Native.SPLICE_F_MOVE, Native.IOSQE_LINK, IS_SPLICE_IN));
+                registration.submit(IOUringIoOps.newSplice(pipeOut, -1, socketFd, -1, length,
+                        Native.SPLICE_F_MOVE, 0, IS_SPLICE_OUT));
+            }
+        }
+
+        void spliceComplete(short data, int result) {
+            if (data == IS_SPLICE_IN) {
+                if (result > 0) {
+                    piped += result;
+                    position += result;
+                    remaining -= result;
+                } else if (result == 0) {
+                    // The file is shorter than the region.
+                    cause = new IOException("Underlying file ended " + remaining + " bytes short of the region");
+                } else {
+                    cause = Errors.newIOException("splice", result);
+                }
+                // A short splice into the pipe cancels the linked splice into the socket, which completes next.
+                return;
+            }
+            if (cause == null) {
+                if (result == Native.ERRNO_ECANCELED_NEGATIVE || result == Errors.ERRNO_EAGAIN_NEGATIVE) {
+                    submitSplices();
+                    return;
+                }
+                if (result < 0) {
+                    cause = Errors.newIOException("splice", result);
+                } else {
+                    piped -= result;
+                    // Only what reached the socket counts as transferred, like in DefaultFileRegion.transferTo().
+                    LinuxSocket.fileRegionTransferred(region, region.transferred() + result);
+                }
+            }
+            if (cause == null && (piped > 0 || remaining > 0)) {
+                submitSplices();
+                return;
+            }
+
+            spliceWriter = null;
+            writeInFlight = false;
+            if (cause != null) {
+                promise.setFailure(cause);
+                handleWriteError(cause);
+            } else {
+                promise.setSuccess(null);
+                if (moreWritesPending) {
+                    moreWritesPending = false;
+                    writeFlushedNow();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a large {@link Buffer} with {@code IORING_OP_SEND_ZC}. Every send completes twice: once when the data
+     * has been queued on the socket, which lets the following writes go ahead, and once more with
+     * {@code IORING_CQE_F_NOTIF} when the kernel no longer uses the memory. The bytes are split off the written
+     * message up front, so the memory stays alive past the write promise, until the last notification came in.
+     */
+    private final class ZeroCopyWriter {
+        private final Promise<Void> promise;
+        private final Buffer buffer;
+        private final long address;
+        private final int length;
+        private int sent;
+        private int notificationsPending;
+
+        ZeroCopyWriter(Buffer msg, Promise<Void> promise) {
+            this.promise = promise;
+            length = msg.readableBytes();
+            buffer = msg.readSplit(length);
+            try (var itr = buffer.forEachComponent()) {
+                address = itr.firstReadable().readableNativeAddress();
+            }
+        }
+
+        void submitSend() {
+            long udata = registration().submit(IOUringIoOps.newSendZc(
+                    fd().intValue(), 0, 0, address + sent, length - sent, nextOpsId()));
+            zeroCopyNotifications.push(this, udata);
+            notificationsPending++;
+        }
+
+        void sendComplete(int result, int flags, long udata) {
+            if ((flags & Native.IORING_CQE_F_MORE) == 0) {
+                // No notification follows, as the kernel did not take the memory.
+                zeroCopyNotifications.remove(udata);
+                notificationsPending--;
+            }
+            if (result == Native.ERRNO_ECANCELED_NEGATIVE || result == Errors.ERRNO_EAGAIN_NEGATIVE) {
+                submitSend();
+                return;
+            }
+            if (result >= 0) {
+                sent += result;
+                if (sent < length) {
+                    submitSend();
+                    return;
+                }
+            }
+
+            zeroCopyWriter = null;
+            writeInFlight = false;
+            releaseIfNotified();
+            if (result < 0) {
+                IOException cause = Errors.newIOException("send_zc", result);
+                promise.setFailure(cause);
+                handleWriteError(cause);
+            } else {
+                promise.setSuccess(null);
+                if (moreWritesPending) {
+                    moreWritesPending = false;
+                    writeFlushedNow();
+                }
+            }
+        }
+
+        void notificationComplete() {
+            notificationsPending--;
+            releaseIfNotified();
+        }
+
+        private void releaseIfNotified() {
+            if (notificationsPending == 0 && zeroCopyWriter != this) {
+                buffer.close();
+            }
+        }
+    }
+
     private static final class IOUringSocketPipeline extends DefaultAbstractChannelPipeline {
         IOUringSocketPipeline(AbstractChannel<?, ?, ?> channel) {
             super(channel);
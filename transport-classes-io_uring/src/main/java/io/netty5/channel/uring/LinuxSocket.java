@@ -16,6 +16,7 @@
 package io.netty5.channel.uring;
 
 import io.netty5.channel.ChannelException;
+import io.netty5.channel.DefaultFileRegion;
 import io.netty5.channel.socket.SocketProtocolFamily;
 import io.netty5.channel.unix.Errors;
 import io.netty5.channel.unix.NativeInetAddress;
@@ -276,6 +277,18 @@ final class LinuxSocket extends Socket {
         return getPeerCredentials(intValue());
     }
 
+    /**
+     * Returns the file descriptor of the file the given region is backed by, opening the file if needed.
+     */
+    static int fileRegionFd(DefaultFileRegion region) throws IOException {
+        region.open();
+        return fileRegionFd0(region);
+    }
+
+    static void fileRegionTransferred(DefaultFileRegion region, long transferred) {
+        fileRegionTransferred0(region, transferred);
+    }
+
     boolean isLoopbackModeDisabled() throws IOException {
         return getIpMulticastLoop(intValue(), ipv6) == 0;
     }
@@ -402,6 +415,8 @@ final class LinuxSocket extends Socket {
     private static native void getTcpInfo(int fd, long[] array) throws IOException;
     private static native PeerCredentials getPeerCredentials(int fd) throws IOException;
     private static native int isTcpFastOpenConnect(int fd) throws IOException;
+    private static native int fileRegionFd0(DefaultFileRegion region);
+    private static native void fileRegionTransferred0(DefaultFileRegion region, long transferred);
 
     private static native void setTcpDeferAccept(int fd, int deferAccept) throws IOException;
     private static native void setTcpQuickAck(int fd, int quickAck) throws IOException;
@@ -15,6 +15,7 @@
  */
 package io.netty5.channel.uring;
 
+import io.netty5.channel.DefaultFileRegion;
 import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.channel.unix.PeerCredentials;
 import io.netty5.channel.unix.Unix;
@@ -28,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.Selector;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -59,7 +61,7 @@ final class Native {
         ClassInitializerUtil.tryLoadClasses(
                 Native.class,
                 // netty_io_uring_linuxsocket
-                PeerCredentials.class, java.io.FileDescriptor.class
+                PeerCredentials.class, DefaultFileRegion.class, FileChannel.class, java.io.FileDescriptor.class
         );
 
         File tmpDir = PlatformDependent.tmpdir();
@@ -131,6 +133,7 @@ final class Native {
     static final int POLLRDHUP = NativeStaticallyReferencedJniMethods.pollrdhup();
     static final int ERRNO_ECANCELED_NEGATIVE = -NativeStaticallyReferencedJniMethods.ecanceled();
     static final int ERRNO_ETIME_NEGATIVE = -NativeStaticallyReferencedJniMethods.etime();
+    static final int ERRNO_ENOBUFS_NEGATIVE = -NativeStaticallyReferencedJniMethods.enobufs();
 
     // These constants must be defined to have the same numeric value as their corresponding
     // ordinal in the enum defined in the io_uring.h header file.
@@ -175,6 +178,8 @@ final class Native {
     static final byte IORING_OP_MKDIRAT = 37; // Specified by IORING_OP_MKDIRAT in io_uring.h
     static final byte IORING_OP_SYMLINKAT = 38; // Specified by IORING_OP_SYMLINKAT in io_uring.h
     static final byte IORING_OP_LINKAT = 39; // Specified by IORING_OP_LINKAT in io_uring.h
+    // Newer than the minimum supported kernel, so this is not checked against io_uring.h by the native library.
+    static final byte IORING_OP_SEND_ZC = 47; // Specified by IORING_OP_SEND_ZC in io_uring.h
 
     static String opToStr(byte op) {
         switch (op) {
@@ -218,6 +223,7 @@ final class Native {
             case IORING_OP_MKDIRAT: return "MKDIRAT";
             case IORING_OP_SYMLINKAT: return "SYMLINKAT";
             case IORING_OP_LINKAT: return "LINKAT";
+            case IORING_OP_SEND_ZC: return "SEND_ZC";
             default: return "[OP CODE " + op + ']';
         }
     }
@@ -230,6 +236,26 @@ final class Native {
     static final int MSG_FASTOPEN = NativeStaticallyReferencedJniMethods.msgFastopen();
     static final int SOL_UDP = NativeStaticallyReferencedJniMethods.solUdp();
     static final int UDP_SEGMENT = NativeStaticallyReferencedJniMethods.udpSegment();
+    static final int SPLICE_F_MOVE = 1; // Specified by SPLICE_F_MOVE in fcntl.h
+
+    // These flags are newer than the minimum supported kernel, so they are defined here rather than taken from
+    // the io_uring.h header the native library was built against.
+    static final int IOSQE_BUFFER_SELECT = 1 << 5; // Specified by IOSQE_BUFFER_SELECT in io_uring.h
+    static final short IORING_ACCEPT_MULTISHOT = 1 << 0; // Specified by IORING_ACCEPT_MULTISHOT in io_uring.h
+    static final short IORING_RECV_MULTISHOT = 1 << 1; // Specified by IORING_RECV_MULTISHOT in io_uring.h
+    static final int IORING_CQE_F_BUFFER = 1 << 0; // Specified by IORING_CQE_F_BUFFER in io_uring.h
+    static final int IORING_CQE_F_MORE = 1 << 1; // Specified by IORING_CQE_F_MORE in io_uring.h
+    static final int IORING_CQE_BUFFER_SHIFT = 16; // Specified by IORING_CQE_BUFFER_SHIFT in io_uring.h
+    static final int IORING_CQE_F_NOTIF = 1 << 3; // Specified by IORING_CQE_F_NOTIF in io_uring.h
+    static final int IOSQE_FIXED_FILE = 1 << 0; // Specified by IOSQE_FIXED_FILE in io_uring.h
+    static final int IORING_SETUP_SQPOLL = 1 << 1; // Specified by IORING_SETUP_SQPOLL in io_uring.h
+    static final int IORING_SETUP_SQ_AFF = 1 << 2; // Specified by IORING_SETUP_SQ_AFF in io_uring.h
+    static final int IORING_SETUP_R_DISABLED = 1 << 6; // Specified by IORING_SETUP_R_DISABLED in io_uring.h
+    static final int IORING_SETUP_SINGLE_ISSUER = 1 << 12; // Specified by IORING_SETUP_SINGLE_ISSUER in io_uring.h
+    static final int IORING_SETUP_DEFER_TASKRUN = 1 << 13; // Specified by IORING_SETUP_DEFER_TASKRUN in io_uring.h
+    static final int IORING_SQ_NEED_WAKEUP = 1 << 0; // Specified by IORING_SQ_NEED_WAKEUP in io_uring.h
+    static final int IORING_ENTER_SQ_WAKEUP = 1 << 1; // Specified by IORING_ENTER_SQ_WAKEUP in io_uring.h
+    static final int IORING_ENTER_SQ_WAIT = 1 << 2; // Specified by IORING_ENTER_SQ_WAIT in io_uring.h
     private static final int TFO_ENABLED_CLIENT_MASK = 0x1;
     private static final int TFO_ENABLED_SERVER_MASK = 0x2;
     private static final int TCP_FASTOPEN_MODE = NativeStaticallyReferencedJniMethods.tcpFastopenMode();
@@ -269,7 +295,17 @@ final class Native {
     }
 
     static RingBuffer createRingBuffer(int ringSize, int iosqeAsyncThreshold) {
-        long[][] values = ioUringSetup(ringSize);
+        return createRingBuffer(ringSize, iosqeAsyncThreshold, 0, 0, 0);
+    }
+
+    /**
+     * Creates a ring with the given {@code IORING_SETUP_*} flags. {@code sqThreadIdle} and {@code sqThreadCpu} are
+     * only used together with {@link #IORING_SETUP_SQPOLL} and {@link #IORING_SETUP_SQ_AFF}. A ring created with
+     * {@link #IORING_SETUP_R_DISABLED} is enabled by the thread that first enters it.
+     */
+    static RingBuffer createRingBuffer(int ringSize, int iosqeAsyncThreshold, int setupFlags, int sqThreadIdle,
+                                       int sqThreadCpu) {
+        long[][] values = ioUringSetup(ringSize, setupFlags, sqThreadIdle, sqThreadCpu);
         assert values.length == 2;
         long[] completionQueueArgs = values[1];
         assert completionQueueArgs.length == 9;
@@ -298,10 +334,15 @@ final class Native {
                 submissionQueueArgs[9],
                 (int) submissionQueueArgs[10],
                 iosqeAsyncThreshold,
+                setupFlags,
                 completionQueue);
         return new RingBuffer(submissionQueue, completionQueue);
     }
 
+    static boolean isIOSupported(int ringFd, int op) {
+        return ioUringProbe(ringFd, new int[] { op });
+    }
+
     static void checkAllIOSupported(int ringFd) {
         if (!ioUringProbe(ringFd, REQUIRED_IORING_OPS)) {
             throw new UnsupportedOperationException("Not all operations are supported: "
@@ -325,6 +366,13 @@ final class Native {
     }
 
     private static boolean checkKernelVersion0(String kernelVersion) {
+        return isKernelVersionAtLeast(kernelVersion, 5, 9);
+    }
+
+    /**
+     * Returns {@code true} if the given {@code uname} release is at least {@code major.minor}.
+     */
+    static boolean isKernelVersionAtLeast(String kernelVersion, int requiredMajor, int requiredMinor) {
         String[] versionComponents = kernelVersion.split("\\.");
         if (versionComponents.length < 3) {
             return false;
@@ -337,10 +385,10 @@ final class Native {
             return false;
         }
 
-        if (major <= 4) {
+        if (major < requiredMajor) {
             return false;
         }
-        if (major > 5) {
+        if (major > requiredMajor) {
             return true;
         }
 
@@ -351,11 +399,43 @@ final class Native {
             return false;
         }
 
-        return minor >= 9;
+        return minor >= requiredMinor;
     }
 
     private static native boolean ioUringProbe(int ringFd, int[] ios);
-    private static native long[][] ioUringSetup(int entries);
+    private static native long[][] ioUringSetup(int entries, int flags, int sqThreadIdle, int sqThreadCpu);
+
+    /**
+     * Registers the ring of provided buffers at the given (page aligned) address as buffer group {@code bgid}.
+     *
+     * @return {@code 0} on success, or the negated errno.
+     */
+    static native int ioUringRegisterBufRing(int ringFd, long ringAddress, int entries, int bgid);
+
+    static native int ioUringUnregisterBufRing(int ringFd, int bgid);
+
+    /**
+     * Registers a table of {@code count} fixed files, which are all empty until set with
+     * {@link #ioUringRegisterFilesUpdate(int, int, int)}.
+     *
+     * @return {@code 0} on success, or the negated errno.
+     */
+    static native int ioUringRegisterFiles(int ringFd, int count);
+
+    /**
+     * Sets the fixed file at {@code index} to {@code fd}, or clears it if {@code fd} is {@code -1}.
+     *
+     * @return {@code 0} on success, or the negated errno.
+     */
+    static native int ioUringRegisterFilesUpdate(int ringFd, int index, int fd);
+
+    /**
+     * Enables a ring created with {@link #IORING_SETUP_R_DISABLED}. On a {@link #IORING_SETUP_SINGLE_ISSUER} ring
+     * this makes the calling thread the only one allowed to submit.
+     *
+     * @return {@code 0} on success, or the negated errno.
+     */
+    static native int ioUringRegisterEnableRings(int ringFd);
 
     static native int ioUringEnter(int ringFd, int toSubmit, int minComplete, int flags);
 
@@ -61,6 +61,7 @@ final class NativeStaticallyReferencedJniMethods {
     static native int msghdrOffsetofMsgFlags();
     static native int etime();
     static native int ecanceled();
+    static native int enobufs();
     static native int pollin();
     static native int pollout();
     static native int pollrdhup();
@@ -19,6 +19,7 @@ import io.netty5.util.internal.PlatformDependent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.VarHandle;
 import java.util.StringJoiner;
 import java.util.function.IntSupplier;
 
@@ -43,7 +44,8 @@ final class SubmissionQueue {
     private static final int SQE_LEN_FIELD = 24;
     private static final int SQE_RW_FLAGS_FIELD = 28;
     private static final int SQE_USER_DATA_FIELD = 32;
-    private static final int SQE_PAD_FIELD = 40;
+    private static final int SQE_BUF_GROUP_FIELD = 40; // u16, shared with buf_index
+    private static final int SQE_SPLICE_FD_IN_FIELD = 44; // s32
 
     private static final int KERNEL_TIMESPEC_TV_SEC_FIELD = 0;
     private static final int KERNEL_TIMESPEC_TV_NSEC_FIELD = 8;
@@ -65,6 +67,11 @@ final class SubmissionQueue {
     private final long timeoutMemoryAddress;
     private final int iosqeAsyncThreshold;
     private final IntSupplier completionCount;
+    // With SQPOLL a kernel thread picks up the submissions, so we only need to enter the ring to wake it up.
+    private final boolean sqPoll;
+    // With DEFER_TASKRUN completions are only posted while we enter the ring asking for events.
+    private final boolean deferTaskRun;
+    private boolean disabled;
     private int numHandledFds;
     private boolean link;
     private int head;
@@ -73,7 +80,7 @@ final class SubmissionQueue {
     SubmissionQueue(long kHeadAddress, long kTailAddress, long kRingMaskAddress, long kRingEntriesAddress,
                     long kFlagsAddress, long kDroppedAddress, long kArrayAddress,
                     long submissionQueueArrayAddress, int ringSize, long ringAddress, int ringFd,
-                    int iosqeAsyncThreshold, IntSupplier completionCount) {
+                    int iosqeAsyncThreshold, int setupFlags, IntSupplier completionCount) {
         this.kHeadAddress = kHeadAddress;
         this.kTailAddress = kTailAddress;
         this.kFlagsAddress = kFlagsAddress;
@@ -91,6 +98,9 @@ final class SubmissionQueue {
         this.timeoutMemoryAddress = PlatformDependent.allocateMemory(KERNEL_TIMESPEC_SIZE);
         this.iosqeAsyncThreshold = iosqeAsyncThreshold;
         this.completionCount = completionCount;
+        sqPoll = (setupFlags & Native.IORING_SETUP_SQPOLL) != 0;
+        deferTaskRun = (setupFlags & Native.IORING_SETUP_DEFER_TASKRUN) != 0;
+        disabled = (setupFlags & Native.IORING_SETUP_R_DISABLED) != 0;
 
         // Zero the whole SQE array first
         PlatformDependent.setMemory(submissionQueueArrayAddress, ringEntries * SQE_SIZE, (byte) 0);
@@ -123,34 +133,39 @@ final class SubmissionQueue {
                                long bufferAddress, int length, long offset, int id, short data) {
         int pending = tail - head;
         if (pending == ringEntries) {
-            int submitted = submit();
-            if (submitted == 0) {
-                // We have a problem, could not submit to make more room in the ring
-                throw new RuntimeException("SQ ring full and no submissions accepted");
-            }
+            makeRoom();
         }
         long sqe = submissionQueueArrayAddress + (tail++ & ringMask) * SQE_SIZE;
         long udata = UserData.encode(id, op, data);
-        setData(sqe, op, flags, ioPrio, rwFlags, fd, bufferAddress, length, offset, udata);
+        setData(sqe, op, flags, ioPrio, rwFlags, fd, bufferAddress, length, offset, 0, (short) 0, udata);
         return udata;
     }
 
-    void enqueueSqe(byte op, int flags, short ioPrio, int rwFlags, int fd,
-                    long bufferAddress, int length, long offset, long udata) {
+    void enqueueSqe(byte op, int flags, short ioPrio, int rwFlags, int fd, long bufferAddress, int length,
+                    long offset, int spliceFdIn, short bufferGroup, long udata) {
         int pending = tail - head;
         if (pending == ringEntries) {
-            int submitted = submit();
-            if (submitted == 0) {
-                // We have a problem, could not submit to make more room in the ring
-                throw new RuntimeException("SQ ring full and no submissions accepted");
-            }
+            makeRoom();
         }
         long sqe = submissionQueueArrayAddress + (tail++ & ringMask) * SQE_SIZE;
-        setData(sqe, op, flags, ioPrio, rwFlags, fd, bufferAddress, length, offset, udata);
+        setData(sqe, op, flags, ioPrio, rwFlags, fd, bufferAddress, length, offset, spliceFdIn, bufferGroup, udata);
+    }
+
+    private void makeRoom() {
+        int submitted = submit();
+        if (submitted == 0) {
+            // We have a problem, could not submit to make more room in the ring
+            throw new RuntimeException("SQ ring full and no submissions accepted");
+        }
+        if (sqPoll && tail - head == ringEntries) {
+            // The kernel thread has not consumed any entry yet, wait until it did.
+            enter(0, 0, Native.IORING_ENTER_SQ_WAIT);
+            head = PlatformDependent.getIntVolatile(kHeadAddress);
+        }
     }
 
     private void setData(long sqe, byte op, int flags, short ioPrio, int rwFlags, int fd, long bufferAddress,
-                         int length, long offset, long udata) {
+                         int length, long offset, int spliceFdIn, short bufferGroup, long udata) {
         //set sqe(submission queue) properties
 
         PlatformDependent.putByte(sqe + SQE_OP_CODE_FIELD, op);
@@ -163,6 +178,9 @@ final class SubmissionQueue {
         PlatformDependent.putInt(sqe + SQE_LEN_FIELD, length);
         PlatformDependent.putInt(sqe + SQE_RW_FLAGS_FIELD, rwFlags);
         PlatformDependent.putLong(sqe + SQE_USER_DATA_FIELD, udata);
+        PlatformDependent.putShort(sqe + SQE_BUF_GROUP_FIELD, bufferGroup);
+        // Always written, as the same field is the file_index of other ops and the entry may be reused.
+        PlatformDependent.putInt(sqe + SQE_SPLICE_FD_IN_FIELD, spliceFdIn);
 
         if (logger.isTraceEnabled()) {
             if (op == Native.IORING_OP_WRITEV || op == Native.IORING_OP_READV) {
@@ -223,11 +241,18 @@ final class SubmissionQueue {
             return submit(submit, 1, Native.IORING_ENTER_GETEVENTS);
         }
         assert submit == 0;
-        int ret = Native.ioUringEnter(ringFd, 0, 1, Native.IORING_ENTER_GETEVENTS);
-        if (ret < 0) {
-            throw new RuntimeException("ioUringEnter syscall returned " + ret);
+        return enter(0, 1, Native.IORING_ENTER_GETEVENTS); // should be 0
+    }
+
+    /**
+     * Submits all pending entries and, if the ring defers its task work, lets the kernel post the completions that
+     * are ready without waiting for more.
+     */
+    int submitAndGetEvents() {
+        if (!deferTaskRun) {
+            return submit();
         }
-        return ret; // should be 0
+        return submit(tail - head, 0, Native.IORING_ENTER_GETEVENTS);
     }
 
     private int submit(int toSubmit, int minComplete, int flags) {
@@ -235,18 +260,47 @@ final class SubmissionQueue {
             logger.trace("submit(ring {}): {}", ringFd, toString());
         }
         PlatformDependent.putIntOrdered(kTailAddress, tail); // release memory barrier
-        int ret = Native.ioUringEnter(ringFd, toSubmit, minComplete, flags);
+        enableIfDisabled();
+        int ret;
+        if (sqPoll) {
+            // The tail must be visible before we check whether the kernel thread went to sleep.
+            VarHandle.fullFence();
+            if ((PlatformDependent.getIntVolatile(kFlagsAddress) & Native.IORING_SQ_NEED_WAKEUP) != 0) {
+                flags |= Native.IORING_ENTER_SQ_WAKEUP;
+            }
+            ret = flags == 0 ? toSubmit : enter(toSubmit, minComplete, flags);
+        } else {
+            ret = enter(toSubmit, minComplete, flags);
+        }
         head = PlatformDependent.getIntVolatile(kHeadAddress); // acquire memory barrier
         if (ret != toSubmit) {
-            if (ret < 0) {
-                throw new RuntimeException("ioUringEnter syscall returned " + ret);
-            }
             logger.warn("Not all submissions succeeded. Only {} of {} SQEs were submitted, " +
                     "while there are {} pending completions.", ret, toSubmit, completionCount.getAsInt());
         }
         return ret;
     }
 
+    private void enableIfDisabled() {
+        if (disabled) {
+            // A SINGLE_ISSUER ring only accepts submissions from the thread that enabled it, which is the event loop.
+            // This also starts the SQPOLL thread, if any.
+            int res = Native.ioUringRegisterEnableRings(ringFd);
+            if (res < 0) {
+                throw new RuntimeException("failed to enable io_uring ring: " + res);
+            }
+            disabled = false;
+        }
+    }
+
+    private int enter(int toSubmit, int minComplete, int flags) {
+        enableIfDisabled();
+        int ret = Native.ioUringEnter(ringFd, toSubmit, minComplete, flags);
+        if (ret < 0) {
+            throw new RuntimeException("ioUringEnter syscall returned " + ret);
+        }
+        return ret;
+    }
+
     private void setTimeout(long timeoutNanoSeconds) {
         long seconds, nanoSeconds;
 
@@ -263,10 +263,13 @@ public final class KQueueIoHandler implements IoHandler {
             return kqueueWaitNow();
         }
 
-        long totalDelay = context.delayNanos(System.nanoTime());
+        long waitStartNanos = System.nanoTime();
+        long totalDelay = context.delayNanos(waitStartNanos);
         int delaySeconds = (int) min(totalDelay / 1000000000L, KQUEUE_MAX_TIMEOUT_SECONDS);
         int delayNanos = (int) (totalDelay % 1000000000L);
-        return kqueueWait(delaySeconds, delayNanos);
+        int ready = kqueueWait(delaySeconds, delayNanos);
+        context.reportIoWait(System.nanoTime() - waitStartNanos);
+        return ready;
     }
 
     private int kqueueWaitNow() throws IOException {
@@ -28,6 +28,7 @@
 #include <netinet/udp.h> // SOL_UDP
 #include <sys/sendfile.h>
 #include <linux/tcp.h> // TCP_NOTSENT_LOWAT is a linux specific define
+#include <linux/errqueue.h> // struct sock_extended_err
 #include "netty5_epoll_linuxsocket.h"
 #include "netty5_epoll_vmsocket.h"
 #include "netty5_unix_errors.h"
@@ -68,6 +69,19 @@
 #define IP_BIND_ADDRESS_NO_PORT 24
 #endif
 
+// SO_ZEROCOPY and MSG_ZEROCOPY are defined in linux 4.14. We define these here so older kernels can compile.
+#ifndef SO_ZEROCOPY
+#define SO_ZEROCOPY 60
+#endif
+
+#ifndef MSG_ZEROCOPY
+#define MSG_ZEROCOPY 0x4000000
+#endif
+
+#ifndef SO_EE_ORIGIN_ZEROCOPY
+#define SO_EE_ORIGIN_ZEROCOPY 5
+#endif
+
 static jweak peerCredentialsClassWeak = NULL;
 static jmethodID peerCredentialsMethodId = NULL;
 
@@ -743,6 +757,68 @@ static void netty5_epoll_linuxsocket_setUdpGro(JNIEnv* env, jclass clazz, jint f
     netty5_unix_socket_setOption(env, fd, SOL_UDP, UDP_GRO, &optval, sizeof(optval));
 }
 
+static jint netty5_epoll_linuxsocket_isZeroCopy(JNIEnv* env, jclass clazz, jint fd) {
+     int optval;
+     if (netty5_unix_socket_getOption(env, fd, SOL_SOCKET, SO_ZEROCOPY, &optval, sizeof(optval)) == -1) {
+         return -1;
+     }
+     return optval;
+}
+
+static void netty5_epoll_linuxsocket_setZeroCopy(JNIEnv* env, jclass clazz, jint fd, jint optval) {
+    netty5_unix_socket_setOption(env, fd, SOL_SOCKET, SO_ZEROCOPY, &optval, sizeof(optval));
+}
+
+static jint netty5_epoll_linuxsocket_sendAddressZeroCopy(JNIEnv* env, jclass clazz, jint fd, jlong address, jint pos, jint limit) {
+    ssize_t res;
+    int err;
+    do {
+        res = send(fd, (void*) (intptr_t) (address + pos), (size_t) (limit - pos), MSG_ZEROCOPY);
+        // keep on writing if it was interrupted
+    } while (res == -1 && ((err = errno) == EINTR));
+
+    if (res < 0) {
+        return -err;
+    }
+    return (jint) res;
+}
+
+// Reads one message from the error queue of the socket. If it is a zero-copy completion the inclusive range of
+// completed send ids is stored in the given array and 1 is returned, otherwise 0 is returned.
+static jint netty5_epoll_linuxsocket_recvZeroCopyCompletion(JNIEnv* env, jclass clazz, jint fd, jintArray range) {
+    char control[CMSG_SPACE(sizeof(struct sock_extended_err)) + CMSG_SPACE(sizeof(struct sockaddr_in6))];
+    struct msghdr msg;
+    struct cmsghdr* cmsg;
+    ssize_t res;
+    int err;
+
+    memset(&msg, 0, sizeof(msg));
+    msg.msg_control = control;
+    msg.msg_controllen = sizeof(control);
+
+    do {
+        res = recvmsg(fd, &msg, MSG_ERRQUEUE);
+        // keep on reading if it was interrupted
+    } while (res == -1 && ((err = errno) == EINTR));
+
+    if (res < 0) {
+        return -err;
+    }
+
+    for (cmsg = CMSG_FIRSTHDR(&msg); cmsg != NULL; cmsg = CMSG_NXTHDR(&msg, cmsg)) {
+        if ((cmsg->cmsg_level == SOL_IP && cmsg->cmsg_type == IP_RECVERR) ||
+                (cmsg->cmsg_level == SOL_IPV6 && cmsg->cmsg_type == IPV6_RECVERR)) {
+            struct sock_extended_err* serr = (struct sock_extended_err*) CMSG_DATA(cmsg);
+            if (serr->ee_errno == 0 && serr->ee_origin == SO_EE_ORIGIN_ZEROCOPY) {
+                jint ids[2] = { (jint) serr->ee_info, (jint) serr->ee_data };
+                (*env)->SetIntArrayRegion(env, range, 0, 2, ids);
+                return 1;
+            }
+        }
+    }
+    return 0;
+}
+
 
 static jlong netty5_epoll_linuxsocket_sendFile(JNIEnv* env, jclass clazz, jint fd, jobject fileRegion, jlong base_off, jlong off, jlong len) {
     jobject fileChannel = (*env)->GetObjectField(env, fileRegion, fileChannelFieldId);
@@ -826,7 +902,11 @@ static const JNINativeMethod fixed_method_table[] = {
   { "leaveGroup", "(IZ[B[BII)V", (void *) netty5_epoll_linuxsocket_leaveGroup },
   { "leaveSsmGroup", "(IZ[B[BII[B)V", (void *) netty5_epoll_linuxsocket_leaveSsmGroup },
   { "isUdpGro", "(I)I", (void *) netty5_epoll_linuxsocket_isUdpGro },
-  { "setUdpGro", "(II)V", (void *) netty5_epoll_linuxsocket_setUdpGro }
+  { "setUdpGro", "(II)V", (void *) netty5_epoll_linuxsocket_setUdpGro },
+  { "isZeroCopy", "(I)I", (void *) netty5_epoll_linuxsocket_isZeroCopy },
+  { "setZeroCopy", "(II)V", (void *) netty5_epoll_linuxsocket_setZeroCopy },
+  { "sendAddressZeroCopy", "(IJII)I", (void *) netty5_epoll_linuxsocket_sendAddressZeroCopy },
+  { "recvZeroCopyCompletion", "(I[I)I", (void *) netty5_epoll_linuxsocket_recvZeroCopyCompletion }
 
   // "sendFile" has a dynamic signature
 };
@@ -617,6 +617,10 @@ static jint netty5_epoll_native_epollerr(JNIEnv* env, jclass clazz) {
     return EPOLLERR;
 }
 
+static jint netty5_epoll_native_enobufs(JNIEnv* env, jclass clazz) {
+    return ENOBUFS;
+}
+
 static jint netty5_epoll_native_sizeofEpollEvent(JNIEnv* env, jclass clazz) {
     return sizeof(struct epoll_event);
 }
@@ -651,6 +655,7 @@ static const JNINativeMethod statically_referenced_fixed_method_table[] = {
   { "epollout", "()I", (void *) netty5_epoll_native_epollout },
   { "epollrdhup", "()I", (void *) netty5_epoll_native_epollrdhup },
   { "epollerr", "()I", (void *) netty5_epoll_native_epollerr },
+  { "enobufs", "()I", (void *) netty5_epoll_native_enobufs },
   { "tcpMd5SigMaxKeyLen", "()I", (void *) netty5_epoll_native_tcpMd5SigMaxKeyLen },
   { "isSupportingSendmmsg", "()Z", (void *) netty5_epoll_native_isSupportingSendmmsg },
   { "isSupportingRecvmmsg", "()Z", (void *) netty5_epoll_native_isSupportingRecvmmsg },
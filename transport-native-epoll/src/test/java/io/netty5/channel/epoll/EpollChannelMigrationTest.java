@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.epoll;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.AbstractChannel;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.util.NetUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EpollChannelMigrationTest {
+    private EventLoopGroup group;
+    private EventLoop loop1;
+    private EventLoop loop2;
+    private Channel serverChannel;
+    private Channel clientChannel;
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger wrongThreadReads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        group = new MultithreadEventLoopGroup(2, EpollIoHandler.newFactory());
+        Iterator<?> loops = group.iterator();
+        loop1 = (EventLoop) loops.next();
+        loop2 = (EventLoop) loops.next();
+        serverChannel = new ServerBootstrap()
+                .group(loop2, loop2)
+                .channel(EpollServerSocketChannel.class)
+                .childHandler(new ChannelHandler() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        ctx.writeAndFlush(msg);
+                    }
+                })
+                .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0)).asStage().get();
+        clientChannel = new Bootstrap()
+                .group(loop1)
+                .channel(EpollSocketChannel.class)
+                .handler(new ChannelHandler() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        if (!ctx.executor().inEventLoop()) {
+                            wrongThreadReads.incrementAndGet();
+                        }
+                        try (Buffer buf = (Buffer) msg) {
+                            received.add(buf.toString(StandardCharsets.US_ASCII));
+                        }
+                    }
+                })
+                .connect(serverChannel.localAddress()).asStage().get();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        clientChannel.close().asStage().sync();
+        serverChannel.close().asStage().sync();
+        group.shutdownGracefully(0, 0, SECONDS).asStage().sync();
+    }
+
+    @Test
+    public void testMigrate() throws Exception {
+        assertEcho("before");
+
+        ((AbstractChannel<?, ?, ?>) clientChannel).migrate(loop2).asStage().sync();
+        assertSame(loop2, clientChannel.executor());
+        assertTrue(clientChannel.isActive());
+        // Reading resumed on the new event loop.
+        assertEcho("after");
+
+        ((AbstractChannel<?, ?, ?>) clientChannel).migrate(loop1).asStage().sync();
+        assertSame(loop1, clientChannel.executor());
+        assertEcho("back");
+        assertEquals(0, wrongThreadReads.get());
+    }
+
+    @Test
+    public void testMigrateWhileEchoing() throws Exception {
+        AbstractChannel<?, ?, ?> channel = (AbstractChannel<?, ?, ?>) clientChannel;
+        for (int i = 0; i < 100; i++) {
+            String msg = String.valueOf(i);
+            clientChannel.writeAndFlush(clientChannel.bufferAllocator().copyOf(msg, StandardCharsets.US_ASCII));
+            // Refused while the write is still pending, which leaves the channel where it is.
+            channel.migrate(clientChannel.executor() == loop1 ? loop2 : loop1).asStage().await();
+            StringBuilder echoed = new StringBuilder();
+            while (echoed.length() < msg.length()) {
+                echoed.append(received.poll(5, SECONDS));
+            }
+            assertEquals(msg, echoed.toString());
+        }
+        assertEquals(0, wrongThreadReads.get());
+    }
+
+    private void assertEcho(String msg) throws Exception {
+        clientChannel.writeAndFlush(clientChannel.bufferAllocator().copyOf(msg, StandardCharsets.US_ASCII))
+                .asStage().sync();
+        StringBuilder echoed = new StringBuilder();
+        while (echoed.length() < msg.length()) {
+            echoed.append(received.poll(5, SECONDS));
+        }
+        assertEquals(msg, echoed.toString());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.epoll;
+
+import io.netty5.channel.unix.AffinityThreadFactory;
+import io.netty5.channel.unix.CpuAffinity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EpollCpuAffinityTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        // The natives of CpuAffinity are registered by the transport.
+        Epoll.ensureAvailability();
+    }
+
+    @Test
+    public void testPinnedThreadRunsOnItsCpu() throws Exception {
+        CompletableFuture<int[]> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                // The CPU we run on now is part of the cpuset of this process, so we can pin to it.
+                int cpu = CpuAffinity.currentCpu();
+                CpuAffinity.setCurrentThreadAffinity(cpu);
+                int[] observed = new int[100];
+                for (int i = 0; i < observed.length; i++) {
+                    Thread.yield();
+                    observed[i] = CpuAffinity.currentCpu();
+                }
+                result.complete(new int[] { cpu, observed[0], observed[observed.length - 1] });
+            } catch (Throwable cause) {
+                result.completeExceptionally(cause);
+            }
+        });
+        thread.start();
+        int[] cpus = result.get(10, TimeUnit.SECONDS);
+        assertEquals(cpus[0], cpus[1]);
+        assertEquals(cpus[0], cpus[2]);
+    }
+
+    @Test
+    public void testThreadFactoryPinsThreads() throws Exception {
+        int cpu = CpuAffinity.currentCpu();
+        AffinityThreadFactory factory = new AffinityThreadFactory("affinity", cpu);
+        CompletableFuture<int[]> result = new CompletableFuture<>();
+        Thread thread = factory.newThread(() -> {
+            try {
+                result.complete(new int[] {
+                        factory.boundCpu(Thread.currentThread()), CpuAffinity.currentCpu() });
+            } catch (Throwable cause) {
+                result.completeExceptionally(cause);
+            }
+        });
+        thread.start();
+        int[] cpus = result.get(10, TimeUnit.SECONDS);
+        assertEquals(cpu, cpus[0]);
+        assertEquals(cpu, cpus[1]);
+        thread.join();
+        assertEquals(-1, factory.boundCpu(thread));
+    }
+
+    @Test
+    public void testSetAffinityToNonExistingCpuFails() {
+        // Far beyond CPU_SETSIZE, so the affinity of the calling thread is left alone.
+        assertThrows(IOException.class, () -> CpuAffinity.setCurrentThreadAffinity(1 << 20));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.epoll;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.util.NetUtil;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.ImmediateEventExecutor;
+import io.netty5.util.concurrent.Promise;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EpollZeroCopyCloseTest {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int BUFFERS = 4;
+
+    @AutoClose("shutdownGracefully")
+    private static EventLoopGroup GROUP;
+
+    @BeforeAll
+    public static void beforeClass() {
+        GROUP = new MultithreadEventLoopGroup(2, EpollIoHandler.newFactory());
+    }
+
+    @Test
+    public void testCloseRightAfterLargeZeroCopyWrite() throws Exception {
+        Promise<Channel> accepted = ImmediateEventExecutor.INSTANCE.newPromise();
+        Promise<Void> inactive = ImmediateEventExecutor.INSTANCE.newPromise();
+        AtomicLong received = new AtomicLong();
+        AtomicLong corrupted = new AtomicLong();
+        Channel server = new ServerBootstrap()
+                .group(GROUP)
+                .channel(EpollServerSocketChannel.class)
+                .childOption(ChannelOption.AUTO_READ, false)
+                .childHandler(new ChannelHandler() {
+                    @Override
+                    public void channelActive(ChannelHandlerContext ctx) {
+                        accepted.setSuccess(ctx.channel());
+                    }
+
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        try (Buffer buf = (Buffer) msg) {
+                            received.addAndGet(buf.readableBytes());
+                            while (buf.readableBytes() > 0) {
+                                if (buf.readByte() != 'a') {
+                                    corrupted.incrementAndGet();
+                                }
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void channelInactive(ChannelHandlerContext ctx) {
+                        inactive.setSuccess(null);
+                    }
+                })
+                .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0)).asStage().get();
+        try {
+            Channel client = new Bootstrap()
+                    .group(GROUP)
+                    .channel(EpollSocketChannel.class)
+                    .option(EpollChannelOption.WRITE_ZERO_COPY_THRESHOLD, 0)
+                    .handler(new ChannelHandler() { })
+                    .connect(server.localAddress()).asStage().get();
+            Channel child = accepted.asFuture().asStage().get();
+
+            // The peer does not read yet, so most of the written data is still queued in the kernel when the
+            // channel is closed, and the kernel has not reported the completion of those sends.
+            Future<Void> closeFuture = client.executor().submit(() -> {
+                BufferAllocator allocator = client.bufferAllocator();
+                for (int i = 0; i < BUFFERS; i++) {
+                    Buffer buf = allocator.allocate(BUFFER_SIZE);
+                    buf.fill((byte) 'a').skipWritableBytes(BUFFER_SIZE);
+                    client.writeAndFlush(buf);
+                }
+                return client.close();
+            }).asStage().get();
+            assertFalse(closeFuture.isDone());
+
+            // Churn through the same allocator on the same thread. If the written memory had been handed back, this
+            // would overwrite what the kernel is about to send.
+            client.executor().submit(() -> {
+                BufferAllocator allocator = client.bufferAllocator();
+                for (int i = 0; i < BUFFERS * 4; i++) {
+                    try (Buffer buf = allocator.allocate(BUFFER_SIZE)) {
+                        buf.fill((byte) 'b');
+                    }
+                }
+            }).asStage().sync();
+
+            child.setOption(ChannelOption.AUTO_READ, true);
+            assertTrue(closeFuture.asStage().await(10, TimeUnit.SECONDS));
+            assertTrue(inactive.asFuture().asStage().await(10, TimeUnit.SECONDS));
+            assertTrue(received.get() > 0);
+            assertEquals(0, corrupted.get());
+        } finally {
+            server.close().asStage().sync();
+        }
+    }
+}
@@ -65,6 +65,10 @@
 
 static jweak peerCredentialsClassWeak = NULL;
 static jmethodID peerCredentialsMethodId = NULL;
+static jfieldID fileChannelFieldId = NULL;
+static jfieldID transferredFieldId = NULL;
+static jfieldID fileDescriptorFieldId = NULL;
+static jfieldID fdFieldId = NULL;
 
 // JNI Registered Methods Begin
 static void netty5_io_uring_linuxsocket_setTimeToLive(JNIEnv* env, jclass clazz, jint fd, jint optval) {
@@ -653,6 +657,31 @@ error:
 static void netty5_epoll_linuxsocket_setUdpGro(JNIEnv* env, jclass clazz, jint fd, jint optval) {
     netty5_unix_socket_setOption(env, fd, SOL_UDP, UDP_GRO, &optval, sizeof(optval));
 }
+
+static jint netty5_io_uring_linuxsocket_fileRegionFd(JNIEnv* env, jclass clazz, jobject fileRegion) {
+    jobject fileChannel = (*env)->GetObjectField(env, fileRegion, fileChannelFieldId);
+    if (fileChannel == NULL) {
+        netty5_unix_errors_throwRuntimeException(env, "failed to get DefaultFileRegion.file");
+        return -1;
+    }
+    jobject fileDescriptor = (*env)->GetObjectField(env, fileChannel, fileDescriptorFieldId);
+    if (fileDescriptor == NULL) {
+        netty5_unix_errors_throwRuntimeException(env, "failed to get FileChannelImpl.fd");
+        return -1;
+    }
+    jint srcFd = (*env)->GetIntField(env, fileDescriptor, fdFieldId);
+    if (srcFd == -1) {
+        netty5_unix_errors_throwRuntimeException(env, "failed to get FileDescriptor.fd");
+        return -1;
+    }
+    return srcFd;
+}
+
+static void netty5_io_uring_linuxsocket_fileRegionTransferred(JNIEnv* env, jclass clazz, jobject fileRegion,
+                                                              jlong transferred) {
+    // update the transferred field in DefaultFileRegion
+    (*env)->SetLongField(env, fileRegion, transferredFieldId, transferred);
+}
 // JNI Registered Methods End
 
 // JNI Method Registration Table Begin
@@ -703,7 +732,7 @@ static const JNINativeMethod fixed_method_table[] = {
 static const jint fixed_method_table_size = sizeof(fixed_method_table) / sizeof(fixed_method_table[0]);
 
 static jint dynamicMethodsTableSize() {
-    return fixed_method_table_size + 1; // 1 is for the dynamic method signatures.
+    return fixed_method_table_size + 3; // 3 is for the dynamic method signatures.
 }
 
 static JNINativeMethod* createDynamicMethodsTable(const char* packagePrefix) {
@@ -722,6 +751,20 @@ static JNINativeMethod* createDynamicMethodsTable(const char* packagePrefix) {
     dynamicMethod->name = "getPeerCredentials";
     dynamicMethod->fnPtr = (void *) netty5_io_uring_linuxsocket_getPeerCredentials;
     netty_jni_util_free_dynamic_name(&dynamicTypeName);
+
+    ++dynamicMethod;
+    NETTY_JNI_UTIL_PREPEND(packagePrefix, "io/netty5/channel/DefaultFileRegion;)I", dynamicTypeName, error);
+    NETTY_JNI_UTIL_PREPEND("(L", dynamicTypeName,  dynamicMethod->signature, error);
+    dynamicMethod->name = "fileRegionFd0";
+    dynamicMethod->fnPtr = (void *) netty5_io_uring_linuxsocket_fileRegionFd;
+    netty_jni_util_free_dynamic_name(&dynamicTypeName);
+
+    ++dynamicMethod;
+    NETTY_JNI_UTIL_PREPEND(packagePrefix, "io/netty5/channel/DefaultFileRegion;J)V", dynamicTypeName, error);
+    NETTY_JNI_UTIL_PREPEND("(L", dynamicTypeName,  dynamicMethod->signature, error);
+    dynamicMethod->name = "fileRegionTransferred0";
+    dynamicMethod->fnPtr = (void *) netty5_io_uring_linuxsocket_fileRegionTransferred;
+    netty_jni_util_free_dynamic_name(&dynamicTypeName);
     return dynamicMethods;
 error:
     free(dynamicTypeName);
@@ -731,10 +774,15 @@ error:
 
 // JNI Method Registration Table End
 
+// IMPORTANT: If you add any NETTY_JNI_UTIL_LOAD_CLASS or NETTY_JNI_UTIL_FIND_CLASS calls you also need to update
+//            Native to reflect that.
 jint netty5_io_uring_linuxsocket_JNI_OnLoad(JNIEnv* env, const char* packagePrefix) {
     int ret = JNI_ERR;
     char* nettyClassName = NULL;
     jclass peerCredentialsClass = NULL;
+    jclass fileRegionCls = NULL;
+    jclass fileChannelCls = NULL;
+    jclass fileDescriptorCls = NULL;
     int linuxSocketRegistered = 0;
 
     // Register the methods which are not referenced by static member variables
@@ -759,6 +807,19 @@ jint netty5_io_uring_linuxsocket_JNI_OnLoad(JNIEnv* env, const char* packagePref
 
     NETTY_JNI_UTIL_GET_METHOD(env, peerCredentialsClass, peerCredentialsMethodId, "<init>", "(II[I)V", done);
 
+    NETTY_JNI_UTIL_PREPEND(packagePrefix, "io/netty5/channel/DefaultFileRegion", nettyClassName, done);
+    NETTY_JNI_UTIL_FIND_CLASS(env, fileRegionCls, nettyClassName, done);
+    netty_jni_util_free_dynamic_name(&nettyClassName);
+
+    NETTY_JNI_UTIL_GET_FIELD(env, fileRegionCls, fileChannelFieldId, "file", "Ljava/nio/channels/FileChannel;", done);
+    NETTY_JNI_UTIL_GET_FIELD(env, fileRegionCls, transferredFieldId, "transferred", "J", done);
+
+    NETTY_JNI_UTIL_FIND_CLASS(env, fileChannelCls, "sun/nio/ch/FileChannelImpl", done);
+    NETTY_JNI_UTIL_GET_FIELD(env, fileChannelCls, fileDescriptorFieldId, "fd", "Ljava/io/FileDescriptor;", done);
+
+    NETTY_JNI_UTIL_FIND_CLASS(env, fileDescriptorCls, "java/io/FileDescriptor", done);
+    NETTY_JNI_UTIL_GET_FIELD(env, fileDescriptorCls, fdFieldId, "fd", "I", done);
+
     ret = NETTY_JNI_UTIL_JNI_VERSION;
 done:
     if (ret == JNI_ERR) {
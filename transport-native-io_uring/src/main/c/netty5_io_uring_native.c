@@ -236,13 +236,91 @@ done:
 }
 
 
-static jobjectArray netty5_io_uring_setup(JNIEnv *env, jclass clazz, jint entries) {
+// Defined by ourselves as io_uring.h only has it since 5.19, which is newer than the kernel we build against.
+struct netty5_io_uring_buf_reg {
+    __u64 ring_addr;
+    __u32 ring_entries;
+    __u16 bgid;
+    __u16 flags;
+    __u64 resv[3];
+};
+
+#define NETTY5_IORING_REGISTER_PBUF_RING 22
+#define NETTY5_IORING_UNREGISTER_PBUF_RING 23
+
+static jint netty5_io_uring_register_buf_ring(JNIEnv *env, jclass clazz, jint ring_fd, jlong ring_addr,
+                                              jint ring_entries, jint bgid) {
+    struct netty5_io_uring_buf_reg reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.ring_addr = (__u64) ring_addr;
+    reg.ring_entries = (__u32) ring_entries;
+    reg.bgid = (__u16) bgid;
+
+    if (sys_io_uring_register(ring_fd, NETTY5_IORING_REGISTER_PBUF_RING, &reg, 1) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_unregister_buf_ring(JNIEnv *env, jclass clazz, jint ring_fd, jint bgid) {
+    struct netty5_io_uring_buf_reg reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.bgid = (__u16) bgid;
+
+    if (sys_io_uring_register(ring_fd, NETTY5_IORING_UNREGISTER_PBUF_RING, &reg, 1) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+
+static jint netty5_io_uring_register_files(JNIEnv *env, jclass clazz, jint ring_fd, jint count) {
+    // Register a sparse table, the slots are filled in as channels are registered.
+    int* fds = malloc(count * sizeof(int));
+    if (fds == NULL) {
+        return -ENOMEM;
+    }
+    memset(fds, -1, count * sizeof(int));
+
+    int res = sys_io_uring_register(ring_fd, IORING_REGISTER_FILES, fds, count);
+    int err = errno;
+    free(fds);
+    if (res < 0) {
+        return -err;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_register_files_update(JNIEnv *env, jclass clazz, jint ring_fd, jint offset, jint fd) {
+    struct io_uring_files_update update;
+    memset(&update, 0, sizeof(update));
+    update.offset = (__u32) offset;
+    update.fds = (__u64) (uintptr_t) &fd;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_FILES_UPDATE, &update, 1) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_register_enable_rings(JNIEnv *env, jclass clazz, jint ring_fd) {
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_ENABLE_RINGS, NULL, 0) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jobjectArray netty5_io_uring_setup(JNIEnv *env, jclass clazz, jint entries, jint flags,
+                                          jint sq_thread_idle, jint sq_thread_cpu) {
     struct io_uring_params p;
     memset(&p, 0, sizeof(p));
 
+    p.flags = (__u32) flags;
 #ifdef IORING_SETUP_SUBMIT_ALL
-    p.flags = IORING_SETUP_SUBMIT_ALL;
+    p.flags |= IORING_SETUP_SUBMIT_ALL;
 #endif
+    p.sq_thread_idle = (__u32) sq_thread_idle;
+    p.sq_thread_cpu = (__u32) sq_thread_cpu;
 
     jobjectArray array = (*env)->NewObjectArray(env, 2, longArrayClass, NULL);
     if (array == NULL) {
@@ -486,6 +564,10 @@ static jint netty5_io_uring_ecanceled(JNIEnv* env, jclass clazz) {
     return ECANCELED;
 }
 
+static jint netty5_io_uring_enobufs(JNIEnv* env, jclass clazz) {
+    return ENOBUFS;
+}
+
 static jint netty5_io_uring_pollin(JNIEnv* env, jclass clazz) {
     return POLLIN;
 }
@@ -573,6 +655,7 @@ static const JNINativeMethod statically_referenced_fixed_method_table[] = {
   { "msghdrOffsetofMsgFlags", "()I", (void *) netty5_io_uring_msghdrOffsetofMsgFlags },
   { "etime", "()I", (void *) netty5_io_uring_etime },
   { "ecanceled", "()I", (void *) netty5_io_uring_ecanceled },
+  { "enobufs", "()I", (void *) netty5_io_uring_enobufs },
   { "pollin", "()I", (void *) netty5_io_uring_pollin },
   { "pollout", "()I", (void *) netty5_io_uring_pollout },
   { "pollrdhup", "()I", (void *) netty5_io_uring_pollrdhup },
@@ -592,8 +675,13 @@ static const JNINativeMethod statically_referenced_fixed_method_table[] = {
 static const jint statically_referenced_fixed_method_table_size = sizeof(statically_referenced_fixed_method_table) / sizeof(statically_referenced_fixed_method_table[0]);
 
 static const JNINativeMethod method_table[] = {
-    {"ioUringSetup", "(I)[[J", (void *) netty5_io_uring_setup},
+    {"ioUringSetup", "(IIII)[[J", (void *) netty5_io_uring_setup},
+    {"ioUringRegisterFiles", "(II)I", (void *) netty5_io_uring_register_files},
+    {"ioUringRegisterFilesUpdate", "(III)I", (void *) netty5_io_uring_register_files_update},
+    {"ioUringRegisterEnableRings", "(I)I", (void *) netty5_io_uring_register_enable_rings},
     {"ioUringProbe", "(I[I)Z", (void *) netty5_io_uring_probe},
+    {"ioUringRegisterBufRing", "(IJII)I", (void *) netty5_io_uring_register_buf_ring},
+    {"ioUringUnregisterBufRing", "(II)I", (void *) netty5_io_uring_unregister_buf_ring},
     {"ioUringExit", "(JIJIJII)V", (void *) netty5_io_uring_ring_buffer_exit},
     {"createFile", "(Ljava/lang/String;)I", (void *) netty5_create_file},
     {"ioUringEnter", "(IIII)I", (void *) netty5_io_uring_enter},
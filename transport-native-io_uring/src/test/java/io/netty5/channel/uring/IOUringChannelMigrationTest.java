@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.AbstractChannel;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.EventLoopRebalancer;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.util.NetUtil;
+import io.netty5.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringChannelMigrationTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void testMigrationIsRefused() throws Exception {
+        EventLoopGroup group = new MultithreadEventLoopGroup(2, IOUringIoHandler.newFactory());
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        try {
+            Iterator<?> loops = group.iterator();
+            EventLoop loop1 = (EventLoop) loops.next();
+            EventLoop loop2 = (EventLoop) loops.next();
+            Channel server = new ServerBootstrap()
+                    .group(loop2, loop2)
+                    .channel(IOUringServerSocketChannel.class)
+                    .childHandler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ctx.writeAndFlush(msg);
+                        }
+                    })
+                    .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0)).asStage().get();
+            Channel client = new Bootstrap()
+                    .group(loop1)
+                    .channel(IOUringSocketChannel.class)
+                    .handler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            try (Buffer buf = (Buffer) msg) {
+                                received.add(buf.toString(StandardCharsets.US_ASCII));
+                            }
+                        }
+                    })
+                    .connect(server.localAddress()).asStage().get();
+            try {
+                // A receive is in flight on the ring of the current event loop, so the channel can't be moved.
+                Future<Void> future = ((AbstractChannel<?, ?, ?>) client).migrate(loop2);
+                assertTrue(future.asStage().await(5, SECONDS));
+                assertInstanceOf(IllegalStateException.class, future.cause());
+                assertSame(loop1, client.executor());
+                assertThrows(IllegalArgumentException.class,
+                        () -> new EventLoopRebalancer(group, 1, SECONDS, 0.2).track(client));
+
+                // The channel keeps working where it is.
+                client.writeAndFlush(client.bufferAllocator().copyOf("still here", StandardCharsets.US_ASCII))
+                        .asStage().sync();
+                StringBuilder echoed = new StringBuilder();
+                while (echoed.length() < "still here".length()) {
+                    echoed.append(received.poll(5, SECONDS));
+                }
+                assertEquals("still here", echoed.toString());
+            } finally {
+                client.close().asStage().sync();
+                server.close().asStage().sync();
+            }
+        } finally {
+            group.shutdownGracefully(0, 0, SECONDS).asStage().sync();
+        }
+    }
+}
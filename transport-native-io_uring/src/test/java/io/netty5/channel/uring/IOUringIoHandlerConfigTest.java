@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.SimpleChannelInboundHandler;
+import io.netty5.util.NetUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringIoHandlerConfigTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void testSqPollAndDeferTaskRunAreExclusive() {
+        IOUringIoHandlerConfig config = new IOUringIoHandlerConfig().setSqPoll(true).setDeferTaskRun(true);
+        assertThrows(IllegalArgumentException.class, () -> IOUringIoHandler.newFactory(config));
+    }
+
+    @Test
+    public void testEchoWithFixedFiles() throws Exception {
+        testEcho(new IOUringIoHandlerConfig().setFixedFiles(16));
+    }
+
+    @Test
+    public void testEchoWithSingleIssuer() throws Exception {
+        assumeTrue(IOUring.isSingleIssuerSupported());
+        testEcho(new IOUringIoHandlerConfig().setSingleIssuer(true).setFixedFiles(16));
+    }
+
+    @Test
+    public void testEchoWithDeferTaskRun() throws Exception {
+        assumeTrue(IOUring.isDeferTaskRunSupported());
+        testEcho(new IOUringIoHandlerConfig().setDeferTaskRun(true).setFixedFiles(16));
+    }
+
+    @Test
+    public void testEchoWithSqPoll() throws Exception {
+        assumeTrue(IOUring.isSqPollSupported());
+        testEcho(new IOUringIoHandlerConfig().setSqPoll(true).setSqPollIdleMillis(10).setFixedFiles(16));
+    }
+
+    private static void testEcho(IOUringIoHandlerConfig config) throws Exception {
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, IOUringIoHandler.newFactory(config));
+        try {
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(IOUringServerSocketChannel.class)
+                    .childHandler(new SimpleChannelInboundHandler<Buffer>() {
+                        @Override
+                        protected void messageReceived(ChannelHandlerContext ctx, Buffer msg) {
+                            ctx.writeAndFlush(msg.split());
+                        }
+                    })
+                    .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0)).asStage().get();
+            try {
+                // Several connections in a row, so that fixed file slots are released and reused.
+                for (int i = 0; i < 4; i++) {
+                    byte[] data = ("hello " + i).getBytes(StandardCharsets.US_ASCII);
+                    try (Socket socket = new Socket()) {
+                        socket.connect(server.localAddress());
+                        OutputStream out = socket.getOutputStream();
+                        out.write(data);
+                        out.flush();
+                        byte[] echo = new byte[data.length];
+                        new DataInputStream(socket.getInputStream()).readFully(echo);
+                        assertArrayEquals(data, echo);
+                    }
+                }
+            } finally {
+                server.close().asStage().sync();
+            }
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+}
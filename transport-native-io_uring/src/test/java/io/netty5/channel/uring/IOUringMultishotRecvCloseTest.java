@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.util.NetUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringMultishotRecvCloseTest {
+
+    private EventLoopGroup group;
+    private Channel server;
+    private final BlockingQueue<Channel> accepted = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        group = new MultithreadEventLoopGroup(1, IOUringIoHandler.newFactory());
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(IOUringServerSocketChannel.class)
+                .childHandler(new ChannelHandler() {
+                    @Override
+                    public void channelActive(ChannelHandlerContext ctx) {
+                        accepted.add(ctx.channel());
+                    }
+                })
+                .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0)).asStage().get();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        server.close().asStage().sync();
+        group.shutdownGracefully(0, 0, SECONDS).asStage().sync();
+    }
+
+    private Channel connect(boolean autoRead) throws Exception {
+        return new Bootstrap()
+                .group(group)
+                .channel(IOUringSocketChannel.class)
+                .option(IOUringChannelOption.MULTISHOT_RECV, true)
+                .option(ChannelOption.AUTO_READ, autoRead)
+                .handler(new ChannelHandler() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        try (Buffer buf = (Buffer) msg) {
+                            received.add(buf.toString(StandardCharsets.US_ASCII));
+                        }
+                    }
+                })
+                .connect(server.localAddress()).asStage().get();
+    }
+
+    private void send(Channel peer, String message) throws Exception {
+        peer.writeAndFlush(peer.bufferAllocator().copyOf(message, StandardCharsets.US_ASCII)).asStage().sync();
+    }
+
+    private String receive(int length) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) {
+            String s = received.poll(5, SECONDS);
+            assertTrue(s != null, "timed out after receiving: " + sb);
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void closeWhileReceiveIsArmed() throws Exception {
+        Channel client = connect(true);
+        Channel peer = accepted.poll(5, SECONDS);
+        send(peer, "hello");
+        assertEquals("hello", receive(5));
+
+        // The receive is re-armed and holds the provided buffers, the close must still complete.
+        assertTrue(client.close().asStage().await(5, SECONDS));
+        assertFalse(client.isOpen());
+        assertTrue(peer.closeFuture().asStage().await(5, SECONDS));
+    }
+
+    @Test
+    public void closeBeforeAnyRead() throws Exception {
+        Channel client = connect(false);
+        Channel peer = accepted.poll(5, SECONDS);
+        send(peer, "unread");
+
+        assertTrue(client.close().asStage().await(5, SECONDS));
+        assertFalse(client.isOpen());
+        assertNull(received.poll(100, MILLISECONDS));
+        peer.close().asStage().sync();
+    }
+
+    @Test
+    public void autoReadOffStopsReceiving() throws Exception {
+        Channel client = connect(false);
+        Channel peer = accepted.poll(5, SECONDS);
+
+        send(peer, "first");
+        assertNull(received.poll(100, MILLISECONDS));
+        client.read();
+        assertEquals("first", receive(5));
+
+        send(peer, "second");
+        client.read();
+        assertEquals("second", receive(6));
+
+        assertTrue(client.close().asStage().await(5, SECONDS));
+        peer.close().asStage().sync();
+    }
+
+    @Test
+    public void closeAfterReceiveWasCancelled() throws Exception {
+        Channel client = connect(true);
+        Channel peer = accepted.poll(5, SECONDS);
+        send(peer, "before");
+        assertEquals("before", receive(6));
+
+        // Turning auto-read off cancels the armed receive, the close then races with its completions.
+        client.setOption(ChannelOption.AUTO_READ, false);
+        send(peer, "after");
+
+        assertTrue(client.close().asStage().await(5, SECONDS));
+        assertFalse(client.isOpen());
+        peer.close().asStage().sync();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.BufferAllocator;
+
+public class IOUringMultishotSocketEchoTest extends IOUringSocketEchoTest {
+    @Override
+    protected void configure(ServerBootstrap bootstrap, Bootstrap bootstrap2,
+                             BufferAllocator bufferAllocator) {
+        super.configure(bootstrap, bootstrap2, bufferAllocator);
+        bootstrap.option(IOUringChannelOption.MULTISHOT_ACCEPT, true);
+        bootstrap.childOption(IOUringChannelOption.MULTISHOT_RECV, true);
+        bootstrap2.option(IOUringChannelOption.MULTISHOT_RECV, true);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.DefaultFileRegion;
+import io.netty5.channel.SimpleChannelInboundHandler;
+import io.netty5.testsuite.transport.TestsuitePermutation.BootstrapComboFactory;
+import io.netty5.testsuite.transport.socket.SocketFileRegionTest;
+import io.netty5.util.internal.PlatformDependent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringSocketFileRegionTest extends SocketFileRegionTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Override
+    protected List<BootstrapComboFactory<ServerBootstrap, Bootstrap>> newFactories() {
+        return IOUringSocketTestPermutation.INSTANCE.socket();
+    }
+
+    @Test
+    public void testFileRegionShortSplices(TestInfo testInfo) throws Throwable {
+        run(testInfo, this::testFileRegionShortSplices);
+    }
+
+    @Test
+    public void testFileRegionShorterFileNotChunkAligned(TestInfo testInfo) throws Throwable {
+        run(testInfo, this::testFileRegionShorterFileNotChunkAligned);
+    }
+
+    public void testFileRegionShortSplices(ServerBootstrap sb, Bootstrap cb) throws Throwable {
+        assumeTrue(IOUring.isSpliceSupported());
+        // A tiny send buffer and a receiver that only reads on demand make the splices from the pipe into the
+        // socket come back short, so the pipe has to be drained before the next chunk is spliced in.
+        byte[] bytes = newData(1024 * 1024 + 17);
+        File file = newFile(bytes);
+        sb.childOption(ChannelOption.AUTO_READ, false);
+        cb.option(ChannelOption.SO_SNDBUF, 2048);
+
+        CollectingHandler sh = new CollectingHandler(true);
+        sb.childHandler(sh);
+        cb.handler(new ChannelHandler() { });
+
+        Channel sc = sb.bind().asStage().get();
+        Channel cc = cb.connect(sc.localAddress()).asStage().get();
+        try {
+            DefaultFileRegion region = new DefaultFileRegion(file, 0, bytes.length);
+            region.retain();
+            try {
+                cc.writeAndFlush(region).asStage().sync();
+                assertEquals(bytes.length, region.transferred());
+            } finally {
+                region.release();
+            }
+            assertArrayEquals(bytes, sh.awaitBytes(bytes.length));
+        } finally {
+            cc.close().asStage().sync();
+            sc.close().asStage().sync();
+        }
+    }
+
+    public void testFileRegionShorterFileNotChunkAligned(ServerBootstrap sb, Bootstrap cb) throws Throwable {
+        assumeTrue(IOUring.isSpliceSupported());
+        // The last splice into the pipe comes back short of the requested length, which cancels the linked splice
+        // into the socket. The bytes that made it into the pipe must still be sent before the write fails.
+        byte[] bytes = newData(3 * 64 * 1024 + 1000);
+        File file = newFile(bytes);
+
+        CollectingHandler sh = new CollectingHandler(false);
+        sb.childHandler(sh);
+        cb.handler(new ChannelHandler() { });
+
+        Channel sc = sb.bind().asStage().get();
+        Channel cc = cb.connect(sc.localAddress()).asStage().get();
+        try {
+            DefaultFileRegion region = new DefaultFileRegion(
+                    new RandomAccessFile(file, "r").getChannel(), 0, bytes.length + 1024);
+            region.retain();
+            try {
+                Throwable cause = cc.writeAndFlush(region).asStage().getCause();
+                assertThat(cause).isInstanceOf(IOException.class);
+                assertEquals(bytes.length, region.transferred());
+            } finally {
+                region.release();
+            }
+            assertArrayEquals(bytes, sh.awaitBytes(bytes.length));
+        } finally {
+            cc.close().asStage().sync();
+            sc.close().asStage().sync();
+        }
+    }
+
+    private static byte[] newData(int length) {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static File newFile(byte[] bytes) throws IOException {
+        File file = PlatformDependent.createTempFile("netty-", ".tmp", null);
+        file.deleteOnExit();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(bytes);
+        }
+        return file;
+    }
+
+    private static final class CollectingHandler extends SimpleChannelInboundHandler<Buffer> {
+        private final boolean slowReads;
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+
+        CollectingHandler(boolean slowReads) {
+            this.slowReads = slowReads;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            if (slowReads) {
+                ctx.read();
+            }
+        }
+
+        @Override
+        protected void messageReceived(ChannelHandlerContext ctx, Buffer msg) {
+            byte[] bytes = new byte[msg.readableBytes()];
+            msg.readBytes(bytes, 0, bytes.length);
+            synchronized (received) {
+                received.writeBytes(bytes);
+                received.notifyAll();
+            }
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            if (slowReads) {
+                ctx.executor().schedule(() -> {
+                    ctx.read();
+                }, 1, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        byte[] awaitBytes(int length) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            synchronized (received) {
+                while (received.size() < length) {
+                    long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (waitMillis <= 0) {
+                        break;
+                    }
+                    received.wait(waitMillis);
+                }
+                return received.toByteArray();
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -280,4 +281,14 @@ public class NativeTest {
         assertThrows(UnsupportedOperationException.class, () -> Native.checkKernelVersion("5.5.32"));
         assertThrows(UnsupportedOperationException.class, () -> Native.checkKernelVersion("4.16.20"));
     }
+
+    @Test
+    public void kernelVersionAtLeastTest() {
+        assertTrue(Native.isKernelVersionAtLeast("5.19.0-46-generic", 5, 19));
+        assertTrue(Native.isKernelVersionAtLeast("6.1.12", 5, 19));
+        assertTrue(Native.isKernelVersionAtLeast("6.0.1", 6, 0));
+        assertFalse(Native.isKernelVersionAtLeast("5.19.0", 6, 0));
+        assertFalse(Native.isKernelVersionAtLeast("5.15.90", 5, 19));
+        assertFalse(Native.isKernelVersionAtLeast("6.1", 5, 19));
+    }
 }
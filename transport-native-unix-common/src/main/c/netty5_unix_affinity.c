@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+#ifdef __linux__
+#define _GNU_SOURCE // sched_setaffinity, sched_getcpu and CPU_SET
+#include <sched.h>
+#endif /* __linux__ */
+
+#include <errno.h>
+
+#include "netty5_unix_affinity.h"
+#include "netty5_unix_jni.h"
+#include "netty_jni_util.h"
+
+#define AFFINITY_CLASSNAME "io/netty5/channel/unix/CpuAffinity"
+
+// JNI Registered Methods Begin
+static jint netty5_unix_affinity_setCurrentThreadAffinity0(JNIEnv* env, jclass clazz, jintArray cpus) {
+#ifdef __linux__
+    cpu_set_t set;
+    jint len = (*env)->GetArrayLength(env, cpus);
+    jint* elements = (*env)->GetIntArrayElements(env, cpus, NULL);
+    jint i;
+
+    if (elements == NULL) {
+        return -ENOMEM;
+    }
+    CPU_ZERO(&set);
+    for (i = 0; i < len; i++) {
+        if (elements[i] < 0 || elements[i] >= CPU_SETSIZE) {
+            (*env)->ReleaseIntArrayElements(env, cpus, elements, JNI_ABORT);
+            return -EINVAL;
+        }
+        CPU_SET(elements[i], &set);
+    }
+    (*env)->ReleaseIntArrayElements(env, cpus, elements, JNI_ABORT);
+
+    // A pid of 0 applies the mask to the calling thread only.
+    if (sched_setaffinity(0, sizeof(set), &set) == -1) {
+        return -errno;
+    }
+    return 0;
+#else
+    return -ENOSYS;
+#endif /* __linux__ */
+}
+
+static jint netty5_unix_affinity_currentCpu0(JNIEnv* env, jclass clazz) {
+#ifdef __linux__
+    int cpu = sched_getcpu();
+    if (cpu == -1) {
+        return -errno;
+    }
+    return cpu;
+#else
+    return -ENOSYS;
+#endif /* __linux__ */
+}
+// JNI Registered Methods End
+
+// JNI Method Registration Table Begin
+static const JNINativeMethod method_table[] = {
+  { "setCurrentThreadAffinity0", "([I)I", (void *) netty5_unix_affinity_setCurrentThreadAffinity0 },
+  { "currentCpu0", "()I", (void *) netty5_unix_affinity_currentCpu0 }
+};
+static const jint method_table_size = sizeof(method_table) / sizeof(method_table[0]);
+// JNI Method Registration Table End
+
+jint netty5_unix_affinity_JNI_OnLoad(JNIEnv* env, const char* packagePrefix) {
+    if (netty_jni_util_register_natives(env,
+            packagePrefix,
+            AFFINITY_CLASSNAME,
+            method_table,
+            method_table_size) != 0) {
+        return JNI_ERR;
+    }
+
+    return NETTY_JNI_UTIL_JNI_VERSION;
+}
+
+void netty5_unix_affinity_JNI_OnUnLoad(JNIEnv* env, const char* packagePrefix) {
+    netty_jni_util_unregister_natives(env, packagePrefix, AFFINITY_CLASSNAME);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import io.netty5.util.concurrent.DefaultThreadFactory;
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link DefaultThreadFactory} which pins every thread it creates to one CPU out of a configured set, using
+ * {@link CpuAffinity}. The N-th thread created is bound to {@code cpus[N % cpus.length]}, so when this factory is
+ * given to an event loop group with as many threads as CPUs, event loop N runs on the N-th CPU of the set.
+ * <p>
+ * Pinning works best together with {@code SO_INCOMING_CPU}, so the NIC queue, the kernel's network stack and the
+ * event loop of a connection all share a CPU cache. The option must be set on the listening sockets, one per CPU and
+ * each bound with {@code SO_REUSEPORT}, through {@code new IntegerUnixChannelOption("SO_INCOMING_CPU", 1, 49)}; the
+ * kernel then hands each new connection to the listener whose CPU received it. Setting it on an accepted channel
+ * has no effect on where its packets are processed. Use {@link #boundCpu(Thread)} to find which CPU the event loop
+ * of a channel is bound to.
+ * <p>
+ * If a thread can not be pinned, for example because the CPU is not part of the cpuset of this process, a warning
+ * is logged and the thread runs without affinity.
+ */
+@UnstableApi
+public class AffinityThreadFactory extends DefaultThreadFactory {
+    private static final Logger logger = LoggerFactory.getLogger(AffinityThreadFactory.class);
+
+    private final int[] cpus;
+    private final AtomicInteger nextCpu = new AtomicInteger();
+    private final Map<Thread, Integer> boundCpus = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new instance.
+     *
+     * @param poolType the type used to name the threads.
+     * @param cpus the CPUs to pin threads to, in thread creation order. See {@link CpuAffinity#parseCpuList(String)}.
+     */
+    public AffinityThreadFactory(Class<?> poolType, int... cpus) {
+        super(poolType);
+        this.cpus = validate(cpus);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param poolName the prefix used to name the threads.
+     * @param cpus the CPUs to pin threads to, in thread creation order. See {@link CpuAffinity#parseCpuList(String)}.
+     */
+    public AffinityThreadFactory(String poolName, int... cpus) {
+        super(poolName);
+        this.cpus = validate(cpus);
+    }
+
+    private static int[] validate(int[] cpus) {
+        requireNonNull(cpus, "cpus");
+        if (cpus.length == 0) {
+            throw new IllegalArgumentException("cpus must not be empty");
+        }
+        for (int cpu : cpus) {
+            if (cpu < 0) {
+                throw new IllegalArgumentException("cpu: " + cpu + " (expected: >= 0)");
+            }
+        }
+        return cpus.clone();
+    }
+
+    /**
+     * Return the CPU the given thread is pinned to, or {@code -1} if it was not created by this factory, is not
+     * running, or could not be pinned.
+     */
+    public int boundCpu(Thread thread) {
+        Integer cpu = boundCpus.get(thread);
+        return cpu == null ? -1 : cpu;
+    }
+
+    @Override
+    protected Thread newThread(Runnable r, String name) {
+        int cpu = cpus[Math.floorMod(nextCpu.getAndIncrement(), cpus.length)];
+        return super.newThread(() -> {
+            Thread current = Thread.currentThread();
+            try {
+                CpuAffinity.setCurrentThreadAffinity(cpu);
+                boundCpus.put(current, cpu);
+                logger.debug("Bound thread {} to CPU {}", current.getName(), cpu);
+            } catch (IOException | LinkageError e) {
+                logger.warn("Failed to bind thread {} to CPU {}, it will run without affinity",
+                        current.getName(), cpu, e);
+            }
+            try {
+                r.run();
+            } finally {
+                boundCpus.remove(current);
+            }
+        }, name);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import io.netty5.util.internal.UnstableApi;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import static io.netty5.channel.unix.Errors.newIOException;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binds threads to a set of CPUs, with
+ * <a href="https://man7.org/linux/man-pages/man2/sched_setaffinity.2.html">sched_setaffinity</a>.
+ * Only Linux is supported, other platforms fail with {@code ENOSYS}.
+ * <p>
+ * The native methods are registered when a native transport is loaded, so the transport must be available
+ * (for example {@code Epoll.ensureAvailability()}) before any method of this class is used.
+ */
+@UnstableApi
+public final class CpuAffinity {
+
+    private CpuAffinity() {
+    }
+
+    /**
+     * Restrict the calling thread to run only on the given CPUs.
+     *
+     * @param cpus the ids of the CPUs the calling thread may run on, at least one.
+     * @throws IOException if the affinity could not be changed, for example because a CPU is offline or outside
+     * the cpuset of this process.
+     */
+    public static void setCurrentThreadAffinity(int... cpus) throws IOException {
+        requireNonNull(cpus, "cpus");
+        if (cpus.length == 0) {
+            throw new IllegalArgumentException("cpus must not be empty");
+        }
+        for (int cpu : cpus) {
+            if (cpu < 0) {
+                throw new IllegalArgumentException("cpu: " + cpu + " (expected: >= 0)");
+            }
+        }
+        int res = setCurrentThreadAffinity0(cpus);
+        if (res < 0) {
+            throw newIOException("sched_setaffinity", res);
+        }
+    }
+
+    /**
+     * Return the id of the CPU the calling thread is running on right now.
+     */
+    public static int currentCpu() throws IOException {
+        int res = currentCpu0();
+        if (res < 0) {
+            throw newIOException("sched_getcpu", res);
+        }
+        return res;
+    }
+
+    /**
+     * Parse a CPU list in the format used by the Linux kernel, such as {@code isolcpus} and {@code taskset -c}.
+     * For example {@code "0-3,8,10-11"} returns {@code [0, 1, 2, 3, 8, 10, 11]}.
+     *
+     * @param cpuList the CPU list to parse.
+     * @return the ids of the listed CPUs, sorted and without duplicates.
+     */
+    public static int[] parseCpuList(String cpuList) {
+        requireNonNull(cpuList, "cpuList");
+        BitSet cpus = new BitSet();
+        for (String part : cpuList.split(",")) {
+            String range = part.trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+            int dash = range.indexOf('-');
+            try {
+                int first = Integer.parseInt(dash < 0 ? range : range.substring(0, dash).trim());
+                int last = dash < 0 ? first : Integer.parseInt(range.substring(dash + 1).trim());
+                if (first < 0 || last < first) {
+                    throw new IllegalArgumentException("Invalid CPU range '" + range + "' in: " + cpuList);
+                }
+                cpus.set(first, last + 1);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CPU range '" + range + "' in: " + cpuList, e);
+            }
+        }
+        if (cpus.isEmpty()) {
+            throw new IllegalArgumentException("No CPUs in: " + cpuList);
+        }
+        return cpus.stream().toArray();
+    }
+
+    private static native int setCurrentThreadAffinity0(int[] cpus);
+    private static native int currentCpu0();
+}
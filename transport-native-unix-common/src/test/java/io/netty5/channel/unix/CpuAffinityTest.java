@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CpuAffinityTest {
+
+    @Test
+    public void testParseCpuList() {
+        assertArrayEquals(new int[] { 0 }, CpuAffinity.parseCpuList("0"));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 8, 10, 11 }, CpuAffinity.parseCpuList("0-3,8,10-11"));
+        assertArrayEquals(new int[] { 2, 3, 4 }, CpuAffinity.parseCpuList(" 4, 2-3 ,3 "));
+    }
+
+    @Test
+    public void testParseInvalidCpuList() {
+        assertThrows(IllegalArgumentException.class, () -> CpuAffinity.parseCpuList(""));
+        assertThrows(IllegalArgumentException.class, () -> CpuAffinity.parseCpuList("3-1"));
+        assertThrows(IllegalArgumentException.class, () -> CpuAffinity.parseCpuList("-1"));
+        assertThrows(IllegalArgumentException.class, () -> CpuAffinity.parseCpuList("a"));
+    }
+
+    @Test
+    public void testThreadFactoryRejectsInvalidCpus() {
+        assertThrows(IllegalArgumentException.class, () -> new AffinityThreadFactory("test"));
+        assertThrows(IllegalArgumentException.class, () -> new AffinityThreadFactory("test", 0, -1));
+    }
+
+    @Test
+    public void testUnstartedThreadIsNotBound() {
+        AffinityThreadFactory factory = new AffinityThreadFactory("test", 0);
+        Thread thread = factory.newThread(() -> { });
+        assertEquals(-1, factory.boundCpu(thread));
+    }
+}
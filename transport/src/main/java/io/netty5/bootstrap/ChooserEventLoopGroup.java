@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.bootstrap;
+
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.IoHandle;
+import io.netty5.channel.IoHandler;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
+import io.netty5.util.concurrent.Future;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link EventLoopGroup} view of another group, that chooses the {@link EventLoop} returned by {@link #next()}
+ * with an {@link EventExecutorChooser}. Everything else is delegated to the wrapped group.
+ */
+final class ChooserEventLoopGroup implements EventLoopGroup {
+    private final EventLoopGroup group;
+    private final EventExecutorChooser chooser;
+
+    ChooserEventLoopGroup(EventLoopGroup group, EventExecutorChooserFactory chooserFactory) {
+        this.group = group;
+        List<EventExecutor> executors = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            executors.add(executor);
+        }
+        chooser = chooserFactory.newChooser(executors);
+    }
+
+    @Override
+    public EventLoop next() {
+        return (EventLoop) chooser.next();
+    }
+
+    @Override
+    public Iterator<EventExecutor> iterator() {
+        return group.iterator();
+    }
+
+    @Override
+    public boolean isCompatible(Class<? extends IoHandle> handleType) {
+        return group.isCompatible(handleType);
+    }
+
+    @Override
+    public boolean isIoType(Class<? extends IoHandler> handlerType) {
+        return group.isIoType(handlerType);
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return group.isShuttingDown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return group.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return group.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return group.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        return group.shutdownGracefully(quietPeriod, timeout, unit);
+    }
+
+    @Override
+    public Future<Void> terminationFuture() {
+        return group.terminationFuture();
+    }
+
+    @Override
+    public String toString() {
+        return "ChooserEventLoopGroup(" + group + ')';
+    }
+}
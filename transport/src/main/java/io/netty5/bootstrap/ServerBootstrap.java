@@ -27,6 +27,7 @@ import io.netty5.channel.ReflectiveServerChannelFactory;
 import io.netty5.channel.ServerChannel;
 import io.netty5.channel.ServerChannelFactory;
 import io.netty5.util.AttributeKey;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.Promise;
 import org.slf4j.Logger;
@@ -56,6 +57,7 @@ public class ServerBootstrap extends AbstractBootstrap<ServerBootstrap, ServerCh
     private final Map<AttributeKey<?>, Object> childAttrs = new ConcurrentHashMap<>();
     private final ServerBootstrapConfig config = new ServerBootstrapConfig(this);
     private volatile EventLoopGroup childGroup;
+    private volatile EventExecutorChooserFactory childChooserFactory;
     private volatile ChannelHandler childHandler;
     volatile ServerChannelFactory<? extends ServerChannel> channelFactory;
 
@@ -64,6 +66,7 @@ public class ServerBootstrap extends AbstractBootstrap<ServerBootstrap, ServerCh
     private ServerBootstrap(ServerBootstrap bootstrap) {
         super(bootstrap);
         childGroup = bootstrap.childGroup;
+        childChooserFactory = bootstrap.childChooserFactory;
         childHandler = bootstrap.childHandler;
         channelFactory = bootstrap.channelFactory;
         synchronized (bootstrap.childOptions) {
@@ -95,6 +98,17 @@ public class ServerBootstrap extends AbstractBootstrap<ServerBootstrap, ServerCh
         return this;
     }
 
+    /**
+     * Set the {@link EventExecutorChooserFactory} which chooses the {@link EventLoop} of the child {@link Channel}s
+     * from the child {@link EventLoopGroup}, when they are accepted. For example, one of the
+     * {@link io.netty5.channel.EventLoopChoosers}. Use a value of {@code null} to let the child
+     * {@link EventLoopGroup} choose, which is the default.
+     */
+    public ServerBootstrap childEventLoopChooser(EventExecutorChooserFactory childChooserFactory) {
+        this.childChooserFactory = childChooserFactory;
+        return this;
+    }
+
     /**
      * Allow to specify a {@link ChannelOption} which is used for the {@link Channel} instances once they get created
      * (after the acceptor accepted the {@link Channel}). Use a value of {@code null} to remove a previous set
@@ -207,6 +221,9 @@ public class ServerBootstrap extends AbstractBootstrap<ServerBootstrap, ServerCh
 
     @Override
     ServerChannel newChannel(EventLoop eventLoop) throws Exception {
+        EventExecutorChooserFactory childChooserFactory = this.childChooserFactory;
+        EventLoopGroup childGroup = childChooserFactory == null ? this.childGroup :
+                new ChooserEventLoopGroup(this.childGroup, childChooserFactory);
         return channelFactory.newChannel(eventLoop, childGroup);
     }
 
@@ -332,6 +349,10 @@ public class ServerBootstrap extends AbstractBootstrap<ServerBootstrap, ServerCh
         return childGroup;
     }
 
+    final EventExecutorChooserFactory childEventLoopChooser() {
+        return childChooserFactory;
+    }
+
     final ChannelHandler childHandler() {
         return childHandler;
     }
@@ -21,6 +21,7 @@ import io.netty5.channel.EventLoopGroup;
 import io.netty5.channel.ServerChannel;
 import io.netty5.channel.ServerChannelFactory;
 import io.netty5.util.AttributeKey;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
 import io.netty5.util.internal.StringUtil;
 
 import java.util.Map;
@@ -44,6 +45,14 @@ public final class ServerBootstrapConfig extends AbstractBootstrapConfig<ServerB
         return bootstrap.childGroup();
     }
 
+    /**
+     * Returns the configured {@link EventExecutorChooserFactory} which chooses the event loops of the child channels,
+     * or {@code null} if the child group chooses them.
+     */
+    public EventExecutorChooserFactory childEventLoopChooser() {
+        return bootstrap.childEventLoopChooser();
+    }
+
     /**
      * Returns the configured {@link ChannelHandler} be used for the child channels or {@code null}
      * if non is configured yet.
@@ -82,6 +91,12 @@ public final class ServerBootstrapConfig extends AbstractBootstrapConfig<ServerB
             buf.append(StringUtil.simpleClassName(childGroup));
             buf.append(", ");
         }
+        EventExecutorChooserFactory childEventLoopChooser = childEventLoopChooser();
+        if (childEventLoopChooser != null) {
+            buf.append("childEventLoopChooser: ");
+            buf.append(childEventLoopChooser);
+            buf.append(", ");
+        }
         Map<ChannelOption<?>, Object> childOptions = childOptions();
         if (!childOptions.isEmpty()) {
             buf.append("childOptions: ");
@@ -83,7 +83,8 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
     private final ChannelPipeline pipeline;
     private final ClosePromise closePromise;
     private final Runnable fireChannelWritabilityChangedTask;
-    private final EventLoop eventLoop;
+    private final Class<? extends IoHandle> handleType;
+    private volatile EventLoop eventLoop;
     private final boolean supportingDisconnect;
 
     @SuppressWarnings("rawtypes")
@@ -134,6 +135,7 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
     private boolean inWriteFlushed;
     /** true if the channel has never been registered, false otherwise */
     private boolean neverRegistered = true;
+    private boolean migrating;
     private boolean neverActive = true;
 
     private boolean inputClosedSeenErrorOnRead;
@@ -198,6 +200,7 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
                               ReadHandleFactory defaultReadHandleFactory, WriteHandleFactory defaultWriteHandleFactory,
                               ChannelId id, Class<? extends IoHandle> handleType) {
         this.parent = parent;
+        this.handleType = handleType;
         this.eventLoop = validateEventLoopGroup(eventLoop, "eventLoop", handleType);
         this.id = requireNonNull(id, "id");
         this.supportingDisconnect = supportingDisconnect;
@@ -460,6 +463,112 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
         return registration;
     }
 
+    /**
+     * Moves this {@link Channel} to the given {@link EventLoop}, by deregistering it from its current
+     * {@link EventLoop} and registering it with the given one. The pipeline, the options and the attributes of the
+     * {@link Channel} are kept, and reading resumes on the new {@link EventLoop} if {@linkplain #isAutoRead()
+     * auto-read} is enabled. The handlers see the move as a
+     * {@link ChannelHandler#channelUnregistered(ChannelHandlerContext) channelUnregistered} event, followed by a
+     * {@link ChannelHandler#channelRegistered(ChannelHandlerContext) channelRegistered} event, so a handler that
+     * schedules tasks on its {@link ChannelHandlerContext#executor()} should cancel them when it sees the first, and
+     * schedule them again when it sees the second, as the idle and timeout handlers of
+     * {@code io.netty5.handler.timeout} do. Otherwise those tasks keep running on the old {@link EventLoop}.
+     * <p>
+     * The {@link Channel} can only be moved while it is registered, and while it has no pending writes and no pending
+     * connect attempt, and only if its transport {@linkplain #isMigrationSupported() supports it}; otherwise the
+     * returned {@link Future} fails with an {@link IllegalStateException}, and the {@link Channel} stays where it is.
+     * Listeners of the {@link #closeFuture()} keep being notified by the {@link EventLoop} the {@link Channel} was
+     * created with.
+     * <p>
+     * Operations that other threads submit for this {@link Channel} while it is being moved are passed on to the new
+     * {@link EventLoop} if they only get to run on the old one after the move, so they never run on the wrong thread.
+     * The order of operations submitted by one thread is kept for those submitted before this method was called or
+     * after the returned {@link Future} completed.
+     *
+     * @param eventLoop the {@link EventLoop} to move to.
+     * @return the {@link Future} that is notified by the new {@link EventLoop} once the {@link Channel} was moved.
+     */
+    public final Future<Void> migrate(EventLoop eventLoop) {
+        validateEventLoopGroup(eventLoop, "eventLoop", handleType);
+        Promise<Void> promise = eventLoop.newPromise();
+        EventLoop current = executor();
+        if (current.inEventLoop()) {
+            migrateTransport(eventLoop, promise);
+        } else {
+            current.execute(() -> migrateTransport(eventLoop, promise));
+        }
+        return promise.asFuture();
+    }
+
+    private void migrateTransport(EventLoop newEventLoop, Promise<Void> promise) {
+        if (!executor().inEventLoop()) {
+            // Another migration moved this channel before this task ran, follow it.
+            executor().execute(() -> migrateTransport(newEventLoop, promise));
+            return;
+        }
+        if (newEventLoop == eventLoop) {
+            promise.setSuccess(null);
+            return;
+        }
+        ChannelOutboundBuffer outboundBuffer = this.outboundBuffer;
+        String reason = null;
+        if (!registered || !isOpen() || outboundBuffer == null) {
+            reason = "not registered";
+        } else if (!isMigrationSupported()) {
+            reason = "its transport does not support it";
+        } else if (migrating) {
+            reason = "already being migrated";
+        } else if (closeInitiated) {
+            reason = "it is being closed";
+        } else if (connectPromise != null) {
+            reason = "a connect attempt is pending";
+        } else if (outboundBuffer.totalPendingWriteBytes() != 0 || inWriteFlushed) {
+            reason = "writes are pending";
+        }
+        if (reason != null) {
+            promise.setFailure(new IllegalStateException("Can't migrate " + this + ", " + reason));
+            return;
+        }
+        migrating = true;
+        pipeline().deregister().addListener(f -> {
+            if (f.isFailed()) {
+                migrating = false;
+                promise.setFailure(f.cause());
+                return;
+            }
+            ChannelOutboundBuffer buffer = this.outboundBuffer;
+            if (buffer == null || buffer.totalPendingWriteBytes() != 0 || !buffer.isEmpty()) {
+                // Closed or written to while being deregistered; the queued messages belong to this event loop, so
+                // stay here.
+                migrating = false;
+                if (buffer != null) {
+                    pipeline().register();
+                }
+                promise.setFailure(new IllegalStateException("Can't migrate " + this + ", " +
+                        (buffer == null ? "it was closed" : "writes are pending")));
+                return;
+            }
+            // Re-create the outbound buffer, so its event loop assertions hold on the new event loop.
+            this.outboundBuffer = new ChannelOutboundBuffer(newEventLoop);
+            // From here on, tasks that still run on the old event loop for this channel pass themselves on to the
+            // new one.
+            this.eventLoop = newEventLoop;
+            newEventLoop.execute(() -> {
+                migrating = false;
+                pipeline().register().cascadeTo(promise);
+            });
+        });
+    }
+
+    /**
+     * Returns {@code true} if this {@link Channel} can be {@linkplain #migrate(EventLoop) moved} to another
+     * {@link EventLoop}. Transports that keep operations in flight on their {@link EventLoop} after the
+     * {@link Channel} was deregistered must return {@code false}.
+     */
+    protected boolean isMigrationSupported() {
+        return true;
+    }
+
     private void registerTransport(final Promise<Void> promise) {
         assertEventLoop();
 
@@ -480,6 +589,9 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
 
                     neverRegistered = false;
                     registered = true;
+                    if (executor() instanceof SingleThreadEventLoop) {
+                        ((SingleThreadEventLoop) executor()).channelRegistered();
+                    }
 
                     registration = f.getNow();
 
@@ -868,6 +980,9 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
         // if it was registered.
         if (registered) {
             registered = false;
+            if (executor() instanceof SingleThreadEventLoop) {
+                ((SingleThreadEventLoop) executor()).channelDeregistered();
+            }
             // Ensure we also clear all scheduled reads so its possible to schedule again if the Channel is
             // re-registered.
             clearScheduledRead();
@@ -920,7 +1035,11 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
      * {@link ReadHandleFactory.ReadHandle} is telling us to stop.
      */
     protected final void readNow() {
-        assert executor().inEventLoop();
+        if (!executor().inEventLoop()) {
+            // The channel was migrated to another event loop after this read was scheduled.
+            executor().execute(this::readNow);
+            return;
+        }
 
         if (isShutdown(ChannelShutdownDirection.Inbound) && (inputClosedSeenErrorOnRead || !isAllowHalfClosure())) {
             // There is nothing to read anymore.
@@ -1060,7 +1179,11 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
      * do nothing.
      */
     protected final void writeFlushed() {
-        assertEventLoop();
+        if (!executor().inEventLoop()) {
+            // The channel was migrated to another event loop after this write was scheduled.
+            executor().execute(this::writeFlushed);
+            return;
+        }
 
         if (isWriteFlushedScheduled()) {
             return;
@@ -1240,7 +1363,15 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
             //         -> handlerA.channelInactive() - (2) another inbound handler method called while in (1) yet
             //
             // which means the execution of two inbound handler methods of the same handler overlap undesirably.
-            executor().execute(task);
+            EventLoop executor = executor();
+            executor.execute(() -> {
+                if (executor == eventLoop) {
+                    task.run();
+                } else {
+                    // The channel was migrated to another event loop in the meantime.
+                    invokeLater(task);
+                }
+            });
         } catch (RejectedExecutionException e) {
             logger.warn("Can't invoke task later as EventLoop rejected it", e);
         }
@@ -1745,16 +1876,23 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
             if (executor().inEventLoop()) {
                 clearScheduledRead();
             } else {
-                executor().execute(() -> {
-                    if (!isReadPending() && !isAutoRead()) {
-                        // Still no read triggered so clear it now
-                        clearScheduledRead();
-                    }
-                });
+                executor().execute(this::clearScheduledReadIfNotPending);
             }
         }
     }
 
+    private void clearScheduledReadIfNotPending() {
+        if (!executor().inEventLoop()) {
+            // The channel was migrated to another event loop after this was scheduled.
+            executor().execute(this::clearScheduledReadIfNotPending);
+            return;
+        }
+        if (!isReadPending() && !isAutoRead()) {
+            // Still no read triggered so clear it now
+            clearScheduledRead();
+        }
+    }
+
     private boolean isAutoClose() {
         return autoClose;
     }
@@ -110,7 +110,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         // sure that the pending bytes will be updated correctly in all cases. Otherwise, we don't need any special
         // wrapping and so can save some work (which is true most of the time).
         this.executor = handlesPendingOutboundBytes(executionMask) ?
-                new DefaultChannelHandlerContextAwareEventExecutor(pipeline.executor(), this) : null;
+                new DefaultChannelHandlerContextAwareEventExecutor(this) : null;
     }
 
     private static boolean handlesPendingOutboundBytes(int mask) {
@@ -171,7 +171,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelRegistered();
         } else {
-            executor.execute(this::findAndInvokeChannelRegistered);
+            executor.execute(this::fireChannelRegistered);
         }
         return this;
     }
@@ -204,7 +204,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelUnregistered();
         } else {
-            executor.execute(this::findAndInvokeChannelUnregistered);
+            executor.execute(this::fireChannelUnregistered);
         }
         return this;
     }
@@ -237,7 +237,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelActive();
         } else {
-            executor.execute(this::findAndInvokeChannelActive);
+            executor.execute(this::fireChannelActive);
         }
         return this;
     }
@@ -270,7 +270,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelInactive();
         } else {
-            executor.execute(this::findAndInvokeChannelInactive);
+            executor.execute(this::fireChannelInactive);
         }
         return this;
     }
@@ -303,7 +303,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelShutdown(direction);
         } else {
-            executor.execute(() -> findAndInvokeChannelShutdown(direction));
+            executor.execute(() -> fireChannelShutdown(direction));
         }
         return this;
     }
@@ -338,7 +338,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             findAndInvokeChannelExceptionCaught(cause);
         } else {
             try {
-                executor.execute(() -> findAndInvokeChannelExceptionCaught(cause));
+                executor.execute(() -> fireChannelExceptionCaught(cause));
             } catch (Throwable t) {
                 if (logger.isWarnEnabled()) {
                     logger.warn("Failed to submit an exceptionCaught() event.", t);
@@ -389,7 +389,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeChannelInboundEvent(event);
         } else {
-            executor.execute(() -> findAndInvokeChannelInboundEvent(event));
+            executor.execute(() -> fireChannelInboundEvent(event));
         }
         return this;
     }
@@ -426,7 +426,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             findAndInvokeChannelRead(msg);
         } else {
             try {
-                executor.execute(() -> findAndInvokeChannelRead(msg));
+                executor.execute(() -> fireChannelRead(msg));
             } catch (Throwable cause) {
                 Resource.dispose(msg);
                 throw cause;
@@ -538,7 +538,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         }
 
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeBind(localAddress).cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> bind(localAddress).cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -554,7 +554,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeDeregister();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeDeregister().cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> deregister().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
     private Future<Void> findAndInvokeBind(SocketAddress localAddress) {
@@ -589,8 +589,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeConnect(remoteAddress, localAddress);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () ->
-                findAndInvokeConnect(remoteAddress, localAddress).cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> connect(remoteAddress, localAddress).cascadeTo(promise), promise, null);
 
         return promise.asFuture();
     }
@@ -631,7 +630,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeDisconnect();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeDisconnect().cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> disconnect().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -665,7 +664,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeClose();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeClose().cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> close().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -699,7 +698,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeShutdown(direction);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeShutdown(direction).cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> shutdown(direction).cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -733,7 +732,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeRegister();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeRegister().cascadeTo(promise), promise, null);
+        safeExecute(executor, () -> register().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -795,13 +794,6 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         return this;
     }
 
-    private void findAndInvokeRead() {
-        DefaultChannelHandlerContext ctx = findContextOutbound(MASK_READ);
-        if (ctx != null) {
-            ctx.invokeRead(DefaultChannelPipeline.DEFAULT_READ_BUFFER_ALLOCATOR);
-        }
-    }
-
     @Override
     public ChannelHandlerContext read(ReadBufferAllocator readBufferAllocator) {
         requireNonNull(readBufferAllocator, "readBufferAllocator");
@@ -809,7 +801,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         if (executor.inEventLoop()) {
             findAndInvokeRead(readBufferAllocator);
         } else {
-            executor.execute(() -> findAndInvokeRead(readBufferAllocator));
+            executor.execute(() -> read(readBufferAllocator));
         }
         return this;
     }
@@ -949,7 +941,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeSendOutboundEvent(event);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeSendOutboundEvent(event).cascadeTo(promise), promise, event);
+        safeExecute(executor, () -> sendOutboundEvent(event).cascadeTo(promise), promise, event);
         return promise.asFuture();
     }
 
@@ -1171,6 +1163,14 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         protected abstract DefaultChannelHandlerContext findContext(DefaultChannelHandlerContext ctx);
         @Override
         public final void run() {
+            EventExecutor executor = ctx.originalExecutor();
+            if (!executor.inEventLoop()) {
+                // The channel was migrated to another event loop after this task was submitted, follow it.
+                if (!safeExecute(executor, this, promise, msg)) {
+                    cancel();
+                }
+                return;
+            }
             try {
                 decrementPendingOutboundBytes();
                 if (promise.isCancelled()) {
@@ -1276,10 +1276,12 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         private final Runnable invokeFlushTask;
 
         Tasks(DefaultChannelHandlerContext ctx) {
-            invokeChannelReadCompleteTask = ctx::findAndInvokeChannelReadComplete;
-            invokeReadTask = ctx::findAndInvokeRead;
-            invokeChannelWritableStateChangedTask = ctx::invokeChannelWritabilityChanged;
-            invokeFlushTask = ctx::findAndInvokeFlush;
+            // The tasks go through the public methods again, which pass them on if the channel was migrated to
+            // another event loop after they were submitted.
+            invokeChannelReadCompleteTask = ctx::fireChannelReadComplete;
+            invokeReadTask = ctx::read;
+            invokeChannelWritableStateChangedTask = ctx::fireChannelWritabilityChanged;
+            invokeFlushTask = ctx::flush;
         }
     }
 
@@ -1350,103 +1352,102 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
 
     private static final class DefaultChannelHandlerContextAwareEventExecutor implements EventExecutor {
 
-        private final EventExecutor executor;
         private final DefaultChannelHandlerContext ctx;
 
-        DefaultChannelHandlerContextAwareEventExecutor(EventExecutor executor, DefaultChannelHandlerContext ctx) {
-            this.executor = executor;
+        DefaultChannelHandlerContextAwareEventExecutor(DefaultChannelHandlerContext ctx) {
             this.ctx = ctx;
         }
 
+        // Looked up on every use, as the channel may be migrated to another event loop.
         EventExecutor wrappedExecutor() {
-            return executor;
+            return ctx.pipeline().executor();
         }
 
         @Override
         public boolean inEventLoop() {
-            return executor.inEventLoop();
+            return wrappedExecutor().inEventLoop();
         }
 
         @Override
         public boolean inEventLoop(Thread thread) {
-            return executor.inEventLoop(thread);
+            return wrappedExecutor().inEventLoop(thread);
         }
 
         @Override
         public boolean isShuttingDown() {
-            return executor.isShuttingDown();
+            return wrappedExecutor().isShuttingDown();
         }
 
         @Override
         public boolean isShutdown() {
-            return executor.isShutdown();
+            return wrappedExecutor().isShutdown();
         }
 
         @Override
         public boolean isTerminated() {
-            return executor.isTerminated();
+            return wrappedExecutor().isTerminated();
         }
 
         @Override
         public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
-            return executor.awaitTermination(timeout, unit);
+            return wrappedExecutor().awaitTermination(timeout, unit);
         }
 
         @Override
         public Future<Void> shutdownGracefully() {
-            return executor.shutdownGracefully();
+            return wrappedExecutor().shutdownGracefully();
         }
 
         @Override
         public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
-            return executor.shutdownGracefully(quietPeriod, timeout, unit);
+            return wrappedExecutor().shutdownGracefully(quietPeriod, timeout, unit);
         }
 
         @Override
         public Future<Void> terminationFuture() {
-            return executor.terminationFuture();
+            return wrappedExecutor().terminationFuture();
         }
 
         @Override
         public Future<Void> submit(Runnable task) {
-            return executor.submit(new DefaultHandlerContextRunnable(task));
+            return wrappedExecutor().submit(new DefaultHandlerContextRunnable(task));
         }
 
         @Override
         public <T> Future<T> submit(Runnable task, T result) {
-            return executor.submit(new DefaultHandlerContextRunnable(task), result);
+            return wrappedExecutor().submit(new DefaultHandlerContextRunnable(task), result);
         }
 
         @Override
         public <T> Future<T> submit(Callable<T> task) {
-            return executor.submit(new DefaultHandlerContextCallable<>(task));
+            return wrappedExecutor().submit(new DefaultHandlerContextCallable<>(task));
         }
 
         @Override
         public Future<Void> schedule(Runnable task, long delay, TimeUnit unit) {
-            return executor.schedule(new DefaultHandlerContextRunnable(task), delay, unit);
+            return wrappedExecutor().schedule(new DefaultHandlerContextRunnable(task), delay, unit);
         }
 
         @Override
         public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
-            return executor.schedule(new DefaultHandlerContextCallable<>(task), delay, unit);
+            return wrappedExecutor().schedule(new DefaultHandlerContextCallable<>(task), delay, unit);
         }
 
         @Override
         public Future<Void> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
-            return executor.scheduleAtFixedRate(
+            return wrappedExecutor().scheduleAtFixedRate(
                     new DefaultHandlerContextRunnable(task), initialDelay, period, unit);
         }
 
         @Override
         public Future<Void> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
-            return executor.scheduleWithFixedDelay(
+            return wrappedExecutor().scheduleWithFixedDelay(
                     new DefaultHandlerContextRunnable(task), initialDelay, delay, unit);
         }
 
         @Override
         public void execute(Runnable task) {
-            executor.execute(new DefaultHandlerContextRunnable(task));
+            wrappedExecutor().execute(new DefaultHandlerContextRunnable(task));
         }
 
         private final class DefaultHandlerContextCallable<V> implements Callable<V> {
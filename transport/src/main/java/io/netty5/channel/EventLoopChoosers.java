@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
+import io.netty5.util.concurrent.EventExecutorChoosers;
+
+/**
+ * Expose helper methods which create {@link EventExecutorChooserFactory}s that take the load of
+ * {@link SingleThreadEventLoop}s into account, for use by a {@link MultithreadEventLoopGroup} or by
+ * {@link ServerBootstrap#childEventLoopChooser(EventExecutorChooserFactory)}.
+ *
+ * @see EventExecutorChoosers
+ */
+public final class EventLoopChoosers {
+    private static final EventExecutorChooserFactory LEAST_REGISTERED_CHANNELS =
+            EventExecutorChoosers.leastLoaded(EventLoopChoosers::registeredChannels);
+    private static final EventExecutorChooserFactory POWER_OF_TWO_CHOICES =
+            EventExecutorChoosers.powerOfTwoChoices(EventLoopChoosers::load);
+
+    private EventLoopChoosers() { }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that chooses the {@link EventLoop} with the fewest
+     * {@linkplain SingleThreadEventLoop#registeredChannels() registered channels}.
+     * <p>
+     * Channels are counted once their registration completes, so a burst of channels created at the same time may
+     * all be assigned to the same event loop.
+     */
+    public static EventExecutorChooserFactory leastRegisteredChannels() {
+        return LEAST_REGISTERED_CHANNELS;
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that picks two {@link EventLoop}s at random, and chooses the one
+     * with the lower load. The load is the number of
+     * {@linkplain SingleThreadEventLoop#registeredChannels() registered channels} plus the number of
+     * {@linkplain SingleThreadEventLoop#pendingTasks() pending tasks}.
+     */
+    public static EventExecutorChooserFactory powerOfTwoChoices() {
+        return POWER_OF_TWO_CHOICES;
+    }
+
+    /**
+     * Returns the number of registered channels of the given executor, if it is a {@link SingleThreadEventLoop},
+     * or {@code 0} otherwise.
+     */
+    public static long registeredChannels(EventExecutor executor) {
+        if (executor instanceof SingleThreadEventLoop) {
+            return ((SingleThreadEventLoop) executor).registeredChannels();
+        }
+        return 0;
+    }
+
+    private static long load(EventExecutor executor) {
+        return registeredChannels(executor) + EventExecutorChoosers.pendingTasks(executor);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.util.concurrent.EventExecutorMetric;
+
+/**
+ * Metrics of a {@link SingleThreadEventLoop}. All methods can be called from any thread.
+ * <p>
+ * The time based metrics are updated at the end of each iteration of the event loop, so a task that is still running
+ * is only accounted for once it completes.
+ */
+public interface EventLoopMetric extends EventExecutorMetric {
+
+    /**
+     * Return the number of iterations the event loop ran. Each iteration processes IO once, and then runs the tasks
+     * that are ready to run. The number of tasks run per iteration is the increase of {@link #numCompletedTasks()}
+     * divided by the increase of this number, between two reads.
+     */
+    long numIterations();
+
+    /**
+     * Return the total time the event loop spent processing IO and running tasks, in nanoseconds.
+     *
+     * @see SingleThreadEventLoop#busyNanos()
+     */
+    long busyNanos();
+
+    /**
+     * Return the total time the {@link IoHandler} spent blocked waiting for IO to become ready, in nanoseconds.
+     */
+    long ioWaitNanos();
+
+    /**
+     * Return the fraction of time the event loop was busy during the last one to two seconds, between {@code 0} and
+     * {@code 1}.
+     */
+    double busyRatio();
+}
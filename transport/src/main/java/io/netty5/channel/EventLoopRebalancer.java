@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.GlobalEventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Moves {@link Channel}s from busy {@link SingleThreadEventLoop}s to idle ones while they are in use, for
+ * long-lived connections whose load changes over time.
+ * <p>
+ * The rebalancer periodically samples the {@linkplain SingleThreadEventLoop#busyNanos() busy time} of each event
+ * loop of a group, and smooths the busy ratios over a few samples. When the busy ratio of the busiest event loop
+ * exceeds that of the least busy one by more than the configured threshold, one of the tracked channels of the busiest
+ * event loop, picked at random, is {@linkplain AbstractChannel#migrate(EventLoop) migrated} to the least busy one.
+ * At most one channel is moved per sample, and the sample after a move is skipped, so the busy ratios can reflect the
+ * move before the next one is decided.
+ * <p>
+ * Only the channels that are {@linkplain #track(Channel) tracked} are moved. Channels with pending writes are
+ * skipped until a later sample.
+ */
+public final class EventLoopRebalancer {
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopRebalancer.class);
+    private static final double SMOOTHING = 0.5;
+
+    private final SingleThreadEventLoop[] eventLoops;
+    private final long intervalNanos;
+    private final double imbalanceThreshold;
+    private final Set<AbstractChannel<?, ?, ?>> channels = ConcurrentHashMap.newKeySet();
+
+    // Only accessed by the sampling task.
+    private final long[] lastBusyNanos;
+    private final double[] busyRatios;
+    private long lastSampleNanos;
+    private boolean skipNextSample;
+
+    private Future<?> samplingFuture;
+
+    /**
+     * Create a new instance, which samples the event loops of the given group every second, and moves a channel
+     * when the busy ratios differ by more than {@code 0.2}.
+     *
+     * @param group the group whose {@link SingleThreadEventLoop}s should be balanced.
+     */
+    public EventLoopRebalancer(EventLoopGroup group) {
+        this(group, 1, TimeUnit.SECONDS, 0.2);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param group                 the group whose {@link SingleThreadEventLoop}s should be balanced.
+     * @param interval              the time between two samples of the busy time.
+     * @param unit                  the unit of {@code interval}.
+     * @param imbalanceThreshold    the difference between the busy ratios of the busiest and the least busy event
+     *                              loops, between {@code 0} and {@code 1}, above which a channel is moved.
+     */
+    public EventLoopRebalancer(EventLoopGroup group, long interval, TimeUnit unit, double imbalanceThreshold) {
+        requireNonNull(group, "group");
+        List<SingleThreadEventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            if (!(executor instanceof SingleThreadEventLoop)) {
+                throw new IllegalArgumentException("Only groups of SingleThreadEventLoops can be balanced: " + group);
+            }
+            eventLoops.add((SingleThreadEventLoop) executor);
+        }
+        this.eventLoops = eventLoops.toArray(new SingleThreadEventLoop[0]);
+        intervalNanos = unit.toNanos(checkPositive(interval, "interval"));
+        if (!(imbalanceThreshold >= 0 && imbalanceThreshold <= 1)) {
+            throw new IllegalArgumentException(
+                    "imbalanceThreshold: " + imbalanceThreshold + " (expected: >= 0 and <= 1)");
+        }
+        this.imbalanceThreshold = imbalanceThreshold;
+        lastBusyNanos = new long[this.eventLoops.length];
+        busyRatios = new double[this.eventLoops.length];
+    }
+
+    /**
+     * Tracks the given {@link Channel}, so it can be moved by this rebalancer. The channel is no longer tracked once it
+     * is closed.
+     *
+     * @param channel the channel to track, which must be an {@link AbstractChannel} whose transport supports
+     *                migration.
+     * @return this rebalancer.
+     */
+    public EventLoopRebalancer track(Channel channel) {
+        requireNonNull(channel, "channel");
+        if (!(channel instanceof AbstractChannel)) {
+            throw new IllegalArgumentException("Only AbstractChannels can be migrated: " + channel);
+        }
+        AbstractChannel<?, ?, ?> abstractChannel = (AbstractChannel<?, ?, ?>) channel;
+        if (!abstractChannel.isMigrationSupported()) {
+            throw new IllegalArgumentException("The transport of the channel does not support migration: " + channel);
+        }
+        if (channels.add(abstractChannel)) {
+            channel.closeFuture().addListener(abstractChannel, (ch, f) -> channels.remove(ch));
+        }
+        return this;
+    }
+
+    /**
+     * Stops tracking the given {@link Channel}.
+     *
+     * @param channel the channel to stop tracking.
+     * @return this rebalancer.
+     */
+    public EventLoopRebalancer untrack(Channel channel) {
+        channels.remove(channel);
+        return this;
+    }
+
+    /**
+     * Starts sampling the event loops, on the {@link GlobalEventExecutor}. The event loops account their busy time
+     * from then on.
+     *
+     * @return this rebalancer.
+     */
+    public synchronized EventLoopRebalancer start() {
+        if (samplingFuture == null) {
+            for (SingleThreadEventLoop eventLoop : eventLoops) {
+                eventLoop.trackBusyTime();
+            }
+            GlobalEventExecutor.INSTANCE.execute(this::resetSamples);
+            samplingFuture = GlobalEventExecutor.INSTANCE.scheduleAtFixedRate(
+                    this::sample, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Stops sampling the event loops. Channels that are being moved complete their move.
+     *
+     * @return this rebalancer.
+     */
+    public synchronized EventLoopRebalancer stop() {
+        if (samplingFuture != null) {
+            samplingFuture.cancel();
+            samplingFuture = null;
+        }
+        return this;
+    }
+
+    private void resetSamples() {
+        lastSampleNanos = System.nanoTime();
+        for (int i = 0; i < eventLoops.length; i++) {
+            lastBusyNanos[i] = eventLoops[i].busyNanos();
+            busyRatios[i] = 0;
+        }
+    }
+
+    /**
+     * Takes one sample of the busy time of the event loops, and moves a channel if they are imbalanced.
+     * This is called periodically once {@linkplain #start() started}, and is only exposed for testing.
+     */
+    void sample() {
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(1, now - lastSampleNanos);
+        lastSampleNanos = now;
+        int busiest = 0;
+        int leastBusy = 0;
+        for (int i = 0; i < eventLoops.length; i++) {
+            long busyNanos = eventLoops[i].busyNanos();
+            double ratio = Math.min(1, (double) (busyNanos - lastBusyNanos[i]) / elapsedNanos);
+            lastBusyNanos[i] = busyNanos;
+            busyRatios[i] = SMOOTHING * ratio + (1 - SMOOTHING) * busyRatios[i];
+            if (busyRatios[i] > busyRatios[busiest]) {
+                busiest = i;
+            }
+            if (busyRatios[i] < busyRatios[leastBusy]) {
+                leastBusy = i;
+            }
+        }
+        if (skipNextSample) {
+            skipNextSample = false;
+            return;
+        }
+        if (busyRatios[busiest] - busyRatios[leastBusy] <= imbalanceThreshold) {
+            return;
+        }
+        AbstractChannel<?, ?, ?> channel = pickChannel(eventLoops[busiest]);
+        if (channel == null) {
+            return;
+        }
+        skipNextSample = true;
+        EventLoop target = eventLoops[leastBusy];
+        if (logger.isDebugEnabled()) {
+            logger.debug("Moving {} from {} (busy ratio {}) to {} (busy ratio {})", channel,
+                    eventLoops[busiest], busyRatios[busiest], target, busyRatios[leastBusy]);
+        }
+        channel.migrate(target).addListener(channel, (ch, f) -> {
+            if (f.isFailed()) {
+                logger.debug("Failed to move {}", ch, f.cause());
+            }
+        });
+    }
+
+    private AbstractChannel<?, ?, ?> pickChannel(EventLoop eventLoop) {
+        // Reservoir sampling of a single channel, as the channels are not indexed by event loop.
+        AbstractChannel<?, ?, ?> picked = null;
+        int candidates = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (AbstractChannel<?, ?, ?> channel : channels) {
+            if (channel.executor() == eventLoop && channel.isActive() && random.nextInt(++candidates) == 0) {
+                picked = channel;
+            }
+        }
+        return picked;
+    }
+}
@@ -36,4 +36,14 @@ public interface IoExecutionContext {
      * closest scheduled task should run or {@code -1} if nothing is scheduled to run.
      */
     long deadlineNanos();
+
+    /**
+     * Called by the {@link IoHandler} after it blocked waiting for IO to become ready, with the time it was blocked.
+     * This allows the {@link EventLoop} to tell the time spent waiting apart from the time spent doing work.
+     *
+     * @param waitNanos the time spent blocked, in nanoseconds.
+     */
+    default void reportIoWait(long waitNanos) {
+        // NOOP
+    }
 }
@@ -17,6 +17,8 @@ package io.netty5.channel;
 
 import io.netty5.util.NettyRuntime;
 import io.netty5.util.concurrent.DefaultThreadFactory;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
+import io.netty5.util.concurrent.EventExecutorChoosers;
 import io.netty5.util.concurrent.MultithreadEventExecutorGroup;
 import io.netty5.util.concurrent.RejectedExecutionHandler;
 import io.netty5.util.concurrent.RejectedExecutionHandlers;
@@ -90,6 +92,25 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
                 SingleThreadEventLoop.DEFAULT_MAX_TASKS_PER_RUN);
     }
 
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that chooses the {@link EventLoop} returned
+     *                          by {@link #next()}, for example one of the {@link EventLoopChoosers}.
+     */
+    public MultithreadEventLoopGroup(int nThreads, Executor executor,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     EventExecutorChooserFactory chooserFactory) {
+        this(nThreads, executor, ioHandlerFactory, chooserFactory,
+                SingleThreadEventLoop.DEFAULT_MAX_PENDING_TASKS, RejectedExecutionHandlers.reject(),
+                SingleThreadEventLoop.DEFAULT_MAX_TASKS_PER_RUN);
+    }
+
     /**
      * Create a new instance.
      *
@@ -233,9 +254,34 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
                                      IoHandlerFactory ioHandlerFactory,
                                      int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
                                      int maxTasksPerRun, Object... args) {
+        this(nThreads, executor, ioHandlerFactory, EventExecutorChoosers.roundRobin(),
+                maxPendingTasks, rejectedHandler, maxTasksPerRun, args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that chooses the {@link EventLoop} returned
+     *                          by {@link #next()}, for example one of the {@link EventLoopChoosers}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param args              extra arguments passed to {@link #newChild(Executor, int, RejectedExecutionHandler,
+     *                          IoHandler, int, Object...)}
+     */
+    protected MultithreadEventLoopGroup(int nThreads, Executor executor,
+                                     IoHandlerFactory ioHandlerFactory, EventExecutorChooserFactory chooserFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, Object... args) {
         super(pickThreadCount(nThreads),
                 executor == null ? new ThreadPerTaskExecutor(newDefaultThreadFactory()) : executor,
-                maxPendingTasks, rejectedHandler, merge(ioHandlerFactory, maxTasksPerRun, args));
+                chooserFactory, maxPendingTasks, rejectedHandler, merge(ioHandlerFactory, maxTasksPerRun, args));
     }
 
     /**
@@ -15,17 +15,18 @@
  */
 package io.netty5.channel;
 
+import io.netty5.util.concurrent.EventExecutorMetric;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.Promise;
 import io.netty5.util.concurrent.RejectedExecutionHandler;
 import io.netty5.util.concurrent.RejectedExecutionHandlers;
 import io.netty5.util.concurrent.SingleThreadEventExecutor;
-import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.StringUtil;
 import io.netty5.util.internal.SystemPropertyUtil;
 
-import java.util.Queue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import static io.netty5.util.internal.ObjectUtil.checkPositive;
 import static java.util.Objects.requireNonNull;
@@ -43,6 +44,8 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     protected static final int DEFAULT_MAX_TASKS_PER_RUN = Math.max(1,
             SystemPropertyUtil.getInt("io.netty5.eventLoop.maxTaskPerRun", 1024 * 4));
 
+    private static final long BUSY_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final IoExecutionContext context = new IoExecutionContext() {
         @Override
         public boolean canBlock() {
@@ -61,10 +64,28 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
             assert inEventLoop();
             return SingleThreadEventLoop.this.deadlineNanos();
         }
+
+        @Override
+        public void reportIoWait(long waitNanos) {
+            assert inEventLoop();
+            iterationIoWaitNanos += waitNanos;
+        }
     };
 
     private final IoHandler ioHandler;
     private final int maxTasksPerRun;
+    // Only modified from within the event loop.
+    private volatile int registeredChannels;
+    // Set once the busy time is needed, by the metric or by an EventLoopRebalancer.
+    private volatile boolean busyTimeTracked = isCollectingTaskMetrics();
+    // Only modified from within the event loop.
+    private volatile long busyNanos;
+    private volatile long ioWaitNanos;
+    private volatile long iterations;
+    private volatile BusySample busySample = new BusySample(System.nanoTime(), 0);
+    private BusySample busyWindowStart = busySample;
+    private long iterationIoWaitNanos;
+    private volatile EventLoopMetric metric;
 
     /**
      * Create a new instance
@@ -150,13 +171,6 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
         this.maxTasksPerRun = checkPositive(maxTasksPerRun, "maxTasksPerRun");
     }
 
-    @Override
-    protected Queue<Runnable> newTaskQueue(int maxPendingTasks) {
-        // This event loop never calls takeTask()
-        return maxPendingTasks == Integer.MAX_VALUE ? PlatformDependent.newMpscQueue()
-                : PlatformDependent.newMpscQueue(maxPendingTasks);
-    }
-
     @Override
     protected final boolean wakesUpForTask(Runnable task) {
         return !(task instanceof NonWakeupRunnable);
@@ -173,14 +187,79 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     protected void run() {
         assert inEventLoop();
         do {
+            boolean busyTimeTracked = this.busyTimeTracked;
+            long iterationStartNanos = busyTimeTracked ? System.nanoTime() : 0;
             runIo();
             if (isShuttingDown()) {
                 ioHandler.prepareToDestroy();
             }
             runAllTasks(maxTasksPerRun);
+            if (busyTimeTracked) {
+                updateBusyTime(iterationStartNanos);
+            } else {
+                iterationIoWaitNanos = 0;
+            }
         } while (!confirmShutdown());
     }
 
+    /**
+     * Adds the time since the given start of an iteration of the event loop, minus the time the {@link IoHandler}
+     * spent blocked waiting for IO, to the {@linkplain #busyNanos() busy time}.
+     * This must be called from the {@link EventLoop} thread, at the end of each iteration.
+     */
+    protected final void updateBusyTime(long iterationStartNanos) {
+        assert inEventLoop();
+        long nowNanos = System.nanoTime();
+        long waitNanos = iterationIoWaitNanos;
+        if (waitNanos != 0) {
+            iterationIoWaitNanos = 0;
+            ioWaitNanos += waitNanos;
+        }
+        long busyNanos = this.busyNanos + nowNanos - iterationStartNanos - waitNanos;
+        this.busyNanos = busyNanos;
+        iterations++;
+        if (nowNanos - busyWindowStart.nanoTime >= BUSY_WINDOW_NANOS) {
+            // Readers measure from the start of the previous window, so they always look at one to two windows.
+            busySample = busyWindowStart;
+            busyWindowStart = new BusySample(nowNanos, busyNanos);
+        }
+    }
+
+    /**
+     * Returns the total time this {@link EventLoop} spent processing IO and running tasks, in nanoseconds.
+     * Time the {@link IoHandler} spent blocked waiting for IO is not included, so the difference between two calls
+     * divided by the time between them is the fraction of that time the {@link EventLoop} was busy.
+     * This can be called from any thread.
+     * <p>
+     * {@link IoHandler}s that do not {@linkplain IoExecutionContext#reportIoWait(long) report} the time they block
+     * make the {@link EventLoop} appear fully busy.
+     * <p>
+     * The busy time is only accounted once the {@linkplain #metric() metric} was requested or an
+     * {@link EventLoopRebalancer} was started for this {@link EventLoop}, so other event loops don't pay for it.
+     */
+    public final long busyNanos() {
+        return busyNanos;
+    }
+
+    /**
+     * Starts accounting the {@linkplain #busyNanos() busy time}, from the next iteration on.
+     */
+    final void trackBusyTime() {
+        busyTimeTracked = true;
+    }
+
+    @Override
+    public EventLoopMetric metric() {
+        EventLoopMetric metric = this.metric;
+        if (metric == null) {
+            // Racy, but the metric holds no state of its own.
+            metric = new SingleThreadEventLoopMetric(super.metric());
+            busyTimeTracked = true;
+            this.metric = metric;
+        }
+        return metric;
+    }
+
     protected final IoHandler ioHandler() {
         return ioHandler;
     }
@@ -225,6 +304,24 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
         promise.setSuccess(registration);
     }
 
+    /**
+     * Returns the number of {@link Channel}s that are currently registered to this {@link EventLoop}.
+     * This can be called from any thread.
+     */
+    public final int registeredChannels() {
+        return registeredChannels;
+    }
+
+    final void channelRegistered() {
+        assert inEventLoop();
+        registeredChannels++;
+    }
+
+    final void channelDeregistered() {
+        assert inEventLoop();
+        registeredChannels--;
+    }
+
     @Override
     protected final void wakeup(boolean inEventLoop) {
         ioHandler.wakeup(this);
@@ -245,4 +342,72 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     public boolean isIoType(Class<? extends IoHandler> handlerType) {
         return ioHandler.getClass().equals(handlerType);
     }
+
+    private static final class BusySample {
+        final long nanoTime;
+        final long busyNanos;
+
+        BusySample(long nanoTime, long busyNanos) {
+            this.nanoTime = nanoTime;
+            this.busyNanos = busyNanos;
+        }
+    }
+
+    private final class SingleThreadEventLoopMetric implements EventLoopMetric {
+        private final EventExecutorMetric executorMetric;
+
+        SingleThreadEventLoopMetric(EventExecutorMetric executorMetric) {
+            this.executorMetric = executorMetric;
+        }
+
+        @Override
+        public long numCompletedTasks() {
+            return executorMetric.numCompletedTasks();
+        }
+
+        @Override
+        public long maxTaskRunNanos() {
+            return executorMetric.maxTaskRunNanos();
+        }
+
+        @Override
+        public long[] queueDelayHistogram() {
+            return executorMetric.queueDelayHistogram();
+        }
+
+        @Override
+        public long numIterations() {
+            return iterations;
+        }
+
+        @Override
+        public long busyNanos() {
+            return busyNanos;
+        }
+
+        @Override
+        public long ioWaitNanos() {
+            return ioWaitNanos;
+        }
+
+        @Override
+        public double busyRatio() {
+            BusySample sample = busySample;
+            long elapsedNanos = System.nanoTime() - sample.nanoTime;
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            return Math.min(1, Math.max(0, (double) (busyNanos - sample.busyNanos) / elapsedNanos));
+        }
+
+        @Override
+        public String toString() {
+            return StringUtil.simpleClassName(this) +
+                    "(iterations: " + numIterations() +
+                    "; completedTasks: " + numCompletedTasks() +
+                    "; busyRatio: " + busyRatio() +
+                    "; ioWaitNanos: " + ioWaitNanos() +
+                    "; maxTaskRunNanos: " + maxTaskRunNanos() + ')';
+        }
+    }
 }
@@ -59,7 +59,9 @@ public final class LocalIoHandler implements IoHandler {
         }
         if (runner.canBlock()) {
             // Just block until there is a task ready to process or wakeup(...) is called.
-            LockSupport.parkNanos(this, runner.delayNanos(System.nanoTime()));
+            long waitStartNanos = System.nanoTime();
+            LockSupport.parkNanos(this, runner.delayNanos(waitStartNanos));
+            runner.reportIoWait(System.nanoTime() - waitStartNanos);
         }
         return 0;
     }
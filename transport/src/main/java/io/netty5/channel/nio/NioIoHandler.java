@@ -645,7 +645,9 @@ public final class NioIoHandler implements IoHandler {
                     break;
                 }
 
+                long waitStartNanos = System.nanoTime();
                 int selectedKeys = selector.select(timeoutMillis);
+                runner.reportIoWait(System.nanoTime() - waitStartNanos);
                 selectCnt ++;
 
                 if (selectedKeys != 0 || oldWakenUp || wakenUp.get() || !runner.canBlock()) {
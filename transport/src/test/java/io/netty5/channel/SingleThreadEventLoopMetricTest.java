@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.channel.local.LocalIoHandler;
+import io.netty5.util.concurrent.DefaultThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleThreadEventLoopMetricTest {
+    private SingleThreadEventLoop loop;
+
+    @BeforeEach
+    public void setUp() {
+        loop = new SingleThreadEventLoop(new DefaultThreadFactory("metric"), LocalIoHandler.newFactory().newHandler());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        loop.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+    }
+
+    @Test
+    public void testMetric() throws Exception {
+        EventLoopMetric metric = loop.metric();
+        loop.submit(() -> {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }).asStage().sync();
+        // Let the event loop block waiting for IO, so the iteration that ran the task completes.
+        Thread.sleep(100);
+        loop.submit(() -> { }).asStage().sync();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metric.numIterations() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThat(metric.numIterations()).isGreaterThanOrEqualTo(2);
+        assertThat(metric.numCompletedTasks()).isGreaterThanOrEqualTo(1);
+        assertThat(metric.maxTaskRunNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(metric.busyNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(metric.ioWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(metric.busyRatio()).isBetween(0.0, 1.0);
+    }
+}